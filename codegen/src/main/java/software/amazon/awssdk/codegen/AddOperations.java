@@ -165,6 +165,7 @@ final class AddOperations {
             operationModel.setEndpointTrait(op.getEndpoint());
             operationModel.setHttpChecksumRequired(op.isHttpChecksumRequired());
             operationModel.setHttpChecksum(op.getHttpChecksum());
+            operationModel.setRequestCompression(op.getRequestcompression());
 
             Input input = op.getInput();
             if (input != null) {
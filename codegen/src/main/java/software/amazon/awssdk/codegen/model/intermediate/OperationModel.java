@@ -26,6 +26,7 @@ import software.amazon.awssdk.codegen.docs.SimpleMethodOverload;
 import software.amazon.awssdk.codegen.internal.Utils;
 import software.amazon.awssdk.codegen.model.service.AuthType;
 import software.amazon.awssdk.codegen.model.service.EndpointTrait;
+import software.amazon.awssdk.codegen.model.service.RequestCompression;
 
 public class OperationModel extends DocumentationModel {
 
@@ -69,6 +70,8 @@ public class OperationModel extends DocumentationModel {
 
     private HttpChecksum httpChecksum;
 
+    private RequestCompression requestCompression;
+
     public String getOperationName() {
         return operationName;
     }
@@ -303,4 +306,12 @@ public class OperationModel extends DocumentationModel {
     public void setHttpChecksum(HttpChecksum httpChecksum) {
         this.httpChecksum = httpChecksum;
     }
+
+    public RequestCompression getRequestCompression() {
+        return requestCompression;
+    }
+
+    public void setRequestCompression(RequestCompression requestCompression) {
+        this.requestCompression = requestCompression;
+    }
 }
@@ -51,6 +51,8 @@ public class Operation {
 
     private HttpChecksum httpChecksum;
 
+    private RequestCompression requestcompression;
+
     public String getName() {
         return name;
     }
@@ -185,4 +187,12 @@ public class Operation {
     public void setHttpChecksum(HttpChecksum httpChecksum) {
         this.httpChecksum = httpChecksum;
     }
+
+    public RequestCompression getRequestcompression() {
+        return requestcompression;
+    }
+
+    public void setRequestcompression(RequestCompression requestcompression) {
+        this.requestcompression = requestcompression;
+    }
 }
@@ -40,6 +40,7 @@ import software.amazon.awssdk.codegen.poet.StaticImport;
 import software.amazon.awssdk.codegen.poet.model.TypeProvider.TypeNameOptions;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
+import software.amazon.awssdk.core.util.LazyUnmarshalledList;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
 
@@ -268,8 +269,16 @@ class MemberCopierSpec implements ClassSpec {
 
             code.add("$T $N;", listType, outputVariableName)
                 .add("if ($1N == null || $1N instanceof $2T) {", inputVariableName, SdkAutoConstructList.class)
-                .add("$N = $T.getInstance();", outputVariableName, DefaultSdkAutoConstructList.class)
-                .add("} else {")
+                .add("$N = $T.getInstance();", outputVariableName, DefaultSdkAutoConstructList.class);
+
+            // Lazily unmarshalled lists can't be modified, so they're shared to avoid unmarshalling every element.
+            if (builderTransform == BuilderTransform.NONE && enumTransform == EnumTransform.NONE
+                && canBeLazilyUnmarshalled(listEntryModel)) {
+                code.add("} else if ($N instanceof $T) {", inputVariableName, LazyUnmarshalledList.class)
+                    .add("$N = $T.share($N);", outputVariableName, LazyUnmarshalledList.class, inputVariableName);
+            }
+
+            code.add("} else {")
                 .add("$T $N = new $T<>();", listType, modifiableVariableName, ArrayList.class);
 
             String entryInputVariable = variableSource.getNew("entry");
@@ -330,6 +339,21 @@ class MemberCopierSpec implements ClassSpec {
         throw new UnsupportedOperationException("Unable to generate copier for member '" + inputMember + "'");
     }
 
+    /**
+     * Whether lists with the given entries may be {@link LazyUnmarshalledList}s. This must match
+     * {@link LazyUnmarshalledList#supportsMembers}.
+     */
+    private static boolean canBeLazilyUnmarshalled(MemberModel listEntryModel) {
+        if (listEntryModel.hasBuilder()) {
+            return true;
+        }
+        if (!listEntryModel.isMap()) {
+            return false;
+        }
+        MemberModel valueModel = listEntryModel.getMapModel().getValueModel();
+        return !valueModel.isList() && !valueModel.isMap();
+    }
+
     private TypeName typeName(MemberModel model, boolean isInputType, boolean useCollectionForList,
                               BuilderTransform builderTransform, EnumTransform enumTransform) {
 
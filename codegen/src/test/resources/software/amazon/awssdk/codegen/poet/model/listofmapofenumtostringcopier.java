@@ -11,6 +11,7 @@ import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
+import software.amazon.awssdk.core.util.LazyUnmarshalledList;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
 
@@ -20,6 +21,8 @@ final class ListOfMapOfEnumToStringCopier {
         List<Map<String, String>> list;
         if (listOfMapOfEnumToStringParam == null || listOfMapOfEnumToStringParam instanceof SdkAutoConstructList) {
             list = DefaultSdkAutoConstructList.getInstance();
+        } else if (listOfMapOfEnumToStringParam instanceof LazyUnmarshalledList) {
+            list = LazyUnmarshalledList.share(listOfMapOfEnumToStringParam);
         } else {
             List<Map<String, String>> modifiableList = new ArrayList<>();
             listOfMapOfEnumToStringParam.forEach(entry -> {
@@ -11,6 +11,7 @@ import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
+import software.amazon.awssdk.core.util.LazyUnmarshalledList;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
 
@@ -21,6 +22,8 @@ final class ListOfMapOfStringToStructCopier {
         List<Map<String, SimpleStruct>> list;
         if (listOfMapOfStringToStructParam == null || listOfMapOfStringToStructParam instanceof SdkAutoConstructList) {
             list = DefaultSdkAutoConstructList.getInstance();
+        } else if (listOfMapOfStringToStructParam instanceof LazyUnmarshalledList) {
+            list = LazyUnmarshalledList.share(listOfMapOfStringToStructParam);
         } else {
             List<Map<String, SimpleStruct>> modifiableList = new ArrayList<>();
             listOfMapOfStringToStructParam.forEach(entry -> {
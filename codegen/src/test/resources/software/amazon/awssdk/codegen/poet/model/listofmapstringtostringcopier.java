@@ -11,6 +11,7 @@ import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
+import software.amazon.awssdk.core.util.LazyUnmarshalledList;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
 
@@ -20,6 +21,8 @@ final class ListOfMapStringToStringCopier {
         List<Map<String, String>> list;
         if (listOfMapStringToStringParam == null || listOfMapStringToStringParam instanceof SdkAutoConstructList) {
             list = DefaultSdkAutoConstructList.getInstance();
+        } else if (listOfMapStringToStringParam instanceof LazyUnmarshalledList) {
+            list = LazyUnmarshalledList.share(listOfMapStringToStringParam);
         } else {
             List<Map<String, String>> modifiableList = new ArrayList<>();
             listOfMapStringToStringParam.forEach(entry -> {
@@ -8,6 +8,7 @@ import java.util.Collections;
 import java.util.List;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
+import software.amazon.awssdk.core.util.LazyUnmarshalledList;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
 
 @Generated("software.amazon.awssdk:codegen")
@@ -16,6 +17,8 @@ final class ListOfSimpleStructsCopier {
         List<SimpleStruct> list;
         if (listOfSimpleStructsParam == null || listOfSimpleStructsParam instanceof SdkAutoConstructList) {
             list = DefaultSdkAutoConstructList.getInstance();
+        } else if (listOfSimpleStructsParam instanceof LazyUnmarshalledList) {
+            list = LazyUnmarshalledList.share(listOfSimpleStructsParam);
         } else {
             List<SimpleStruct> modifiableList = new ArrayList<>();
             listOfSimpleStructsParam.forEach(entry -> {
@@ -8,6 +8,7 @@ import java.util.Collections;
 import java.util.List;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
+import software.amazon.awssdk.core.util.LazyUnmarshalledList;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
 
 @Generated("software.amazon.awssdk:codegen")
@@ -16,6 +17,8 @@ final class RecursiveListTypeCopier {
         List<RecursiveStructType> list;
         if (recursiveListTypeParam == null || recursiveListTypeParam instanceof SdkAutoConstructList) {
             list = DefaultSdkAutoConstructList.getInstance();
+        } else if (recursiveListTypeParam instanceof LazyUnmarshalledList) {
+            list = LazyUnmarshalledList.share(recursiveListTypeParam);
         } else {
             List<RecursiveStructType> modifiableList = new ArrayList<>();
             recursiveListTypeParam.forEach(entry -> {
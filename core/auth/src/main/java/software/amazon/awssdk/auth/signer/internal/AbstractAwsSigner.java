@@ -245,15 +245,15 @@ public abstract class AbstractAwsSigner implements Signer {
 
             String encodedParamName = SdkHttpUtils.urlEncode(key);
 
+            if (values.size() == 1) {
+                // Most parameters have a single value, which doesn't need to be sorted
+                sorted.put(encodedParamName, Collections.singletonList(signatureFormattedEncodedValue(values.get(0))));
+                return;
+            }
+
             List<String> encodedValues = new ArrayList<>(values.size());
             for (String value : values) {
-                String encodedValue = SdkHttpUtils.urlEncode(value);
-
-                // Null values should be treated as empty for the purposes of signing, not missing.
-                // For example "?foo=" instead of "?foo".
-                String signatureFormattedEncodedValue = encodedValue == null ? "" : encodedValue;
-
-                encodedValues.add(signatureFormattedEncodedValue);
+                encodedValues.add(signatureFormattedEncodedValue(value));
             }
             Collections.sort(encodedValues);
             sorted.put(encodedParamName, encodedValues);
@@ -262,6 +262,12 @@ public abstract class AbstractAwsSigner implements Signer {
         SdkHttpUtils.flattenQueryParameters(result, sorted);
     }
 
+    private static String signatureFormattedEncodedValue(String value) {
+        // Null values should be treated as empty for the purposes of signing, not missing.
+        // For example "?foo=" instead of "?foo".
+        return value == null ? "" : SdkHttpUtils.urlEncode(value);
+    }
+
     protected InputStream getBinaryRequestPayloadStream(ContentStreamProvider streamProvider) {
         try {
             if (streamProvider == null) {
@@ -282,11 +288,14 @@ public abstract class AbstractAwsSigner implements Signer {
         if (StringUtils.isEmpty(resourcePath)) {
             result.append("/");
         } else {
-            String value = urlEncode ? SdkHttpUtils.urlEncodeIgnoreSlashes(resourcePath) : resourcePath;
-            if (value.startsWith("/")) {
-                result.append(value);
+            // Encoding preserves the slashes, so the leading slash can be checked on the raw path
+            if (resourcePath.charAt(0) != '/') {
+                result.append('/');
+            }
+            if (urlEncode) {
+                SdkHttpUtils.urlEncodeIgnoreSlashes(result, resourcePath);
             } else {
-                result.append("/").append(value);
+                result.append(resourcePath);
             }
         }
     }
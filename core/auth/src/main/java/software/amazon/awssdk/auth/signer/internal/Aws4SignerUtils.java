@@ -18,7 +18,9 @@ package software.amazon.awssdk.auth.signer.internal;
 import java.io.IOException;
 import java.io.InputStream;
 import java.time.Instant;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.exception.SdkClientException;
@@ -48,11 +50,15 @@ public final class Aws4SignerUtils {
      * For example, given a time "1416863450581", this method returns "20141124"
      */
     public static String formatDateStamp(long timeMilli) {
-        return DATE_FORMATTER.format(Instant.ofEpochMilli(timeMilli));
+        return formatDateStamp(Instant.ofEpochMilli(timeMilli));
     }
 
     public static String formatDateStamp(Instant instant) {
-        return DATE_FORMATTER.format(instant);
+        LocalDateTime dateTime = LocalDateTime.ofEpochSecond(instant.getEpochSecond(), 0, ZoneOffset.UTC);
+        if (!hasFourDigitYear(dateTime)) {
+            return DATE_FORMATTER.format(instant);
+        }
+        return appendDate(new StringBuilder(8), dateTime).toString();
     }
 
     /**
@@ -63,11 +69,19 @@ public final class Aws4SignerUtils {
      * "20141124T211050Z"
      */
     public static String formatTimestamp(long timeMilli) {
-        return TIME_FORMATTER.format(Instant.ofEpochMilli(timeMilli));
+        return formatTimestamp(Instant.ofEpochMilli(timeMilli));
     }
 
     public static String formatTimestamp(Instant instant) {
-        return TIME_FORMATTER.format(instant);
+        LocalDateTime dateTime = LocalDateTime.ofEpochSecond(instant.getEpochSecond(), 0, ZoneOffset.UTC);
+        if (!hasFourDigitYear(dateTime)) {
+            return TIME_FORMATTER.format(instant);
+        }
+        StringBuilder timestamp = appendDate(new StringBuilder(16), dateTime).append('T');
+        appendPadded(timestamp, dateTime.getHour());
+        appendPadded(timestamp, dateTime.getMinute());
+        appendPadded(timestamp, dateTime.getSecond());
+        return timestamp.append('Z').toString();
     }
 
     /**
@@ -93,6 +107,27 @@ public final class Aws4SignerUtils {
         return originalContentLength;
     }
 
+    /**
+     * The stamps are computed for every signed request, so the common case is built by hand rather than with the formatters,
+     * which are only used for years that don't have exactly four digits.
+     */
+    private static boolean hasFourDigitYear(LocalDateTime dateTime) {
+        return dateTime.getYear() >= 1 && dateTime.getYear() <= 9999;
+    }
+
+    private static StringBuilder appendDate(StringBuilder builder, LocalDateTime dateTime) {
+        int year = dateTime.getYear();
+        appendPadded(builder, year / 100);
+        appendPadded(builder, year % 100);
+        appendPadded(builder, dateTime.getMonthValue());
+        appendPadded(builder, dateTime.getDayOfMonth());
+        return builder;
+    }
+
+    private static void appendPadded(StringBuilder builder, int twoDigitValue) {
+        builder.append((char) ('0' + twoDigitValue / 10)).append((char) ('0' + twoDigitValue % 10));
+    }
+
     /**
      * Read a stream to get the length.
      */
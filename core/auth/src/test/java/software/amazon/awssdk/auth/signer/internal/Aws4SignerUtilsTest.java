@@ -0,0 +1,57 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import org.junit.Test;
+
+public class Aws4SignerUtilsTest {
+    private static final DateTimeFormatter DATE_FORMATTER =
+        DateTimeFormatter.ofPattern("yyyyMMdd").withZone(ZoneOffset.UTC);
+    private static final DateTimeFormatter TIME_FORMATTER =
+        DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+    @Test
+    public void formatStamps_exampleTime_formatsInUtc() {
+        assertEquals("20141124", Aws4SignerUtils.formatDateStamp(1416863450581L));
+        assertEquals("20141124T211050Z", Aws4SignerUtils.formatTimestamp(1416863450581L));
+    }
+
+    @Test
+    public void formatStamps_matchFormatters() {
+        Random random = new Random(1416863450581L);
+        for (int i = 0; i < 100_000; i++) {
+            Instant instant = Instant.ofEpochMilli(random.nextLong() % 253_402_300_800_000L);
+            assertEquals(DATE_FORMATTER.format(instant), Aws4SignerUtils.formatDateStamp(instant));
+            assertEquals(TIME_FORMATTER.format(instant), Aws4SignerUtils.formatTimestamp(instant));
+        }
+    }
+
+    @Test
+    public void formatStamps_outsideFourDigitYears_matchFormatters() {
+        Instant[] instants = {Instant.parse("+10000-01-01T00:00:00Z"), Instant.parse("0000-06-15T12:30:45Z")};
+        for (Instant instant : instants) {
+            assertEquals(DATE_FORMATTER.format(instant), Aws4SignerUtils.formatDateStamp(instant));
+            assertEquals(TIME_FORMATTER.format(instant), Aws4SignerUtils.formatTimestamp(instant));
+        }
+    }
+}
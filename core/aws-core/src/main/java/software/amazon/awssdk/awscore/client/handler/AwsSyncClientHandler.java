@@ -53,7 +53,7 @@ public final class AwsSyncClientHandler extends SdkSyncClientHandler implements
     public <InputT extends SdkRequest, OutputT extends SdkResponse> OutputT execute(
         ClientExecutionParams<InputT, OutputT> executionParams) {
         ClientExecutionParams<InputT, OutputT> clientExecutionParams = addCrc32Validation(executionParams);
-        return super.execute(clientExecutionParams);
+        return super.execute(acceptGzipEncodingIfEnabled(clientExecutionParams));
     }
 
     @Override
@@ -75,8 +75,10 @@ public final class AwsSyncClientHandler extends SdkSyncClientHandler implements
             return executionParams.withCombinedResponseHandler(
                 new Crc32ValidationResponseHandler<>(executionParams.getCombinedResponseHandler()));
         } else {
-            return executionParams.withResponseHandler(
-                new Crc32ValidationResponseHandler<>(executionParams.getResponseHandler()));
+            // Error responses are validated and decompressed too, like they are by the async client.
+            return executionParams.withResponseHandler(new Crc32ValidationResponseHandler<>(executionParams.getResponseHandler()))
+                                  .withErrorResponseHandler(
+                                      new Crc32ValidationResponseHandler<>(executionParams.getErrorResponseHandler()));
         }
     }
 
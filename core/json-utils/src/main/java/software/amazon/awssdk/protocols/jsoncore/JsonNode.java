@@ -129,6 +129,15 @@ public interface JsonNode {
      */
     String asNumber();
 
+    /**
+     * When {@link #isNumber()} is true and the number was decoded from a binary format like CBOR, this returns it as it was
+     * decoded, so that it doesn't need to be converted to and from its decimal text. In every other case, this returns null
+     * and the number is available from {@link #asNumber()}.
+     */
+    default Number numberValue() {
+        return null;
+    }
+
     /**
      * When {@link #isString()}, is true, this returns the string associated with this node. This will throw an exception if
      * {@link #isString()} ()} is false.
@@ -20,12 +20,11 @@ import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.protocols.jsoncore.internal.ArrayJsonNode;
 import software.amazon.awssdk.protocols.jsoncore.internal.BooleanJsonNode;
+import software.amazon.awssdk.protocols.jsoncore.internal.CompactObjectMap;
 import software.amazon.awssdk.protocols.jsoncore.internal.EmbeddedObjectJsonNode;
 import software.amazon.awssdk.protocols.jsoncore.internal.NullJsonNode;
 import software.amazon.awssdk.protocols.jsoncore.internal.NumberJsonNode;
@@ -55,10 +54,14 @@ public final class JsonNodeParser {
 
     private final boolean removeErrorLocations;
     private final JsonFactory jsonFactory;
+    private final boolean keepDecodedNumbers;
 
     private JsonNodeParser(Builder builder) {
         this.removeErrorLocations = builder.removeErrorLocations;
         this.jsonFactory = builder.jsonFactory;
+        // Binary formats like CBOR have already decoded the number by the time we see it, so there's no need to turn it into
+        // text only for it to be parsed again.
+        this.keepDecodedNumbers = jsonFactory.canHandleBinaryNatively();
     }
 
     /**
@@ -153,7 +156,7 @@ public final class JsonNodeParser {
                 return NullJsonNode.instance();
             case VALUE_NUMBER_FLOAT:
             case VALUE_NUMBER_INT:
-                return new NumberJsonNode(parser.getText());
+                return keepDecodedNumbers ? new NumberJsonNode(parser.getNumberValue()) : new NumberJsonNode(parser.getText());
             case START_OBJECT:
                 return parseObject(parser);
             case START_ARRAY:
@@ -167,13 +170,14 @@ public final class JsonNodeParser {
 
     private JsonNode parseObject(JsonParser parser) throws IOException {
         JsonToken currentToken = parser.nextToken();
-        Map<String, JsonNode> object = new LinkedHashMap<>();
+        CompactObjectMap.Builder object = new CompactObjectMap.Builder();
         while (currentToken != JsonToken.END_OBJECT) {
+            // Field names come from the factory's symbol table, so repeated names share one (interned) string.
             String fieldName = parser.getText();
             object.put(fieldName, parseToken(parser, parser.nextToken()));
             currentToken = parser.nextToken();
         }
-        return new ObjectJsonNode(object);
+        return new ObjectJsonNode(object.build());
     }
 
     private JsonNode parseArray(JsonParser parser) throws IOException {
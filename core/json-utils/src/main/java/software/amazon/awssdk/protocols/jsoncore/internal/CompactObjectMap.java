@@ -0,0 +1,185 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.jsoncore.internal;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.protocols.jsoncore.JsonNode;
+
+/**
+ * An unmodifiable, insertion-ordered map for the fields of a small JSON object, stored as parallel arrays of names and
+ * values instead of hash map entries. Lookups are a linear scan, which for a handful of fields is as fast as hashing,
+ * especially since the parser's field names are interned, so {@link String#equals} usually matches them by identity.
+ */
+@SdkInternalApi
+public final class CompactObjectMap extends AbstractMap<String, JsonNode> {
+    private final String[] names;
+    private final JsonNode[] values;
+    private final int size;
+
+    private CompactObjectMap(String[] names, JsonNode[] values, int size) {
+        this.names = names;
+        this.values = values;
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public JsonNode get(Object key) {
+        int index = indexOf(key);
+        return index >= 0 ? values[index] : null;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super JsonNode> action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(names[i], values[i]);
+        }
+    }
+
+    @Override
+    public Set<Entry<String, JsonNode>> entrySet() {
+        return new EntrySet();
+    }
+
+    private int indexOf(Object key) {
+        if (key != null) {
+            for (int i = 0; i < size; i++) {
+                if (key.equals(names[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, JsonNode>> {
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<Entry<String, JsonNode>> iterator() {
+            return new EntryIterator();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, JsonNode>> {
+        private int next;
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public Entry<String, JsonNode> next() {
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            Entry<String, JsonNode> entry = new SimpleImmutableEntry<>(names[next], values[next]);
+            next++;
+            return entry;
+        }
+    }
+
+    /**
+     * Collects the fields of an object as they're parsed. Objects with more fields than fit in a compact map are collected
+     * into a {@link LinkedHashMap} instead.
+     */
+    public static final class Builder {
+        private static final int MAX_COMPACT_SIZE = 16;
+        private static final int INITIAL_CAPACITY = 4;
+
+        private String[] names;
+        private JsonNode[] values;
+        private int size;
+        private Map<String, JsonNode> overflow;
+
+        /**
+         * Adds a field. A field with the same name as one already added replaces its value but keeps its position, the same as
+         * {@link LinkedHashMap}.
+         */
+        public void put(String name, JsonNode value) {
+            if (overflow != null) {
+                overflow.put(name, value);
+                return;
+            }
+            for (int i = 0; i < size; i++) {
+                if (names[i].equals(name)) {
+                    values[i] = value;
+                    return;
+                }
+            }
+            if (names == null) {
+                names = new String[INITIAL_CAPACITY];
+                values = new JsonNode[INITIAL_CAPACITY];
+            } else if (size == names.length) {
+                if (size == MAX_COMPACT_SIZE) {
+                    overflow = new LinkedHashMap<>();
+                    forEachCompact(overflow::put);
+                    overflow.put(name, value);
+                    return;
+                }
+                names = Arrays.copyOf(names, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            names[size] = name;
+            values[size] = value;
+            size++;
+        }
+
+        public Map<String, JsonNode> build() {
+            if (overflow != null) {
+                return overflow;
+            }
+            if (size == 0) {
+                return Collections.emptyMap();
+            }
+            return new CompactObjectMap(names, values, size);
+        }
+
+        private void forEachCompact(BiConsumer<String, JsonNode> action) {
+            for (int i = 0; i < size; i++) {
+                action.accept(names[i], values[i]);
+            }
+        }
+    }
+}
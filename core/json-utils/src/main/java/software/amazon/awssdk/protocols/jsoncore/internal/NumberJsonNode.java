@@ -26,12 +26,21 @@ import software.amazon.awssdk.protocols.jsoncore.JsonNodeVisitor;
  */
 @SdkInternalApi
 public final class NumberJsonNode implements JsonNode {
-    private final String value;
+    private final Number numberValue;
+    private String value;
 
     public NumberJsonNode(String value) {
+        this.numberValue = null;
         this.value = value;
     }
 
+    /**
+     * Create a node for a number decoded from a binary format. Its decimal text is only created if it's asked for.
+     */
+    public NumberJsonNode(Number numberValue) {
+        this.numberValue = numberValue;
+    }
+
     @Override
     public boolean isNumber() {
         return true;
@@ -39,7 +48,12 @@ public final class NumberJsonNode implements JsonNode {
 
     @Override
     public String asNumber() {
-        return value;
+        return text();
+    }
+
+    @Override
+    public Number numberValue() {
+        return numberValue;
     }
 
     @Override
@@ -74,12 +88,16 @@ public final class NumberJsonNode implements JsonNode {
 
     @Override
     public String text() {
+        // Racing threads would create equal strings, so this doesn't need to be synchronized.
+        if (value == null) {
+            value = numberValue.toString();
+        }
         return value;
     }
 
     @Override
     public String toString() {
-        return value;
+        return text();
     }
 
     @Override
@@ -93,11 +111,11 @@ public final class NumberJsonNode implements JsonNode {
 
         NumberJsonNode that = (NumberJsonNode) o;
 
-        return value.equals(that.value);
+        return text().equals(that.text());
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return text().hashCode();
     }
 }
@@ -4,7 +4,10 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.protocols.jsoncore.internal.NumberJsonNode;
 import software.amazon.awssdk.utils.StringInputStream;
 
 public class JsonNodeTest {
@@ -247,6 +250,49 @@ public class JsonNodeTest {
         assertThat(PARSER.parse(input).toString()).isEqualTo(input);
     }
 
+    @Test
+    public void parseObject_keepsFieldOrder() {
+        for (int fields : new int[] {1, 4, 5, 16, 17, 40}) {
+            StringBuilder input = new StringBuilder("{");
+            Map<String, JsonNode> expected = new LinkedHashMap<>();
+            for (int i = fields; i > 0; i--) {
+                input.append(i == fields ? "" : ",").append("\"f").append(i).append("\":").append(i);
+                expected.put("f" + i, new NumberJsonNode(Integer.toString(i)));
+            }
+            Map<String, JsonNode> object = PARSER.parse(input.append("}").toString()).asObject();
+
+            assertThat(object).containsExactlyEntriesOf(expected);
+            assertThat(object).isEqualTo(expected);
+            assertThat(object.hashCode()).isEqualTo(expected.hashCode());
+            assertThat(object.get("f1")).isEqualTo(expected.get("f1"));
+            assertThat(object.get("missing")).isNull();
+            assertThat(object.containsKey(new String("f" + fields))).isTrue();
+        }
+    }
+
+    @Test
+    public void parseObject_duplicateField_keepsFirstPositionAndLastValue() {
+        Map<String, JsonNode> object = PARSER.parse("{\"a\": 1, \"b\": 2, \"a\": 3}").asObject();
+
+        assertThat(object.keySet()).containsExactly("a", "b");
+        assertThat(object.get("a").asNumber()).isEqualTo("3");
+    }
+
+    @Test
+    public void parseObject_isUnmodifiable() {
+        Map<String, JsonNode> object = PARSER.parse("{\"a\": 1}").asObject();
+
+        assertThatThrownBy(() -> object.put("b", JsonNode.emptyObjectNode())).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void parseObject_sameFieldNamesAcrossDocuments_shareStrings() {
+        String first = PARSER.parse("{\"fieldName\": 1}").asObject().keySet().iterator().next();
+        String second = PARSER.parse("{\"fieldName\": 2}").asObject().keySet().iterator().next();
+
+        assertThat(second).isSameAs(first);
+    }
+
     @Test
     public void exceptionsIncludeErrorLocation() {
         assertThatThrownBy(() -> PARSER.parse("{{foo}")).hasMessageContaining("foo");
@@ -20,6 +20,8 @@ import java.util.EnumMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.SdkSystemSetting;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.protocol.MarshallLocation;
 import software.amazon.awssdk.core.traits.TimestampFormatTrait;
 import software.amazon.awssdk.protocols.cbor.internal.AwsStructuredCborFactory;
@@ -31,8 +33,8 @@ import software.amazon.awssdk.protocols.json.StructuredJsonFactory;
 
 /**
  * Protocol factory for AWS/CBOR protocols. Supports both JSON RPC and REST JSON versions of CBOR. Defaults to
- * the CBOR wire format but can fallback to standard JSON if the {@link SdkSystemSetting#CBOR_ENABLED} is
- * set to false.
+ * the CBOR wire format but can fallback to standard JSON if {@link SdkAdvancedClientOption#CBOR_ENABLED} is set to false
+ * for the client, or if it isn't set and {@link SdkSystemSetting#CBOR_ENABLED} is set to false.
  */
 @SdkProtectedApi
 public final class AwsCborProtocolFactory extends BaseAwsJsonProtocolFactory {
@@ -88,6 +90,12 @@ public final class AwsCborProtocolFactory extends BaseAwsJsonProtocolFactory {
     }
 
     private boolean isCborEnabled() {
+        SdkClientConfiguration clientConfiguration = getClientConfiguration();
+        Boolean clientCborEnabled = clientConfiguration != null ? clientConfiguration.option(SdkAdvancedClientOption.CBOR_ENABLED)
+                                                                : null;
+        if (clientCborEnabled != null) {
+            return clientCborEnabled;
+        }
         return SdkSystemSetting.CBOR_ENABLED.getBooleanValueOrThrow();
     }
 
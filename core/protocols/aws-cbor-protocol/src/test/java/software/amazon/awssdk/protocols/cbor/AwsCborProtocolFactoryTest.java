@@ -24,8 +24,11 @@ import static software.amazon.awssdk.core.traits.TimestampFormatTrait.Format.UNI
 import java.util.Map;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.protocol.MarshallLocation;
 import software.amazon.awssdk.core.traits.TimestampFormatTrait;
+import software.amazon.awssdk.protocols.json.AwsJsonProtocol;
 
 public class AwsCborProtocolFactoryTest {
 
@@ -54,4 +57,35 @@ public class AwsCborProtocolFactoryTest {
             System.clearProperty(CBOR_ENABLED.property());
         }
     }
+
+    @Test
+    public void clientCborDisabled_overridesSystemSetting() {
+        AwsCborProtocolFactory clientFactory = factoryWithClientCborEnabled(false);
+        assertThat(clientFactory.getContentType()).isEqualTo("application/x-amz-json-1.1");
+        assertThat(clientFactory.getDefaultTimestampFormats().get(MarshallLocation.PAYLOAD)).isEqualTo(UNIX_TIMESTAMP);
+    }
+
+    @Test
+    public void clientCborEnabled_overridesSystemSetting() {
+        System.setProperty(CBOR_ENABLED.property(), "false");
+        try {
+            AwsCborProtocolFactory clientFactory = factoryWithClientCborEnabled(true);
+            assertThat(clientFactory.getContentType()).isEqualTo("application/x-amz-cbor-1.1");
+            assertThat(clientFactory.getDefaultTimestampFormats().get(MarshallLocation.PAYLOAD))
+                .isEqualTo(UNIX_TIMESTAMP_MILLIS);
+        } finally {
+            System.clearProperty(CBOR_ENABLED.property());
+        }
+    }
+
+    private static AwsCborProtocolFactory factoryWithClientCborEnabled(boolean cborEnabled) {
+        return AwsCborProtocolFactory.builder()
+                                     .clientConfiguration(SdkClientConfiguration.builder()
+                                                                                .option(SdkAdvancedClientOption.CBOR_ENABLED,
+                                                                                        cborEnabled)
+                                                                                .build())
+                                     .protocol(AwsJsonProtocol.AWS_JSON)
+                                     .protocolVersion("1.1")
+                                     .build();
+    }
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.protocols.cbor.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.protocols.json.StructuredJsonGenerator;
+import software.amazon.awssdk.protocols.jsoncore.JsonNode;
+import software.amazon.awssdk.protocols.jsoncore.JsonNodeParser;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonGenerator;
+
+public class CborJsonNodeParserTest {
+    private static final JsonNodeParser PARSER =
+        JsonNodeParser.builder().jsonFactory(AwsStructuredCborFactory.SDK_CBOR_FACTORY.getJsonFactory()).build();
+
+    @Test
+    public void numbers_keepDecodedValues() throws IOException {
+        ByteArrayOutputStream cbor = new ByteArrayOutputStream();
+        try (JsonGenerator generator = AwsStructuredCborFactory.SDK_CBOR_FACTORY.getJsonFactory().createGenerator(cbor)) {
+            generator.writeStartObject();
+            generator.writeNumberField("int", 42);
+            generator.writeNumberField("long", 1L << 40);
+            generator.writeNumberField("double", 1.1d);
+            generator.writeNumberField("float", 1.1f);
+            generator.writeFieldName("bigInteger");
+            generator.writeNumber(BigInteger.ONE.shiftLeft(70));
+            generator.writeEndObject();
+        }
+
+        JsonNode node = PARSER.parse(cbor.toByteArray());
+
+        assertNumber(node, "int", 42, "42");
+        assertNumber(node, "long", 1L << 40, "1099511627776");
+        assertNumber(node, "double", 1.1d, "1.1");
+        assertNumber(node, "float", 1.1f, "1.1");
+        assertNumber(node, "bigInteger", BigInteger.ONE.shiftLeft(70), "1180591620717411303424");
+    }
+
+    @Test
+    public void numbers_fromJson_areOnlyAvailableAsText() {
+        JsonNode node = JsonNodeParser.create().parse("{\"int\": 42}").field("int").get();
+        assertThat(node.numberValue()).isNull();
+        assertThat(node.asNumber()).isEqualTo("42");
+    }
+
+    @Test
+    public void binaryValues_areWrittenAndReadWithoutBase64() {
+        byte[] data = "record-data".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(data.length + 4);
+        buffer.position(2);
+        buffer.put(data);
+        buffer.position(2);
+        buffer.limit(2 + data.length);
+
+        StructuredJsonGenerator generator = AwsStructuredCborFactory.SDK_CBOR_FACTORY.createWriter("application/x-amz-cbor-1.1");
+        generator.writeStartObject();
+        generator.writeFieldName("Data");
+        generator.writeValue(buffer);
+        generator.writeEndObject();
+
+        JsonNode parsed = PARSER.parse(generator.getBytes()).field("Data").get();
+        assertThat(parsed.isEmbeddedObject()).isTrue();
+        assertThat((byte[]) parsed.asEmbeddedObject()).isEqualTo(data);
+    }
+
+    private static void assertNumber(JsonNode object, String field, Number expectedValue, String expectedText) {
+        JsonNode node = object.field(field).get();
+        assertThat(node.isNumber()).isTrue();
+        assertThat(node.numberValue()).isEqualTo(expectedValue);
+        assertThat(node.asNumber()).isEqualTo(expectedText);
+    }
+}
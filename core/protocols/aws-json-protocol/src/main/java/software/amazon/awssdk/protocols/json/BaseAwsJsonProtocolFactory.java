@@ -28,6 +28,7 @@ import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
@@ -76,6 +77,7 @@ public abstract class BaseAwsJsonProtocolFactory {
                                   .jsonFactory(getSdkFactory().getJsonFactory())
                                   .build())
             .defaultTimestampFormats(getDefaultTimestampFormats())
+            .lazyListUnmarshalling(isLazyListUnmarshallingEnabled())
             .build();
     }
 
@@ -130,6 +132,11 @@ public abstract class BaseAwsJsonProtocolFactory {
             .build());
     }
 
+    private boolean isLazyListUnmarshallingEnabled() {
+        return clientConfiguration != null &&
+               Boolean.TRUE.equals(clientConfiguration.option(SdkAdvancedClientOption.LAZY_LIST_UNMARSHALLING));
+    }
+
     private <T> MetricCollectingHttpResponseHandler<T> timeUnmarshalling(HttpResponseHandler<T> delegate) {
         return MetricCollectingHttpResponseHandler.create(CoreMetric.UNMARSHALLING_DURATION, delegate);
     }
@@ -153,6 +160,13 @@ public abstract class BaseAwsJsonProtocolFactory {
                 : getContentTypeResolver().resolveContentType(protocolMetadata);
     }
 
+    /**
+     * @return The configuration of the client this factory was created for, or null if it wasn't created for a client.
+     */
+    protected final SdkClientConfiguration getClientConfiguration() {
+        return clientConfiguration;
+    }
+
     /**
      * @return Content type resolver implementation to use.
      */
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.protocols.json;
 
 import java.io.IOException;
+import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
@@ -23,6 +24,8 @@ import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.jsoncore.JsonNode;
 import software.amazon.awssdk.protocols.jsoncore.JsonNodeParser;
 import software.amazon.awssdk.thirdparty.jackson.core.JsonFactory;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonParser;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonToken;
 import software.amazon.awssdk.utils.IoUtils;
 
 /**
@@ -34,17 +37,24 @@ public class JsonContent {
 
     private static final Logger LOG = LoggerFactory.getLogger(JsonContent.class);
 
+    /**
+     * How far into the raw content {@link #findTopLevelText(List)} scans before it parses the content into a tree instead.
+     */
+    private static final int MAX_SCANNED_BYTES = 4 * 1024;
+
     private final byte[] rawContent;
-    private final JsonNode jsonNode;
+    private final JsonFactory jsonFactory;
+    private JsonNode jsonNode;
 
     JsonContent(byte[] rawJsonContent, JsonNode jsonNode) {
         this.rawContent = rawJsonContent;
+        this.jsonFactory = null;
         this.jsonNode = jsonNode;
     }
 
     private JsonContent(byte[] rawJsonContent, JsonFactory jsonFactory) {
         this.rawContent = rawJsonContent;
-        this.jsonNode = parseJsonContent(rawJsonContent, jsonFactory);
+        this.jsonFactory = jsonFactory;
     }
 
     /**
@@ -82,7 +92,83 @@ public class JsonContent {
         return rawContent;
     }
 
+    /**
+     * @return The parsed content. The content is parsed the first time this is called.
+     */
     public JsonNode getJsonNode() {
+        if (jsonNode == null) {
+            jsonNode = parseJsonContent(rawContent, jsonFactory);
+        }
         return jsonNode;
     }
+
+    /**
+     * Find the text of the first of the given fields of the top-level object that is present, e.g. the error code or message
+     * of an error response. Unless the content has already been parsed, this scans the start of the raw content with a
+     * streaming parser, which is much cheaper than parsing the content into a tree. The content is only parsed if the scan
+     * can't give the same answer, e.g. because the object continues beyond the scanned prefix or a field isn't a scalar.
+     *
+     * @param fieldNames The field names, in order of preference.
+     * @return The text of the first field that is present, or null if none of them are.
+     */
+    public String findTopLevelText(List<String> fieldNames) {
+        if (jsonNode == null && (rawContent == null || rawContent.length == 0)) {
+            return null;
+        }
+        if (jsonNode == null) {
+            String[] scanned = scanTopLevelText(fieldNames);
+            if (scanned != null) {
+                return firstNonNull(scanned);
+            }
+        }
+
+        JsonNode content = getJsonNode();
+        for (String fieldName : fieldNames) {
+            String text = content.field(fieldName).map(JsonNode::text).orElse(null);
+            if (text != null) {
+                return text;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Scan the top-level object for the given fields. Like the parsed tree, the last value of a repeated field wins.
+     *
+     * @return The text of each of the fields, or null if the content has to be parsed to find them.
+     */
+    private String[] scanTopLevelText(List<String> fieldNames) {
+        String[] texts = new String[fieldNames.size()];
+        try (JsonParser parser = jsonFactory.createParser(rawContent)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            for (JsonToken token = parser.nextToken(); token != JsonToken.END_OBJECT; token = parser.nextToken()) {
+                if (token != JsonToken.FIELD_NAME || parser.getTokenLocation().getByteOffset() > MAX_SCANNED_BYTES) {
+                    return null;
+                }
+                int index = fieldNames.indexOf(parser.getCurrentName());
+                JsonToken value = parser.nextToken();
+                if (index < 0) {
+                    parser.skipChildren();
+                } else if (value.isScalarValue() && value != JsonToken.VALUE_EMBEDDED_OBJECT) {
+                    texts[index] = value == JsonToken.VALUE_NULL ? null : parser.getText();
+                } else {
+                    return null;
+                }
+            }
+            return texts;
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static String firstNonNull(String[] values) {
+        for (String value : values) {
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
 }
@@ -189,7 +189,11 @@ public class SdkJsonGenerator implements StructuredJsonGenerator {
     @Override
     public StructuredJsonGenerator writeValue(ByteBuffer bytes) {
         try {
-            generator.writeBinary(BinaryUtils.copyBytesFrom(bytes));
+            if (bytes.hasArray()) {
+                generator.writeBinary(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+            } else {
+                generator.writeBinary(BinaryUtils.copyBytesFrom(bytes));
+            }
         } catch (IOException e) {
             throw new JsonGenerationException(e);
         }
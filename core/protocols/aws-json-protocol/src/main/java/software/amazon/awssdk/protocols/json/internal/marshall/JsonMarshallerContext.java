@@ -19,6 +19,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.protocol.MarshallLocation;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
+import software.amazon.awssdk.protocols.core.RestBindingWriter;
 import software.amazon.awssdk.protocols.json.StructuredJsonGenerator;
 
 /**
@@ -31,12 +32,14 @@ public final class JsonMarshallerContext {
     private final JsonProtocolMarshaller protocolHandler;
     private final JsonMarshallerRegistry marshallerRegistry;
     private final SdkHttpFullRequest.Builder request;
+    private final RestBindingWriter restBindingWriter;
 
     private JsonMarshallerContext(Builder builder) {
         this.jsonGenerator = builder.jsonGenerator;
         this.protocolHandler = builder.protocolHandler;
         this.marshallerRegistry = builder.marshallerRegistry;
         this.request = builder.request;
+        this.restBindingWriter = new RestBindingWriter(builder.request);
     }
 
     /**
@@ -70,6 +73,13 @@ public final class JsonMarshallerContext {
         return request;
     }
 
+    /**
+     * @return Writer for the members bound to headers, query parameters and path labels.
+     */
+    public RestBindingWriter restBindingWriter() {
+        return restBindingWriter;
+    }
+
     /**
      * Convenience method to marshall a nested object (may be simple or structured) at the given location.
      *
@@ -0,0 +1,154 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal.marshall;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+
+/**
+ * How to marshall each field of an {@link SdkPojo} class. The marshallers, location names and payload traits of the fields
+ * are resolved once when the plan is created, so marshalling an instance of the class is a walk over an array instead of a
+ * registry lookup and trait check per field.
+ */
+@SdkInternalApi
+final class JsonMarshallingPlan {
+
+    private final List<SdkField<?>> sdkFields;
+    private final FieldPlan[] fieldPlans;
+
+    private JsonMarshallingPlan(List<SdkField<?>> sdkFields, JsonMarshallerRegistry registry) {
+        this.sdkFields = sdkFields;
+        this.fieldPlans = new FieldPlan[sdkFields.size()];
+        for (int i = 0; i < fieldPlans.length; i++) {
+            fieldPlans[i] = new FieldPlan(sdkFields.get(i), registry);
+        }
+    }
+
+    static JsonMarshallingPlan create(SdkPojo pojo, JsonMarshallerRegistry registry) {
+        return new JsonMarshallingPlan(pojo.sdkFields(), registry);
+    }
+
+    // Hand-written SdkPojos, unlike generated ones, may return a different list of fields each time
+    boolean appliesTo(SdkPojo pojo) {
+        return pojo.sdkFields() == sdkFields;
+    }
+
+    FieldPlan[] fieldPlans() {
+        return fieldPlans;
+    }
+
+    enum FieldKind {
+        BINARY_PAYLOAD,
+        EXPLICIT_PAYLOAD,
+        FIELD
+    }
+
+    /**
+     * The plans of each {@link SdkPojo} class, created from the first instance of the class that is marshalled.
+     */
+    static final class Cache extends ClassValue<AtomicReference<JsonMarshallingPlan>> {
+        private final JsonMarshallerRegistry registry;
+
+        Cache(JsonMarshallerRegistry registry) {
+            this.registry = registry;
+        }
+
+        @Override
+        protected AtomicReference<JsonMarshallingPlan> computeValue(Class<?> type) {
+            return new AtomicReference<>();
+        }
+
+        JsonMarshallingPlan get(SdkPojo pojo) {
+            AtomicReference<JsonMarshallingPlan> cached = get(pojo.getClass());
+            JsonMarshallingPlan plan = cached.get();
+            if (plan == null) {
+                cached.compareAndSet(null, create(pojo, registry));
+                plan = cached.get();
+            }
+            return plan.appliesTo(pojo) ? plan : create(pojo, registry);
+        }
+    }
+
+    /**
+     * The resolved marshalling decisions for a single field.
+     */
+    static final class FieldPlan {
+        private final SdkField<Object> field;
+        private final FieldKind kind;
+        private final String locationName;
+        private final JsonMarshaller<Object> marshaller;
+        private final JsonMarshaller<Object> nullMarshaller;
+        private final JsonMarshallerRegistry registry;
+
+        @SuppressWarnings("unchecked")
+        private FieldPlan(SdkField<?> field, JsonMarshallerRegistry registry) {
+            this.field = (SdkField<Object>) field;
+            this.kind = kind(field);
+            this.locationName = field.locationName();
+            this.registry = registry;
+            this.marshaller = resolve(registry, field, field.marshallingType());
+            this.nullMarshaller = resolve(registry, field, MarshallingType.NULL);
+        }
+
+        private static FieldKind kind(SdkField<?> field) {
+            if (!field.containsPayloadTrait()) {
+                return FieldKind.FIELD;
+            }
+            return MarshallingType.SDK_BYTES.equals(field.marshallingType()) ? FieldKind.BINARY_PAYLOAD
+                                                                             : FieldKind.EXPLICIT_PAYLOAD;
+        }
+
+        // Null if there's no marshaller, which should only fail once a value is marshalled
+        private static JsonMarshaller<Object> resolve(JsonMarshallerRegistry registry,
+                                                      SdkField<?> field,
+                                                      MarshallingType<?> marshallingType) {
+            try {
+                return registry.getMarshallerForType(field.location(), marshallingType);
+            } catch (SdkClientException e) {
+                return null;
+            }
+        }
+
+        SdkField<Object> field() {
+            return field;
+        }
+
+        FieldKind kind() {
+            return kind;
+        }
+
+        String locationName() {
+            return locationName;
+        }
+
+        boolean isDocument() {
+            return MarshallingType.DOCUMENT.equals(field.marshallingType());
+        }
+
+        /**
+         * @return The marshaller for the given value of this field.
+         */
+        JsonMarshaller<Object> marshaller(Object val) {
+            JsonMarshaller<Object> resolved = val == null ? nullMarshaller : marshaller;
+            return resolved != null ? resolved : registry.getMarshaller(field.location(), field.marshallingType(), val);
+        }
+    }
+}
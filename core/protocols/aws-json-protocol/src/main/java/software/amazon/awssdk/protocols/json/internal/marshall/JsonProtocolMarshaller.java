@@ -29,11 +29,9 @@ import java.util.EnumMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkBytes;
-import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.SdkPojo;
 import software.amazon.awssdk.core.protocol.MarshallLocation;
 import software.amazon.awssdk.core.protocol.MarshallingType;
-import software.amazon.awssdk.core.traits.PayloadTrait;
 import software.amazon.awssdk.core.traits.TimestampFormatTrait;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.protocols.core.InstantToString;
@@ -44,6 +42,7 @@ import software.amazon.awssdk.protocols.core.ValueToStringConverter.ValueToStrin
 import software.amazon.awssdk.protocols.json.AwsJsonProtocol;
 import software.amazon.awssdk.protocols.json.AwsJsonProtocolMetadata;
 import software.amazon.awssdk.protocols.json.StructuredJsonGenerator;
+import software.amazon.awssdk.protocols.json.internal.marshall.JsonMarshallingPlan.FieldPlan;
 
 /**
  * Implementation of {@link ProtocolMarshaller} for JSON based services. This includes JSON-RPC and REST-JSON.
@@ -56,6 +55,8 @@ public class JsonProtocolMarshaller implements ProtocolMarshaller<SdkHttpFullReq
 
     private static final JsonMarshallerRegistry MARSHALLER_REGISTRY = createMarshallerRegistry();
 
+    private static final JsonMarshallingPlan.Cache MARSHALLING_PLANS = new JsonMarshallingPlan.Cache(MARSHALLER_REGISTRY);
+
     private final URI endpoint;
     private final StructuredJsonGenerator jsonGenerator;
     private final SdkHttpFullRequest.Builder request;
@@ -176,35 +177,30 @@ public class JsonProtocolMarshaller implements ProtocolMarshaller<SdkHttpFullReq
     }
 
     void doMarshall(SdkPojo pojo) {
-        for (SdkField<?> field : pojo.sdkFields()) {
-            Object val = field.getValueOrDefault(pojo);
-            if (isExplicitBinaryPayload(field)) {
-                if (val != null) {
-                    request.contentStreamProvider(((SdkBytes) val)::asInputStream);
-                }
-            } else if (isExplicitPayloadMember(field)) {
-                marshallExplicitJsonPayload(field, val);
-            } else {
-                marshallField(field, val);
+        for (FieldPlan fieldPlan : MARSHALLING_PLANS.get(pojo).fieldPlans()) {
+            Object val = fieldPlan.field().getValueOrDefault(pojo);
+            switch (fieldPlan.kind()) {
+                case BINARY_PAYLOAD:
+                    if (val != null) {
+                        request.contentStreamProvider(((SdkBytes) val)::asInputStream);
+                    }
+                    break;
+                case EXPLICIT_PAYLOAD:
+                    marshallExplicitJsonPayload(fieldPlan, val);
+                    break;
+                default:
+                    marshallField(fieldPlan, val);
             }
         }
     }
 
-    private boolean isExplicitBinaryPayload(SdkField<?> field) {
-        return isExplicitPayloadMember(field) && MarshallingType.SDK_BYTES.equals(field.marshallingType());
-    }
-
-    private boolean isExplicitPayloadMember(SdkField<?> field) {
-        return field.containsTrait(PayloadTrait.class);
-    }
-
-    private void marshallExplicitJsonPayload(SdkField<?> field, Object val) {
+    private void marshallExplicitJsonPayload(FieldPlan fieldPlan, Object val) {
         // Explicit JSON payloads are always marshalled as an object,
         // even if they're null, in which case it's an empty object.
         jsonGenerator.writeStartObject();
         if (val != null) {
-            if (MarshallingType.DOCUMENT.equals(field.marshallingType())) {
-                marshallField(field, val);
+            if (fieldPlan.isDocument()) {
+                marshallField(fieldPlan, val);
             } else {
                 doMarshall((SdkPojo) val);
             }
@@ -220,6 +216,8 @@ public class JsonProtocolMarshaller implements ProtocolMarshaller<SdkHttpFullReq
     }
 
     private SdkHttpFullRequest finishMarshalling() {
+        marshallerContext.restBindingWriter().writePath();
+
         // Content may already be set if the payload is binary data.
         if (request.contentStreamProvider() == null) {
             // End the implicit request object if needed.
@@ -262,9 +260,8 @@ public class JsonProtocolMarshaller implements ProtocolMarshaller<SdkHttpFullReq
         return request.build();
     }
 
-    private void marshallField(SdkField<?> field, Object val) {
-        MARSHALLER_REGISTRY.getMarshaller(field.location(), field.marshallingType(), val)
-                           .marshall(val, marshallerContext, field.locationName(), (SdkField<Object>) field);
+    private void marshallField(FieldPlan fieldPlan, Object val) {
+        fieldPlan.marshaller(val).marshall(val, marshallerContext, fieldPlan.locationName(), fieldPlan.field());
     }
 
     private boolean needTopLevelJsonObject() {
@@ -73,7 +73,7 @@ public final class QueryParamMarshaller {
 
         @Override
         public void marshall(T val, JsonMarshallerContext context, String paramName, SdkField<T> sdkField) {
-            context.request().appendRawQueryParameter(paramName, converter.convert(val, sdkField));
+            context.restBindingWriter().appendQueryParameter(paramName, converter.convert(val, sdkField));
         }
     }
 }
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.protocols.json.internal.marshall;
 
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
@@ -106,7 +107,7 @@ public final class SimpleTypeJsonMarshaller {
         if (paramName != null) {
             jsonGenerator.writeFieldName(paramName);
         }
-        TimestampFormatTrait trait = sdkField != null ? sdkField.getTrait(TimestampFormatTrait.class) : null;
+        TimestampFormatTrait trait = sdkField != null ? sdkField.timestampFormatTrait() : null;
         if (trait != null) {
             switch (trait.format()) {
                 case UNIX_TIMESTAMP:
@@ -132,7 +133,8 @@ public final class SimpleTypeJsonMarshaller {
     public static final JsonMarshaller<SdkBytes> SDK_BYTES = new BaseJsonMarshaller<SdkBytes>() {
         @Override
         public void marshall(SdkBytes val, StructuredJsonGenerator jsonGenerator, JsonMarshallerContext context) {
-            jsonGenerator.writeValue(val.asByteBuffer());
+            // The generator only reads the bytes, so there's no need for the copy a read-only buffer would cost it.
+            jsonGenerator.writeValue(ByteBuffer.wrap(val.asByteArrayUnsafe()));
         }
     };
 
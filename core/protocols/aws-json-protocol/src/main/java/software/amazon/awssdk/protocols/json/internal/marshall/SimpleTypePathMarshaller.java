@@ -62,8 +62,7 @@ public final class SimpleTypePathMarshaller {
 
         @Override
         public void marshall(T val, JsonMarshallerContext context, String paramName, SdkField<T> sdkField) {
-            context.request().encodedPath(
-                    pathMarshaller.marshall(context.request().encodedPath(), paramName, converter.convert(val, sdkField)));
+            context.restBindingWriter().putPathParameter(pathMarshaller, paramName, converter.convert(val, sdkField));
         }
 
     }
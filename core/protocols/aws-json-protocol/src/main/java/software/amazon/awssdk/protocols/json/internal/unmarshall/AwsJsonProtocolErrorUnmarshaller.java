@@ -17,6 +17,7 @@ package software.amazon.awssdk.protocols.json.internal.unmarshall;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -31,6 +32,7 @@ import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.core.ExceptionMetadata;
 import software.amazon.awssdk.protocols.json.ErrorCodeParser;
 import software.amazon.awssdk.protocols.json.JsonContent;
+import software.amazon.awssdk.protocols.jsoncore.JsonNode;
 import software.amazon.awssdk.thirdparty.jackson.core.JsonFactory;
 
 /**
@@ -41,7 +43,7 @@ import software.amazon.awssdk.thirdparty.jackson.core.JsonFactory;
 public final class AwsJsonProtocolErrorUnmarshaller implements HttpResponseHandler<AwsServiceException> {
 
     private final JsonProtocolUnmarshaller jsonProtocolUnmarshaller;
-    private final List<ExceptionMetadata> exceptions;
+    private final Map<String, ExceptionMetadata> exceptionsByErrorCode;
     private final ErrorMessageParser errorMessageParser;
     private final JsonFactory jsonFactory;
     private final Supplier<SdkPojo> defaultExceptionSupplier;
@@ -53,7 +55,7 @@ public final class AwsJsonProtocolErrorUnmarshaller implements HttpResponseHandl
         this.errorMessageParser = builder.errorMessageParser;
         this.jsonFactory = builder.jsonFactory;
         this.defaultExceptionSupplier = builder.defaultExceptionSupplier;
-        this.exceptions = builder.exceptions;
+        this.exceptionsByErrorCode = ExceptionMetadata.indexByErrorCode(builder.exceptions);
     }
 
     @Override
@@ -61,21 +63,25 @@ public final class AwsJsonProtocolErrorUnmarshaller implements HttpResponseHandl
         return unmarshall(response, executionAttributes);
     }
 
+    /**
+     * The error code and message are taken from the headers if present, and otherwise found by scanning the content. The
+     * content is only parsed into a tree if the exception is modeled and so has members to unmarshall from it, or if the
+     * scan isn't enough, so that the frequent unmodeled errors, e.g. while a service is throttling, are cheap to handle.
+     */
     private AwsServiceException unmarshall(SdkHttpFullResponse response, ExecutionAttributes executionAttributes) {
         JsonContent jsonContent = JsonContent.createJsonContent(response, jsonFactory);
         String errorCode = errorCodeParser.parseErrorCode(response, jsonContent);
 
-        Optional<ExceptionMetadata> modeledExceptionMetadata = exceptions.stream()
-                                                                         .filter(e -> e.errorCode().equals(errorCode))
-                                                                         .findAny();
+        Optional<ExceptionMetadata> modeledExceptionMetadata = Optional.ofNullable(exceptionsByErrorCode.get(errorCode));
 
         SdkPojo sdkPojo = modeledExceptionMetadata.map(ExceptionMetadata::exceptionBuilderSupplier)
                                                   .orElse(defaultExceptionSupplier)
                                                   .get();
 
+        JsonNode modeledContent = sdkPojo.sdkFields().isEmpty() ? null : jsonContent.getJsonNode();
         AwsServiceException.Builder exception = ((AwsServiceException) jsonProtocolUnmarshaller
-            .unmarshall(sdkPojo, response, jsonContent.getJsonNode())).toBuilder();
-        String errorMessage = errorMessageParser.parseErrorMessage(response, jsonContent.getJsonNode());
+            .unmarshall(sdkPojo, response, modeledContent)).toBuilder();
+        String errorMessage = errorMessageParser.parseErrorMessage(response, jsonContent);
         exception.awsErrorDetails(extractAwsErrorDetails(response, executionAttributes, jsonContent,
                                                          errorCode, errorMessage));
         exception.clockSkew(getClockSkew(executionAttributes));
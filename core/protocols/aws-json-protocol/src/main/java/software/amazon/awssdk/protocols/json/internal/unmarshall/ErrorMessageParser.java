@@ -17,10 +17,19 @@ package software.amazon.awssdk.protocols.json.internal.unmarshall;
 
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.json.JsonContent;
 import software.amazon.awssdk.protocols.jsoncore.JsonNode;
 
 @SdkInternalApi
 public interface ErrorMessageParser {
 
     String parseErrorMessage(SdkHttpFullResponse httpResponse, JsonNode jsonNode);
+
+    /**
+     * Parse the error message from the response. Implementations that can find the message without the parsed content
+     * override this, so that the content doesn't have to be parsed.
+     */
+    default String parseErrorMessage(SdkHttpFullResponse httpResponse, JsonContent jsonContent) {
+        return parseErrorMessage(httpResponse, jsonContent.getJsonNode());
+    }
 }
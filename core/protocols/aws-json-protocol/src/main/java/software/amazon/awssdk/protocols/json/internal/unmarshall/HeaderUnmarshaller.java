@@ -20,7 +20,6 @@ import java.time.Instant;
 import java.util.List;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkField;
-import software.amazon.awssdk.core.traits.JsonValueTrait;
 import software.amazon.awssdk.protocols.core.StringToValueConverter;
 import software.amazon.awssdk.protocols.jsoncore.JsonNode;
 import software.amazon.awssdk.utils.BinaryUtils;
@@ -59,7 +58,7 @@ final class HeaderUnmarshaller {
      */
     private static String unmarshallStringHeader(String value,
                                                  SdkField<String> field) {
-        return field.containsTrait(JsonValueTrait.class) ?
+        return field.containsJsonValueTrait() ?
                new String(BinaryUtils.fromBase64(value), StandardCharsets.UTF_8) : value;
     }
 
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.protocols.json.internal.unmarshall;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import org.slf4j.Logger;
@@ -24,7 +25,6 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.json.ErrorCodeParser;
 import software.amazon.awssdk.protocols.json.JsonContent;
-import software.amazon.awssdk.protocols.jsoncore.JsonNode;
 
 @SdkInternalApi
 public class JsonErrorCodeParser implements ErrorCodeParser {
@@ -46,15 +46,16 @@ public class JsonErrorCodeParser implements ErrorCodeParser {
      * Response should only contain one of these headers
      */
     private final List<String> errorCodeHeaders;
-    private final String errorCodeFieldName;
+    private final List<String> errorCodeFieldName;
 
     public JsonErrorCodeParser(String errorCodeFieldName) {
-        this.errorCodeFieldName = errorCodeFieldName == null ? "__type" : errorCodeFieldName;
+        this.errorCodeFieldName = Collections.singletonList(errorCodeFieldName == null ? "__type" : errorCodeFieldName);
         this.errorCodeHeaders = Arrays.asList(X_AMZN_ERROR_TYPE, ERROR_CODE_HEADER, EXCEPTION_TYPE_HEADER);
     }
 
     /**
-     * Parse the error code from the response.
+     * Parse the error code from the response. The headers are checked first, and the content is only scanned for the error
+     * code if none of them are present, so that classifying an error doesn't require parsing its content.
      *
      * @return Error Code of exceptional response or null if it can't be determined
      */
@@ -64,7 +65,7 @@ public class JsonErrorCodeParser implements ErrorCodeParser {
         if (errorCodeFromHeader != null) {
             return errorCodeFromHeader;
         } else if (jsonContent != null) {
-            return parseErrorCodeFromContents(jsonContent.getJsonNode());
+            return parseErrorCodeFromContents(jsonContent);
         } else {
             return null;
         }
@@ -106,15 +107,11 @@ public class JsonErrorCodeParser implements ErrorCodeParser {
      * <b>"prefix#typeName"</b> Examples : "AccessDeniedException",
      * "software.amazon.awssdk.dynamodb.v20111205#ProvisionedThroughputExceededException"
      */
-    private String parseErrorCodeFromContents(JsonNode jsonContents) {
-        if (jsonContents == null) {
+    private String parseErrorCodeFromContents(JsonContent jsonContents) {
+        String code = jsonContents.findTopLevelText(errorCodeFieldName);
+        if (code == null) {
             return null;
         }
-        JsonNode errorCodeField = jsonContents.field(errorCodeFieldName).orElse(null);
-        if (errorCodeField == null) {
-            return null;
-        }
-        String code = errorCodeField.text();
         int separator = code.lastIndexOf('#');
         return code.substring(separator + 1);
     }
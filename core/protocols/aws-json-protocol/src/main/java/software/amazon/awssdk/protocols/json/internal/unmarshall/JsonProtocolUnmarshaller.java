@@ -24,6 +24,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
@@ -33,10 +34,8 @@ import software.amazon.awssdk.core.SdkPojo;
 import software.amazon.awssdk.core.document.Document;
 import software.amazon.awssdk.core.protocol.MarshallLocation;
 import software.amazon.awssdk.core.protocol.MarshallingType;
-import software.amazon.awssdk.core.traits.ListTrait;
-import software.amazon.awssdk.core.traits.MapTrait;
-import software.amazon.awssdk.core.traits.PayloadTrait;
 import software.amazon.awssdk.core.traits.TimestampFormatTrait;
+import software.amazon.awssdk.core.util.LazyUnmarshalledList;
 import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.core.StringToInstant;
@@ -66,11 +65,11 @@ public final class JsonProtocolUnmarshaller {
         this.instantStringToValue = StringToInstant.create(builder.defaultTimestampFormats.isEmpty() ?
                                                            new EnumMap<>(MarshallLocation.class) :
                                                            new EnumMap<>(builder.defaultTimestampFormats));
-        this.registry = createUnmarshallerRegistry(instantStringToValue);
+        this.registry = createUnmarshallerRegistry(instantStringToValue, builder.lazyListUnmarshalling);
     }
 
     private static JsonUnmarshallerRegistry createUnmarshallerRegistry(
-        StringToValueConverter.StringToValue<Instant> instantStringToValue) {
+        StringToValueConverter.StringToValue<Instant> instantStringToValue, boolean lazyListUnmarshalling) {
 
         return JsonUnmarshallerRegistry
             .builder()
@@ -86,18 +85,23 @@ public final class JsonProtocolUnmarshaller {
             .headerUnmarshaller(MarshallingType.LIST, HeaderUnmarshaller.LIST)
 
             .payloadUnmarshaller(MarshallingType.STRING, new SimpleTypeJsonUnmarshaller<>(StringToValueConverter.TO_STRING))
-            .payloadUnmarshaller(MarshallingType.INTEGER, new SimpleTypeJsonUnmarshaller<>(StringToValueConverter.TO_INTEGER))
-            .payloadUnmarshaller(MarshallingType.LONG, new SimpleTypeJsonUnmarshaller<>(StringToValueConverter.TO_LONG))
+            .payloadUnmarshaller(MarshallingType.INTEGER, new SimpleTypeJsonUnmarshaller<>(StringToValueConverter.TO_INTEGER,
+                                                                                           JsonProtocolUnmarshaller::toInteger))
+            .payloadUnmarshaller(MarshallingType.LONG, new SimpleTypeJsonUnmarshaller<>(StringToValueConverter.TO_LONG,
+                                                                                        JsonProtocolUnmarshaller::toLong))
             .payloadUnmarshaller(MarshallingType.SHORT, new SimpleTypeJsonUnmarshaller<>(StringToValueConverter.TO_SHORT))
-            .payloadUnmarshaller(MarshallingType.FLOAT, new SimpleTypeJsonUnmarshaller<>(StringToValueConverter.TO_FLOAT))
-            .payloadUnmarshaller(MarshallingType.DOUBLE, new SimpleTypeJsonUnmarshaller<>(StringToValueConverter.TO_DOUBLE))
+            .payloadUnmarshaller(MarshallingType.FLOAT, new SimpleTypeJsonUnmarshaller<>(StringToValueConverter.TO_FLOAT,
+                                                                                         JsonProtocolUnmarshaller::toFloat))
+            .payloadUnmarshaller(MarshallingType.DOUBLE, new SimpleTypeJsonUnmarshaller<>(StringToValueConverter.TO_DOUBLE,
+                                                                                          JsonProtocolUnmarshaller::toDouble))
             .payloadUnmarshaller(MarshallingType.BIG_DECIMAL, new SimpleTypeJsonUnmarshaller<>(
                 StringToValueConverter.TO_BIG_DECIMAL))
             .payloadUnmarshaller(MarshallingType.BOOLEAN, new SimpleTypeJsonUnmarshaller<>(StringToValueConverter.TO_BOOLEAN))
             .payloadUnmarshaller(MarshallingType.SDK_BYTES, JsonProtocolUnmarshaller::unmarshallSdkBytes)
             .payloadUnmarshaller(MarshallingType.INSTANT, new SimpleTypeJsonUnmarshaller<>(instantStringToValue))
             .payloadUnmarshaller(MarshallingType.SDK_POJO, JsonProtocolUnmarshaller::unmarshallStructured)
-            .payloadUnmarshaller(MarshallingType.LIST, JsonProtocolUnmarshaller::unmarshallList)
+            .payloadUnmarshaller(MarshallingType.LIST, lazyListUnmarshalling ? JsonProtocolUnmarshaller::unmarshallListLazily
+                                                                             : JsonProtocolUnmarshaller::unmarshallList)
             .payloadUnmarshaller(MarshallingType.MAP, JsonProtocolUnmarshaller::unmarshallMap)
             .payloadUnmarshaller(MarshallingType.DOCUMENT, JsonProtocolUnmarshaller::unmarshallDocument)
                 .build();
@@ -109,9 +113,10 @@ public final class JsonProtocolUnmarshaller {
         if (jsonContent == null || jsonContent.isNull()) {
             return null;
         }
-        // Binary protocols like CBOR may already have the raw bytes extracted.
+        // Binary protocols like CBOR may already have the raw bytes extracted. The parser allocates a new array for each
+        // binary value and nothing else holds on to it once the response is unmarshalled, so it doesn't need to be copied.
         if (jsonContent.isEmbeddedObject()) {
-            return SdkBytes.fromByteArray((byte[]) jsonContent.asEmbeddedObject());
+            return SdkBytes.fromByteArrayUnsafe((byte[]) jsonContent.asEmbeddedObject());
         } else {
             // Otherwise decode the JSON string as Base64
             return TO_SDK_BYTES.convert(jsonContent.text(), field);
@@ -145,7 +150,7 @@ public final class JsonProtocolUnmarshaller {
         if (jsonContent == null || jsonContent.isNull()) {
             return null;
         }
-        SdkField<Object> valueInfo = field.getTrait(MapTrait.class).valueFieldInfo();
+        SdkField<Object> valueInfo = field.mapTrait().valueFieldInfo();
         Map<String, Object> map = new HashMap<>();
         jsonContent.asObject().forEach((fieldName, value) -> {
             JsonUnmarshaller<Object> unmarshaller = context.getUnmarshaller(valueInfo.location(), valueInfo.marshallingType());
@@ -161,7 +166,7 @@ public final class JsonProtocolUnmarshaller {
         return jsonContent.asArray()
                           .stream()
                           .map(item -> {
-                              SdkField<Object> memberInfo = field.getTrait(ListTrait.class).memberFieldInfo();
+                              SdkField<Object> memberInfo = field.listTrait().memberFieldInfo();
                               JsonUnmarshaller<Object> unmarshaller = context.getUnmarshaller(memberInfo.location(),
                                                                                               memberInfo.marshallingType());
                               return unmarshaller.unmarshall(context, item, memberInfo);
@@ -169,19 +174,74 @@ public final class JsonProtocolUnmarshaller {
                           .collect(Collectors.toList());
     }
 
+    /*
+     * The number conversions below are used for numbers already decoded by a binary format like CBOR. They only accept the
+     * types that convert without loss or rounding differences, and return null for anything else so that it's converted from
+     * its text like it would be for JSON.
+     */
+
+    private static Integer toInteger(Number number) {
+        return number instanceof Integer ? (Integer) number : null;
+    }
+
+    private static Long toLong(Number number) {
+        return number instanceof Integer || number instanceof Long ? number.longValue() : null;
+    }
+
+    private static Float toFloat(Number number) {
+        return number instanceof Float || number instanceof Integer ? number.floatValue() : null;
+    }
+
+    private static Double toDouble(Number number) {
+        return number instanceof Double || number instanceof Integer || number instanceof Long ? number.doubleValue() : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<?> unmarshallListLazily(JsonUnmarshallerContext context,
+                                                JsonNode jsonContent,
+                                                SdkField<List<?>> field) {
+        SdkField<Object> memberInfo = field.listTrait().memberFieldInfo();
+        if (jsonContent == null || jsonContent.isNull() || !LazyUnmarshalledList.supportsMembers(memberInfo)) {
+            return unmarshallList(context, jsonContent, field);
+        }
+        JsonUnmarshaller<Object> unmarshaller = context.getUnmarshaller(memberInfo.location(), memberInfo.marshallingType());
+        if (MarshallingType.MAP.equals(memberInfo.marshallingType())) {
+            return LazyUnmarshalledList.createOfMaps(jsonContent.asArray(),
+                                                     item -> (Map<String, ?>) unmarshaller.unmarshall(context, item, memberInfo));
+        }
+        return LazyUnmarshalledList.create(jsonContent.asArray(), item -> unmarshaller.unmarshall(context, item, memberInfo));
+    }
+
     private static class SimpleTypeJsonUnmarshaller<T> implements JsonUnmarshaller<T> {
 
         private final StringToValueConverter.StringToValue<T> stringToValue;
+        private final Function<Number, T> numberToValue;
 
         private SimpleTypeJsonUnmarshaller(StringToValueConverter.StringToValue<T> stringToValue) {
+            this(stringToValue, null);
+        }
+
+        private SimpleTypeJsonUnmarshaller(StringToValueConverter.StringToValue<T> stringToValue,
+                                           Function<Number, T> numberToValue) {
             this.stringToValue = stringToValue;
+            this.numberToValue = numberToValue;
         }
 
         @Override
         public T unmarshall(JsonUnmarshallerContext context,
                             JsonNode jsonContent,
                             SdkField<T> field) {
-            return jsonContent != null && !jsonContent.isNull() ? stringToValue.convert(jsonContent.text(), field) : null;
+            if (jsonContent == null || jsonContent.isNull()) {
+                return null;
+            }
+            if (numberToValue != null) {
+                Number number = jsonContent.numberValue();
+                T value = number != null ? numberToValue.apply(number) : null;
+                if (value != null) {
+                    return value;
+                }
+            }
+            return stringToValue.convert(jsonContent.text(), field);
         }
     }
 
@@ -202,7 +262,7 @@ public final class JsonProtocolUnmarshaller {
     }
 
     private static boolean isExplicitPayloadMember(SdkField<?> f) {
-        return f.containsTrait(PayloadTrait.class);
+        return f.containsPayloadTrait();
     }
 
     private boolean hasPayloadMembersOnUnmarshall(SdkPojo sdkPojo) {
@@ -268,6 +328,7 @@ public final class JsonProtocolUnmarshaller {
 
         private JsonNodeParser parser;
         private Map<MarshallLocation, TimestampFormatTrait.Format> defaultTimestampFormats;
+        private boolean lazyListUnmarshalling;
 
         private Builder() {
         }
@@ -290,6 +351,17 @@ public final class JsonProtocolUnmarshaller {
             return this;
         }
 
+        /**
+         * @param lazyListUnmarshalling Whether the elements of lists of structures or maps should only be unmarshalled when
+         * they are first accessed.
+         * @return This builder for method chaining.
+         * @see LazyUnmarshalledList
+         */
+        public Builder lazyListUnmarshalling(boolean lazyListUnmarshalling) {
+            this.lazyListUnmarshalling = lazyListUnmarshalling;
+            return this;
+        }
+
         /**
          * @return New instance of {@link JsonProtocolUnmarshaller}.
          */
@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
@@ -57,6 +58,20 @@ public class FaultStatusCodeMappingTest {
         assertThat(exception.statusCode()).isEqualTo(tc.expectedStatusCode);
     }
 
+    @Test
+    public void unmarshal_duplicateErrorCode_usesFirstModeledException() {
+        AwsJsonProtocolErrorUnmarshaller unmarshaller = makeUnmarshaller(
+            Arrays.asList(exceptionMetadata("OtherException", 400),
+                          exceptionMetadata("ServiceException", 429),
+                          exceptionMetadata("ServiceException", 503)));
+
+        SdkHttpFullResponse response = SdkHttpFullResponse.builder()
+                                                           .content(errorContent("ServiceException"))
+                                                           .build();
+
+        assertThat(unmarshaller.handle(response, new ExecutionAttributes()).statusCode()).isEqualTo(429);
+    }
+
     public static List<TestCase> unmarshal_faultValue_testCases() {
         return Arrays.asList(
             new TestCase(null, null, 500),
@@ -79,6 +94,14 @@ public class FaultStatusCodeMappingTest {
                                                .build();
     }
 
+    private static ExceptionMetadata exceptionMetadata(String errorCode, int httpStatusCode) {
+        return ExceptionMetadata.builder()
+                                .errorCode(errorCode)
+                                .httpStatusCode(httpStatusCode)
+                                .exceptionBuilderSupplier(AwsServiceException::builder)
+                                .build();
+    }
+
     private static AbortableInputStream errorContent(String code) {
         String json = String.format("{\"errorCode\":\"%s\"}", code);
         return contentAsStream(json);
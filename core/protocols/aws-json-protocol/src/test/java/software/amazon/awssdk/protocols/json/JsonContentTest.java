@@ -0,0 +1,121 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.protocols.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.jsoncore.JsonNode;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonFactory;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonParser;
+import software.amazon.awssdk.utils.StringInputStream;
+
+public class JsonContentTest {
+    private static final List<String> CODE_AND_MESSAGE = Arrays.asList("__type", "message");
+
+    @Test
+    public void findTopLevelText_fieldsInContent_scansWithoutParsingTree() {
+        CountingJsonFactory factory = new CountingJsonFactory();
+        JsonContent content = jsonContent("{\"message\": \"Rate exceeded\", \"__type\": \"ThrottlingException\","
+                                          + " \"details\": {\"__type\": \"nested\"}, \"items\": [1, 2]}", factory);
+
+        assertThat(content.findTopLevelText(CODE_AND_MESSAGE)).isEqualTo("ThrottlingException");
+        assertThat(factory.parsersCreated).isEqualTo(1);
+        assertThat(content.findTopLevelText(Collections.singletonList("message"))).isEqualTo("Rate exceeded");
+        assertThat(factory.parsersCreated).isEqualTo(2);
+    }
+
+    @Test
+    public void findTopLevelText_repeatedField_lastValueWinsLikeTree() {
+        JsonContent content = jsonContent("{\"__type\": \"first\", \"__type\": \"second\"}", new JsonFactory());
+
+        assertThat(content.findTopLevelText(CODE_AND_MESSAGE)).isEqualTo("second");
+        assertThat(content.getJsonNode().field("__type").get().text()).isEqualTo("second");
+    }
+
+    @Test
+    public void findTopLevelText_nullField_usesNextField() {
+        JsonContent content = jsonContent("{\"__type\": null, \"message\": \"Rate exceeded\"}", new JsonFactory());
+
+        assertThat(content.findTopLevelText(CODE_AND_MESSAGE)).isEqualTo("Rate exceeded");
+    }
+
+    @Test
+    public void findTopLevelText_nonScalarField_fallsBackToTree() {
+        CountingJsonFactory factory = new CountingJsonFactory();
+        JsonContent content = jsonContent("{\"__type\": {\"name\": \"ThrottlingException\"}}", factory);
+
+        assertThat(content.findTopLevelText(CODE_AND_MESSAGE)).isNull();
+        assertThat(factory.parsersCreated).isEqualTo(2);
+    }
+
+    @Test
+    public void findTopLevelText_fieldBeyondScannedPrefix_fallsBackToTree() {
+        CountingJsonFactory factory = new CountingJsonFactory();
+        char[] padding = new char[8 * 1024];
+        Arrays.fill(padding, 'a');
+        JsonContent content = jsonContent("{\"padding\": \"" + new String(padding) + "\", \"__type\": \"ThrottlingException\"}",
+                                          factory);
+
+        assertThat(content.findTopLevelText(CODE_AND_MESSAGE)).isEqualTo("ThrottlingException");
+        assertThat(factory.parsersCreated).isEqualTo(2);
+    }
+
+    @Test
+    public void findTopLevelText_malformedContent_returnsNull() {
+        JsonContent content = jsonContent("{\"__type\": \"ThrottlingException\"", new JsonFactory());
+
+        assertThat(content.findTopLevelText(CODE_AND_MESSAGE)).isNull();
+    }
+
+    @Test
+    public void findTopLevelText_noContent_returnsNull() {
+        JsonContent content = JsonContent.createJsonContent(ValidSdkObjects.sdkHttpFullResponse().build(), new JsonFactory());
+
+        assertThat(content.findTopLevelText(CODE_AND_MESSAGE)).isNull();
+    }
+
+    @Test
+    public void findTopLevelText_alreadyParsed_usesTree() throws IOException {
+        JsonContent content = new JsonContent(null, JsonNode.parser().parse(new StringInputStream("{\"message\": \"m\"}")));
+
+        assertThat(content.findTopLevelText(CODE_AND_MESSAGE)).isEqualTo("m");
+    }
+
+    private static JsonContent jsonContent(String json, JsonFactory factory) {
+        SdkHttpFullResponse response = ValidSdkObjects.sdkHttpFullResponse()
+                                                      .content(AbortableInputStream.create(new StringInputStream(json)))
+                                                      .build();
+        return JsonContent.createJsonContent(response, factory);
+    }
+
+    private static final class CountingJsonFactory extends JsonFactory {
+        private int parsersCreated;
+
+        @Override
+        public JsonParser createParser(byte[] data) throws IOException {
+            parsersCreated++;
+            return super.createParser(data);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal.marshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.PayloadTrait;
+import software.amazon.awssdk.protocols.json.internal.marshall.JsonMarshallingPlan.FieldKind;
+import software.amazon.awssdk.protocols.json.internal.marshall.JsonMarshallingPlan.FieldPlan;
+
+public class JsonMarshallingPlanTest {
+
+    private static final JsonMarshaller<String> PAYLOAD_STRING = (val, context, paramName, sdkField) -> { };
+    private static final JsonMarshaller<String> HEADER_STRING = (val, context, paramName, sdkField) -> { };
+
+    private static final JsonMarshallerRegistry REGISTRY =
+        JsonMarshallerRegistry.builder()
+                              .payloadMarshaller(MarshallingType.STRING, PAYLOAD_STRING)
+                              .payloadMarshaller(MarshallingType.NULL, JsonMarshaller.NULL)
+                              .headerMarshaller(MarshallingType.STRING, HEADER_STRING)
+                              .headerMarshaller(MarshallingType.NULL, JsonMarshaller.NULL)
+                              .build();
+
+    private static final SdkField<String> PAYLOAD_FIELD = field(MarshallingType.STRING, MarshallLocation.PAYLOAD, "Payload");
+    private static final SdkField<String> HEADER_FIELD = field(MarshallingType.STRING, MarshallLocation.HEADER, "x-amz-header");
+    private static final SdkField<SdkBytes> BINARY_PAYLOAD_FIELD = field(MarshallingType.SDK_BYTES,
+                                                                         MarshallLocation.PAYLOAD,
+                                                                         "Body",
+                                                                         PayloadTrait.create());
+    private static final SdkField<SdkPojo> EXPLICIT_PAYLOAD_FIELD = field(MarshallingType.SDK_POJO,
+                                                                          MarshallLocation.PAYLOAD,
+                                                                          "Structure",
+                                                                          PayloadTrait.create());
+
+    @Test
+    public void fieldPlans_resolveMarshallersAndLocationNames() {
+        JsonMarshallingPlan plan = JsonMarshallingPlan.create(new TestPojo(Arrays.asList(PAYLOAD_FIELD, HEADER_FIELD)),
+                                                              REGISTRY);
+
+        FieldPlan payload = plan.fieldPlans()[0];
+        FieldPlan header = plan.fieldPlans()[1];
+
+        assertThat(payload.kind()).isEqualTo(FieldKind.FIELD);
+        assertThat(payload.locationName()).isEqualTo("Payload");
+        assertThat(payload.marshaller("value")).isSameAs(PAYLOAD_STRING);
+        assertThat(payload.marshaller(null)).isSameAs(JsonMarshaller.NULL);
+        assertThat(header.locationName()).isEqualTo("x-amz-header");
+        assertThat(header.marshaller("value")).isSameAs(HEADER_STRING);
+    }
+
+    @Test
+    public void fieldPlans_classifyExplicitPayloadMembers() {
+        JsonMarshallingPlan plan = JsonMarshallingPlan.create(new TestPojo(Arrays.asList(BINARY_PAYLOAD_FIELD,
+                                                                                         EXPLICIT_PAYLOAD_FIELD)),
+                                                              REGISTRY);
+
+        assertThat(plan.fieldPlans()[0].kind()).isEqualTo(FieldKind.BINARY_PAYLOAD);
+        assertThat(plan.fieldPlans()[1].kind()).isEqualTo(FieldKind.EXPLICIT_PAYLOAD);
+    }
+
+    @Test
+    public void unregisteredMarshaller_onlyFailsWhenValueIsMarshalled() {
+        SdkField<Integer> unsupported = field(MarshallingType.INTEGER, MarshallLocation.HEADER, "x-amz-int");
+        JsonMarshallingPlan plan = JsonMarshallingPlan.create(new TestPojo(Collections.singletonList(unsupported)), REGISTRY);
+
+        assertThat(plan.fieldPlans()[0].marshaller(null)).isSameAs(JsonMarshaller.NULL);
+        assertThatThrownBy(() -> plan.fieldPlans()[0].marshaller(1)).isInstanceOf(SdkClientException.class);
+    }
+
+    @Test
+    public void appliesTo_onlyMatchesSameFieldList() {
+        List<SdkField<?>> fields = Collections.singletonList(PAYLOAD_FIELD);
+        JsonMarshallingPlan plan = JsonMarshallingPlan.create(new TestPojo(fields), REGISTRY);
+
+        assertThat(plan.appliesTo(new TestPojo(fields))).isTrue();
+        assertThat(plan.appliesTo(new TestPojo(new ArrayList<>(fields)))).isFalse();
+    }
+
+    @Test
+    public void cache_reusesPlanOfClassOnlyWhileFieldListMatches() {
+        List<SdkField<?>> fields = Collections.singletonList(PAYLOAD_FIELD);
+        JsonMarshallingPlan.Cache cache = new JsonMarshallingPlan.Cache(REGISTRY);
+
+        JsonMarshallingPlan plan = cache.get(new TestPojo(fields));
+
+        assertThat(cache.get(new TestPojo(fields))).isSameAs(plan);
+        JsonMarshallingPlan uncached = cache.get(new TestPojo(Collections.singletonList(HEADER_FIELD)));
+        assertThat(uncached).isNotSameAs(plan);
+        assertThat(uncached.fieldPlans()[0].locationName()).isEqualTo("x-amz-header");
+        assertThat(cache.get(new TestPojo(fields))).isSameAs(plan);
+    }
+
+    private static <T> SdkField<T> field(MarshallingType<T> marshallingType,
+                                         MarshallLocation location,
+                                         String locationName,
+                                         PayloadTrait... payloadTrait) {
+        SdkField.Builder<T> builder = SdkField.builder(marshallingType);
+        builder.memberName(locationName)
+               .getter(obj -> null)
+               .setter((obj, val) -> { });
+        if (payloadTrait.length > 0) {
+            builder.traits(LocationTrait.builder().location(location).locationName(locationName).build(), payloadTrait[0]);
+        } else {
+            builder.traits(LocationTrait.builder().location(location).locationName(locationName).build());
+        }
+        return builder.build();
+    }
+
+    private static final class TestPojo implements SdkPojo {
+        private final List<SdkField<?>> fields;
+
+        private TestPojo(List<SdkField<?>> fields) {
+            this.fields = fields;
+        }
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return fields;
+        }
+    }
+}
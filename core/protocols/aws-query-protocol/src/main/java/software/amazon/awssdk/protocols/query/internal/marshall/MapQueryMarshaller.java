@@ -26,7 +26,7 @@ public class MapQueryMarshaller implements QueryMarshaller<Map<String, ?>> {
 
     @Override
     public void marshall(QueryMarshallerContext context, String path, Map<String, ?> val, SdkField<Map<String, ?>> sdkField) {
-        MapTrait mapTrait = sdkField.getTrait(MapTrait.class);
+        MapTrait mapTrait = sdkField.mapTrait();
         AtomicInteger entryNum = new AtomicInteger(1);
         val.forEach((key, value) -> {
 
@@ -43,6 +43,15 @@ public final class QueryMarshallerRegistry extends AbstractMarshallingRegistry {
                                                        val == null ? MarshallingType.NULL : marshallingType);
     }
 
+    /**
+     * @return The marshaller registered for the given type, regardless of any value.
+     * @throws software.amazon.awssdk.core.exception.SdkClientException if no marshaller is registered.
+     */
+    @SuppressWarnings("unchecked")
+    public QueryMarshaller<Object> getMarshallerForType(MarshallingType<?> marshallingType) {
+        return (QueryMarshaller<Object>) get(MarshallLocation.PAYLOAD, marshallingType);
+    }
+
     /**
      * @return Builder instance to construct a {@link AbstractMarshallingRegistry}.
      */
@@ -0,0 +1,128 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.internal.marshall;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+
+/**
+ * How to marshall each field of an {@link SdkPojo} class. The marshallers and location names of the fields are resolved
+ * once when the plan is created, so marshalling an instance of the class is a walk over an array instead of a registry
+ * lookup per field.
+ */
+@SdkInternalApi
+final class QueryMarshallingPlan {
+
+    private final List<SdkField<?>> sdkFields;
+    private final FieldPlan[] fieldPlans;
+
+    private QueryMarshallingPlan(List<SdkField<?>> sdkFields, QueryMarshallerRegistry registry) {
+        this.sdkFields = sdkFields;
+        this.fieldPlans = new FieldPlan[sdkFields.size()];
+        for (int i = 0; i < fieldPlans.length; i++) {
+            fieldPlans[i] = new FieldPlan(sdkFields.get(i), registry);
+        }
+    }
+
+    static QueryMarshallingPlan create(SdkPojo pojo, QueryMarshallerRegistry registry) {
+        return new QueryMarshallingPlan(pojo.sdkFields(), registry);
+    }
+
+    // Hand-written SdkPojos, unlike generated ones, may return a different list of fields each time
+    boolean appliesTo(SdkPojo pojo) {
+        return pojo.sdkFields() == sdkFields;
+    }
+
+    FieldPlan[] fieldPlans() {
+        return fieldPlans;
+    }
+
+    /**
+     * The plans of each {@link SdkPojo} class, created from the first instance of the class that is marshalled.
+     */
+    static final class Cache extends ClassValue<AtomicReference<QueryMarshallingPlan>> {
+        private final QueryMarshallerRegistry registry;
+
+        Cache(QueryMarshallerRegistry registry) {
+            this.registry = registry;
+        }
+
+        @Override
+        protected AtomicReference<QueryMarshallingPlan> computeValue(Class<?> type) {
+            return new AtomicReference<>();
+        }
+
+        QueryMarshallingPlan get(SdkPojo pojo) {
+            AtomicReference<QueryMarshallingPlan> cached = get(pojo.getClass());
+            QueryMarshallingPlan plan = cached.get();
+            if (plan == null) {
+                cached.compareAndSet(null, create(pojo, registry));
+                plan = cached.get();
+            }
+            return plan.appliesTo(pojo) ? plan : create(pojo, registry);
+        }
+    }
+
+    /**
+     * The resolved marshalling decisions for a single field.
+     */
+    static final class FieldPlan {
+        private final SdkField<Object> field;
+        private final String locationName;
+        private final QueryMarshaller<Object> marshaller;
+        private final QueryMarshaller<Object> nullMarshaller;
+        private final QueryMarshallerRegistry registry;
+
+        @SuppressWarnings("unchecked")
+        private FieldPlan(SdkField<?> field, QueryMarshallerRegistry registry) {
+            this.field = (SdkField<Object>) field;
+            this.locationName = field.locationName();
+            this.registry = registry;
+            this.marshaller = resolve(registry, field.marshallingType());
+            this.nullMarshaller = resolve(registry, MarshallingType.NULL);
+        }
+
+        // Null if there's no marshaller, which should only fail once a value is marshalled
+        private static QueryMarshaller<Object> resolve(QueryMarshallerRegistry registry, MarshallingType<?> marshallingType) {
+            try {
+                return registry.getMarshallerForType(marshallingType);
+            } catch (SdkClientException e) {
+                return null;
+            }
+        }
+
+        SdkField<Object> field() {
+            return field;
+        }
+
+        String locationName() {
+            return locationName;
+        }
+
+        /**
+         * @return The marshaller for the given value of this field.
+         */
+        QueryMarshaller<Object> marshaller(Object val) {
+            QueryMarshaller<Object> resolved = val == null ? nullMarshaller : marshaller;
+            return resolved != null ? resolved : registry.getMarshaller(field.marshallingType(), val);
+        }
+    }
+}
@@ -17,13 +17,13 @@ package software.amazon.awssdk.protocols.query.internal.marshall;
 
 import java.net.URI;
 import software.amazon.awssdk.annotations.SdkInternalApi;
-import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.SdkPojo;
 import software.amazon.awssdk.core.protocol.MarshallingType;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.protocols.core.OperationInfo;
 import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
 import software.amazon.awssdk.protocols.core.ProtocolUtils;
+import software.amazon.awssdk.protocols.query.internal.marshall.QueryMarshallingPlan.FieldPlan;
 
 /**
  * Implementation of {@link ProtocolMarshaller} for AWS Query services.
@@ -40,14 +40,22 @@ public final class QueryProtocolMarshaller
         .marshaller(MarshallingType.LIST, ListQueryMarshaller.ec2Query())
         .build();
 
+    private static final QueryMarshallingPlan.Cache AWS_QUERY_MARSHALLING_PLANS =
+        new QueryMarshallingPlan.Cache(AWS_QUERY_MARSHALLER_REGISTRY);
+
+    private static final QueryMarshallingPlan.Cache EC2_QUERY_MARSHALLING_PLANS =
+        new QueryMarshallingPlan.Cache(EC2_QUERY_MARSHALLER_REGISTRY);
+
     private final SdkHttpFullRequest.Builder request;
     private final QueryMarshallerRegistry registry;
+    private final QueryMarshallingPlan.Cache marshallingPlans;
     private final URI endpoint;
 
     private QueryProtocolMarshaller(Builder builder) {
         this.endpoint = builder.endpoint;
         this.request = fillBasicRequestParams(builder.operationInfo);
         this.registry = builder.isEc2 ? EC2_QUERY_MARSHALLER_REGISTRY : AWS_QUERY_MARSHALLER_REGISTRY;
+        this.marshallingPlans = builder.isEc2 ? EC2_QUERY_MARSHALLING_PLANS : AWS_QUERY_MARSHALLING_PLANS;
     }
 
     private SdkHttpFullRequest.Builder fillBasicRequestParams(OperationInfo operationInfo) {
@@ -69,15 +77,14 @@ public final class QueryProtocolMarshaller
     }
 
     private void doMarshall(String path, QueryMarshallerContext context, SdkPojo pojo) {
-        for (SdkField<?> sdkField : pojo.sdkFields()) {
-            Object val = sdkField.getValueOrDefault(pojo);
-            QueryMarshaller<Object> marshaller = registry.getMarshaller(sdkField.marshallingType(), val);
-            marshaller.marshall(context, resolvePath(path, sdkField), val, (SdkField<Object>) sdkField);
+        for (FieldPlan fieldPlan : marshallingPlans.get(pojo).fieldPlans()) {
+            Object val = fieldPlan.field().getValueOrDefault(pojo);
+            fieldPlan.marshaller(val).marshall(context, resolvePath(path, fieldPlan), val, fieldPlan.field());
         }
     }
 
-    private static String resolvePath(String path, SdkField<?> sdkField) {
-        return path == null ? sdkField.locationName() : path + "." + sdkField.locationName();
+    private static String resolvePath(String path, FieldPlan fieldPlan) {
+        return path == null ? fieldPlan.locationName() : path + "." + fieldPlan.locationName();
     }
 
     private static QueryMarshallerRegistry.Builder commonRegistry() {
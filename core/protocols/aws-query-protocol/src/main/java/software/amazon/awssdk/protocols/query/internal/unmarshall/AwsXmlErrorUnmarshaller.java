@@ -19,6 +19,7 @@ import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -42,13 +43,13 @@ import software.amazon.awssdk.protocols.query.unmarshall.XmlErrorUnmarshaller;
 public final class AwsXmlErrorUnmarshaller {
     private static final String X_AMZ_ID_2_HEADER = "x-amz-id-2";
 
-    private final List<ExceptionMetadata> exceptions;
+    private final Map<String, ExceptionMetadata> exceptionsByErrorCode;
     private final Supplier<SdkPojo> defaultExceptionSupplier;
 
     private final XmlErrorUnmarshaller errorUnmarshaller;
 
     private AwsXmlErrorUnmarshaller(Builder builder) {
-        this.exceptions = builder.exceptions;
+        this.exceptionsByErrorCode = ExceptionMetadata.indexByErrorCode(builder.exceptions);
         this.errorUnmarshaller = builder.errorUnmarshaller;
         this.defaultExceptionSupplier = builder.defaultExceptionSupplier;
     }
@@ -123,12 +124,9 @@ public final class AwsXmlErrorUnmarshaller {
     private AwsServiceException.Builder unmarshallFromErrorCode(SdkHttpFullResponse response,
                                                                 XmlElement errorRoot,
                                                                 String errorCode) {
-        SdkPojo sdkPojo = exceptions.stream()
-                                    .filter(e -> e.errorCode().equals(errorCode))
-                                    .map(ExceptionMetadata::exceptionBuilderSupplier)
-                                    .findAny()
-                                    .orElse(defaultExceptionSupplier)
-                                    .get();
+        ExceptionMetadata modeledException = exceptionsByErrorCode.get(errorCode);
+        SdkPojo sdkPojo = modeledException != null ? modeledException.exceptionBuilderSupplier().get()
+                                                   : defaultExceptionSupplier.get();
 
         AwsServiceException.Builder builder =
             ((AwsServiceException) errorUnmarshaller.unmarshall(sdkPojo, errorRoot, response)).toBuilder();
@@ -29,7 +29,7 @@ public final class ListQueryUnmarshaller implements QueryUnmarshaller<List<?>> {
 
     @Override
     public List<?> unmarshall(QueryUnmarshallerContext context, List<XmlElement> content, SdkField<List<?>> field) {
-        ListTrait listTrait = field.getTrait(ListTrait.class);
+        ListTrait listTrait = field.listTrait();
         List<Object> list = new ArrayList<>();
         getMembers(content, listTrait).forEach(member -> {
             QueryUnmarshaller unmarshaller = context.getUnmarshaller(listTrait.memberFieldInfo().location(),
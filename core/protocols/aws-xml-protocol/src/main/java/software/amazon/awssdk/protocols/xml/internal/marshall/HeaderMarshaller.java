@@ -115,7 +115,7 @@ public final class HeaderMarshaller {
                 return;
             }
 
-            context.request().appendHeader(paramName, converter.convert(val, sdkField));
+            context.restBindingWriter().appendHeader(paramName, converter.convert(val, sdkField));
         }
 
         protected boolean shouldEmit(T val) {
@@ -21,7 +21,6 @@ import java.util.Map;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.protocol.MarshallLocation;
-import software.amazon.awssdk.core.traits.ListTrait;
 import software.amazon.awssdk.core.traits.MapTrait;
 import software.amazon.awssdk.protocols.core.ValueToStringConverter;
 
@@ -64,7 +63,7 @@ public final class QueryParamMarshaller {
         SdkField valueField = mapTrait.valueFieldInfo();
 
         for (Map.Entry<String, ?> entry : map.entrySet()) {
-            if (valueField.containsTrait(ListTrait.class)) {
+            if (valueField.listTrait() != null) {
                 ((List<?>) entry.getValue()).forEach(val -> {
                     context.marshallerRegistry().getMarshaller(MarshallLocation.QUERY_PARAM, val)
                            .marshall(val, context, entry.getKey(), null);
@@ -73,7 +72,7 @@ public final class QueryParamMarshaller {
                 SimpleQueryParamMarshaller valueMarshaller = (SimpleQueryParamMarshaller)
                     context.marshallerRegistry().getMarshaller(MarshallLocation.QUERY_PARAM, entry.getValue());
 
-                context.request().putRawQueryParameter(entry.getKey(), valueMarshaller.convert(entry.getValue(), null));
+                context.restBindingWriter().putQueryParameter(entry.getKey(), valueMarshaller.convert(entry.getValue(), null));
             }
         }
     };
@@ -91,7 +90,7 @@ public final class QueryParamMarshaller {
 
         @Override
         public void marshall(T val, XmlMarshallerContext context, String paramName, SdkField<T> sdkField) {
-            context.request().appendRawQueryParameter(paramName, converter.convert(val, sdkField));
+            context.restBindingWriter().appendQueryParameter(paramName, converter.convert(val, sdkField));
         }
 
         public String convert(T val, SdkField<T> sdkField) {
@@ -0,0 +1,191 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.xml.internal.marshall;
+
+import java.io.InputStream;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A {@link Writer} that encodes what's written to it as UTF-8 straight into a list of fixed-size byte chunks. Unlike a
+ * {@link java.io.StringWriter} there's no intermediate string to copy and encode afterwards, growing never copies what has
+ * already been written, and the content can be read back any number of times without copying it.
+ *
+ * <p>Unpaired surrogates are written as {@code '?'}, the same as {@link String#getBytes(java.nio.charset.Charset)}.
+ */
+@SdkInternalApi
+@NotThreadSafe
+final class Utf8ChunkedWriter extends Writer {
+    private static final int CHUNK_SIZE = 8 * 1024;
+    private static final byte REPLACEMENT = '?';
+
+    private final List<byte[]> chunks = new ArrayList<>();
+    private byte[] chunk;
+    private int position;
+    private int size;
+    private char highSurrogate;
+
+    @Override
+    public void write(int c) {
+        writeChar((char) c);
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) {
+        for (int i = off; i < off + len; i++) {
+            writeChar(cbuf[i]);
+        }
+    }
+
+    @Override
+    public void write(String str, int off, int len) {
+        for (int i = off; i < off + len; i++) {
+            writeChar(str.charAt(i));
+        }
+    }
+
+    @Override
+    public Writer append(CharSequence csq) {
+        String str = String.valueOf(csq);
+        write(str, 0, str.length());
+        return this;
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+
+    /**
+     * @return The number of bytes written so far.
+     */
+    int size() {
+        return highSurrogate != 0 ? size + 1 : size;
+    }
+
+    /**
+     * @return A new stream over the bytes written so far.
+     */
+    InputStream newInputStream() {
+        if (highSurrogate != 0) {
+            highSurrogate = 0;
+            writeByte(REPLACEMENT);
+        }
+        return new ChunkInputStream(new ArrayList<>(chunks), size);
+    }
+
+    private void writeChar(char c) {
+        if (highSurrogate != 0) {
+            char high = highSurrogate;
+            highSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                writeCodePoint(Character.toCodePoint(high, c));
+                return;
+            }
+            writeByte(REPLACEMENT);
+        }
+
+        if (c < 0x80) {
+            writeByte(c);
+        } else if (c < 0x800) {
+            writeByte(0xc0 | (c >> 6));
+            writeByte(0x80 | (c & 0x3f));
+        } else if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            writeByte(REPLACEMENT);
+        } else {
+            writeByte(0xe0 | (c >> 12));
+            writeByte(0x80 | ((c >> 6) & 0x3f));
+            writeByte(0x80 | (c & 0x3f));
+        }
+    }
+
+    private void writeCodePoint(int codePoint) {
+        writeByte(0xf0 | (codePoint >> 18));
+        writeByte(0x80 | ((codePoint >> 12) & 0x3f));
+        writeByte(0x80 | ((codePoint >> 6) & 0x3f));
+        writeByte(0x80 | (codePoint & 0x3f));
+    }
+
+    private void writeByte(int b) {
+        if (chunk == null || position == chunk.length) {
+            chunk = new byte[CHUNK_SIZE];
+            chunks.add(chunk);
+            position = 0;
+        }
+        chunk[position++] = (byte) b;
+        size++;
+    }
+
+    private static final class ChunkInputStream extends InputStream {
+        private final List<byte[]> chunks;
+        private final int size;
+        private int read;
+
+        private ChunkInputStream(List<byte[]> chunks, int size) {
+            this.chunks = chunks;
+            this.size = size;
+        }
+
+        @Override
+        public int read() {
+            if (read == size) {
+                return -1;
+            }
+            byte b = chunks.get(read / CHUNK_SIZE)[read % CHUNK_SIZE];
+            read++;
+            return b & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (read == size) {
+                return -1;
+            }
+            int copied = 0;
+            while (copied < len && read < size) {
+                int offsetInChunk = read % CHUNK_SIZE;
+                int count = Math.min(Math.min(len - copied, CHUNK_SIZE - offsetInChunk), size - read);
+                System.arraycopy(chunks.get(read / CHUNK_SIZE), offsetInChunk, b, off + copied, count);
+                copied += count;
+                read += count;
+            }
+            return copied;
+        }
+
+        @Override
+        public long skip(long n) {
+            int skipped = (int) Math.max(0, Math.min(n, size - read));
+            read += skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return size - read;
+        }
+    }
+}
@@ -15,7 +15,6 @@
 
 package software.amazon.awssdk.protocols.xml.internal.marshall;
 
-import java.io.StringWriter;
 import java.util.Map;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 
@@ -25,25 +24,28 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 @SdkInternalApi
 public final class XmlGenerator {
 
-    private final StringWriter stringWriter;
+    private final Utf8ChunkedWriter content;
     private final XmlWriter xmlWriter;
 
-    private XmlGenerator(StringWriter stringWriter, XmlWriter xmlWriter) {
-        this.stringWriter = stringWriter;
+    private XmlGenerator(Utf8ChunkedWriter content, XmlWriter xmlWriter) {
+        this.content = content;
         this.xmlWriter = xmlWriter;
     }
 
     public static XmlGenerator create(String xmlns) {
-        StringWriter stringWriter = new StringWriter();
-        return new XmlGenerator(stringWriter, new XmlWriter(stringWriter, xmlns));
+        Utf8ChunkedWriter content = new Utf8ChunkedWriter();
+        return new XmlGenerator(content, new XmlWriter(content, xmlns));
     }
 
     public XmlWriter xmlWriter() {
         return xmlWriter;
     }
 
-    public StringWriter stringWriter() {
-        return stringWriter;
+    /**
+     * @return The UTF-8 encoded XML written so far.
+     */
+    Utf8ChunkedWriter content() {
+        return content;
     }
 
     public void startElement(String element) {
@@ -19,6 +19,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.protocol.MarshallLocation;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.protocols.core.RestBindingWriter;
 
 @SdkInternalApi
 public final class XmlMarshallerContext {
@@ -27,12 +28,14 @@ public final class XmlMarshallerContext {
     private final XmlProtocolMarshaller protocolMarshaller;
     private final XmlMarshallerRegistry marshallerRegistry;
     private final SdkHttpFullRequest.Builder request;
+    private final RestBindingWriter restBindingWriter;
 
     public XmlMarshallerContext(Builder builder) {
         this.xmlGenerator = builder.xmlGenerator;
         this.protocolMarshaller = builder.protocolMarshaller;
         this.marshallerRegistry = builder.marshallerRegistry;
         this.request = builder.request;
+        this.restBindingWriter = new RestBindingWriter(builder.request);
     }
 
     public XmlGenerator xmlGenerator() {
@@ -59,6 +62,13 @@ public final class XmlMarshallerContext {
         return request;
     }
 
+    /**
+     * @return Writer for the members bound to headers, query parameters and path labels.
+     */
+    public RestBindingWriter restBindingWriter() {
+        return restBindingWriter;
+    }
+
 
     /**
      * Convenience method to marshall a nested object (may be simple or structured) at the given location.
@@ -40,6 +40,16 @@ public final class XmlMarshallerRegistry extends AbstractMarshallingRegistry {
                                            val == null ? MarshallingType.NULL : marshallingType);
     }
 
+    /**
+     * @return The marshaller registered for the given location and type, regardless of any value.
+     * @throws software.amazon.awssdk.core.exception.SdkClientException if no marshaller is registered.
+     */
+    @SuppressWarnings("unchecked")
+    public XmlMarshaller<Object> getMarshallerForType(MarshallLocation marshallLocation,
+                                                      MarshallingType<?> marshallingType) {
+        return (XmlMarshaller<Object>) get(marshallLocation, marshallingType);
+    }
+
     /**
      * @return Builder instance to construct a {@link XmlMarshallerRegistry}.
      */
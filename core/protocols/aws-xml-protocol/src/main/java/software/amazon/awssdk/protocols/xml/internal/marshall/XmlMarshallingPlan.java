@@ -0,0 +1,146 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.xml.internal.marshall;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+
+/**
+ * How to marshall each field of an {@link SdkPojo} class. The marshallers, location names and payload traits of the fields
+ * are resolved once when the plan is created, so marshalling an instance of the class is a walk over an array instead of a
+ * registry lookup and trait check per field.
+ */
+@SdkInternalApi
+final class XmlMarshallingPlan {
+
+    private final List<SdkField<?>> sdkFields;
+    private final FieldPlan[] fieldPlans;
+    private final boolean hasPayloadMembers;
+
+    private XmlMarshallingPlan(List<SdkField<?>> sdkFields, XmlMarshallerRegistry registry) {
+        this.sdkFields = sdkFields;
+        this.fieldPlans = new FieldPlan[sdkFields.size()];
+        boolean payloadMembers = false;
+        for (int i = 0; i < fieldPlans.length; i++) {
+            SdkField<?> field = sdkFields.get(i);
+            fieldPlans[i] = new FieldPlan(field, registry);
+            payloadMembers |= field.location() == MarshallLocation.PAYLOAD;
+        }
+        this.hasPayloadMembers = payloadMembers;
+    }
+
+    static XmlMarshallingPlan create(SdkPojo pojo, XmlMarshallerRegistry registry) {
+        return new XmlMarshallingPlan(pojo.sdkFields(), registry);
+    }
+
+    // Hand-written SdkPojos, unlike generated ones, may return a different list of fields each time
+    boolean appliesTo(SdkPojo pojo) {
+        return pojo.sdkFields() == sdkFields;
+    }
+
+    FieldPlan[] fieldPlans() {
+        return fieldPlans;
+    }
+
+    boolean hasPayloadMembers() {
+        return hasPayloadMembers;
+    }
+
+    /**
+     * The plans of each {@link SdkPojo} class, created from the first instance of the class that is marshalled.
+     */
+    static final class Cache extends ClassValue<AtomicReference<XmlMarshallingPlan>> {
+        private final XmlMarshallerRegistry registry;
+
+        Cache(XmlMarshallerRegistry registry) {
+            this.registry = registry;
+        }
+
+        @Override
+        protected AtomicReference<XmlMarshallingPlan> computeValue(Class<?> type) {
+            return new AtomicReference<>();
+        }
+
+        XmlMarshallingPlan get(SdkPojo pojo) {
+            AtomicReference<XmlMarshallingPlan> cached = get(pojo.getClass());
+            XmlMarshallingPlan plan = cached.get();
+            if (plan == null) {
+                cached.compareAndSet(null, create(pojo, registry));
+                plan = cached.get();
+            }
+            return plan.appliesTo(pojo) ? plan : create(pojo, registry);
+        }
+    }
+
+    /**
+     * The resolved marshalling decisions for a single field.
+     */
+    static final class FieldPlan {
+        private final SdkField<Object> field;
+        private final boolean explicitPayloadMember;
+        private final String locationName;
+        private final XmlMarshaller<Object> marshaller;
+        private final XmlMarshaller<Object> nullMarshaller;
+        private final XmlMarshallerRegistry registry;
+
+        @SuppressWarnings("unchecked")
+        private FieldPlan(SdkField<?> field, XmlMarshallerRegistry registry) {
+            this.field = (SdkField<Object>) field;
+            this.explicitPayloadMember = field.containsPayloadTrait();
+            this.locationName = field.locationName();
+            this.registry = registry;
+            this.marshaller = resolve(registry, field, field.marshallingType());
+            this.nullMarshaller = resolve(registry, field, MarshallingType.NULL);
+        }
+
+        // Null if there's no marshaller, which should only fail once a value is marshalled
+        private static XmlMarshaller<Object> resolve(XmlMarshallerRegistry registry,
+                                                     SdkField<?> field,
+                                                     MarshallingType<?> marshallingType) {
+            try {
+                return registry.getMarshallerForType(field.location(), marshallingType);
+            } catch (SdkClientException e) {
+                return null;
+            }
+        }
+
+        SdkField<Object> field() {
+            return field;
+        }
+
+        boolean isExplicitPayloadMember() {
+            return explicitPayloadMember;
+        }
+
+        String locationName() {
+            return locationName;
+        }
+
+        /**
+         * @return The marshaller for the given value of this field.
+         */
+        XmlMarshaller<Object> marshaller(Object val) {
+            XmlMarshaller<Object> resolved = val == null ? nullMarshaller : marshaller;
+            return resolved != null ? resolved : registry.getMarshaller(field.location(), field.marshallingType(), val);
+        }
+    }
+}
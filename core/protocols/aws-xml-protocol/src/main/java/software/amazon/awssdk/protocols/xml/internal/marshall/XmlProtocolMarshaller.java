@@ -27,11 +27,9 @@ import java.util.EnumMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkBytes;
-import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.SdkPojo;
 import software.amazon.awssdk.core.protocol.MarshallLocation;
 import software.amazon.awssdk.core.protocol.MarshallingType;
-import software.amazon.awssdk.core.traits.PayloadTrait;
 import software.amazon.awssdk.core.traits.TimestampFormatTrait;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.protocols.core.InstantToString;
@@ -40,7 +38,7 @@ import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
 import software.amazon.awssdk.protocols.core.ProtocolUtils;
 import software.amazon.awssdk.protocols.core.ValueToStringConverter;
 import software.amazon.awssdk.protocols.xml.AwsXmlProtocolFactory;
-import software.amazon.awssdk.utils.StringInputStream;
+import software.amazon.awssdk.protocols.xml.internal.marshall.XmlMarshallingPlan.FieldPlan;
 
 /**
  * Implementation of {@link ProtocolMarshaller} for REST-XML services. This is currently only Cloudfront, Route53,
@@ -54,6 +52,8 @@ public final class XmlProtocolMarshaller implements ProtocolMarshaller<SdkHttpFu
 
     private static final XmlMarshallerRegistry MARSHALLER_REGISTRY = createMarshallerRegistry();
 
+    private static final XmlMarshallingPlan.Cache MARSHALLING_PLANS = new XmlMarshallingPlan.Cache(MARSHALLER_REGISTRY);
+
     private final URI endpoint;
     private final SdkHttpFullRequest.Builder request;
     private final String rootElement;
@@ -87,34 +87,35 @@ public final class XmlProtocolMarshaller implements ProtocolMarshaller<SdkHttpFu
     }
 
     void doMarshall(SdkPojo pojo) {
-        for (SdkField<?> field : pojo.sdkFields()) {
-            Object val = field.getValueOrDefault(pojo);
+        for (FieldPlan fieldPlan : MARSHALLING_PLANS.get(pojo).fieldPlans()) {
+            Object val = fieldPlan.field().getValueOrDefault(pojo);
 
-            if (isBinary(field, val)) {
+            if (fieldPlan.isExplicitPayloadMember() && val instanceof SdkBytes) {
                 request.contentStreamProvider(((SdkBytes) val)::asInputStream);
                 setContentTypeHeaderIfNeeded("binary/octet-stream");
 
-            } else if (isExplicitPayloadMember(field) && val instanceof String) {
+            } else if (fieldPlan.isExplicitPayloadMember() && val instanceof String) {
                 byte[] content = ((String) val).getBytes(StandardCharsets.UTF_8);
                 request.contentStreamProvider(() -> new ByteArrayInputStream(content));
                 request.putHeader(CONTENT_LENGTH, Integer.toString(content.length));
 
             } else {
-                MARSHALLER_REGISTRY.getMarshaller(field.location(), field.marshallingType(), val)
-                                   .marshall(val, marshallerContext, field.locationName(), (SdkField<Object>) field);
+                fieldPlan.marshaller(val).marshall(val, marshallerContext, fieldPlan.locationName(), fieldPlan.field());
             }
         }
     }
 
     private SdkHttpFullRequest finishMarshalling(SdkPojo pojo) {
+        marshallerContext.restBindingWriter().writePath();
+
         // Content may already be set if the payload is binary data.
-        if (hasPayloadMembers(pojo) && request.contentStreamProvider() == null
+        if (MARSHALLING_PLANS.get(pojo).hasPayloadMembers() && request.contentStreamProvider() == null
             && marshallerContext.xmlGenerator() != null) {
-            String content = marshallerContext.xmlGenerator().stringWriter().getBuffer().toString();
+            Utf8ChunkedWriter content = marshallerContext.xmlGenerator().content();
 
-            if (!content.isEmpty()) {
-                request.contentStreamProvider(() -> new StringInputStream(content));
-                request.putHeader("Content-Length", Integer.toString(content.getBytes(StandardCharsets.UTF_8).length));
+            if (content.size() > 0) {
+                request.contentStreamProvider(content::newInputStream);
+                request.putHeader("Content-Length", Integer.toString(content.size()));
                 setContentTypeHeaderIfNeeded("application/xml");
             }
         }
@@ -122,19 +123,6 @@ public final class XmlProtocolMarshaller implements ProtocolMarshaller<SdkHttpFu
         return request.build();
     }
 
-    private boolean isBinary(SdkField<?> field, Object val) {
-        return isExplicitPayloadMember(field) && val instanceof SdkBytes;
-    }
-
-    private boolean isExplicitPayloadMember(SdkField<?> field) {
-        return field.containsTrait(PayloadTrait.class);
-    }
-
-    private boolean hasPayloadMembers(SdkPojo sdkPojo) {
-        return sdkPojo.sdkFields().stream()
-                      .anyMatch(f -> f.location() == MarshallLocation.PAYLOAD);
-    }
-
     private void setContentTypeHeaderIfNeeded(String contentType) {
         if (contentType != null && !request.firstMatchingHeader(CONTENT_TYPE).isPresent()) {
             request.putHeader(CONTENT_TYPE, contentType);
@@ -45,15 +45,6 @@ final class XmlWriter {
         "\"", "'", "<", ">", "\r", "\n", "&"
     };
 
-    private static final String[] ESCAPE_SEARCHES = {
-        // Ampersands should always be the first to escape
-        "&", "\"", "'", "<", ">", "\r", "\n"
-    };
-
-    private static final String[] ESCAPE_REPLACEMENTS = {
-        "&amp;", "&quot;", "&apos;", "&lt;", "&gt;", "&#x0D;", "&#x0A;"
-    };
-
     /** The writer to which the XML document created by this writer will be written. */
     private final Writer writer;
 
@@ -96,9 +87,12 @@ final class XmlWriter {
             writtenProlog = true;
             append(PROLOG);
         }
-        append("<" + element);
+        append("<");
+        append(element);
         if (rootElement && xmlns != null) {
-            append(" xmlns=\"" + xmlns + "\"");
+            append(" xmlns=\"");
+            append(xmlns);
+            append("\"");
             rootElement = false;
         }
         append(">");
@@ -114,9 +108,14 @@ final class XmlWriter {
      * @return the XmlWriter
      */
     XmlWriter startElement(String element, Map<String, String> attributes) {
-        append("<" + element);
+        append("<");
+        append(element);
         for (Map.Entry<String, String> attribute: attributes.entrySet()) {
-            append(" " + attribute.getKey() + "=\"" + attribute.getValue() + "\"");
+            append(" ");
+            append(attribute.getKey());
+            append("=\"");
+            append(attribute.getValue());
+            append("\"");
         }
         append(">");
         elementStack.push(element);
@@ -132,7 +131,9 @@ final class XmlWriter {
      */
     XmlWriter endElement() {
         String lastElement = elementStack.pop();
-        append("</" + lastElement + ">");
+        append("</");
+        append(lastElement);
+        append(">");
         return this;
     }
 
@@ -147,7 +148,7 @@ final class XmlWriter {
      *         together.
      */
     public XmlWriter value(String s) {
-        append(escapeXmlEntities(s));
+        appendEscaped(s);
         return this;
     }
 
@@ -162,7 +163,7 @@ final class XmlWriter {
      *         together.
      */
     public XmlWriter value(ByteBuffer b) {
-        append(escapeXmlEntities(BinaryUtils.toBase64(BinaryUtils.copyBytesFrom(b))));
+        appendEscaped(BinaryUtils.toBase64(BinaryUtils.copyBytesFrom(b)));
         return this;
     }
 
@@ -177,7 +178,7 @@ final class XmlWriter {
      *         together.
      */
     public XmlWriter value(Date date) {
-        append(escapeXmlEntities(DateUtils.formatIso8601Date(date.toInstant())));
+        appendEscaped(DateUtils.formatIso8601Date(date.toInstant()));
         return this;
     }
 
@@ -193,23 +194,60 @@ final class XmlWriter {
      *         together.
      */
     public XmlWriter value(Object obj) {
-        append(escapeXmlEntities(obj.toString()));
+        appendEscaped(obj.toString());
         return this;
     }
 
     private void append(String s) {
+        append(s, 0, s.length());
+    }
+
+    private void append(String s, int start, int end) {
         try {
-            writer.append(s);
+            writer.write(s, start, end - start);
         } catch (IOException e) {
             throw SdkClientException.builder().message("Unable to write XML document").cause(e).build();
         }
     }
 
-    private String escapeXmlEntities(String s) {
+    /**
+     * Writes the value with XML entities escaped, copying the unescaped runs straight to the writer.
+     */
+    private void appendEscaped(String s) {
         // Unescape any escaped characters.
-        if (s.contains("&")) {
+        if (s.indexOf('&') >= 0) {
             s = StringUtils.replaceEach(s, UNESCAPE_SEARCHES, UNESCAPE_REPLACEMENTS);
         }
-        return StringUtils.replaceEach(s, ESCAPE_SEARCHES, ESCAPE_REPLACEMENTS);
+        int start = 0;
+        for (int i = 0; i < s.length(); i++) {
+            String replacement = escape(s.charAt(i));
+            if (replacement != null) {
+                append(s, start, i);
+                append(replacement);
+                start = i + 1;
+            }
+        }
+        append(s, start, s.length());
+    }
+
+    private static String escape(char c) {
+        switch (c) {
+            case '&':
+                return "&amp;";
+            case '"':
+                return "&quot;";
+            case '\'':
+                return "&apos;";
+            case '<':
+                return "&lt;";
+            case '>':
+                return "&gt;";
+            case '\r':
+                return "&#x0D;";
+            case '\n':
+                return "&#x0A;";
+            default:
+                return null;
+        }
     }
 }
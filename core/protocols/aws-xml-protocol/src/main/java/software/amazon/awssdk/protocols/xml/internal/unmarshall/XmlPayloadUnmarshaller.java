@@ -27,8 +27,10 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallingType;
 import software.amazon.awssdk.core.traits.ListTrait;
 import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.util.LazyUnmarshalledList;
 import software.amazon.awssdk.protocols.core.StringToValueConverter;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 
@@ -57,7 +59,7 @@ public final class XmlPayloadUnmarshaller {
     }
 
     public static List<?> unmarshallList(XmlUnmarshallerContext context, List<XmlElement> content, SdkField<List<?>> field) {
-        ListTrait listTrait = field.getTrait(ListTrait.class);
+        ListTrait listTrait = field.listTrait();
         List<Object> list = new ArrayList<>();
 
         getMembers(content, listTrait).forEach(member -> {
@@ -68,6 +70,24 @@ public final class XmlPayloadUnmarshaller {
         return list;
     }
 
+    public static List<?> unmarshallListLazily(XmlUnmarshallerContext context, List<XmlElement> content,
+                                               SdkField<List<?>> field) {
+        ListTrait listTrait = field.listTrait();
+        SdkField<?> memberInfo = listTrait.memberFieldInfo();
+        if (!LazyUnmarshalledList.supportsMembers(memberInfo)) {
+            return unmarshallList(context, content, field);
+        }
+
+        XmlUnmarshaller unmarshaller = context.getUnmarshaller(memberInfo.location(), memberInfo.marshallingType());
+        if (memberInfo.marshallingType() == MarshallingType.MAP) {
+            return LazyUnmarshalledList.createOfMaps(
+                getMembers(content, listTrait),
+                member -> (Map<String, ?>) unmarshaller.unmarshall(context, singletonList(member), memberInfo));
+        }
+        return LazyUnmarshalledList.create(getMembers(content, listTrait),
+                                           member -> unmarshaller.unmarshall(context, singletonList(member), memberInfo));
+    }
+
     private static List<XmlElement> getMembers(List<XmlElement> content, ListTrait listTrait) {
         String memberLocation = listTrait.memberLocationName() != null ? listTrait.memberLocationName()
                                                                        : listTrait.memberFieldInfo().locationName();
@@ -80,7 +100,7 @@ public final class XmlPayloadUnmarshaller {
     public static Map<String, ?> unmarshallMap(XmlUnmarshallerContext context, List<XmlElement> content,
                                                SdkField<Map<String, ?>> field) {
         Map<String, Object> map = new HashMap<>();
-        MapTrait mapTrait = field.getTrait(MapTrait.class);
+        MapTrait mapTrait = field.mapTrait();
         SdkField mapValueSdkField = mapTrait.valueFieldInfo();
 
         getEntries(content, mapTrait).forEach(entry -> {
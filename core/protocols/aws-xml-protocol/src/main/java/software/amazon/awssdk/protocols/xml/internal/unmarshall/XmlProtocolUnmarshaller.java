@@ -30,7 +30,6 @@ import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.SdkPojo;
 import software.amazon.awssdk.core.protocol.MarshallLocation;
 import software.amazon.awssdk.core.protocol.MarshallingType;
-import software.amazon.awssdk.core.traits.PayloadTrait;
 import software.amazon.awssdk.core.traits.TimestampFormatTrait;
 import software.amazon.awssdk.core.traits.XmlAttributeTrait;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
@@ -47,13 +46,27 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
     public static final StringToValueConverter.StringToValue<Instant> INSTANT_STRING_TO_VALUE
         = StringToInstant.create(getDefaultTimestampFormats());
 
-    private static final XmlUnmarshallerRegistry REGISTRY = createUnmarshallerRegistry();
+    private static final XmlUnmarshallerRegistry REGISTRY = createUnmarshallerRegistry(false);
 
-    private XmlProtocolUnmarshaller() {
+    private static final XmlUnmarshallerRegistry LAZY_LIST_REGISTRY = createUnmarshallerRegistry(true);
+
+    private final XmlUnmarshallerRegistry registry;
+
+    private XmlProtocolUnmarshaller(XmlUnmarshallerRegistry registry) {
+        this.registry = registry;
     }
 
     public static XmlProtocolUnmarshaller create() {
-        return new XmlProtocolUnmarshaller();
+        return new XmlProtocolUnmarshaller(REGISTRY);
+    }
+
+    /**
+     * Create an unmarshaller that only unmarshalls the elements of lists of structures or maps when they are first accessed.
+     *
+     * @see software.amazon.awssdk.core.util.LazyUnmarshalledList
+     */
+    public static XmlProtocolUnmarshaller createWithLazyListUnmarshalling() {
+        return new XmlProtocolUnmarshaller(LAZY_LIST_REGISTRY);
     }
 
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
@@ -72,7 +85,7 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
                                                     SdkHttpFullResponse response) {
         XmlUnmarshallerContext unmarshallerContext = XmlUnmarshallerContext.builder()
                                                                            .response(response)
-                                                                           .registry(REGISTRY)
+                                                                           .registry(registry)
                                                                            .protocolUnmarshaller(this)
                                                                            .build();
         return (TypeT) unmarshall(unmarshallerContext, sdkPojo, resultRoot);
@@ -81,13 +94,13 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
     SdkPojo unmarshall(XmlUnmarshallerContext context, SdkPojo sdkPojo, XmlElement root) {
         Optional<SdkField<?>> payloadMemberAsBlobType = getBlobTypePayloadMemberToUnmarshal(sdkPojo);
         for (SdkField<?> field : sdkPojo.sdkFields()) {
-            XmlUnmarshaller<Object> unmarshaller = REGISTRY.getUnmarshaller(field.location(), field.marshallingType());
+            XmlUnmarshaller<Object> unmarshaller = context.getUnmarshaller(field.location(), field.marshallingType());
 
             if (root != null && field.location() == MarshallLocation.PAYLOAD) {
                 if (!context.response().content().isPresent()) {
                     // This is a payload field, but the service sent no content. Do not populate this field (leave it null or
                     // empty).
-                    if (field.marshallingType() == MarshallingType.SDK_BYTES && field.containsTrait(PayloadTrait.class)) {
+                    if (field.marshallingType() == MarshallingType.SDK_BYTES && field.containsPayloadTrait()) {
                         // SDK bytes bound directly to the payload field should never be left empty
                         field.set(sdkPojo, SdkBytes.fromByteArrayUnsafe(new byte[0]));
                     }
@@ -132,7 +145,7 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
     }
 
     private boolean isExplicitPayloadMember(SdkField<?> field) {
-        return field.containsTrait(PayloadTrait.class);
+        return field.containsPayloadTrait();
     }
 
     private static Map<MarshallLocation, TimestampFormatTrait.Format> getDefaultTimestampFormats() {
@@ -142,7 +155,7 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
         return Collections.unmodifiableMap(formats);
     }
 
-    private static XmlUnmarshallerRegistry createUnmarshallerRegistry() {
+    private static XmlUnmarshallerRegistry createUnmarshallerRegistry(boolean lazyListUnmarshalling) {
         return XmlUnmarshallerRegistry
             .builder()
             .statusCodeUnmarshaller(MarshallingType.INTEGER, (context, content, field) -> context.response().statusCode())
@@ -168,7 +181,8 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
             .payloadUnmarshaller(MarshallingType.INSTANT, XmlPayloadUnmarshaller.INSTANT)
             .payloadUnmarshaller(MarshallingType.SDK_BYTES, XmlPayloadUnmarshaller.SDK_BYTES)
             .payloadUnmarshaller(MarshallingType.SDK_POJO, XmlPayloadUnmarshaller::unmarshallSdkPojo)
-            .payloadUnmarshaller(MarshallingType.LIST, XmlPayloadUnmarshaller::unmarshallList)
+            .payloadUnmarshaller(MarshallingType.LIST, lazyListUnmarshalling ? XmlPayloadUnmarshaller::unmarshallListLazily
+                                                                             : XmlPayloadUnmarshaller::unmarshallList)
             .payloadUnmarshaller(MarshallingType.MAP, XmlPayloadUnmarshaller::unmarshallMap)
             .build();
     }
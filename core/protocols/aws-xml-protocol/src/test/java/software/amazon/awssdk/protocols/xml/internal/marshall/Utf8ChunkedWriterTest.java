@@ -0,0 +1,109 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.xml.internal.marshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.Test;
+import software.amazon.awssdk.utils.IoUtils;
+
+public class Utf8ChunkedWriterTest {
+
+    @Test
+    public void randomText_EncodedLikeStringGetBytes() throws IOException {
+        Random random = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            StringBuilder text = new StringBuilder();
+            int length = random.nextInt(40_000);
+            for (int j = 0; j < length; j++) {
+                text.append(randomChar(random));
+            }
+            assertEncodedLikeString(text.toString());
+        }
+    }
+
+    @Test
+    public void unpairedSurrogates_WrittenAsReplacement() throws IOException {
+        assertEncodedLikeString("a\uD83Db");
+        assertEncodedLikeString("a\uDE00b");
+        assertEncodedLikeString("ends with high \uD83D");
+        assertEncodedLikeString("\uD83D😀");
+    }
+
+    @Test
+    public void surrogatePairSplitAcrossWrites_EncodedAsOneCodePoint() throws IOException {
+        Utf8ChunkedWriter writer = new Utf8ChunkedWriter();
+        writer.write("smile \uD83D");
+        writer.write("\uDE00!");
+
+        assertThat(IoUtils.toByteArray(writer.newInputStream()))
+            .isEqualTo("smile 😀!".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void content_CanBeReadMoreThanOnce() throws IOException {
+        Utf8ChunkedWriter writer = new Utf8ChunkedWriter();
+        writer.write("<Root>value</Root>");
+
+        assertThat(IoUtils.toUtf8String(writer.newInputStream())).isEqualTo("<Root>value</Root>");
+        assertThat(IoUtils.toUtf8String(writer.newInputStream())).isEqualTo("<Root>value</Root>");
+    }
+
+    @Test
+    public void singleByteReads_MatchBulkReads() throws IOException {
+        Utf8ChunkedWriter writer = new Utf8ChunkedWriter();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 20_000; i++) {
+            text.append((char) ('a' + i % 26));
+        }
+        writer.write(text.toString());
+
+        InputStream stream = writer.newInputStream();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        int b;
+        while ((b = stream.read()) != -1) {
+            bytes.write(b);
+        }
+        assertThat(bytes.toByteArray()).isEqualTo(text.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertEncodedLikeString(String text) throws IOException {
+        Utf8ChunkedWriter writer = new Utf8ChunkedWriter();
+        writer.write(text);
+        byte[] expected = text.getBytes(StandardCharsets.UTF_8);
+
+        assertThat(writer.size()).isEqualTo(expected.length);
+        assertThat(IoUtils.toByteArray(writer.newInputStream())).isEqualTo(expected);
+    }
+
+    private static char randomChar(Random random) {
+        switch (random.nextInt(5)) {
+            case 0:
+                return (char) random.nextInt(0x80);
+            case 1:
+                return (char) (0x80 + random.nextInt(0x800 - 0x80));
+            case 2:
+                return (char) (0xD800 + random.nextInt(0x800));
+            default:
+                return (char) random.nextInt(0x10000);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.xml.internal.marshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import org.junit.Test;
+import software.amazon.awssdk.utils.IoUtils;
+
+public class XmlGeneratorTest {
+
+    @Test
+    public void elementsAndValues_WrittenAsUtf8Xml() throws Exception {
+        XmlGenerator generator = XmlGenerator.create("http://example.com/ns");
+        generator.startElement("Root");
+        generator.startElement("Item", Collections.singletonMap("type", "a"));
+        generator.xmlWriter().value("a & b <c> \"d\" 'e'\r\n ünïcödé");
+        generator.endElement();
+        generator.startElement("Escaped");
+        generator.xmlWriter().value("already &amp; escaped");
+        generator.endElement();
+        generator.endElement();
+
+        assertThat(IoUtils.toUtf8String(generator.content().newInputStream()))
+            .isEqualTo("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                       + "<Root xmlns=\"http://example.com/ns\">"
+                       + "<Item type=\"a\">a &amp; b &lt;c&gt; &quot;d&quot; &apos;e&apos;&#x0D;&#x0A; ünïcödé</Item>"
+                       + "<Escaped>already &amp; escaped</Escaped>"
+                       + "</Root>");
+    }
+}
@@ -15,6 +15,9 @@
 
 package software.amazon.awssdk.protocols.core;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.SdkPojo;
@@ -61,6 +64,17 @@ public final class ExceptionMetadata {
         return new Builder();
     }
 
+    /**
+     * Index modeled exceptions by error code, keeping the first exception of a code that appears more than once.
+     */
+    public static Map<String, ExceptionMetadata> indexByErrorCode(List<ExceptionMetadata> exceptions) {
+        Map<String, ExceptionMetadata> exceptionsByErrorCode = new HashMap<>();
+        if (exceptions != null) {
+            exceptions.forEach(e -> exceptionsByErrorCode.putIfAbsent(e.errorCode(), e));
+        }
+        return exceptionsByErrorCode;
+    }
+
     /**
      * Builder for {@link ExceptionMetadata}
      */
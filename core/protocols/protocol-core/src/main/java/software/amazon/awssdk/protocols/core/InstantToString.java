@@ -43,10 +43,9 @@ public final class InstantToString implements ValueToString<Instant> {
         if (val == null) {
             return null;
         }
-        TimestampFormatTrait.Format format =
-            sdkField.getOptionalTrait(TimestampFormatTrait.class)
-                    .map(TimestampFormatTrait::format)
-                    .orElseGet(() -> getDefaultTimestampFormat(sdkField.location(), defaultFormats));
+        TimestampFormatTrait trait = sdkField.timestampFormatTrait();
+        TimestampFormatTrait.Format format = trait != null ? trait.format()
+                                                           : getDefaultTimestampFormat(sdkField.location(), defaultFormats);
         switch (format) {
             case ISO_8601:
                 return DateUtils.formatIso8601Date(val);
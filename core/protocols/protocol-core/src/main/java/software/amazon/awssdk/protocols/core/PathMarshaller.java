@@ -55,33 +55,59 @@ public abstract class PathMarshaller {
      * @param pathValue String value of path parameter.
      * @return New URI with placeholder replaced with marshalled value.
      */
-    public abstract String marshall(String resourcePath, String paramName, String pathValue);
+    public String marshall(String resourcePath, String paramName, String pathValue) {
+        return StringUtils.replace(resourcePath, "{" + placeholderName(paramName) + "}", encode(paramName, pathValue));
+    }
+
+    /**
+     * @param paramName Name of parameter.
+     * @return The placeholder of the parameter in the request URI without the braces, i.e. Foo or Foo+.
+     */
+    public abstract String placeholderName(String paramName);
+
+    /**
+     * @param paramName Name of parameter.
+     * @param pathValue String value of path parameter.
+     * @return The value as it should appear in the request URI.
+     */
+    public abstract String encode(String paramName, String pathValue);
 
     private static class NonGreedyPathMarshaller extends PathMarshaller {
         @Override
-        public String marshall(String resourcePath, String paramName, String pathValue) {
+        public String placeholderName(String paramName) {
+            return paramName;
+        }
+
+        @Override
+        public String encode(String paramName, String pathValue) {
             Validate.notEmpty(pathValue, "%s cannot be empty.", paramName);
-            return StringUtils.replace(resourcePath, "{" + paramName + "}", SdkHttpUtils.urlEncode(pathValue));
+            return SdkHttpUtils.urlEncode(pathValue);
         }
     }
 
     private static class GreedyPathMarshaller extends PathMarshaller {
+        @Override
+        public String placeholderName(String paramName) {
+            return paramName + "+";
+        }
 
         @Override
-        public String marshall(String resourcePath, String paramName, String pathValue) {
+        public String encode(String paramName, String pathValue) {
             Validate.notEmpty(pathValue, "%s cannot be empty.", paramName);
-            return StringUtils.replace(resourcePath,
-                                       "{" + paramName + "+}",
-                                       SdkHttpUtils.urlEncodeIgnoreSlashes(trimLeadingSlash(pathValue)));
+            return SdkHttpUtils.urlEncodeIgnoreSlashes(trimLeadingSlash(pathValue));
         }
     }
 
     private static class GreedyLeadingSlashPathMarshaller extends PathMarshaller {
+        @Override
+        public String placeholderName(String paramName) {
+            return paramName + "+";
+        }
 
         @Override
-        public String marshall(String resourcePath, String paramName, String pathValue) {
+        public String encode(String paramName, String pathValue) {
             Validate.notEmpty(pathValue, "%s cannot be empty.", paramName);
-            return StringUtils.replace(resourcePath, "{" + paramName + "+}", SdkHttpUtils.urlEncodeIgnoreSlashes(pathValue));
+            return SdkHttpUtils.urlEncodeIgnoreSlashes(pathValue);
         }
     }
 
@@ -0,0 +1,116 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.core;
+
+import java.util.HashMap;
+import java.util.Map;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+
+/**
+ * Writes the members of a request that are bound to the HTTP request line and headers (headers, query parameters and path
+ * labels) for the REST protocols.
+ *
+ * <p>Headers and query parameters are appended straight to the request builder. Path label values are validated and
+ * encoded as they're written but only substituted into the request path by {@link #writePath()}, in a single pass over the
+ * path, instead of rewriting the whole path once per label.
+ */
+@SdkProtectedApi
+@NotThreadSafe
+public final class RestBindingWriter {
+
+    private final SdkHttpFullRequest.Builder request;
+    private Map<String, String> pathValues;
+
+    public RestBindingWriter(SdkHttpFullRequest.Builder request) {
+        this.request = request;
+    }
+
+    /**
+     * Adds a value to a header, keeping any values already written to it.
+     */
+    public void appendHeader(String headerName, String headerValue) {
+        request.appendHeader(headerName, headerValue);
+    }
+
+    /**
+     * Adds a value to a query parameter, keeping any values already written to it.
+     */
+    public void appendQueryParameter(String paramName, String paramValue) {
+        request.appendRawQueryParameter(paramName, paramValue);
+    }
+
+    /**
+     * Sets the value of a query parameter, replacing any values already written to it.
+     */
+    public void putQueryParameter(String paramName, String paramValue) {
+        request.putRawQueryParameter(paramName, paramValue);
+    }
+
+    /**
+     * Records the value of a path label. It's substituted into the request path by {@link #writePath()}.
+     *
+     * @param pathMarshaller How to encode the value and find its placeholder.
+     * @param paramName Name of the path label.
+     * @param pathValue Unencoded value of the path label.
+     */
+    public void putPathParameter(PathMarshaller pathMarshaller, String paramName, String pathValue) {
+        if (pathValues == null) {
+            pathValues = new HashMap<>();
+        }
+        pathValues.put(pathMarshaller.placeholderName(paramName), pathMarshaller.encode(paramName, pathValue));
+    }
+
+    /**
+     * Substitutes the path label values recorded so far into the request path. Placeholders without a value are left as they
+     * are.
+     */
+    public void writePath() {
+        if (pathValues == null) {
+            return;
+        }
+        request.encodedPath(resolvePath(request.encodedPath(), pathValues));
+        pathValues = null;
+    }
+
+    static String resolvePath(String path, Map<String, String> values) {
+        StringBuilder resolved = null;
+        int copied = 0;
+        int open = path.indexOf('{');
+        while (open >= 0) {
+            int close = path.indexOf('}', open + 1);
+            if (close < 0) {
+                break;
+            }
+            String value = values.get(path.substring(open + 1, close));
+            if (value == null) {
+                open = path.indexOf('{', open + 1);
+                continue;
+            }
+            if (resolved == null) {
+                resolved = new StringBuilder(path.length() + value.length());
+            }
+            resolved.append(path, copied, open).append(value);
+            copied = close + 1;
+            open = path.indexOf('{', copied);
+        }
+        if (resolved == null) {
+            return path;
+        }
+        return resolved.append(path, copied, path.length()).toString();
+    }
+}
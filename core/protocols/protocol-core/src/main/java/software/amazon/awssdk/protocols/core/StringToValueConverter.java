@@ -92,7 +92,8 @@ public final class StringToValueConverter {
     }
 
     private static SdkBytes toSdkBytes(String s) {
-        return SdkBytes.fromByteArray(BinaryUtils.fromBase64(s));
+        // The decoded array is new and never shared, so it can be wrapped without another copy.
+        return SdkBytes.fromByteArrayUnsafe(BinaryUtils.fromBase64(s));
     }
 
 }
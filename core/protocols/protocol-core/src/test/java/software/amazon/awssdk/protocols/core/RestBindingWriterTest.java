@@ -0,0 +1,84 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.core;
+
+import static org.junit.Assert.assertEquals;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Test;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+
+public class RestBindingWriterTest {
+
+    private final SdkHttpFullRequest.Builder request = SdkHttpFullRequest.builder()
+                                                                         .uri(URI.create("https://localhost"))
+                                                                         .method(SdkHttpMethod.GET);
+    private final RestBindingWriter writer = new RestBindingWriter(request);
+
+    @Test
+    public void pathParameters_SubstitutedOnlyWhenPathWritten() {
+        request.encodedPath("/{Bucket}/{Key+}");
+        writer.putPathParameter(PathMarshaller.NON_GREEDY, "Bucket", "my bucket");
+        writer.putPathParameter(PathMarshaller.GREEDY, "Key", "/a/b c");
+
+        assertEquals("/{Bucket}/{Key+}", request.encodedPath());
+        writer.writePath();
+        assertEquals("/my%20bucket/a/b%20c", request.encodedPath());
+    }
+
+    @Test
+    public void pathParameters_MatchSequentialReplacement() {
+        String template = "/{A}/x/{B+}/{A}/{Unset}/{";
+        String sequential = PathMarshaller.GREEDY_WITH_SLASHES.marshall(
+            PathMarshaller.NON_GREEDY.marshall(template, "A", "a/1"), "B", "/b/2");
+
+        request.encodedPath(template);
+        writer.putPathParameter(PathMarshaller.NON_GREEDY, "A", "a/1");
+        writer.putPathParameter(PathMarshaller.GREEDY_WITH_SLASHES, "B", "/b/2");
+        writer.writePath();
+
+        assertEquals(sequential, request.encodedPath());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void emptyPathValue_ThrowsWhenWritten() {
+        writer.putPathParameter(PathMarshaller.NON_GREEDY, "Bucket", "");
+    }
+
+    @Test
+    public void noPathParameters_LeavesPathUnchanged() {
+        request.encodedPath("/{Bucket}");
+        writer.writePath();
+        assertEquals("/{Bucket}", request.encodedPath());
+    }
+
+    @Test
+    public void headersAndQueryParameters_WrittenToRequest() {
+        writer.appendHeader("x-amz-list", "a");
+        writer.appendHeader("x-amz-list", "b");
+        writer.appendQueryParameter("list", "1");
+        writer.appendQueryParameter("list", "2");
+        writer.putQueryParameter("single", "1");
+        writer.putQueryParameter("single", "2");
+
+        assertEquals(Arrays.asList("a", "b"), request.headers().get("x-amz-list"));
+        assertEquals(Arrays.asList("1", "2"), request.rawQueryParameters().get("list"));
+        assertEquals(Collections.singletonList("2"), request.rawQueryParameters().get("single"));
+    }
+}
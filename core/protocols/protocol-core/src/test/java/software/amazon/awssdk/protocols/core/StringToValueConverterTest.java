@@ -0,0 +1,38 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.core;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+import software.amazon.awssdk.core.SdkBytes;
+
+public class StringToValueConverterTest {
+
+    @Test
+    public void toSdkBytes_DecodesBase64() {
+        SdkBytes bytes = StringToValueConverter.TO_SDK_BYTES.convert("aGVsbG8=", null);
+
+        assertArrayEquals("hello".getBytes(StandardCharsets.UTF_8), bytes.asByteArray());
+    }
+
+    @Test
+    public void toSdkBytes_EmptyString_GivesEmptyBytes() {
+        assertEquals(0, StringToValueConverter.TO_SDK_BYTES.convert("", null).asByteArrayUnsafe().length);
+    }
+}
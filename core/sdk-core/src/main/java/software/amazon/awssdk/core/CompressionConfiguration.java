@@ -0,0 +1,219 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.compression.Compressor;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configuration for the compression of request payloads. Only the requests of operations that the service has modeled as
+ * accepting a compressed payload are ever compressed.
+ *
+ * @see software.amazon.awssdk.core.client.config.ClientOverrideConfiguration.Builder#compressionConfiguration
+ */
+@SdkPublicApi
+@Immutable
+@ThreadSafe
+public final class CompressionConfiguration implements ToCopyableBuilder<CompressionConfiguration.Builder,
+    CompressionConfiguration> {
+
+    /**
+     * The default size, in bytes, below which non-streaming payloads are sent uncompressed.
+     */
+    public static final int DEFAULT_MINIMUM_COMPRESSION_THRESHOLD_IN_BYTES = 10_240;
+
+    private static final int MAXIMUM_COMPRESSION_THRESHOLD_IN_BYTES = 10_485_760;
+
+    private final Boolean requestCompressionEnabled;
+    private final Integer minimumCompressionThresholdInBytes;
+    private final List<Compressor> compressors;
+
+    private CompressionConfiguration(DefaultBuilder builder) {
+        this.requestCompressionEnabled = builder.requestCompressionEnabled;
+        this.minimumCompressionThresholdInBytes = builder.minimumCompressionThresholdInBytes;
+        this.compressors = Collections.unmodifiableList(new ArrayList<>(builder.compressors));
+        if (minimumCompressionThresholdInBytes != null) {
+            Validate.inclusiveBetween(0, MAXIMUM_COMPRESSION_THRESHOLD_IN_BYTES, minimumCompressionThresholdInBytes,
+                                      "minimumCompressionThresholdInBytes must be between 0 and %s bytes.",
+                                      MAXIMUM_COMPRESSION_THRESHOLD_IN_BYTES);
+        }
+    }
+
+    /**
+     * Create a {@link Builder}, used to create a {@link CompressionConfiguration}.
+     */
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Whether eligible requests are compressed. Defaults to true.
+     */
+    public boolean requestCompressionEnabled() {
+        return requestCompressionEnabled == null || requestCompressionEnabled;
+    }
+
+    /**
+     * The size, in bytes, below which non-streaming payloads are sent uncompressed. Streaming payloads are always compressed
+     * when compression is enabled, because their size isn't known up front. Defaults to
+     * {@link #DEFAULT_MINIMUM_COMPRESSION_THRESHOLD_IN_BYTES}.
+     */
+    public int minimumCompressionThresholdInBytes() {
+        return minimumCompressionThresholdInBytes != null ? minimumCompressionThresholdInBytes
+                                                          : DEFAULT_MINIMUM_COMPRESSION_THRESHOLD_IN_BYTES;
+    }
+
+    /**
+     * The additional compressors that were registered. These take precedence over the SDK's own compressors of the same type.
+     */
+    public List<Compressor> compressors() {
+        return compressors;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new DefaultBuilder(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        CompressionConfiguration that = (CompressionConfiguration) o;
+
+        if (!Objects.equals(requestCompressionEnabled, that.requestCompressionEnabled)) {
+            return false;
+        }
+        if (!Objects.equals(minimumCompressionThresholdInBytes, that.minimumCompressionThresholdInBytes)) {
+            return false;
+        }
+        return compressors.equals(that.compressors);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = requestCompressionEnabled != null ? requestCompressionEnabled.hashCode() : 0;
+        result = 31 * result + (minimumCompressionThresholdInBytes != null ? minimumCompressionThresholdInBytes.hashCode() : 0);
+        result = 31 * result + compressors.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("CompressionConfiguration")
+                       .add("requestCompressionEnabled", requestCompressionEnabled)
+                       .add("minimumCompressionThresholdInBytes", minimumCompressionThresholdInBytes)
+                       .add("compressors", compressors)
+                       .build();
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, CompressionConfiguration> {
+
+        /**
+         * Configure whether eligible requests are compressed. Defaults to true.
+         */
+        Builder requestCompressionEnabled(Boolean requestCompressionEnabled);
+
+        /**
+         * Configure the size, in bytes, below which non-streaming payloads are sent uncompressed. Must be between 0 and
+         * 10485760. Defaults to {@link #DEFAULT_MINIMUM_COMPRESSION_THRESHOLD_IN_BYTES}.
+         */
+        Builder minimumCompressionThresholdInBytes(Integer minimumCompressionThresholdInBytes);
+
+        /**
+         * Configure the additional compressors that may be used. This will override any compressors that were already added.
+         */
+        Builder compressors(List<Compressor> compressors);
+
+        /**
+         * Add a compressor that may be used. If the service accepts more than one encoding, the service's preference decides
+         * which compressor is used.
+         */
+        Builder addCompressor(Compressor compressor);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private Boolean requestCompressionEnabled;
+        private Integer minimumCompressionThresholdInBytes;
+        private List<Compressor> compressors = new ArrayList<>();
+
+        private DefaultBuilder() {
+        }
+
+        private DefaultBuilder(CompressionConfiguration configuration) {
+            this.requestCompressionEnabled = configuration.requestCompressionEnabled;
+            this.minimumCompressionThresholdInBytes = configuration.minimumCompressionThresholdInBytes;
+            this.compressors = new ArrayList<>(configuration.compressors);
+        }
+
+        @Override
+        public Builder requestCompressionEnabled(Boolean requestCompressionEnabled) {
+            this.requestCompressionEnabled = requestCompressionEnabled;
+            return this;
+        }
+
+        public void setRequestCompressionEnabled(Boolean requestCompressionEnabled) {
+            requestCompressionEnabled(requestCompressionEnabled);
+        }
+
+        @Override
+        public Builder minimumCompressionThresholdInBytes(Integer minimumCompressionThresholdInBytes) {
+            this.minimumCompressionThresholdInBytes = minimumCompressionThresholdInBytes;
+            return this;
+        }
+
+        public void setMinimumCompressionThresholdInBytes(Integer minimumCompressionThresholdInBytes) {
+            minimumCompressionThresholdInBytes(minimumCompressionThresholdInBytes);
+        }
+
+        @Override
+        public Builder compressors(List<Compressor> compressors) {
+            Validate.paramNotNull(compressors, "compressors");
+            this.compressors = new ArrayList<>(compressors);
+            return this;
+        }
+
+        public void setCompressors(List<Compressor> compressors) {
+            compressors(compressors);
+        }
+
+        @Override
+        public Builder addCompressor(Compressor compressor) {
+            this.compressors.add(Validate.paramNotNull(compressor, "compressor"));
+            return this;
+        }
+
+        @Override
+        public CompressionConfiguration build() {
+            return new CompressionConfiguration(this);
+        }
+    }
+}
@@ -15,8 +15,12 @@
 
 package software.amazon.awssdk.core;
 
+import java.nio.channels.AsynchronousFileChannel;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.utils.Validate;
@@ -36,10 +40,12 @@ public final class FileTransformerConfiguration implements ToCopyableBuilder<Fil
     FileTransformerConfiguration> {
     private final FileWriteOption fileWriteOption;
     private final FailureBehavior failureBehavior;
+    private final ExecutorService executorService;
 
     private FileTransformerConfiguration(DefaultBuilder builder) {
         this.fileWriteOption = Validate.paramNotNull(builder.fileWriteOption, "fileWriteOption");
         this.failureBehavior = Validate.paramNotNull(builder.failureBehavior, "failureBehavior");
+        this.executorService = builder.executorService;
     }
 
     /**
@@ -56,6 +62,13 @@ public final class FileTransformerConfiguration implements ToCopyableBuilder<Fil
         return failureBehavior;
     }
 
+    /**
+     * The configured {@link ExecutorService} the writes to the file should be performed on.
+     */
+    public Optional<ExecutorService> executorService() {
+        return Optional.ofNullable(executorService);
+    }
+
     /**
      * Create a {@link Builder}, used to create a {@link FileTransformerConfiguration}.
      */
@@ -118,13 +131,17 @@ public final class FileTransformerConfiguration implements ToCopyableBuilder<Fil
         if (fileWriteOption != that.fileWriteOption) {
             return false;
         }
-        return failureBehavior == that.failureBehavior;
+        if (failureBehavior != that.failureBehavior) {
+            return false;
+        }
+        return Objects.equals(executorService, that.executorService);
     }
 
     @Override
     public int hashCode() {
         int result = fileWriteOption != null ? fileWriteOption.hashCode() : 0;
         result = 31 * result + (failureBehavior != null ? failureBehavior.hashCode() : 0);
+        result = 31 * result + (executorService != null ? executorService.hashCode() : 0);
         return result;
     }
 
@@ -181,11 +198,25 @@ public final class FileTransformerConfiguration implements ToCopyableBuilder<Fil
          * @return This object for method chaining.
          */
         Builder failureBehavior(FailureBehavior failureBehavior);
+
+        /**
+         * Configures the {@link ExecutorService} the writes to the file are performed on, and on which their completion is
+         * handled. Using a dedicated executor for large downloads keeps disk I/O off the shared default thread pool of
+         * {@link AsynchronousFileChannel}. The executor is not shut down by the SDK.
+         *
+         * <p>
+         * By default, the default thread pool of {@link AsynchronousFileChannel} is used.
+         *
+         * @param executorService the executor service
+         * @return This object for method chaining.
+         */
+        Builder executorService(ExecutorService executorService);
     }
 
     private static class DefaultBuilder implements Builder {
         private FileWriteOption fileWriteOption;
         private FailureBehavior failureBehavior;
+        private ExecutorService executorService;
 
         private DefaultBuilder() {
         }
@@ -193,6 +224,7 @@ public final class FileTransformerConfiguration implements ToCopyableBuilder<Fil
         private DefaultBuilder(FileTransformerConfiguration fileTransformerConfiguration) {
             this.fileWriteOption = fileTransformerConfiguration.fileWriteOption;
             this.failureBehavior = fileTransformerConfiguration.failureBehavior;
+            this.executorService = fileTransformerConfiguration.executorService;
         }
 
         @Override
@@ -207,6 +239,12 @@ public final class FileTransformerConfiguration implements ToCopyableBuilder<Fil
             return this;
         }
 
+        @Override
+        public Builder executorService(ExecutorService executorService) {
+            this.executorService = executorService;
+            return this;
+        }
+
         @Override
         public FileTransformerConfiguration build() {
             return new FileTransformerConfiguration(this);
@@ -26,7 +26,12 @@ import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.protocol.MarshallLocation;
 import software.amazon.awssdk.core.protocol.MarshallingType;
 import software.amazon.awssdk.core.traits.DefaultValueTrait;
+import software.amazon.awssdk.core.traits.JsonValueTrait;
+import software.amazon.awssdk.core.traits.ListTrait;
 import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.PayloadTrait;
+import software.amazon.awssdk.core.traits.TimestampFormatTrait;
 import software.amazon.awssdk.core.traits.Trait;
 
 /**
@@ -45,6 +50,12 @@ public final class SdkField<TypeT> {
     private final BiConsumer<Object, TypeT> setter;
     private final Function<Object, TypeT> getter;
     private final Map<Class<? extends Trait>, Trait> traits;
+    private final DefaultValueTrait defaultValueTrait;
+    private final ListTrait listTrait;
+    private final MapTrait mapTrait;
+    private final TimestampFormatTrait timestampFormatTrait;
+    private final boolean containsPayloadTrait;
+    private final boolean containsJsonValueTrait;
 
     private SdkField(Builder<TypeT> builder) {
         this.memberName = builder.memberName;
@@ -59,6 +70,14 @@ public final class SdkField<TypeT> {
         this.location = locationTrait.location();
         this.locationName = locationTrait.locationName();
         this.unmarshallLocationName = locationTrait.unmarshallLocationName();
+
+        // The protocols query these traits for almost every field they (un)marshall, so keep them in their own slots.
+        this.defaultValueTrait = getTrait(DefaultValueTrait.class);
+        this.listTrait = getTrait(ListTrait.class);
+        this.mapTrait = getTrait(MapTrait.class);
+        this.timestampFormatTrait = getTrait(TimestampFormatTrait.class);
+        this.containsPayloadTrait = containsTrait(PayloadTrait.class);
+        this.containsJsonValueTrait = containsTrait(JsonValueTrait.class);
     }
 
     public String memberName() {
@@ -149,6 +168,42 @@ public final class SdkField<TypeT> {
         return traits.containsKey(clzz);
     }
 
+    /**
+     * @return The {@link ListTrait} of the field, or null if it isn't a list. Same as {@code getTrait(ListTrait.class)}.
+     */
+    public ListTrait listTrait() {
+        return listTrait;
+    }
+
+    /**
+     * @return The {@link MapTrait} of the field, or null if it isn't a map. Same as {@code getTrait(MapTrait.class)}.
+     */
+    public MapTrait mapTrait() {
+        return mapTrait;
+    }
+
+    /**
+     * @return The {@link TimestampFormatTrait} of the field, or null if the protocol's default format should be used. Same
+     * as {@code getTrait(TimestampFormatTrait.class)}.
+     */
+    public TimestampFormatTrait timestampFormatTrait() {
+        return timestampFormatTrait;
+    }
+
+    /**
+     * @return True if the field is the explicit payload of its structure. Same as {@code containsTrait(PayloadTrait.class)}.
+     */
+    public boolean containsPayloadTrait() {
+        return containsPayloadTrait;
+    }
+
+    /**
+     * @return True if the field holds a JSON value. Same as {@code containsTrait(JsonValueTrait.class)}.
+     */
+    public boolean containsJsonValueTrait() {
+        return containsJsonValueTrait;
+    }
+
     /**
      * Retrieves the current value of 'this' field from the given POJO. Uses the getter passed into the {@link Builder}.
      *
@@ -169,8 +224,7 @@ public final class SdkField<TypeT> {
      */
     public TypeT getValueOrDefault(Object pojo) {
         TypeT val = this.get(pojo);
-        DefaultValueTrait trait = getTrait(DefaultValueTrait.class);
-        return (trait == null ? val : (TypeT) trait.resolveValue(val));
+        return (defaultValueTrait == null ? val : (TypeT) defaultValueTrait.resolveValue(val));
     }
 
     /**
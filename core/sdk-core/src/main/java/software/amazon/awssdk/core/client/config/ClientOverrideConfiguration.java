@@ -26,6 +26,7 @@ import java.util.TreeMap;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ToBuilderIgnoreField;
+import software.amazon.awssdk.core.CompressionConfiguration;
 import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
@@ -61,6 +62,7 @@ public final class ClientOverrideConfiguration
     private final String defaultProfileName;
     private final List<MetricPublisher> metricPublishers;
     private final ExecutionAttributes executionAttributes;
+    private final CompressionConfiguration compressionConfiguration;
 
     /**
      * Initialize this configuration. Private to require use of {@link #builder()}.
@@ -76,6 +78,7 @@ public final class ClientOverrideConfiguration
         this.defaultProfileName = builder.defaultProfileName();
         this.metricPublishers = Collections.unmodifiableList(new ArrayList<>(builder.metricPublishers()));
         this.executionAttributes = ExecutionAttributes.unmodifiableExecutionAttributes(builder.executionAttributes());
+        this.compressionConfiguration = builder.compressionConfiguration();
     }
 
     @Override
@@ -91,7 +94,8 @@ public final class ClientOverrideConfiguration
             .defaultProfileFile(defaultProfileFile)
             .defaultProfileName(defaultProfileName)
             .executionAttributes(executionAttributes)
-            .metricPublishers(metricPublishers);
+            .metricPublishers(metricPublishers)
+            .compressionConfiguration(compressionConfiguration);
     }
 
     /**
@@ -214,6 +218,15 @@ public final class ClientOverrideConfiguration
         return executionAttributes;
     }
 
+    /**
+     * The configuration for the compression of request payloads.
+     *
+     * @see Builder#compressionConfiguration(CompressionConfiguration)
+     */
+    public Optional<CompressionConfiguration> compressionConfiguration() {
+        return Optional.ofNullable(compressionConfiguration);
+    }
+
     @Override
     public String toString() {
         return ToString.builder("ClientOverrideConfiguration")
@@ -225,6 +238,7 @@ public final class ClientOverrideConfiguration
                 .add("advancedOptions", advancedOptions)
                 .add("profileFile", defaultProfileFile)
                 .add("profileName", defaultProfileName)
+                .add("compressionConfiguration", compressionConfiguration)
                 .build();
     }
 
@@ -473,6 +487,27 @@ public final class ClientOverrideConfiguration
         <T> Builder putExecutionAttribute(ExecutionAttribute<T> attribute, T value);
 
         ExecutionAttributes executionAttributes();
+
+        /**
+         * Configure how the payloads of requests are compressed, for the operations that the service has modeled as accepting
+         * a compressed payload (e.g. CloudWatch's PutMetricData). By default, those payloads are compressed with gzip when they
+         * are at least {@link CompressionConfiguration#DEFAULT_MINIMUM_COMPRESSION_THRESHOLD_IN_BYTES} bytes.
+         *
+         * @param compressionConfiguration The compression configuration.
+         * @return This object for method chaining.
+         */
+        Builder compressionConfiguration(CompressionConfiguration compressionConfiguration);
+
+        /**
+         * Configure how the payloads of requests are compressed.
+         *
+         * @see #compressionConfiguration(CompressionConfiguration)
+         */
+        default Builder compressionConfiguration(Consumer<CompressionConfiguration.Builder> compressionConfiguration) {
+            return compressionConfiguration(CompressionConfiguration.builder().applyMutation(compressionConfiguration).build());
+        }
+
+        CompressionConfiguration compressionConfiguration();
     }
 
     /**
@@ -489,6 +524,7 @@ public final class ClientOverrideConfiguration
         private String defaultProfileName;
         private List<MetricPublisher> metricPublishers = new ArrayList<>();
         private ExecutionAttributes.Builder executionAttributes = ExecutionAttributes.builder();
+        private CompressionConfiguration compressionConfiguration;
 
         @Override
         public Builder headers(Map<String, List<String>> headers) {
@@ -671,6 +707,21 @@ public final class ClientOverrideConfiguration
             return executionAttributes.build();
         }
 
+        @Override
+        public Builder compressionConfiguration(CompressionConfiguration compressionConfiguration) {
+            this.compressionConfiguration = compressionConfiguration;
+            return this;
+        }
+
+        public void setCompressionConfiguration(CompressionConfiguration compressionConfiguration) {
+            compressionConfiguration(compressionConfiguration);
+        }
+
+        @Override
+        public CompressionConfiguration compressionConfiguration() {
+            return compressionConfiguration;
+        }
+
         @Override
         public ClientOverrideConfiguration build() {
             return new ClientOverrideConfiguration(this);
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.core.client.config;
 
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.SdkSystemSetting;
 import software.amazon.awssdk.core.signer.Signer;
 
 
@@ -60,6 +61,40 @@ public class SdkAdvancedClientOption<T> extends ClientOption<T> {
     public static final SdkAdvancedClientOption<Boolean> DISABLE_HOST_PREFIX_INJECTION =
         new SdkAdvancedClientOption<>(Boolean.class);
 
+    /**
+     * Set this value to true to ask the service to gzip-compress responses by sending an "Accept-Encoding: gzip" header with
+     * the requests of operations that don't have a streaming response. Compressed responses are decompressed before they
+     * are unmarshalled. This reduces the amount of data transferred for services that support it (e.g. DynamoDB), at the
+     * cost of the CPU time needed to decompress the responses.
+     *
+     * <p>By default, compressed responses are not requested.
+     */
+    public static final SdkAdvancedClientOption<Boolean> ACCEPT_GZIP_ENCODING = new SdkAdvancedClientOption<>(Boolean.class);
+
+    /**
+     * Whether requests and responses should use the binary CBOR format, for services whose model declares support for it
+     * (e.g. Kinesis). CBOR carries binary values like Kinesis record data without base64 encoding them, and numbers
+     * without converting them to and from decimal text. This has no effect on services that don't support CBOR.
+     *
+     * <p>When this isn't set, the {@link SdkSystemSetting#CBOR_ENABLED} setting is used, which is enabled by default.
+     */
+    public static final SdkAdvancedClientOption<Boolean> CBOR_ENABLED = new SdkAdvancedClientOption<>(Boolean.class);
+
+    /**
+     * Set this value to true to unmarshall the elements of list members that are structures (e.g. S3 object listings) or maps
+     * of structures or simple values (e.g. DynamoDB scan items) the first time each element is accessed, instead of all of them
+     * when the response is received. This saves the work of unmarshalling elements that are never looked at, for callers that
+     * only use part of a large response. Lists of other types are still unmarshalled when the response is received.
+     *
+     * <p>The parsed response is kept for as long as such a list is, and an element that can't be unmarshalled fails when it's
+     * accessed rather than when the response is received. Only JSON and XML based services support this.
+     *
+     * <p>By default, lists are unmarshalled when the response is received.
+     *
+     * @see software.amazon.awssdk.core.util.LazyUnmarshalledList
+     */
+    public static final SdkAdvancedClientOption<Boolean> LAZY_LIST_UNMARSHALLING = new SdkAdvancedClientOption<>(Boolean.class);
+
     protected SdkAdvancedClientOption(Class<T> valueClass) {
         super(valueClass);
     }
@@ -22,6 +22,7 @@ import java.util.Map;
 import java.util.concurrent.ScheduledExecutorService;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.ClientType;
+import software.amazon.awssdk.core.CompressionConfiguration;
 import software.amazon.awssdk.core.ServiceConfiguration;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
@@ -162,6 +163,14 @@ public final class SdkClientOption<T> extends ClientOption<T> {
      */
     public static final SdkClientOption<RetryMode> DEFAULT_RETRY_MODE = new SdkClientOption<>(RetryMode.class);
 
+    /**
+     * Option to specify how the payloads of requests are compressed.
+     *
+     * @see ClientOverrideConfiguration#compressionConfiguration()
+     */
+    public static final SdkClientOption<CompressionConfiguration> COMPRESSION_CONFIGURATION =
+            new SdkClientOption<>(CompressionConfiguration.class);
+
     private SdkClientOption(Class<T> valueClass) {
         super(valueClass);
     }
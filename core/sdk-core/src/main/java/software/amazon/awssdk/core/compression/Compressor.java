@@ -0,0 +1,65 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.compression;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import org.reactivestreams.Publisher;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.CompressionConfiguration;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.utils.IoUtils;
+
+/**
+ * A codec used to compress request payloads before they are sent to a service. The SDK only compresses the requests of
+ * operations that the service has modeled as accepting a compressed payload, and only with the encodings the service supports.
+ *
+ * <p>A gzip compressor is always available. Additional compressors can be registered with
+ * {@link CompressionConfiguration.Builder#addCompressor(Compressor)}.
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface Compressor {
+
+    /**
+     * The content coding this compressor produces, as used in the {@code Content-Encoding} header. For example, "gzip".
+     */
+    String compressorType();
+
+    /**
+     * Compress a payload that is fully in memory.
+     */
+    default SdkBytes compress(SdkBytes content) {
+        InputStream compressed = compress(content.asInputStream());
+        try {
+            return SdkBytes.fromInputStream(compressed);
+        } finally {
+            IoUtils.closeQuietly(compressed, null);
+        }
+    }
+
+    /**
+     * Wrap a stream of uncompressed bytes in a stream that compresses them as they are read. Closing the returned stream
+     * closes the provided one.
+     */
+    InputStream compress(InputStream content);
+
+    /**
+     * Wrap a publisher of uncompressed bytes in a publisher that compresses them as they are published.
+     */
+    Publisher<ByteBuffer> compressAsyncStream(Publisher<ByteBuffer> content);
+}
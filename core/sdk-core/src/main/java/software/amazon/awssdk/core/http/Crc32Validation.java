@@ -18,9 +18,9 @@ package software.amazon.awssdk.core.http;
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
 import java.util.Optional;
-import java.util.zip.GZIPInputStream;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.internal.util.Crc32ChecksumValidatingInputStream;
+import software.amazon.awssdk.core.internal.util.GzipDecompressingInputStream;
 import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 
@@ -82,6 +82,6 @@ public final class Crc32Validation {
     }
 
     private static AbortableInputStream decompressing(AbortableInputStream source) {
-        return AbortableInputStream.create(invokeSafely(() -> new GZIPInputStream(source)), source);
+        return AbortableInputStream.create(invokeSafely(() -> new GzipDecompressingInputStream(source)), source);
     }
 }
@@ -18,6 +18,7 @@ package software.amazon.awssdk.core.interceptor;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.interceptor.trait.HttpChecksum;
 import software.amazon.awssdk.core.interceptor.trait.HttpChecksumRequired;
+import software.amazon.awssdk.core.interceptor.trait.RequestCompression;
 import software.amazon.awssdk.http.SdkHttpExecutionAttributes;
 
 /**
@@ -64,6 +65,12 @@ public final class SdkInternalExecutionAttribute extends SdkExecutionAttribute {
     public static final ExecutionAttribute<Boolean> IS_NONE_AUTH_TYPE_REQUEST =
         new ExecutionAttribute<>("IsNoneAuthTypeRequest");
 
+    /**
+     * The encodings the operation's request payload may be compressed with, if any.
+     */
+    public static final ExecutionAttribute<RequestCompression> REQUEST_COMPRESSION =
+        new ExecutionAttribute<>("RequestCompression");
+
 
     private SdkInternalExecutionAttribute() {
     }
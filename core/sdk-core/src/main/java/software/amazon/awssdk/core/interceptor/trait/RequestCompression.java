@@ -0,0 +1,71 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.interceptor.trait;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+
+/**
+ * The "requestcompression" trait of an operation: the content codings the service accepts for the request payload, in the
+ * service's order of preference.
+ */
+@SdkProtectedApi
+public final class RequestCompression {
+
+    private final List<String> encodings;
+
+    private final boolean isStreaming;
+
+    private RequestCompression(Builder builder) {
+        this.encodings = builder.encodings;
+        this.isStreaming = builder.isStreaming;
+    }
+
+    public List<String> encodings() {
+        return encodings;
+    }
+
+    public boolean isStreaming() {
+        return isStreaming;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+
+        private List<String> encodings = Collections.emptyList();
+
+        private boolean isStreaming;
+
+        public Builder encodings(String... encodings) {
+            this.encodings = Collections.unmodifiableList(Arrays.asList(encodings));
+            return this;
+        }
+
+        public Builder isStreaming(boolean isStreaming) {
+            this.isStreaming = isStreaming;
+            return this;
+        }
+
+        public RequestCompression build() {
+            return new RequestCompression(this);
+        }
+    }
+}
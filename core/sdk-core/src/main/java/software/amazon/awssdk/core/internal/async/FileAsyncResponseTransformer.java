@@ -24,9 +24,16 @@ import java.nio.channels.AsynchronousFileChannel;
 import java.nio.channels.CompletionHandler;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
+import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import org.reactivestreams.Subscriber;
@@ -78,17 +85,24 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
     }
 
     private AsynchronousFileChannel createChannel(Path path) throws IOException {
+        Set<OpenOption> options = new HashSet<>();
         switch (configuration.fileWriteOption()) {
             case CREATE_OR_APPEND_TO_EXISTING:
-                return AsynchronousFileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+                Collections.addAll(options, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+                break;
             case CREATE_OR_REPLACE_EXISTING:
-                return AsynchronousFileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
-                                                    StandardOpenOption.TRUNCATE_EXISTING);
+                Collections.addAll(options, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                                   StandardOpenOption.TRUNCATE_EXISTING);
+                break;
             case CREATE_NEW:
-                return AsynchronousFileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE_NEW);
+                Collections.addAll(options, StandardOpenOption.WRITE, StandardOpenOption.CREATE_NEW);
+                break;
             default:
                 throw new IllegalArgumentException("Unsupported file write option: " + configuration.fileWriteOption());
         }
+
+        ExecutorService executorService = configuration.executorService().orElse(null);
+        return AsynchronousFileChannel.open(path, options, executorService);
     }
 
     @Override
@@ -131,16 +145,29 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
 
     /**
      * {@link Subscriber} implementation that writes chunks to a file.
+     *
+     * <p>Writes are performed one at a time, in order. While a write is in progress, up to {@link #MAX_QUEUED_CHUNKS} further
+     * chunks are requested and queued, so that receiving the next chunks overlaps with writing the current one, while demand
+     * remains bounded by how fast the file can be written.
      */
     static class FileSubscriber implements Subscriber<ByteBuffer> {
+        /**
+         * The maximum number of chunks queued while waiting for a write to complete.
+         */
+        static final int MAX_QUEUED_CHUNKS = 4;
+
         private final AtomicLong position;
         private final AsynchronousFileChannel fileChannel;
         private final Path path;
         private final CompletableFuture<Void> future;
         private final Consumer<Throwable> onErrorMethod;
 
-        private volatile boolean writeInProgress = false;
-        private volatile boolean closeOnLastWrite = false;
+        // All guarded by "this"
+        private final Queue<ByteBuffer> queuedChunks = new ArrayDeque<>();
+        private boolean writeInProgress = false;
+        private boolean demandOutstanding = false;
+        private boolean closeOnLastWrite = false;
+
         private Subscription subscription;
 
         FileSubscriber(AsynchronousFileChannel fileChannel, Path path, CompletableFuture<Void> future,
@@ -159,6 +186,9 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
                 return;
             }
             this.subscription = s;
+            synchronized (this) {
+                demandOutstanding = true;
+            }
             // Request the first chunk to start producing content
             s.request(1);
         }
@@ -169,12 +199,34 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
                 throw new NullPointerException("Element must not be null");
             }
 
-            performWrite(byteBuffer);
+            boolean startWrite;
+            synchronized (this) {
+                demandOutstanding = false;
+                startWrite = !writeInProgress;
+                if (startWrite) {
+                    writeInProgress = true;
+                } else {
+                    queuedChunks.add(byteBuffer);
+                }
+            }
+
+            if (startWrite) {
+                performWrite(byteBuffer);
+            }
+            requestMoreIfNeeded();
         }
 
-        private void performWrite(ByteBuffer byteBuffer) {
-            writeInProgress = true;
+        private void requestMoreIfNeeded() {
+            synchronized (this) {
+                if (demandOutstanding || closeOnLastWrite || queuedChunks.size() >= MAX_QUEUED_CHUNKS) {
+                    return;
+                }
+                demandOutstanding = true;
+            }
+            subscription.request(1);
+        }
 
+        private void performWrite(ByteBuffer byteBuffer) {
             fileChannel.write(byteBuffer, position.get(), byteBuffer, new CompletionHandler<Integer, ByteBuffer>() {
                 @Override
                 public void completed(Integer result, ByteBuffer attachment) {
@@ -182,16 +234,28 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
 
                     if (byteBuffer.hasRemaining()) {
                         performWrite(byteBuffer);
-                    } else {
-                        synchronized (FileSubscriber.this) {
+                        return;
+                    }
+
+                    ByteBuffer nextChunk;
+                    boolean close = false;
+                    synchronized (FileSubscriber.this) {
+                        nextChunk = queuedChunks.poll();
+                        if (nextChunk == null) {
                             writeInProgress = false;
-                            if (closeOnLastWrite) {
-                                close();
-                            } else {
-                                subscription.request(1);
-                            }
+                            close = closeOnLastWrite;
                         }
                     }
+
+                    if (nextChunk != null) {
+                        performWrite(nextChunk);
+                    }
+
+                    if (close) {
+                        close();
+                    } else {
+                        requestMoreIfNeeded();
+                    }
                 }
 
                 @Override
@@ -0,0 +1,297 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.compression;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.compression.Compressor;
+
+/**
+ * A {@link Compressor} that produces a single gzip (RFC 1952) member, whether the content is in memory, read from a stream or
+ * published asynchronously.
+ */
+@SdkInternalApi
+public final class GzipCompressor implements Compressor {
+    private static final String COMPRESSOR_TYPE = "gzip";
+
+    /**
+     * ID1, ID2, CM (deflate), FLG (none), MTIME (unknown), XFL (none) and OS (unknown).
+     */
+    private static final byte[] HEADER = {0x1f, (byte) 0x8b, 8, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private static final int TRAILER_SIZE = 8;
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    @Override
+    public String compressorType() {
+        return COMPRESSOR_TYPE;
+    }
+
+    @Override
+    public SdkBytes compress(SdkBytes content) {
+        byte[] uncompressed = content.asByteArrayUnsafe();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, uncompressed.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(uncompressed);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return SdkBytes.fromByteArrayUnsafe(compressed.toByteArray());
+    }
+
+    @Override
+    public InputStream compress(InputStream content) {
+        return new CompressingInputStream(content);
+    }
+
+    @Override
+    public Publisher<ByteBuffer> compressAsyncStream(Publisher<ByteBuffer> content) {
+        return subscriber -> content.subscribe(new CompressingSubscriber(subscriber));
+    }
+
+    private static byte[] trailer(long crc, long size) {
+        byte[] trailer = new byte[TRAILER_SIZE];
+        writeInt(trailer, 0, crc);
+        writeInt(trailer, 4, size);
+        return trailer;
+    }
+
+    private static void writeInt(byte[] b, int offset, long value) {
+        b[offset] = (byte) value;
+        b[offset + 1] = (byte) (value >> 8);
+        b[offset + 2] = (byte) (value >> 16);
+        b[offset + 3] = (byte) (value >> 24);
+    }
+
+    /**
+     * Reads the header, then the deflated content and finally the trailer, which is only created once all of the content has
+     * been read and its checksum and size are known.
+     */
+    private static final class CompressingInputStream extends InputStream {
+        private final CheckedInputStream content;
+        private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        private final InputStream deflated;
+        private InputStream current = new ByteArrayInputStream(HEADER);
+        private boolean readingTrailer;
+
+        private CompressingInputStream(InputStream content) {
+            this.content = new CheckedInputStream(content, new CRC32());
+            this.deflated = new DeflaterInputStream(this.content, deflater, BUFFER_SIZE);
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            int read = read(b, 0, 1);
+            return read == -1 ? -1 : b[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            while (true) {
+                int read = current.read(b, off, len);
+                if (read != -1 || readingTrailer) {
+                    return read;
+                }
+
+                if (current == deflated) {
+                    current = new ByteArrayInputStream(trailer(content.getChecksum().getValue(), deflater.getBytesRead()));
+                    readingTrailer = true;
+                } else {
+                    current = deflated;
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                deflated.close();
+            } finally {
+                deflater.end();
+            }
+        }
+    }
+
+    /**
+     * Compresses each published buffer as it arrives, flushing the deflater so that every buffer published downstream
+     * corresponds to exactly one buffer published upstream. The header is prepended to the first buffer. The rest of the
+     * deflated content and the trailer are published as one more buffer once the upstream publisher completes, which needs its
+     * own demand: if the downstream subscriber has none left, the trailer is held until it requests more.
+     */
+    private static final class CompressingSubscriber implements Subscriber<ByteBuffer> {
+        private final Subscriber<? super ByteBuffer> subscriber;
+        private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        private final CRC32 crc = new CRC32();
+        private final byte[] deflateBuffer = new byte[BUFFER_SIZE];
+        private boolean headerWritten;
+        private boolean done;
+        private long demand;
+        private ByteBuffer pendingTrailer;
+
+        private CompressingSubscriber(Subscriber<? super ByteBuffer> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            subscriber.onSubscribe(new CompressingSubscription(subscription));
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            ByteBuffer compressed;
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                byte[] input = new byte[byteBuffer.remaining()];
+                byteBuffer.get(input);
+                crc.update(input, 0, input.length);
+                deflater.setInput(input);
+
+                ByteArrayOutputStream out = startOutput(input.length);
+                deflate(out, Deflater.SYNC_FLUSH);
+                compressed = ByteBuffer.wrap(out.toByteArray());
+                demand--;
+            }
+            subscriber.onNext(compressed);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            finish();
+            subscriber.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            ByteBuffer trailer;
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                deflater.finish();
+                ByteArrayOutputStream out = startOutput(TRAILER_SIZE);
+                deflate(out, Deflater.NO_FLUSH);
+                out.write(trailer(crc.getValue(), deflater.getBytesRead()), 0, TRAILER_SIZE);
+                pendingTrailer = ByteBuffer.wrap(out.toByteArray());
+                finish();
+                trailer = takeTrailerIfRequested();
+            }
+            publishTrailer(trailer);
+        }
+
+        /**
+         * Take the trailer to publish it, if the upstream publisher has completed and the downstream subscriber has demand
+         * for it. Only one caller gets it.
+         */
+        private synchronized ByteBuffer takeTrailerIfRequested() {
+            if (pendingTrailer == null || demand <= 0) {
+                return null;
+            }
+            ByteBuffer trailer = pendingTrailer;
+            pendingTrailer = null;
+            demand--;
+            return trailer;
+        }
+
+        private void publishTrailer(ByteBuffer trailer) {
+            if (trailer != null) {
+                subscriber.onNext(trailer);
+                subscriber.onComplete();
+            }
+        }
+
+        private ByteArrayOutputStream startOutput(int sizeHint) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, sizeHint / 2));
+            if (!headerWritten) {
+                out.write(HEADER, 0, HEADER.length);
+                headerWritten = true;
+            }
+            return out;
+        }
+
+        private void deflate(ByteArrayOutputStream out, int flush) {
+            int deflated;
+            do {
+                deflated = deflater.deflate(deflateBuffer, 0, deflateBuffer.length, flush);
+                out.write(deflateBuffer, 0, deflated);
+            } while (deflated == deflateBuffer.length || (flush == Deflater.NO_FLUSH && !deflater.finished()));
+        }
+
+        private synchronized void finish() {
+            if (!done) {
+                done = true;
+                deflater.end();
+            }
+        }
+
+        /**
+         * Counts the downstream demand, so that the trailer is only published when it has been requested.
+         */
+        private final class CompressingSubscription implements Subscription {
+            private final Subscription upstream;
+
+            private CompressingSubscription(Subscription upstream) {
+                this.upstream = upstream;
+            }
+
+            @Override
+            public void request(long n) {
+                if (n <= 0) {
+                    // Let the upstream publisher signal the error for the invalid demand (rule 3.9)
+                    upstream.request(n);
+                    return;
+                }
+                ByteBuffer trailer;
+                boolean upstreamComplete;
+                synchronized (CompressingSubscriber.this) {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                    upstreamComplete = pendingTrailer != null;
+                    trailer = takeTrailerIfRequested();
+                }
+                if (upstreamComplete) {
+                    publishTrailer(trailer);
+                } else {
+                    upstream.request(n);
+                }
+            }
+
+            @Override
+            public void cancel() {
+                synchronized (CompressingSubscriber.this) {
+                    pendingTrailer = null;
+                }
+                upstream.cancel();
+                finish();
+            }
+        }
+    }
+}
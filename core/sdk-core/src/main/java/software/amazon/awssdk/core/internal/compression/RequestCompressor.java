@@ -0,0 +1,180 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.compression;
+
+import static software.amazon.awssdk.http.Header.CHUNKED;
+import static software.amazon.awssdk.http.Header.CONTENT_LENGTH;
+import static software.amazon.awssdk.http.Header.TRANSFER_ENCODING;
+import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import org.reactivestreams.Subscriber;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.CompressionConfiguration;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.compression.Compressor;
+import software.amazon.awssdk.core.interceptor.trait.RequestCompression;
+import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.Pair;
+
+/**
+ * Compresses the payload of a marshalled request, for operations with the "requestcompression" trait.
+ *
+ * <p>This is applied right after the request is marshalled, before any checksums are calculated and before the request is
+ * signed, so that both cover the bytes that are actually sent.
+ */
+@SdkInternalApi
+public final class RequestCompressor {
+    private static final String CONTENT_ENCODING = "Content-Encoding";
+    private static final Compressor GZIP = new GzipCompressor();
+
+    private final RequestCompression requestCompression;
+    private final CompressionConfiguration configuration;
+
+    private RequestCompressor(RequestCompression requestCompression, CompressionConfiguration configuration) {
+        this.requestCompression = requestCompression;
+        this.configuration = configuration;
+    }
+
+    /**
+     * Create a compressor for an operation, or return empty if the operation's requests are never compressed.
+     */
+    public static Optional<RequestCompressor> create(RequestCompression requestCompression,
+                                                     CompressionConfiguration configuration) {
+        CompressionConfiguration resolvedConfiguration =
+            configuration != null ? configuration : CompressionConfiguration.builder().build();
+
+        if (requestCompression == null || !resolvedConfiguration.requestCompressionEnabled()) {
+            return Optional.empty();
+        }
+        return Optional.of(new RequestCompressor(requestCompression, resolvedConfiguration));
+    }
+
+    /**
+     * Compress the payload of a request, unless it has none, it is smaller than the configured threshold, or the service
+     * doesn't accept any encoding there's a compressor for.
+     */
+    public SdkHttpFullRequest compress(SdkHttpFullRequest request) {
+        Compressor compressor = resolveCompressor().orElse(null);
+        ContentStreamProvider content = request.contentStreamProvider().orElse(null);
+        if (compressor == null || content == null) {
+            return request;
+        }
+
+        if (requestCompression.isStreaming()) {
+            return addStreamingHeaders(request.toBuilder(), compressor)
+                .contentStreamProvider(() -> compressor.compress(content.newStream()))
+                .build();
+        }
+
+        int threshold = configuration.minimumCompressionThresholdInBytes();
+        Optional<Long> contentLength = request.firstMatchingHeader(CONTENT_LENGTH).map(Long::parseLong);
+        if (contentLength.isPresent() && contentLength.get() < threshold) {
+            return request;
+        }
+
+        byte[] uncompressed = readAll(content);
+        if (uncompressed.length < threshold) {
+            return request;
+        }
+
+        SdkBytes compressed = compressor.compress(SdkBytes.fromByteArrayUnsafe(uncompressed));
+        return addContentEncoding(request.toBuilder(), compressor)
+            .putHeader(CONTENT_LENGTH, Integer.toString(compressed.asByteArrayUnsafe().length))
+            .contentStreamProvider(compressed.asContentStreamProvider())
+            .build();
+    }
+
+    /**
+     * Compress a request whose payload is the provided {@link AsyncRequestBody}, returning the request with updated headers
+     * and the body to send in place of the provided one. Both are returned unchanged if the service doesn't accept any
+     * encoding there's a compressor for.
+     */
+    public Pair<SdkHttpFullRequest, AsyncRequestBody> compress(SdkHttpFullRequest request, AsyncRequestBody requestBody) {
+        Compressor compressor = resolveCompressor().orElse(null);
+        if (compressor == null) {
+            return Pair.of(request, requestBody);
+        }
+        return Pair.of(addStreamingHeaders(request.toBuilder(), compressor).build(),
+                       new CompressedAsyncRequestBody(requestBody, compressor));
+    }
+
+    private Optional<Compressor> resolveCompressor() {
+        for (String encoding : requestCompression.encodings()) {
+            for (Compressor compressor : configuration.compressors()) {
+                if (compressor.compressorType().equalsIgnoreCase(encoding)) {
+                    return Optional.of(compressor);
+                }
+            }
+            if (GZIP.compressorType().equalsIgnoreCase(encoding)) {
+                return Optional.of(GZIP);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static SdkHttpFullRequest.Builder addStreamingHeaders(SdkHttpFullRequest.Builder request, Compressor compressor) {
+        // The compressed length isn't known until the content has been read.
+        return addContentEncoding(request, compressor).removeHeader(CONTENT_LENGTH)
+                                                      .putHeader(TRANSFER_ENCODING, CHUNKED);
+    }
+
+    private static SdkHttpFullRequest.Builder addContentEncoding(SdkHttpFullRequest.Builder request, Compressor compressor) {
+        String encoding = request.firstMatchingHeader(CONTENT_ENCODING)
+                                 .map(existing -> existing + "," + compressor.compressorType())
+                                 .orElseGet(compressor::compressorType);
+        return request.putHeader(CONTENT_ENCODING, encoding);
+    }
+
+    private static byte[] readAll(ContentStreamProvider content) {
+        InputStream stream = content.newStream();
+        try {
+            return invokeSafely(() -> IoUtils.toByteArray(stream));
+        } finally {
+            IoUtils.closeQuietly(stream, null);
+        }
+    }
+
+    private static final class CompressedAsyncRequestBody implements AsyncRequestBody {
+        private final AsyncRequestBody delegate;
+        private final Compressor compressor;
+
+        private CompressedAsyncRequestBody(AsyncRequestBody delegate, Compressor compressor) {
+            this.delegate = delegate;
+            this.compressor = compressor;
+        }
+
+        @Override
+        public Optional<Long> contentLength() {
+            return Optional.empty();
+        }
+
+        @Override
+        public String contentType() {
+            return delegate.contentType();
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> s) {
+            compressor.compressAsyncStream(delegate).subscribe(s);
+        }
+    }
+}
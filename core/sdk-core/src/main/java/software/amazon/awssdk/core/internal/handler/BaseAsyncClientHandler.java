@@ -79,7 +79,8 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
             TransformingAsyncResponseHandler<Response<OutputT>> combinedResponseHandler =
                 createCombinedResponseHandler(executionParams, executionContext);
 
-            return doExecute(executionParams, executionContext, combinedResponseHandler);
+            // The buffered response is decompressed by the CRC32 validator before it is unmarshalled.
+            return doExecute(acceptGzipEncodingIfEnabled(executionParams), executionContext, combinedResponseHandler);
         });
     }
 
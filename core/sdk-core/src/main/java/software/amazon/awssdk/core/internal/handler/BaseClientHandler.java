@@ -24,6 +24,7 @@ import software.amazon.awssdk.core.CredentialType;
 import software.amazon.awssdk.core.Response;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
@@ -35,10 +36,13 @@ import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptorChain;
 import software.amazon.awssdk.core.interceptor.InterceptorContext;
 import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.internal.InternalCoreExecutionAttribute;
+import software.amazon.awssdk.core.internal.compression.RequestCompressor;
 import software.amazon.awssdk.core.internal.io.SdkLengthAwareInputStream;
 import software.amazon.awssdk.core.internal.util.MetricUtils;
 import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.core.runtime.transform.Marshaller;
 import software.amazon.awssdk.core.signer.Signer;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.http.ContentStreamProvider;
@@ -51,6 +55,8 @@ import software.amazon.awssdk.utils.StringUtils;
 
 @SdkInternalApi
 public abstract class BaseClientHandler {
+    private static final String ACCEPT_ENCODING = "Accept-Encoding";
+
     private SdkClientConfiguration clientConfiguration;
 
     protected BaseClientHandler(SdkClientConfiguration clientConfiguration) {
@@ -76,10 +82,17 @@ public abstract class BaseClientHandler {
         SdkHttpFullRequest request = measuredMarshall.left();
 
         request = modifyEndpointHostIfNeeded(request, clientConfiguration, executionParams);
+        boolean marshalledWithoutPayload = !request.contentStreamProvider().isPresent() &&
+                                           !executionContext.interceptorContext().asyncRequestBody().isPresent();
+        request = compressRequestIfNeeded(request, clientConfiguration, executionContext);
 
         addHttpRequest(executionContext, request);
         runAfterMarshallingInterceptors(executionContext);
-        return runModifyHttpRequestAndHttpContentInterceptors(executionContext);
+        runModifyHttpRequestAndHttpContentInterceptors(executionContext);
+        if (marshalledWithoutPayload) {
+            compressInterceptorPayloadIfNeeded(clientConfiguration, executionContext);
+        }
+        return executionContext.interceptorContext();
     }
 
     private static void runBeforeMarshallingInterceptors(ExecutionContext executionContext) {
@@ -109,6 +122,63 @@ public abstract class BaseClientHandler {
                               .build();
     }
 
+    /**
+     * Compresses the payload of the request if the operation accepts a compressed payload. This is done before the
+     * afterMarshalling interceptors run, so that any checksums they calculate, and the signature, cover the compressed payload.
+     */
+    private static SdkHttpFullRequest compressRequestIfNeeded(SdkHttpFullRequest request,
+                                                              SdkClientConfiguration clientConfiguration,
+                                                              ExecutionContext executionContext) {
+        RequestCompressor compressor =
+            RequestCompressor.create(executionContext.executionAttributes()
+                                                     .getAttribute(SdkInternalExecutionAttribute.REQUEST_COMPRESSION),
+                                     clientConfiguration.option(SdkClientOption.COMPRESSION_CONFIGURATION))
+                             .orElse(null);
+        if (compressor == null) {
+            return request;
+        }
+
+        InterceptorContext interceptorContext = executionContext.interceptorContext();
+        AsyncRequestBody asyncRequestBody = interceptorContext.asyncRequestBody().orElse(null);
+        if (asyncRequestBody == null) {
+            return compressor.compress(request);
+        }
+
+        Pair<SdkHttpFullRequest, AsyncRequestBody> compressed = compressor.compress(request, asyncRequestBody);
+        executionContext.interceptorContext(interceptorContext.copy(b -> b.asyncRequestBody(compressed.right())));
+        return compressed.left();
+    }
+
+    /**
+     * Compresses a payload that was added by the modifyHttpRequest or modifyHttpContent interceptors, if the operation accepts
+     * a compressed payload. The query protocol only moves the query parameters into the payload in such an interceptor, so
+     * its requests can't be compressed right after they are marshalled. This still happens before the request is signed.
+     */
+    private static void compressInterceptorPayloadIfNeeded(SdkClientConfiguration clientConfiguration,
+                                                           ExecutionContext executionContext) {
+        InterceptorContext interceptorContext = executionContext.interceptorContext();
+        if (executionContext.executionAttributes().getAttribute(SdkInternalExecutionAttribute.REQUEST_COMPRESSION) == null ||
+            interceptorContext.asyncRequestBody().isPresent() ||
+            !(interceptorContext.httpRequest() instanceof SdkHttpFullRequest)) {
+            return;
+        }
+
+        SdkHttpFullRequest request = (SdkHttpFullRequest) interceptorContext.httpRequest();
+        Optional<RequestBody> requestBody = interceptorContext.requestBody();
+        if (requestBody.isPresent()) {
+            request = request.toBuilder().contentStreamProvider(requestBody.get().contentStreamProvider()).build();
+        }
+        if (!request.contentStreamProvider().isPresent()) {
+            return;
+        }
+
+        SdkHttpFullRequest compressed = compressRequestIfNeeded(request, clientConfiguration, executionContext);
+        if (compressed != request) {
+            executionContext.interceptorContext(interceptorContext.copy(b -> b.httpRequest(compressed)
+                                                                              .requestBody(getBody(compressed))));
+        }
+    }
+
     private static void addHttpRequest(ExecutionContext executionContext, SdkHttpFullRequest request) {
         InterceptorContext interceptorContext = executionContext.interceptorContext();
 
@@ -226,6 +296,29 @@ public abstract class BaseClientHandler {
         return clientConfiguration.option(SdkClientOption.CRC32_FROM_COMPRESSED_DATA_ENABLED);
     }
 
+    /**
+     * Ask the service for a gzip-compressed response if {@link SdkAdvancedClientOption#ACCEPT_GZIP_ENCODING} is enabled.
+     *
+     * <p>This must only be used for operations whose response is passed through
+     * {@link software.amazon.awssdk.core.http.Crc32Validation}, which decompresses it before it is unmarshalled. Streaming
+     * responses are handed to the caller as they are received, so they must not be compressed.
+     */
+    protected <InputT extends SdkRequest, OutputT> ClientExecutionParams<InputT, OutputT> acceptGzipEncodingIfEnabled(
+        ClientExecutionParams<InputT, OutputT> executionParams) {
+        if (!Boolean.TRUE.equals(clientConfiguration.option(SdkAdvancedClientOption.ACCEPT_GZIP_ENCODING))) {
+            return executionParams;
+        }
+
+        Marshaller<InputT> marshaller = executionParams.getMarshaller();
+        return executionParams.withMarshaller(input -> {
+            SdkHttpFullRequest request = marshaller.marshall(input);
+            if (request.firstMatchingHeader(ACCEPT_ENCODING).isPresent()) {
+                return request;
+            }
+            return request.toBuilder().putHeader(ACCEPT_ENCODING, "gzip").build();
+        });
+    }
+
     protected void validateSigningConfiguration(SdkHttpRequest request, Signer signer) {
         if (signer == null) {
             return;
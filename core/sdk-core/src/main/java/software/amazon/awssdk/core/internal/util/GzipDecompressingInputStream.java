@@ -0,0 +1,266 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.internal.util;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Decompresses a gzip (RFC 1952) stream as it is read, including streams made of several concatenated gzip members.
+ *
+ * <p>Unlike {@link java.util.zip.GZIPInputStream}, which allocates a new {@link Inflater} (and its native zlib state) for every
+ * stream, the inflater is borrowed from a small shared pool and returned to it when the stream is closed.
+ */
+@SdkInternalApi
+public final class GzipDecompressingInputStream extends InputStream {
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final int DEFLATE = 8;
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final BlockingQueue<Inflater> INFLATER_POOL = new ArrayBlockingQueue<>(16);
+
+    private final InputStream source;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final CRC32 crc = new CRC32();
+    private Inflater inflater;
+    private int position;
+    private int limit;
+    private boolean inMember;
+    private boolean eof;
+    private boolean closed;
+
+    /**
+     * @param source The gzip-compressed stream.
+     * @throws IOException If the source doesn't start with a valid gzip header, or it can't be read.
+     */
+    public GzipDecompressingInputStream(InputStream source) throws IOException {
+        this.source = source;
+        readHeader();
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        int read = read(b, 0, 1);
+        return read == -1 ? -1 : b[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        if (len == 0) {
+            return 0;
+        }
+
+        while (!eof) {
+            if (!inMember && !readHeader()) {
+                eof = true;
+                break;
+            }
+
+            int inflated = inflate(b, off, len);
+            if (inflated > 0) {
+                crc.update(b, off, inflated);
+                return inflated;
+            }
+            if (inflater.finished()) {
+                // Hand the bytes the inflater didn't use back to the buffer, they're the trailer and maybe another member.
+                position = limit - inflater.getRemaining();
+                readTrailer();
+                inMember = false;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int available() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        return eof ? 0 : 1;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        eof = true;
+        releaseInflater();
+        source.close();
+    }
+
+    private int inflate(byte[] b, int off, int len) throws IOException {
+        try {
+            while (true) {
+                int inflated = inflater.inflate(b, off, len);
+                if (inflated > 0 || inflater.finished()) {
+                    return inflated;
+                }
+                if (inflater.needsDictionary()) {
+                    throw new ZipException("Unsupported preset dictionary in gzip stream");
+                }
+                if (inflater.needsInput()) {
+                    fill();
+                    inflater.setInput(buffer, position, limit - position);
+                    position = limit;
+                }
+            }
+        } catch (DataFormatException e) {
+            throw new ZipException(e.getMessage() != null ? e.getMessage() : "Invalid gzip data");
+        }
+    }
+
+    /**
+     * Read the header of the next gzip member, or return false if there are no more members.
+     */
+    private boolean readHeader() throws IOException {
+        if (position == limit && !tryFill()) {
+            if (inflater == null) {
+                throw new EOFException("Empty gzip stream");
+            }
+            return false;
+        }
+
+        int magic = readUnsignedShort();
+        if (magic != GZIP_MAGIC) {
+            if (inflater != null) {
+                // Like GZIPInputStream, ignore anything after the last member that isn't another member.
+                return false;
+            }
+            throw new ZipException("Not in GZIP format");
+        }
+        if (readUnsignedByte() != DEFLATE) {
+            throw new ZipException("Unsupported compression method");
+        }
+        int flags = readUnsignedByte();
+        // MTIME (4), XFL (1) and OS (1)
+        skipBytes(6);
+        if ((flags & FEXTRA) != 0) {
+            skipBytes(readUnsignedShort());
+        }
+        if ((flags & FNAME) != 0) {
+            skipZeroTerminatedString();
+        }
+        if ((flags & FCOMMENT) != 0) {
+            skipZeroTerminatedString();
+        }
+        if ((flags & FHCRC) != 0) {
+            skipBytes(2);
+        }
+
+        if (inflater == null) {
+            inflater = acquireInflater();
+        } else {
+            inflater.reset();
+        }
+        // Whatever is left in the buffer after the header is the start of the compressed data.
+        inflater.setInput(buffer, position, limit - position);
+        position = limit;
+        crc.reset();
+        inMember = true;
+        return true;
+    }
+
+    private void readTrailer() throws IOException {
+        long expectedCrc = readUnsignedInt();
+        long expectedSize = readUnsignedInt();
+        if (expectedCrc != crc.getValue() || expectedSize != (inflater.getBytesWritten() & 0xffffffffL)) {
+            throw new ZipException("Corrupt GZIP trailer");
+        }
+    }
+
+    private long readUnsignedInt() throws IOException {
+        long low = readUnsignedShort();
+        return ((long) readUnsignedShort() << 16) | low;
+    }
+
+    private int readUnsignedShort() throws IOException {
+        int low = readUnsignedByte();
+        return (readUnsignedByte() << 8) | low;
+    }
+
+    private int readUnsignedByte() throws IOException {
+        if (position == limit) {
+            fill();
+        }
+        return buffer[position++] & 0xff;
+    }
+
+    private void skipBytes(int n) throws IOException {
+        for (int i = 0; i < n; i++) {
+            readUnsignedByte();
+        }
+    }
+
+    private void skipZeroTerminatedString() throws IOException {
+        while (readUnsignedByte() != 0) {
+            // Skip
+        }
+    }
+
+    private void fill() throws IOException {
+        if (!tryFill()) {
+            throw new EOFException("Unexpected end of gzip stream");
+        }
+    }
+
+    private boolean tryFill() throws IOException {
+        int read;
+        do {
+            read = source.read(buffer, 0, buffer.length);
+        } while (read == 0);
+
+        if (read == -1) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+
+    private void releaseInflater() {
+        if (inflater != null) {
+            inflater.reset();
+            if (!INFLATER_POOL.offer(inflater)) {
+                inflater.end();
+            }
+            inflater = null;
+        }
+    }
+
+    private static Inflater acquireInflater() {
+        Inflater pooled = INFLATER_POOL.poll();
+        return pooled != null ? pooled : new Inflater(true);
+    }
+}
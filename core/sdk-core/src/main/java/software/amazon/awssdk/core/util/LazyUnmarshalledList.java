@@ -0,0 +1,134 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.util;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An unmodifiable list of unmarshalled response members, where each element is only unmarshalled from its parsed form
+ * (e.g. a JSON node or XML element) the first time it's accessed.
+ * <p>
+ * Callers that only look at a few elements of a large list, like the items of a DynamoDB scan or the objects of an S3
+ * listing, don't pay for unmarshalling the others. The parsed form of every element is kept for as long as the list is, and
+ * an element that can't be unmarshalled fails when it's accessed rather than when the response is received.
+ * <p>
+ * Because the list can't be modified, the generated model copiers share it rather than copying it, which would unmarshall
+ * every element.
+ *
+ * @param <T> The element type.
+ */
+@SdkProtectedApi
+@ThreadSafe
+public final class LazyUnmarshalledList<T> extends AbstractList<T> implements RandomAccess {
+    /**
+     * Stands in for elements that were unmarshalled to null, because null means "not unmarshalled yet".
+     */
+    private static final Object NULL_ELEMENT = new Object();
+
+    private final List<?> sources;
+    private final Function<Object, ? extends T> unmarshaller;
+    private final AtomicReferenceArray<Object> elements;
+
+    @SuppressWarnings("unchecked")
+    private <S> LazyUnmarshalledList(List<S> sources, Function<? super S, ? extends T> unmarshaller) {
+        this.sources = sources;
+        this.unmarshaller = (Function<Object, ? extends T>) unmarshaller;
+        this.elements = new AtomicReferenceArray<>(sources.size());
+    }
+
+    /**
+     * Create a list of the given parsed elements, which are unmarshalled by the given function when they are first accessed.
+     * The parsed elements must not be modified afterwards.
+     */
+    public static <S, T> LazyUnmarshalledList<T> create(List<S> sources, Function<? super S, ? extends T> unmarshaller) {
+        return new LazyUnmarshalledList<>(Validate.paramNotNull(sources, "sources"),
+                                          Validate.paramNotNull(unmarshaller, "unmarshaller"));
+    }
+
+    /**
+     * Create a list of the given parsed maps, which are unmarshalled by the given function when they are first accessed. Like
+     * the maps in lists copied by the generated model copiers, each map is unmodifiable, and a map that was unmarshalled to
+     * null is an empty {@link SdkAutoConstructMap}.
+     */
+    public static <S> LazyUnmarshalledList<Map<String, ?>> createOfMaps(
+            List<S> sources, Function<? super S, ? extends Map<String, ?>> unmarshaller) {
+        Validate.paramNotNull(unmarshaller, "unmarshaller");
+        return create(sources, source -> {
+            Map<String, ?> map = unmarshaller.apply(source);
+            return map == null ? DefaultSdkAutoConstructMap.getInstance() : Collections.unmodifiableMap(map);
+        });
+    }
+
+    /**
+     * @return True if lists whose members are described by the given field can be unmarshalled lazily. Those are lists of
+     * structures, and lists of maps whose values are neither lists nor maps, because their unmarshalled elements can't be
+     * modified, so the generated model copiers can share the lists.
+     */
+    public static boolean supportsMembers(SdkField<?> memberField) {
+        MarshallingType<?> memberType = memberField.marshallingType();
+        if (MarshallingType.SDK_POJO.equals(memberType)) {
+            return true;
+        }
+        if (!MarshallingType.MAP.equals(memberType)) {
+            return false;
+        }
+        MarshallingType<?> valueType = memberField.mapTrait().valueFieldInfo().marshallingType();
+        return !MarshallingType.LIST.equals(valueType) && !MarshallingType.MAP.equals(valueType);
+    }
+
+    /**
+     * Return the given {@link LazyUnmarshalledList} as a list of a super type of its elements, which is safe because neither
+     * the list nor its elements can be modified. This is used by the generated model copiers.
+     *
+     * @throws IllegalArgumentException If the given collection isn't a {@link LazyUnmarshalledList}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> share(Collection<?> lazyList) {
+        return (List<T>) Validate.isInstanceOf(LazyUnmarshalledList.class, lazyList,
+                                               "Only a LazyUnmarshalledList can be shared.");
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Object element = elements.get(index);
+        if (element == null) {
+            T unmarshalled = unmarshaller.apply(sources.get(index));
+            Object candidate = unmarshalled == null ? NULL_ELEMENT : unmarshalled;
+            // If another thread got there first, return its element so that every caller sees the same instance.
+            element = elements.compareAndSet(index, null, candidate) ? candidate : elements.get(index);
+        }
+        return element == NULL_ELEMENT ? null : (T) element;
+    }
+
+    @Override
+    public int size() {
+        return sources.size();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.DefaultValueTrait;
+import software.amazon.awssdk.core.traits.JsonValueTrait;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.PayloadTrait;
+import software.amazon.awssdk.core.traits.TimestampFormatTrait;
+
+public class SdkFieldTest {
+
+    private static final LocationTrait LOCATION = LocationTrait.builder()
+                                                               .location(MarshallLocation.PAYLOAD)
+                                                               .locationName("Field")
+                                                               .unmarshallLocationName("field")
+                                                               .build();
+
+    @Test
+    public void traitSlots_matchGenericLookup() {
+        ListTrait listTrait = ListTrait.builder().build();
+        MapTrait mapTrait = MapTrait.builder().build();
+        TimestampFormatTrait timestampFormatTrait = TimestampFormatTrait.create(TimestampFormatTrait.Format.ISO_8601);
+
+        SdkField<SdkPojo> field = SdkField.<SdkPojo>builder(MarshallingType.SDK_POJO)
+                                                  .traits(LOCATION,
+                                                          listTrait,
+                                                          mapTrait,
+                                                          timestampFormatTrait,
+                                                          PayloadTrait.create(),
+                                                          JsonValueTrait.create())
+                                         .build();
+
+        assertThat(field.location()).isEqualTo(MarshallLocation.PAYLOAD);
+        assertThat(field.locationName()).isEqualTo("Field");
+        assertThat(field.unmarshallLocationName()).isEqualTo("field");
+        assertThat(field.listTrait()).isSameAs(listTrait).isSameAs(field.getTrait(ListTrait.class));
+        assertThat(field.mapTrait()).isSameAs(mapTrait).isSameAs(field.getTrait(MapTrait.class));
+        assertThat(field.timestampFormatTrait()).isSameAs(timestampFormatTrait)
+                                                .isSameAs(field.getTrait(TimestampFormatTrait.class));
+        assertThat(field.containsPayloadTrait()).isTrue();
+        assertThat(field.containsJsonValueTrait()).isTrue();
+    }
+
+    @Test
+    public void traitSlots_emptyWhenTraitsAbsent() {
+        SdkField<String> field = SdkField.<String>builder(MarshallingType.STRING).traits(LOCATION).build();
+
+        assertThat(field.listTrait()).isNull();
+        assertThat(field.mapTrait()).isNull();
+        assertThat(field.timestampFormatTrait()).isNull();
+        assertThat(field.containsPayloadTrait()).isFalse();
+        assertThat(field.containsJsonValueTrait()).isFalse();
+    }
+
+    @Test
+    public void getValueOrDefault_usesDefaultValueTrait() {
+        SdkField<String> field = SdkField.<String>builder(MarshallingType.STRING)
+                                         .getter(obj -> null)
+                                         .traits(LOCATION, DefaultValueTrait.create(() -> "default"))
+                                         .build();
+
+        assertThat(field.getValueOrDefault(new Object())).isEqualTo("default");
+    }
+}
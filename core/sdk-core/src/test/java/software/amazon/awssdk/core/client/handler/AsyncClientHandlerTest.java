@@ -21,6 +21,9 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -28,6 +31,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -36,7 +40,9 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.EmptyPublisher;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.exception.SdkServiceException;
@@ -49,6 +55,7 @@ import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.utils.IoUtils;
 import utils.HttpTestUtils;
 import utils.ValidSdkObjects;
 
@@ -129,6 +136,40 @@ public class AsyncClientHandlerTest {
         verifyNoMoreInteractions(responseHandler); // Response handler is not called
     }
 
+    @Test
+    public void acceptGzipEncoding_requestsAndDecompressesCompressedResponse() throws Exception {
+        // Given
+        asyncClientHandler = new SdkAsyncClientHandler(clientConfiguration().toBuilder()
+                                                                           .option(SdkAdvancedClientOption.ACCEPT_GZIP_ENCODING, true)
+                                                                           .build());
+        ArgumentCaptor<AsyncExecuteRequest> executeRequest = ArgumentCaptor.forClass(AsyncExecuteRequest.class);
+        ArgumentCaptor<SdkHttpFullResponse> httpResponse = ArgumentCaptor.forClass(SdkHttpFullResponse.class);
+
+        expectRetrievalFromMocks();
+        when(httpClient.execute(executeRequest.capture())).thenReturn(httpClientFuture);
+        when(responseHandler.handle(httpResponse.capture(), any())).thenReturn(VoidSdkResponse.builder().build());
+
+        // When
+        CompletableFuture<SdkResponse> responseFuture = asyncClientHandler.execute(clientExecutionParams());
+        assertThat(executeRequest.getValue().request().firstMatchingHeader("Accept-Encoding")).hasValue("gzip");
+
+        SdkAsyncHttpResponseHandler capturedHandler = executeRequest.getValue().responseHandler();
+        capturedHandler.onHeaders(SdkHttpFullResponse.builder().statusCode(200).putHeader("Content-Encoding", "gzip").build());
+        capturedHandler.onStream(AsyncRequestBody.fromBytes(gzip("{\"foo\":\"bar\"}")));
+        responseFuture.get(1, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(IoUtils.toUtf8String(httpResponse.getValue().content().get())).isEqualTo("{\"foo\":\"bar\"}");
+    }
+
+    private static byte[] gzip(String content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+
     private void expectRetrievalFromMocks() {
         when(marshaller.marshall(request)).thenReturn(marshalledRequest);
     }
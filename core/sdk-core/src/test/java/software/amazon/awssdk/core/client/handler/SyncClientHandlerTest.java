@@ -22,16 +22,21 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.zip.GZIPInputStream;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import software.amazon.awssdk.core.CompressionConfiguration;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.SdkResponse;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
@@ -41,16 +46,24 @@ import software.amazon.awssdk.core.exception.NonRetryableException;
 import software.amazon.awssdk.core.exception.RetryableException;
 import software.amazon.awssdk.core.exception.SdkServiceException;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.trait.RequestCompression;
 import software.amazon.awssdk.core.protocol.VoidSdkResponse;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.runtime.transform.Marshaller;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.HttpExecuteRequest;
 import software.amazon.awssdk.http.HttpExecuteResponse;
 import software.amazon.awssdk.http.ExecutableHttpRequest;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.utils.IoUtils;
 import utils.HttpTestUtils;
 import utils.ValidSdkObjects;
 
@@ -189,6 +202,81 @@ public class SyncClientHandlerTest {
         when(responseHandler.handle(any(), any())).thenReturn(VoidSdkResponse.builder().build());
     }
 
+    @Test
+    public void requestCompression_compressesPayloadBeforeItIsSent() throws Exception {
+        // Given
+        syncClientHandler = new SdkSyncClientHandler(
+            clientConfiguration().toBuilder()
+                                 .option(SdkClientOption.COMPRESSION_CONFIGURATION,
+                                         CompressionConfiguration.builder().minimumCompressionThresholdInBytes(0).build())
+                                 .build());
+        byte[] payload = "{\"metrics\":[1,2,3]}".getBytes(StandardCharsets.UTF_8);
+        marshalledRequest = marshalledRequest.toBuilder()
+                                             .putHeader("Content-Length", Integer.toString(payload.length))
+                                             .contentStreamProvider(() -> new ByteArrayInputStream(payload))
+                                             .build();
+        ArgumentCaptor<HttpExecuteRequest> executeRequest = ArgumentCaptor.forClass(HttpExecuteRequest.class);
+        when(marshaller.marshall(request)).thenReturn(marshalledRequest);
+        when(httpClient.prepareRequest(executeRequest.capture())).thenReturn(httpClientCall);
+        when(httpClientCall.call()).thenReturn(HttpExecuteResponse.builder()
+                                                                  .response(SdkHttpResponse.builder().statusCode(200).build())
+                                                                  .build());
+        when(responseHandler.handle(any(), any())).thenReturn(VoidSdkResponse.builder().build());
+
+        // When
+        syncClientHandler.execute(clientExecutionParams().putExecutionAttribute(
+            SdkInternalExecutionAttribute.REQUEST_COMPRESSION, RequestCompression.builder().encodings("gzip").build()));
+
+        // Then
+        assertSentGzipCompressed(executeRequest.getValue(), payload);
+    }
+
+    @Test
+    public void requestCompression_compressesPayloadAddedByInterceptor() throws Exception {
+        // Given
+        byte[] payload = "Action=PutMetricData&Namespace=test".getBytes(StandardCharsets.UTF_8);
+        // Like the query protocol, which moves the query parameters into the payload in an interceptor
+        ExecutionInterceptor addsPayload = new ExecutionInterceptor() {
+            @Override
+            public SdkHttpRequest modifyHttpRequest(Context.ModifyHttpRequest context, ExecutionAttributes executionAttributes) {
+                return ((SdkHttpFullRequest) context.httpRequest()).toBuilder()
+                                                                   .putHeader("Content-Length",
+                                                                              Integer.toString(payload.length))
+                                                                   .contentStreamProvider(
+                                                                       () -> new ByteArrayInputStream(payload))
+                                                                   .build();
+            }
+        };
+        syncClientHandler = new SdkSyncClientHandler(
+            clientConfiguration().toBuilder()
+                                 .option(SdkClientOption.COMPRESSION_CONFIGURATION,
+                                         CompressionConfiguration.builder().minimumCompressionThresholdInBytes(0).build())
+                                 .option(SdkClientOption.EXECUTION_INTERCEPTORS, Collections.singletonList(addsPayload))
+                                 .build());
+        ArgumentCaptor<HttpExecuteRequest> executeRequest = ArgumentCaptor.forClass(HttpExecuteRequest.class);
+        when(marshaller.marshall(request)).thenReturn(marshalledRequest);
+        when(httpClient.prepareRequest(executeRequest.capture())).thenReturn(httpClientCall);
+        when(httpClientCall.call()).thenReturn(HttpExecuteResponse.builder()
+                                                                  .response(SdkHttpResponse.builder().statusCode(200).build())
+                                                                  .build());
+        when(responseHandler.handle(any(), any())).thenReturn(VoidSdkResponse.builder().build());
+
+        // When
+        syncClientHandler.execute(clientExecutionParams().putExecutionAttribute(
+            SdkInternalExecutionAttribute.REQUEST_COMPRESSION, RequestCompression.builder().encodings("gzip").build()));
+
+        // Then
+        assertSentGzipCompressed(executeRequest.getValue(), payload);
+    }
+
+    private static void assertSentGzipCompressed(HttpExecuteRequest executeRequest, byte[] payload) throws Exception {
+        SdkHttpRequest sent = executeRequest.httpRequest();
+        byte[] compressed = IoUtils.toByteArray(executeRequest.contentStreamProvider().get().newStream());
+        assertThat(sent.firstMatchingHeader("Content-Encoding")).hasValue("gzip");
+        assertThat(sent.firstMatchingHeader("Content-Length")).hasValue(Integer.toString(compressed.length));
+        assertThat(IoUtils.toByteArray(new GZIPInputStream(new ByteArrayInputStream(compressed)))).isEqualTo(payload);
+    }
+
     private void expectRetrievalFromMocks() {
         when(marshaller.marshall(request)).thenReturn(marshalledRequest);
         when(httpClient.prepareRequest(any())).thenReturn(httpClientCall);
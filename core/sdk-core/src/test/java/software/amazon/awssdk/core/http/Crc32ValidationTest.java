@@ -22,12 +22,12 @@ import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.io.UnsupportedEncodingException;
 import java.lang.reflect.Field;
-import java.util.zip.GZIPInputStream;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.unitils.util.ReflectionUtils;
 import software.amazon.awssdk.core.internal.util.Crc32ChecksumValidatingInputStream;
+import software.amazon.awssdk.core.internal.util.GzipDecompressingInputStream;
 import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.utils.StringInputStream;
@@ -74,7 +74,7 @@ public class Crc32ValidationTest {
                                                                   .build();
             SdkHttpFullResponse adapted = adapt(httpResponse);
             InputStream in = adapted.content().get().delegate();
-            assertThat(in).isInstanceOf((GZIPInputStream.class));
+            assertThat(in).isInstanceOf((GzipDecompressingInputStream.class));
         }
     }
 
@@ -90,7 +90,7 @@ public class Crc32ValidationTest {
 
             SdkHttpFullResponse adapted = Crc32Validation.validate(true, httpResponse);
             InputStream in = adapted.content().get().delegate();
-            assertThat(in).isInstanceOf((GZIPInputStream.class));
+            assertThat(in).isInstanceOf((GzipDecompressingInputStream.class));
         }
     }
 
@@ -105,7 +105,7 @@ public class Crc32ValidationTest {
 
         SdkHttpFullResponse adapted = adapt(httpResponse);
         InputStream in = adapted.content().get().delegate();
-        assertThat(in).isInstanceOf((GZIPInputStream.class));
+        assertThat(in).isInstanceOf((GzipDecompressingInputStream.class));
     }
 
     @Test
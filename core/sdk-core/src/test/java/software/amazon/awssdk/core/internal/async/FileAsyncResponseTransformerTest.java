@@ -33,7 +33,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -107,6 +111,52 @@ class FileAsyncResponseTransformerTest {
         assertThat(future.isCompletedExceptionally()).isFalse();
     }
 
+    @Test
+    void multipleChunks_shouldWriteChunksInOrder() throws Exception {
+        Path testPath = testFs.getPath("test_file.txt");
+        List<String> chunks = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            chunks.add(RandomStringUtils.randomAlphanumeric(1000));
+        }
+
+        FileAsyncResponseTransformer<String> transformer = new FileAsyncResponseTransformer<>(testPath);
+        CompletableFuture<String> future = transformer.prepare();
+        transformer.onResponse("foobar");
+        transformer.onStream(SdkPublisher.adapt(Flowable.fromIterable(chunks)
+                                                        .map(c -> ByteBuffer.wrap(c.getBytes(StandardCharsets.UTF_8)))));
+
+        future.get(10, TimeUnit.SECONDS);
+        assertThat(testPath).hasContent(String.join("", chunks));
+    }
+
+    @Test
+    void executorServiceConfigured_shouldWriteOnExecutor() throws Exception {
+        AtomicInteger executedTasks = new AtomicInteger();
+        ExecutorService executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>()) {
+            @Override
+            protected void beforeExecute(Thread t, Runnable r) {
+                executedTasks.incrementAndGet();
+            }
+        };
+
+        try {
+            Path testPath = testFs.getPath("test_file.txt");
+            String content = RandomStringUtils.randomAlphanumeric(30000);
+            FileTransformerConfiguration configuration = FileTransformerConfiguration.defaultCreateNew()
+                                                                                     .toBuilder()
+                                                                                     .executorService(executor)
+                                                                                     .build();
+            FileAsyncResponseTransformer<String> transformer = new FileAsyncResponseTransformer<>(testPath, configuration);
+
+            stubSuccessfulStreaming(content, transformer);
+
+            assertThat(testPath).hasContent(content);
+            assertThat(executedTasks.get()).isPositive();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     void noConfiguration_fileAlreadyExists_shouldThrowException() throws Exception {
         Path testPath = testFs.getPath("test_file.txt");
@@ -0,0 +1,176 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.reactivex.Flowable;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.utils.IoUtils;
+
+public class GzipCompressorTest {
+    private static final GzipCompressor COMPRESSOR = new GzipCompressor();
+
+    @Test
+    public void compressorType_isGzip() {
+        assertThat(COMPRESSOR.compressorType()).isEqualTo("gzip");
+    }
+
+    @Test
+    public void compressSdkBytes_producesGzip() throws IOException {
+        byte[] content = content(100_000);
+        SdkBytes compressed = COMPRESSOR.compress(SdkBytes.fromByteArray(content));
+        assertThat(compressed.asByteArrayUnsafe().length).isLessThan(content.length);
+        assertThat(decompress(compressed.asByteArrayUnsafe())).isEqualTo(content);
+    }
+
+    @Test
+    public void compressStream_producesGzip() throws IOException {
+        byte[] content = content(100_000);
+        try (InputStream compressed = COMPRESSOR.compress(new ByteArrayInputStream(content))) {
+            assertThat(decompress(IoUtils.toByteArray(compressed))).isEqualTo(content);
+        }
+    }
+
+    @Test
+    public void compressStream_singleByteReads_producesGzip() throws IOException {
+        byte[] content = content(10_000);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (InputStream stream = COMPRESSOR.compress(new ByteArrayInputStream(content))) {
+            int b;
+            while ((b = stream.read()) != -1) {
+                compressed.write(b);
+            }
+        }
+        assertThat(decompress(compressed.toByteArray())).isEqualTo(content);
+    }
+
+    @Test
+    public void compressStream_emptyContent_producesGzip() throws IOException {
+        try (InputStream compressed = COMPRESSOR.compress(new ByteArrayInputStream(new byte[0]))) {
+            assertThat(decompress(IoUtils.toByteArray(compressed))).isEmpty();
+        }
+    }
+
+    @Test
+    public void compressAsyncStream_publishesOneBufferPerBufferAndATrailer() throws IOException {
+        byte[] content = content(100_000);
+        ByteBuffer[] buffers = new ByteBuffer[10];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = ByteBuffer.wrap(content, i * 10_000, 10_000);
+        }
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        int[] published = {0};
+        SdkPublisher.adapt(COMPRESSOR.compressAsyncStream(Flowable.fromArray(buffers)))
+                    .subscribe(b -> {
+                        published[0]++;
+                        compressed.write(b.array(), b.arrayOffset() + b.position(), b.remaining());
+                    })
+                    .join();
+
+        assertThat(published[0]).isEqualTo(buffers.length + 1);
+        assertThat(compressed.size()).isLessThan(content.length);
+        assertThat(decompress(compressed.toByteArray())).isEqualTo(content);
+    }
+
+    @Test
+    public void compressAsyncStream_holdsTrailerUntilRequested() throws IOException {
+        byte[] content = content(30_000);
+        ByteBuffer[] buffers = new ByteBuffer[3];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = ByteBuffer.wrap(content, i * 10_000, 10_000);
+        }
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        List<ByteBuffer> published = new ArrayList<>();
+        AtomicBoolean completed = new AtomicBoolean();
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        COMPRESSOR.compressAsyncStream(Flowable.fromArray(buffers)).subscribe(new Subscriber<ByteBuffer>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription.set(s);
+                s.request(buffers.length);
+            }
+
+            @Override
+            public void onNext(ByteBuffer b) {
+                published.add(b);
+                compressed.write(b.array(), b.arrayOffset() + b.position(), b.remaining());
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+
+            @Override
+            public void onComplete() {
+                completed.set(true);
+            }
+        });
+
+        // The upstream publisher has completed, but the trailer hasn't been requested yet
+        assertThat(published).hasSize(buffers.length);
+        assertThat(completed).isFalse();
+
+        subscription.get().request(1);
+
+        assertThat(published).hasSize(buffers.length + 1);
+        assertThat(completed).isTrue();
+        assertThat(decompress(compressed.toByteArray())).isEqualTo(content);
+    }
+
+    @Test
+    public void compressAsyncStream_emptyPublisher_producesGzip() throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        SdkPublisher.adapt(COMPRESSOR.compressAsyncStream(Flowable.<ByteBuffer>empty()))
+                    .subscribe(b -> compressed.write(b.array(), b.arrayOffset() + b.position(), b.remaining()))
+                    .join();
+
+        assertThat(decompress(compressed.toByteArray())).isEmpty();
+    }
+
+    private static byte[] content(int size) {
+        // Compressible, but not trivially so
+        byte[] content = new byte[size];
+        Random random = new Random(size);
+        for (int i = 0; i < size; i++) {
+            content[i] = (byte) ('a' + random.nextInt(8));
+        }
+        return content;
+    }
+
+    private static byte[] decompress(byte[] compressed) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return IoUtils.toByteArray(in);
+        }
+    }
+}
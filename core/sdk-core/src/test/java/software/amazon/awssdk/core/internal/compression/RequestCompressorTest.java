@@ -0,0 +1,201 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import software.amazon.awssdk.core.CompressionConfiguration;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.compression.Compressor;
+import software.amazon.awssdk.core.interceptor.trait.RequestCompression;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.Pair;
+
+public class RequestCompressorTest {
+    private static final RequestCompression GZIP = RequestCompression.builder().encodings("gzip").build();
+    private static final CompressionConfiguration NO_THRESHOLD =
+        CompressionConfiguration.builder().minimumCompressionThresholdInBytes(0).build();
+
+    @Test
+    public void create_noTrait_returnsEmpty() {
+        assertThat(RequestCompressor.create(null, null)).isEmpty();
+    }
+
+    @Test
+    public void create_compressionDisabled_returnsEmpty() {
+        assertThat(RequestCompressor.create(GZIP, CompressionConfiguration.builder()
+                                                                          .requestCompressionEnabled(false)
+                                                                          .build())).isEmpty();
+    }
+
+    @Test
+    public void compress_payloadAtThreshold_isCompressed() throws IOException {
+        String payload = repeat("a", CompressionConfiguration.DEFAULT_MINIMUM_COMPRESSION_THRESHOLD_IN_BYTES);
+
+        SdkHttpFullRequest compressed = RequestCompressor.create(GZIP, null).get().compress(request(payload));
+
+        assertThat(compressed.firstMatchingHeader("Content-Encoding")).hasValue("gzip");
+        byte[] body = IoUtils.toByteArray(compressed.contentStreamProvider().get().newStream());
+        assertThat(compressed.firstMatchingHeader("Content-Length")).hasValue(Integer.toString(body.length));
+        assertThat(decompress(body)).isEqualTo(payload);
+    }
+
+    @Test
+    public void compress_payloadBelowThreshold_isUnchanged() {
+        SdkHttpFullRequest request =
+            request(repeat("a", CompressionConfiguration.DEFAULT_MINIMUM_COMPRESSION_THRESHOLD_IN_BYTES - 1));
+
+        assertThat(RequestCompressor.create(GZIP, null).get().compress(request)).isSameAs(request);
+    }
+
+    @Test
+    public void compress_payloadWithoutContentLengthBelowThreshold_isUnchanged() {
+        SdkHttpFullRequest request = request("abc").toBuilder().removeHeader("Content-Length").build();
+
+        assertThat(RequestCompressor.create(GZIP, null).get().compress(request)).isSameAs(request);
+    }
+
+    @Test
+    public void compress_noPayload_isUnchanged() {
+        SdkHttpFullRequest request = request("abc").toBuilder().contentStreamProvider(null).build();
+
+        assertThat(RequestCompressor.create(GZIP, NO_THRESHOLD).get().compress(request)).isSameAs(request);
+    }
+
+    @Test
+    public void compress_unsupportedEncoding_isUnchanged() {
+        SdkHttpFullRequest request = request("abc");
+        RequestCompression zstd = RequestCompression.builder().encodings("zstd").build();
+
+        assertThat(RequestCompressor.create(zstd, NO_THRESHOLD).get().compress(request)).isSameAs(request);
+    }
+
+    @Test
+    public void compress_existingContentEncoding_isAppendedTo() {
+        SdkHttpFullRequest request = request("abc").toBuilder().putHeader("Content-Encoding", "custom").build();
+
+        SdkHttpFullRequest compressed = RequestCompressor.create(GZIP, NO_THRESHOLD).get().compress(request);
+
+        assertThat(compressed.firstMatchingHeader("Content-Encoding")).hasValue("custom,gzip");
+    }
+
+    @Test
+    public void compress_configuredCompressor_isPreferredInServiceOrder() throws IOException {
+        RequestCompression encodings = RequestCompression.builder().encodings("reversed", "gzip").build();
+        CompressionConfiguration configuration = NO_THRESHOLD.toBuilder().addCompressor(new ReversingCompressor()).build();
+
+        SdkHttpFullRequest compressed = RequestCompressor.create(encodings, configuration).get().compress(request("abc"));
+
+        assertThat(compressed.firstMatchingHeader("Content-Encoding")).hasValue("reversed");
+        assertThat(IoUtils.toUtf8String(compressed.contentStreamProvider().get().newStream())).isEqualTo("cba");
+    }
+
+    @Test
+    public void compress_streamingPayload_isCompressedWithoutLength() throws IOException {
+        RequestCompression streaming = RequestCompression.builder().encodings("gzip").isStreaming(true).build();
+
+        SdkHttpFullRequest compressed = RequestCompressor.create(streaming, null).get().compress(request("abc"));
+
+        assertThat(compressed.firstMatchingHeader("Content-Encoding")).hasValue("gzip");
+        assertThat(compressed.firstMatchingHeader("Content-Length")).isEmpty();
+        assertThat(compressed.firstMatchingHeader("Transfer-Encoding")).hasValue("chunked");
+        assertThat(decompress(IoUtils.toByteArray(compressed.contentStreamProvider().get().newStream()))).isEqualTo("abc");
+    }
+
+    @Test
+    public void compress_asyncRequestBody_isCompressedWithoutLength() throws IOException {
+        RequestCompression streaming = RequestCompression.builder().encodings("gzip").isStreaming(true).build();
+        AsyncRequestBody body = AsyncRequestBody.fromString("abc");
+
+        Pair<SdkHttpFullRequest, AsyncRequestBody> compressed =
+            RequestCompressor.create(streaming, null).get().compress(request("abc").toBuilder().contentStreamProvider(null)
+                                                                                  .build(), body);
+
+        assertThat(compressed.left().firstMatchingHeader("Content-Encoding")).hasValue("gzip");
+        assertThat(compressed.left().firstMatchingHeader("Content-Length")).isEmpty();
+        assertThat(compressed.right().contentLength()).isEmpty();
+        assertThat(compressed.right().contentType()).isEqualTo(body.contentType());
+
+        ByteBuffer published = ByteBuffer.allocate(1024);
+        compressed.right().subscribe(published::put).join();
+        assertThat(decompress(published.array(), published.position())).isEqualTo("abc");
+    }
+
+    private static SdkHttpFullRequest request(String payload) {
+        byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+        return SdkHttpFullRequest.builder()
+                                 .method(SdkHttpMethod.POST)
+                                 .protocol("https")
+                                 .host("localhost")
+                                 .putHeader("Content-Length", Integer.toString(bytes.length))
+                                 .contentStreamProvider(() -> new ByteArrayInputStream(bytes))
+                                 .build();
+    }
+
+    private static String repeat(String s, int times) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < times; i++) {
+            result.append(s);
+        }
+        return result.toString();
+    }
+
+    private static String decompress(byte[] compressed) throws IOException {
+        return decompress(compressed, compressed.length);
+    }
+
+    private static String decompress(byte[] compressed, int length) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed, 0, length))) {
+            return IoUtils.toUtf8String(in);
+        }
+    }
+
+    private static final class ReversingCompressor implements Compressor {
+        @Override
+        public String compressorType() {
+            return "reversed";
+        }
+
+        @Override
+        public InputStream compress(InputStream content) {
+            try {
+                byte[] bytes = IoUtils.toByteArray(content);
+                byte[] reversed = new byte[bytes.length];
+                for (int i = 0; i < bytes.length; i++) {
+                    reversed[i] = bytes[bytes.length - 1 - i];
+                }
+                return new ByteArrayInputStream(reversed);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        @Override
+        public Publisher<ByteBuffer> compressAsyncStream(Publisher<ByteBuffer> content) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.internal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.utils.IoUtils;
+
+public class GzipDecompressingInputStreamTest {
+
+    @Test
+    public void decompressesLargeStream() throws IOException {
+        byte[] data = compressibleData(1024 * 1024);
+
+        assertThat(decompress(gzip(data))).isEqualTo(data);
+    }
+
+    @Test
+    public void decompressesWithSingleByteReads() throws IOException {
+        byte[] data = "hello, world".getBytes(StandardCharsets.UTF_8);
+
+        try (InputStream in = new GzipDecompressingInputStream(new ByteArrayInputStream(gzip(data)))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            int b;
+            while ((b = in.read()) != -1) {
+                out.write(b);
+            }
+            assertThat(out.toByteArray()).isEqualTo(data);
+        }
+    }
+
+    @Test
+    public void decompressesConcatenatedMembers() throws IOException {
+        byte[] first = "first member, ".getBytes(StandardCharsets.UTF_8);
+        byte[] second = compressibleData(100_000);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        compressed.write(gzip(first));
+        compressed.write(gzip(second));
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        expected.write(first);
+        expected.write(second);
+
+        assertThat(decompress(compressed.toByteArray())).isEqualTo(expected.toByteArray());
+    }
+
+    @Test
+    public void skipsOptionalHeaderFields() throws IOException {
+        byte[] data = "optional header fields".getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = gzip(data);
+
+        // Rebuild the header with FHCRC, FEXTRA, FNAME and FCOMMENT set.
+        ByteArrayOutputStream withFields = new ByteArrayOutputStream();
+        withFields.write(compressed, 0, 3);
+        withFields.write(2 | 4 | 8 | 16);
+        withFields.write(compressed, 4, 6);
+        withFields.write(new byte[] {3, 0, 'a', 'b', 'c'});
+        withFields.write("name\0".getBytes(StandardCharsets.US_ASCII));
+        withFields.write("comment\0".getBytes(StandardCharsets.US_ASCII));
+        withFields.write(new byte[] {0, 0});
+        withFields.write(compressed, 10, compressed.length - 10);
+
+        assertThat(decompress(withFields.toByteArray())).isEqualTo(data);
+    }
+
+    @Test
+    public void ignoresTrailingGarbage() throws IOException {
+        byte[] data = "data".getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = gzip(data);
+        byte[] withGarbage = Arrays.copyOf(compressed, compressed.length + 4);
+
+        assertThat(decompress(withGarbage)).isEqualTo(data);
+    }
+
+    @Test
+    public void corruptTrailer_throwsZipException() throws IOException {
+        byte[] compressed = gzip("data".getBytes(StandardCharsets.UTF_8));
+        compressed[compressed.length - 5] ^= 1;
+
+        assertThatThrownBy(() -> decompress(compressed)).isInstanceOf(ZipException.class)
+                                                        .hasMessageContaining("trailer");
+    }
+
+    @Test
+    public void truncatedStream_throwsEofException() throws IOException {
+        byte[] compressed = gzip(compressibleData(10_000));
+
+        assertThatThrownBy(() -> decompress(Arrays.copyOf(compressed, compressed.length / 2)))
+            .isInstanceOf(EOFException.class);
+    }
+
+    @Test
+    public void invalidHeader_throwsFromConstructor() {
+        byte[] notGzip = "this isn't GZIP".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> new GzipDecompressingInputStream(new ByteArrayInputStream(notGzip)))
+            .isInstanceOf(ZipException.class);
+        assertThatThrownBy(() -> new GzipDecompressingInputStream(new ByteArrayInputStream(new byte[0])))
+            .isInstanceOf(EOFException.class);
+    }
+
+    @Test
+    public void streamsCanBeReopenedAfterInflatersAreReturnedToThePool() throws IOException {
+        for (int i = 0; i < 100; i++) {
+            byte[] data = compressibleData(1000 + i);
+            assertThat(decompress(gzip(data))).isEqualTo(data);
+        }
+    }
+
+    @Test
+    public void readAfterClose_throws() throws IOException {
+        InputStream in = new GzipDecompressingInputStream(new ByteArrayInputStream(gzip(new byte[10])));
+        in.close();
+
+        assertThatThrownBy(in::read).isInstanceOf(IOException.class);
+    }
+
+    private static byte[] decompress(byte[] compressed) throws IOException {
+        try (InputStream in = new GzipDecompressingInputStream(new ByteArrayInputStream(compressed))) {
+            return IoUtils.toByteArray(in);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] compressibleData(int size) {
+        Random random = new Random(size);
+        byte[] data = new byte[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = (byte) ('a' + random.nextInt(8));
+        }
+        return data;
+    }
+}
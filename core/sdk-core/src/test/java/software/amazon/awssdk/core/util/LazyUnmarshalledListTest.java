@@ -0,0 +1,133 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.Trait;
+
+public class LazyUnmarshalledListTest {
+
+    @Test
+    public void get_unmarshallsEachElementOnceWhenFirstAccessed() {
+        AtomicInteger unmarshallCount = new AtomicInteger();
+        List<String> list = LazyUnmarshalledList.create(Arrays.asList(1, 2, 3), i -> {
+            unmarshallCount.incrementAndGet();
+            return "item-" + i;
+        });
+
+        assertThat(list).hasSize(3);
+        assertThat(unmarshallCount).hasValue(0);
+
+        assertThat(list.get(1)).isEqualTo("item-2");
+        assertThat(list.get(1)).isSameAs(list.get(1));
+        assertThat(unmarshallCount).hasValue(1);
+
+        assertThat(list).containsExactly("item-1", "item-2", "item-3");
+        assertThat(unmarshallCount).hasValue(3);
+    }
+
+    @Test
+    public void get_elementUnmarshalledToNull_isNull() {
+        AtomicInteger unmarshallCount = new AtomicInteger();
+        List<String> list = LazyUnmarshalledList.create(Arrays.asList("a", null), s -> {
+            unmarshallCount.incrementAndGet();
+            return s;
+        });
+
+        assertThat(list.get(1)).isNull();
+        assertThat(list.get(1)).isNull();
+        assertThat(unmarshallCount).hasValue(1);
+        assertThat(list).isEqualTo(Arrays.asList("a", null));
+    }
+
+    @Test
+    public void list_cannotBeModified() {
+        List<String> list = LazyUnmarshalledList.create(new ArrayList<>(Arrays.asList("a")), s -> s);
+
+        assertThatThrownBy(() -> list.add("b")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> list.set(0, "b")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> list.remove(0)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void createOfMaps_mapsCannotBeModified_andNullIsAutoConstructMap() {
+        List<Map<String, ?>> list = LazyUnmarshalledList.createOfMaps(Arrays.asList("a", null), s -> {
+            if (s == null) {
+                return null;
+            }
+            Map<String, String> map = new HashMap<>();
+            map.put("key", s);
+            return map;
+        });
+
+        assertThat(list.get(0)).isEqualTo(Collections.singletonMap("key", "a"));
+        assertThatThrownBy(() -> list.get(0).remove("key")).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(list.get(1)).isInstanceOf(SdkAutoConstructMap.class).isEmpty();
+    }
+
+    @Test
+    public void supportsMembers_structuresAndMapsOfSimpleValues_areSupported() {
+        assertThat(LazyUnmarshalledList.supportsMembers(field(MarshallingType.SDK_POJO))).isTrue();
+        assertThat(LazyUnmarshalledList.supportsMembers(mapField(MarshallingType.STRING))).isTrue();
+        assertThat(LazyUnmarshalledList.supportsMembers(mapField(MarshallingType.SDK_POJO))).isTrue();
+    }
+
+    @Test
+    public void supportsMembers_simpleValuesAndNestedCollections_areNotSupported() {
+        assertThat(LazyUnmarshalledList.supportsMembers(field(MarshallingType.STRING))).isFalse();
+        assertThat(LazyUnmarshalledList.supportsMembers(field(MarshallingType.LIST))).isFalse();
+        assertThat(LazyUnmarshalledList.supportsMembers(mapField(MarshallingType.LIST))).isFalse();
+        assertThat(LazyUnmarshalledList.supportsMembers(mapField(MarshallingType.MAP))).isFalse();
+    }
+
+    @Test
+    public void share_returnsSameList() {
+        List<CharSequence> list = LazyUnmarshalledList.create(Arrays.asList("a"), s -> s);
+        assertThat(LazyUnmarshalledList.<Object>share(list)).isSameAs(list);
+    }
+
+    @Test
+    public void share_otherList_throws() {
+        assertThatThrownBy(() -> LazyUnmarshalledList.share(Arrays.asList("a"))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static SdkField<?> mapField(MarshallingType<?> valueType) {
+        return field(MarshallingType.MAP, MapTrait.builder().valueFieldInfo(field(valueType)).build());
+    }
+
+    private static SdkField<?> field(MarshallingType<?> type, Trait... traits) {
+        return SdkField.builder(type)
+                       .traits(LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName("member").build())
+                       .traits(traits)
+                       .build();
+    }
+}
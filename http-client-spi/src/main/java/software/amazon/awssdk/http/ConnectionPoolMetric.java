@@ -0,0 +1,125 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * Metrics describing the state of an HTTP client's connection pools. Unlike {@link HttpMetric}, which is reported with each
+ * request, these metrics are reported periodically by HTTP clients that support it, with one child collection per remote
+ * host. The {@link HttpMetric#MAX_CONCURRENCY}, {@link HttpMetric#AVAILABLE_CONCURRENCY},
+ * {@link HttpMetric#LEASED_CONCURRENCY} and {@link HttpMetric#PENDING_CONCURRENCY_ACQUIRES} metrics are reported alongside
+ * these.
+ *
+ * <p>Unless otherwise noted, counts and durations cover the interval since the metrics were last reported.
+ */
+@SdkPublicApi
+public final class ConnectionPoolMetric {
+    /**
+     * The number of connections to the host that are currently open, whether they are idle or in use.
+     */
+    public static final SdkMetric<Integer> OPEN_CONNECTIONS =
+        metric("OpenConnections", Integer.class, MetricLevel.INFO);
+
+    /**
+     * The number of connections that were established.
+     */
+    public static final SdkMetric<Integer> CONNECTIONS_CREATED =
+        metric("ConnectionsCreated", Integer.class, MetricLevel.INFO);
+
+    /**
+     * The number of connections that were closed by the client because they were idle for longer than the configured maximum
+     * idle time.
+     */
+    public static final SdkMetric<Integer> CONNECTIONS_CLOSED_IDLE =
+        metric("ConnectionsClosedIdle", Integer.class, MetricLevel.INFO);
+
+    /**
+     * The number of connections that were closed by the client because they reached the configured connection time to live.
+     */
+    public static final SdkMetric<Integer> CONNECTIONS_CLOSED_EXPIRED =
+        metric("ConnectionsClosedExpired", Integer.class, MetricLevel.INFO);
+
+    /**
+     * The number of connections that were closed for any other reason, e.g. because they were closed by the remote host, a
+     * request on the connection failed, or the client was closed.
+     */
+    public static final SdkMetric<Integer> CONNECTIONS_CLOSED_OTHER =
+        metric("ConnectionsClosedOther", Integer.class, MetricLevel.INFO);
+
+    /**
+     * The number of successful concurrency acquires, i.e. the number of times a connection or stream was leased for a
+     * request.
+     */
+    public static final SdkMetric<Integer> CONCURRENCY_ACQUIRES =
+        metric("ConcurrencyAcquires", Integer.class, MetricLevel.INFO);
+
+    /**
+     * The median time taken to acquire a connection or stream, see {@link HttpMetric#CONCURRENCY_ACQUIRE_DURATION}. Only
+     * reported if {@link #CONCURRENCY_ACQUIRES} is non-zero.
+     */
+    public static final SdkMetric<Duration> CONCURRENCY_ACQUIRE_DURATION_P50 =
+        metric("ConcurrencyAcquireDurationP50", Duration.class, MetricLevel.INFO);
+
+    /**
+     * The 99th percentile of the time taken to acquire a connection or stream. Only reported if {@link #CONCURRENCY_ACQUIRES}
+     * is non-zero.
+     */
+    public static final SdkMetric<Duration> CONCURRENCY_ACQUIRE_DURATION_P99 =
+        metric("ConcurrencyAcquireDurationP99", Duration.class, MetricLevel.INFO);
+
+    /**
+     * The maximum time taken to acquire a connection or stream. Only reported if {@link #CONCURRENCY_ACQUIRES} is non-zero.
+     */
+    public static final SdkMetric<Duration> CONCURRENCY_ACQUIRE_DURATION_MAX =
+        metric("ConcurrencyAcquireDurationMax", Duration.class, MetricLevel.INFO);
+
+    /**
+     * The number of completed TLS handshakes.
+     */
+    public static final SdkMetric<Integer> TLS_HANDSHAKES =
+        metric("TlsHandshakes", Integer.class, MetricLevel.INFO);
+
+    /**
+     * The median TLS handshake duration, see {@link HttpMetric#TLS_HANDSHAKE_DURATION}. Only reported if
+     * {@link #TLS_HANDSHAKES} is non-zero.
+     */
+    public static final SdkMetric<Duration> TLS_HANDSHAKE_DURATION_P50 =
+        metric("TlsHandshakeDurationP50", Duration.class, MetricLevel.INFO);
+
+    /**
+     * The 99th percentile of the TLS handshake duration. Only reported if {@link #TLS_HANDSHAKES} is non-zero.
+     */
+    public static final SdkMetric<Duration> TLS_HANDSHAKE_DURATION_P99 =
+        metric("TlsHandshakeDurationP99", Duration.class, MetricLevel.INFO);
+
+    /**
+     * The maximum TLS handshake duration. Only reported if {@link #TLS_HANDSHAKES} is non-zero.
+     */
+    public static final SdkMetric<Duration> TLS_HANDSHAKE_DURATION_MAX =
+        metric("TlsHandshakeDurationMax", Duration.class, MetricLevel.INFO);
+
+    private ConnectionPoolMetric() {
+    }
+
+    private static <T> SdkMetric<T> metric(String name, Class<T> clzz, MetricLevel level) {
+        return SdkMetric.create(name, clzz, level, MetricCategory.CORE, MetricCategory.HTTP_CLIENT);
+    }
+}
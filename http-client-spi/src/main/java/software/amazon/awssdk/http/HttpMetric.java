@@ -121,6 +121,24 @@ public final class HttpMetric {
     public static final SdkMetric<Duration> CONCURRENCY_ACQUIRE_DURATION =
         metric("ConcurrencyAcquireDuration", Duration.class, MetricLevel.INFO);
 
+    /**
+     * The time taken to perform the TLS handshake for the connection used by the request.
+     *
+     * <p>This is only reported for the first request made on a newly established connection, because later requests on the
+     * same connection do not perform a handshake. Currently, this is only reported by 'netty-nio-client'.
+     */
+    public static final SdkMetric<Duration> TLS_HANDSHAKE_DURATION =
+        metric("TlsHandshakeDuration", Duration.class, MetricLevel.INFO);
+
+    /**
+     * Whether the TLS handshake for the connection used by the request resumed a previously negotiated TLS session instead of
+     * performing a full handshake. The session resumption rate is the fraction of reported values that are {@code true}.
+     *
+     * <p>This is reported alongside {@link #TLS_HANDSHAKE_DURATION}. Currently, this is only reported by 'netty-nio-client'.
+     */
+    public static final SdkMetric<Boolean> TLS_SESSION_REUSED =
+        metric("TlsSessionReused", Boolean.class, MetricLevel.INFO);
+
     private HttpMetric() {
     }
 
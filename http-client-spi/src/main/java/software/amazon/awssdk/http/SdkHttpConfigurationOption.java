@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.http;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.utils.AttributeMap;
@@ -131,6 +132,24 @@ public final class SdkHttpConfigurationOption<T> extends AttributeMap.Key<T> {
     public static final SdkHttpConfigurationOption<Duration> TLS_NEGOTIATION_TIMEOUT =
         new SdkHttpConfigurationOption<>("TlsNegotiationTimeout", Duration.class);
 
+    /**
+     * The path of a Unix domain socket through which connections are made instead of TCP, e.g. to reach a proxy or mock
+     * server on the same host. The host of the request's URI is still sent in the Host header and used for TLS, but it is
+     * not resolved.
+     *
+     * <p>Unix domain sockets aren't supported by all HTTP implementations, or on all platforms.
+     */
+    public static final SdkHttpConfigurationOption<Path> UNIX_DOMAIN_SOCKET_PATH =
+            new SdkHttpConfigurationOption<>("UnixDomainSocketPath", Path.class);
+
+    /**
+     * The maximum amount of time to wait for a "100 Continue" response to a request sent with an "Expect: 100-continue"
+     * header before the request body is sent anyway. A final response received before then (e.g. a 403 or 503) completes the
+     * request without the body being sent.
+     */
+    public static final SdkHttpConfigurationOption<Duration> EXPECT_CONTINUE_TIMEOUT =
+            new SdkHttpConfigurationOption<>("ExpectContinueTimeout", Duration.class);
+
     private static final Duration DEFAULT_SOCKET_READ_TIMEOUT = Duration.ofSeconds(30);
     private static final Duration DEFAULT_SOCKET_WRITE_TIMEOUT = Duration.ofSeconds(30);
     private static final Duration DEFAULT_CONNECTION_TIMEOUT = Duration.ofSeconds(2);
@@ -141,6 +160,7 @@ public final class SdkHttpConfigurationOption<T> extends AttributeMap.Key<T> {
      * 5 seconds = 3 seconds (RTO for 2 packets loss) + 2 seconds (startup latency and RTT buffer)
      */
     private static final Duration DEFAULT_TLS_NEGOTIATION_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration DEFAULT_EXPECT_CONTINUE_TIMEOUT = Duration.ofSeconds(3);
     private static final Boolean DEFAULT_REAP_IDLE_CONNECTIONS = Boolean.TRUE;
     private static final int DEFAULT_MAX_CONNECTIONS = 50;
     private static final int DEFAULT_MAX_CONNECTION_ACQUIRES = 10_000;
@@ -169,6 +189,7 @@ public final class SdkHttpConfigurationOption<T> extends AttributeMap.Key<T> {
             .put(TLS_KEY_MANAGERS_PROVIDER, DEFAULT_TLS_KEY_MANAGERS_PROVIDER)
             .put(TLS_TRUST_MANAGERS_PROVIDER, DEFAULT_TLS_TRUST_MANAGERS_PROVIDER)
             .put(TLS_NEGOTIATION_TIMEOUT, DEFAULT_TLS_NEGOTIATION_TIMEOUT)
+            .put(EXPECT_CONTINUE_TIMEOUT, DEFAULT_EXPECT_CONTINUE_TIMEOUT)
             .build();
 
     private final String name;
@@ -0,0 +1,434 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.internal.http;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A case-insensitive {@code Map<String, List<String>>} for the small header sets of {@link LowCopyListMap#emptyHeaders()}.
+ *
+ * <p>This behaves like a {@code TreeMap} using {@link String#CASE_INSENSITIVE_ORDER}: keys are compared ignoring case, the
+ * first key used for a header is retained when it's replaced, and iteration is in case-insensitive order. Instead of a tree,
+ * entries are stored in arrays with an open-addressing index keyed by a case-insensitive hash of the header name, so a lookup
+ * hashes the name once and usually compares it against a single key. Identical key instances, e.g. header name constants,
+ * match without a character comparison. The iteration order is only computed when the map is iterated.
+ *
+ * <p>{@link #copy()} shares the value lists between the two maps, and a shared list is only copied when it's modified via
+ * {@link #computeIfAbsent}. Value lists returned by other methods must not be modified.
+ */
+@SdkInternalApi
+@NotThreadSafe
+public final class CompactHeaderMap extends AbstractMap<String, List<String>> {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private String[] keys;
+    private int[] hashes;
+    private List<String>[] values;
+    private boolean[] sharedValues;
+    private int size;
+
+    /**
+     * Open-addressing index from hash slot to the position of an entry in the arrays above, plus one. Zero is an empty slot.
+     */
+    private int[] index;
+
+    /**
+     * The positions of the entries in case-insensitive key order, or null if it needs to be recomputed.
+     */
+    private int[] sortedPositions;
+
+    private int modCount;
+    private EntrySet entrySet;
+
+    public CompactHeaderMap() {
+        this(INITIAL_CAPACITY);
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompactHeaderMap(int capacity) {
+        this.keys = new String[capacity];
+        this.hashes = new int[capacity];
+        this.values = new List[capacity];
+        this.sharedValues = new boolean[capacity];
+        this.index = new int[capacity * 2];
+    }
+
+    private CompactHeaderMap(CompactHeaderMap source) {
+        this.keys = source.keys.clone();
+        this.hashes = source.hashes.clone();
+        this.values = source.values.clone();
+        this.sharedValues = new boolean[keys.length];
+        Arrays.fill(this.sharedValues, 0, source.size, true);
+        Arrays.fill(source.sharedValues, 0, source.size, true);
+        this.size = source.size;
+        this.index = source.index.clone();
+        this.sortedPositions = source.sortedPositions;
+    }
+
+    /**
+     * Create a copy of this map. The value lists are shared between this map and the copy until they're replaced, or modified
+     * via {@link #computeIfAbsent}.
+     */
+    public CompactHeaderMap copy() {
+        return new CompactHeaderMap(this);
+    }
+
+    /**
+     * Compute the state that is otherwise computed lazily when the map is read, so that the map can be read concurrently once
+     * it's no longer modified and has been safely published, e.g. via a final field.
+     */
+    public void prepareForConcurrentReads() {
+        sortedPositions();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return position(key) >= 0;
+    }
+
+    @Override
+    public List<String> get(Object key) {
+        int position = position(key);
+        return position >= 0 ? values[position] : null;
+    }
+
+    @Override
+    public List<String> put(String key, List<String> value) {
+        Objects.requireNonNull(key, "key");
+        int hash = hash(key);
+        int position = position(key, hash);
+        if (position >= 0) {
+            List<String> previous = values[position];
+            values[position] = value;
+            sharedValues[position] = false;
+            return previous;
+        }
+
+        append(key, hash, value);
+        return null;
+    }
+
+    @Override
+    public List<String> computeIfAbsent(String key, Function<? super String, ? extends List<String>> mappingFunction) {
+        Objects.requireNonNull(key, "key");
+        int hash = hash(key);
+        int position = position(key, hash);
+        if (position >= 0 && values[position] != null) {
+            if (sharedValues[position]) {
+                values[position] = new ArrayList<>(values[position]);
+                sharedValues[position] = false;
+            }
+            return values[position];
+        }
+
+        List<String> value = mappingFunction.apply(key);
+        if (value == null) {
+            return null;
+        }
+
+        if (position >= 0) {
+            values[position] = value;
+            sharedValues[position] = false;
+        } else {
+            append(key, hash, value);
+        }
+        return value;
+    }
+
+    @Override
+    public List<String> remove(Object key) {
+        int position = position(key);
+        if (position < 0) {
+            return null;
+        }
+        List<String> previous = values[position];
+        removeAt(position);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(keys, 0, size, null);
+        Arrays.fill(values, 0, size, null);
+        Arrays.fill(index, 0);
+        size = 0;
+        sortedPositions = null;
+        modCount++;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super List<String>> action) {
+        int expectedModCount = modCount;
+        int[] positions = sortedPositions();
+        for (int i = 0; i < size; i++) {
+            int position = positions[i];
+            action.accept(keys[position], values[position]);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    @Override
+    public Set<Entry<String, List<String>>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private int position(Object key) {
+        if (!(key instanceof String)) {
+            return -1;
+        }
+        String name = (String) key;
+        return position(name, hash(name));
+    }
+
+    private int position(String key, int hash) {
+        int mask = index.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int entry = index[slot];
+            if (entry == 0) {
+                return -1;
+            }
+            int position = entry - 1;
+            String candidate = keys[position];
+            // equalsIgnoreCase checks for identical instances first, e.g. for header name constants
+            if (hashes[position] == hash && candidate.equalsIgnoreCase(key)) {
+                return position;
+            }
+        }
+    }
+
+    private void append(String key, int hash, List<String> value) {
+        if (size == keys.length) {
+            grow();
+        }
+        keys[size] = key;
+        hashes[size] = hash;
+        values[size] = value;
+        sharedValues[size] = false;
+        insertIntoIndex(size);
+        size++;
+        sortedPositions = null;
+        modCount++;
+    }
+
+    private void removeAt(int position) {
+        int remaining = size - position - 1;
+        System.arraycopy(keys, position + 1, keys, position, remaining);
+        System.arraycopy(hashes, position + 1, hashes, position, remaining);
+        System.arraycopy(values, position + 1, values, position, remaining);
+        System.arraycopy(sharedValues, position + 1, sharedValues, position, remaining);
+        size--;
+        keys[size] = null;
+        values[size] = null;
+
+        // Positions after the removed entry have shifted, so the index is rebuilt. Removing headers is rare.
+        Arrays.fill(index, 0);
+        for (int i = 0; i < size; i++) {
+            insertIntoIndex(i);
+        }
+        sortedPositions = null;
+        modCount++;
+    }
+
+    private void grow() {
+        int capacity = keys.length * 2;
+        keys = Arrays.copyOf(keys, capacity);
+        hashes = Arrays.copyOf(hashes, capacity);
+        values = Arrays.copyOf(values, capacity);
+        sharedValues = Arrays.copyOf(sharedValues, capacity);
+        index = new int[capacity * 2];
+        for (int i = 0; i < size; i++) {
+            insertIntoIndex(i);
+        }
+    }
+
+    private void insertIntoIndex(int position) {
+        int mask = index.length - 1;
+        int slot = hashes[position] & mask;
+        while (index[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        index[slot] = position + 1;
+    }
+
+    private int[] sortedPositions() {
+        if (sortedPositions == null) {
+            int[] positions = new int[size];
+            for (int i = 0; i < size; i++) {
+                // Insertion sort, because header sets are small
+                int j = i;
+                while (j > 0 && String.CASE_INSENSITIVE_ORDER.compare(keys[positions[j - 1]], keys[i]) > 0) {
+                    positions[j] = positions[j - 1];
+                    j--;
+                }
+                positions[j] = i;
+            }
+            sortedPositions = positions;
+        }
+        return sortedPositions;
+    }
+
+    /**
+     * A hash of the key that is consistent with {@link String#equalsIgnoreCase}, computed without allocating a lower-case
+     * copy of the key.
+     */
+    private static int hash(String key) {
+        int hash = 0;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c < 128) {
+                if (c >= 'A' && c <= 'Z') {
+                    c += 'a' - 'A';
+                }
+            } else {
+                c = Character.toLowerCase(Character.toUpperCase(c));
+            }
+            hash = 31 * hash + c;
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, List<String>>> {
+        @Override
+        public Iterator<Entry<String, List<String>>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            CompactHeaderMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, List<String>>> {
+        private int[] positions = sortedPositions();
+        private int next;
+        private String lastKey;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next < positions.length;
+        }
+
+        @Override
+        public Entry<String, List<String>> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastKey = keys[positions[next++]];
+            return new HeaderEntry(lastKey);
+        }
+
+        @Override
+        public void remove() {
+            if (lastKey == null) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            CompactHeaderMap.this.remove(lastKey);
+            lastKey = null;
+
+            // The remaining entries keep their relative order, so continue from the same point in the recomputed order
+            int consumed = next - 1;
+            positions = sortedPositions();
+            next = consumed;
+            expectedModCount = modCount;
+        }
+    }
+
+    private final class HeaderEntry implements Entry<String, List<String>> {
+        private final String key;
+
+        private HeaderEntry(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public List<String> getValue() {
+            return get(key);
+        }
+
+        @Override
+        public List<String> setValue(List<String> value) {
+            int position = position(key);
+            if (position < 0) {
+                throw new IllegalStateException("Entry was removed from the map.");
+            }
+            List<String> previous = values[position];
+            values[position] = value;
+            sharedValues[position] = false;
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> that = (Map.Entry<?, ?>) o;
+            return key.equals(that.getKey()) && Objects.equals(getValue(), that.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+}
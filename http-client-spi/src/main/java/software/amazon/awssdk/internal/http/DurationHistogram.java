@@ -0,0 +1,126 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.internal.http;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * A fixed-size, lock-free histogram of durations, used to report latency percentiles without retaining every recorded value.
+ *
+ * <p>Values are recorded in nanoseconds into log-linear buckets: each power of two is split into {@value #SUB_BUCKETS} linear
+ * sub-buckets, so a reported percentile is at most 12.5% larger than the recorded value it represents.
+ */
+@SdkProtectedApi
+@ThreadSafe
+public final class DurationHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = bucketIndex(Long.MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public void record(Duration duration) {
+        recordNanos(duration.toNanos());
+    }
+
+    public void recordNanos(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(bucketIndex(value));
+        max.accumulate(value);
+    }
+
+    /**
+     * Return the values recorded since the last snapshot, and reset the histogram.
+     *
+     * <p>Values recorded concurrently with this call are either included in this snapshot or the next one, but the maximum may
+     * be attributed to a different snapshot than its count.
+     */
+    public Snapshot snapshotAndReset() {
+        long[] snapshotCounts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshotCounts[i] = counts.getAndSet(i, 0);
+            total += snapshotCounts[i];
+        }
+        return new Snapshot(snapshotCounts, total, max.getThenReset());
+    }
+
+    private static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lowerBound = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long maxNanos;
+
+        private Snapshot(long[] counts, long count, long maxNanos) {
+            this.counts = counts;
+            this.count = count;
+            this.maxNanos = maxNanos;
+        }
+
+        /**
+         * The number of values in this snapshot.
+         */
+        public long count() {
+            return count;
+        }
+
+        public Duration max() {
+            return Duration.ofNanos(maxNanos);
+        }
+
+        /**
+         * Return the value at the given percentile, between 0 and 100. The result is the upper bound of the bucket containing
+         * the value, capped to the maximum value recorded.
+         */
+        public Duration percentile(double percentile) {
+            if (count == 0) {
+                return Duration.ZERO;
+            }
+
+            long rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Duration.ofNanos(Math.min(bucketUpperBound(i), maxNanos));
+                }
+            }
+            return max();
+        }
+    }
+}
@@ -16,18 +16,17 @@
 package software.amazon.awssdk.internal.http;
 
 import static software.amazon.awssdk.utils.CollectionUtils.deepCopyMap;
+import static software.amazon.awssdk.utils.CollectionUtils.unmodifiableMapOfLists;
 
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.SdkHttpResponse;
-import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.Lazy;
 
 /**
@@ -45,7 +44,7 @@ public final class LowCopyListMap {
      * Create an empty {@link LowCopyListMap.ForBuilder} for header storage.
      */
     public static LowCopyListMap.ForBuilder emptyHeaders() {
-        return new LowCopyListMap.ForBuilder(() -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
+        return new LowCopyListMap.ForBuilder(CompactHeaderMap::new);
     }
 
     /**
@@ -55,6 +54,18 @@ public final class LowCopyListMap {
         return new LowCopyListMap.ForBuilder(LinkedHashMap::new);
     }
 
+    /**
+     * Copy the provided map, so that the copy can be modified without affecting the original. A {@link CompactHeaderMap} shares
+     * its value lists with the copy, and only copies them when they're modified.
+     */
+    private static Map<String, List<String>> copy(Map<String, List<String>> map,
+                                                  Supplier<Map<String, List<String>>> mapConstructor) {
+        if (map instanceof CompactHeaderMap) {
+            return ((CompactHeaderMap) map).copy();
+        }
+        return deepCopyMap(map, mapConstructor);
+    }
+
     @NotThreadSafe
     public static final class ForBuilder {
         /**
@@ -102,7 +113,7 @@ public final class LowCopyListMap {
 
         public Map<String, List<String>> forInternalWrite() {
             if (mapIsShared) {
-                this.map = deepCopyMap(map, mapConstructor);
+                this.map = copy(map, mapConstructor);
                 this.mapIsShared = false;
             }
             return this.map;
@@ -158,7 +169,10 @@ public final class LowCopyListMap {
         private ForBuildable(ForBuilder forBuilder) {
             this.mapConstructor = forBuilder.mapConstructor;
             this.map = forBuilder.map;
-            this.deeplyUnmodifiableMap = new Lazy<>(() -> CollectionUtils.deepUnmodifiableMap(this.map, this.mapConstructor));
+            if (map instanceof CompactHeaderMap) {
+                ((CompactHeaderMap) map).prepareForConcurrentReads();
+            }
+            this.deeplyUnmodifiableMap = new Lazy<>(() -> unmodifiableMapOfLists(copy(this.map, this.mapConstructor)));
         }
 
         public Map<String, List<String>> forExternalRead() {
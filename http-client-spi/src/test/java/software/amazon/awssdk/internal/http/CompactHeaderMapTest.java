@@ -0,0 +1,161 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.internal.http;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Test;
+
+public class CompactHeaderMapTest {
+    private static final List<String> NAMES = Arrays.asList("Host", "host", "HOST", "Content-Type", "content-type",
+                                                            "X-Amz-Date", "x-amz-date", "Authorization", "User-Agent",
+                                                            "x-amz-content-sha256", "Content-Length", "amz-sdk-request",
+                                                            "amz-sdk-invocation-id", "Accept", "Expect", "Range",
+                                                            "x-amz-meta-été", "X-AMZ-META-ÉTÉ");
+
+    @Test
+    public void lookups_ignoreCase() {
+        CompactHeaderMap map = new CompactHeaderMap();
+        map.put("Content-Type", singletonList("application/json"));
+
+        assertThat(map.get("content-type")).containsExactly("application/json");
+        assertThat(map.get("CONTENT-TYPE")).containsExactly("application/json");
+        assertThat(map.containsKey("cOnTeNt-TyPe")).isTrue();
+        assertThat(map.get("Content-Length")).isNull();
+        assertThat(map.get(null)).isNull();
+        assertThat(map.get(1)).isNull();
+    }
+
+    @Test
+    public void put_existingHeaderWithDifferentCase_retainsOriginalName() {
+        CompactHeaderMap map = new CompactHeaderMap();
+        map.put("Content-Type", singletonList("a"));
+        map.put("content-type", singletonList("b"));
+
+        assertThat(map).hasSize(1);
+        assertThat(map.keySet()).containsExactly("Content-Type");
+        assertThat(map.get("Content-Type")).containsExactly("b");
+    }
+
+    @Test
+    public void iteration_isInCaseInsensitiveOrder() {
+        CompactHeaderMap map = new CompactHeaderMap();
+        map.put("x-amz-date", singletonList("1"));
+        map.put("Host", singletonList("2"));
+        map.put("authorization", singletonList("3"));
+        map.put("Content-Type", singletonList("4"));
+
+        assertThat(map.keySet()).containsExactly("authorization", "Content-Type", "Host", "x-amz-date");
+        assertThat(map.toString()).isEqualTo("{authorization=[3], Content-Type=[4], Host=[2], x-amz-date=[1]}");
+    }
+
+    @Test
+    public void copy_modifyingCopy_doesNotModifyOriginal() {
+        CompactHeaderMap original = new CompactHeaderMap();
+        original.computeIfAbsent("Accept", k -> new ArrayList<>()).add("a");
+        original.put("Host", new ArrayList<>(singletonList("h")));
+
+        CompactHeaderMap copy = original.copy();
+        copy.computeIfAbsent("accept", k -> new ArrayList<>()).add("b");
+        copy.put("Range", singletonList("r"));
+        copy.remove("Host");
+
+        assertThat(original).containsOnlyKeys("Accept", "Host");
+        assertThat(original.get("Accept")).containsExactly("a");
+        assertThat(copy).containsOnlyKeys("Accept", "Range");
+        assertThat(copy.get("Accept")).containsExactly("a", "b");
+    }
+
+    @Test
+    public void copy_modifyingOriginal_doesNotModifyCopy() {
+        CompactHeaderMap original = new CompactHeaderMap();
+        original.computeIfAbsent("Accept", k -> new ArrayList<>()).add("a");
+
+        CompactHeaderMap copy = original.copy();
+        original.computeIfAbsent("Accept", k -> new ArrayList<>()).add("b");
+
+        assertThat(copy.get("Accept")).containsExactly("a");
+        assertThat(original.get("Accept")).containsExactly("a", "b");
+    }
+
+    @Test
+    public void iteratorRemove_removesEntryAndContinues() {
+        CompactHeaderMap map = new CompactHeaderMap();
+        map.put("c", singletonList("3"));
+        map.put("a", singletonList("1"));
+        map.put("b", singletonList("2"));
+
+        List<String> visited = new ArrayList<>();
+        Iterator<Map.Entry<String, List<String>>> iterator = map.entrySet().iterator();
+        while (iterator.hasNext()) {
+            String key = iterator.next().getKey();
+            visited.add(key);
+            if (key.equals("a")) {
+                iterator.remove();
+            }
+        }
+
+        assertThat(visited).containsExactly("a", "b", "c");
+        assertThat(map.keySet()).containsExactly("b", "c");
+    }
+
+    @Test
+    public void randomOperations_behaveLikeCaseInsensitiveTreeMap() {
+        Random random = new Random(0);
+        CompactHeaderMap map = new CompactHeaderMap();
+        Map<String, List<String>> expected = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+        for (int i = 0; i < 10_000; i++) {
+            String name = NAMES.get(random.nextInt(NAMES.size()));
+            switch (random.nextInt(5)) {
+                case 0:
+                    List<String> value = singletonList("v" + i);
+                    assertThat(map.put(name, new ArrayList<>(value))).isEqualTo(expected.put(name, new ArrayList<>(value)));
+                    break;
+                case 1:
+                    map.computeIfAbsent(name, k -> new ArrayList<>()).add("v" + i);
+                    expected.computeIfAbsent(name, k -> new ArrayList<>()).add("v" + i);
+                    break;
+                case 2:
+                    assertThat(map.remove(name)).isEqualTo(expected.remove(name));
+                    break;
+                case 3:
+                    map = map.copy();
+                    break;
+                default:
+                    if (random.nextInt(50) == 0) {
+                        map.clear();
+                        expected.clear();
+                    }
+                    break;
+            }
+
+            assertThat(map.get(name)).isEqualTo(expected.get(name));
+            assertThat(map).isEqualTo(expected);
+            assertThat(expected).isEqualTo(map);
+            assertThat(map.hashCode()).isEqualTo(expected.hashCode());
+            assertThat(map.keySet()).containsExactlyElementsOf(expected.keySet());
+        }
+    }
+}
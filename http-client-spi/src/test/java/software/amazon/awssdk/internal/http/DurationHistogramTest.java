@@ -0,0 +1,78 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.internal.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+public class DurationHistogramTest {
+
+    @Test
+    public void empty_reportsZero() {
+        DurationHistogram.Snapshot snapshot = new DurationHistogram().snapshotAndReset();
+
+        assertThat(snapshot.count()).isZero();
+        assertThat(snapshot.percentile(50)).isEqualTo(Duration.ZERO);
+        assertThat(snapshot.max()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void percentiles_withinBucketPrecision() {
+        DurationHistogram histogram = new DurationHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(Duration.ofMillis(i));
+        }
+
+        DurationHistogram.Snapshot snapshot = histogram.snapshotAndReset();
+
+        assertThat(snapshot.count()).isEqualTo(100);
+        assertThat(snapshot.max()).isEqualTo(Duration.ofMillis(100));
+        assertWithinPrecision(snapshot.percentile(50), Duration.ofMillis(50));
+        assertWithinPrecision(snapshot.percentile(99), Duration.ofMillis(99));
+        assertThat(snapshot.percentile(100)).isEqualTo(Duration.ofMillis(100));
+    }
+
+    @Test
+    public void smallValues_areExact() {
+        DurationHistogram histogram = new DurationHistogram();
+        histogram.recordNanos(3);
+        histogram.recordNanos(-1);
+
+        DurationHistogram.Snapshot snapshot = histogram.snapshotAndReset();
+
+        assertThat(snapshot.percentile(50)).isEqualTo(Duration.ZERO);
+        assertThat(snapshot.percentile(100)).isEqualTo(Duration.ofNanos(3));
+    }
+
+    @Test
+    public void snapshotAndReset_resetsHistogram() {
+        DurationHistogram histogram = new DurationHistogram();
+        histogram.record(Duration.ofSeconds(1));
+        histogram.snapshotAndReset();
+
+        histogram.record(Duration.ofMillis(1));
+        DurationHistogram.Snapshot snapshot = histogram.snapshotAndReset();
+
+        assertThat(snapshot.count()).isEqualTo(1);
+        assertThat(snapshot.max()).isEqualTo(Duration.ofMillis(1));
+    }
+
+    private static void assertWithinPrecision(Duration actual, Duration expected) {
+        assertThat(actual).isBetween(expected, Duration.ofNanos(expected.toNanos() + expected.toNanos() / 8));
+    }
+}
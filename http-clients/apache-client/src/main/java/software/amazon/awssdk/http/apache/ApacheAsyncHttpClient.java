@@ -0,0 +1,239 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache;
+
+import static software.amazon.awssdk.utils.Validate.paramNotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.apache.internal.async.ApacheAsyncExecution;
+import software.amazon.awssdk.http.apache.internal.async.BlockingIoThreads;
+import software.amazon.awssdk.http.apache.internal.async.ExecutionLimiter;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An implementation of {@link SdkAsyncHttpClient} that runs requests on an {@link ApacheHttpClient}, for applications that
+ * need features only the Apache client supports, e.g. NTLM proxy authentication, with the asynchronous service clients.
+ *
+ * <p>Each request holds a thread of a bounded executor while it's sent and until the response headers are received. The
+ * response body is then read on the same executor only while the
+ * {@link software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler}'s subscriber has outstanding demand. Unlike the Netty
+ * client, throughput is therefore limited by the number of threads, which defaults to the maximum number of connections.
+ * On Java 21 and later, {@link Builder#useVirtualThreads(Boolean)} makes these threads cheap. A request keeps its connection
+ * until its body has been read, so requests beyond the size of the connection pool wait without holding a thread.
+ *
+ * <p>This can be created via {@link #builder()}
+ *
+ * <pre class="brush: java">
+ * SdkAsyncHttpClient httpClient =
+ *     ApacheAsyncHttpClient.builder()
+ *                          .httpClientBuilder(ApacheHttpClient.builder().proxyConfiguration(proxyConfiguration))
+ *                          .maxConcurrency(100)
+ *                          .build();
+ * </pre>
+ */
+@SdkPublicApi
+public final class ApacheAsyncHttpClient implements SdkAsyncHttpClient {
+    private static final String THREAD_NAME_PREFIX = "sdk-apache-async-io";
+    private static final long THREAD_KEEP_ALIVE_SECONDS = 60;
+
+    private final SdkHttpClient httpClient;
+    private final ExecutionLimiter executionLimiter;
+    private final Executor executor;
+    private final ThreadPoolExecutor ownedExecutor;
+
+    private ApacheAsyncHttpClient(DefaultBuilder builder, AttributeMap serviceDefaults) {
+        int maxConcurrency = builder.maxConcurrency != null
+                             ? builder.maxConcurrency
+                             : serviceDefaults.get(SdkHttpConfigurationOption.MAX_CONNECTIONS);
+
+        // Size the connection pool to the number of threads, unless the Apache client builder overrides it
+        AttributeMap httpClientDefaults = AttributeMap.builder()
+                                                      .put(SdkHttpConfigurationOption.MAX_CONNECTIONS, maxConcurrency)
+                                                      .build()
+                                                      .merge(serviceDefaults);
+        ApacheHttpClient.Builder httpClientBuilder = builder.httpClientBuilder != null
+                                                     ? builder.httpClientBuilder
+                                                     : ApacheHttpClient.builder();
+        ApacheHttpClient apacheHttpClient = (ApacheHttpClient) httpClientBuilder.buildWithDefaults(httpClientDefaults);
+        this.httpClient = apacheHttpClient;
+        this.executionLimiter = new ExecutionLimiter(apacheHttpClient.maxConnections());
+
+        if (builder.executor != null) {
+            this.executor = builder.executor;
+            this.ownedExecutor = null;
+        } else {
+            boolean virtualThreads = Boolean.TRUE.equals(builder.useVirtualThreads);
+            this.ownedExecutor = new ThreadPoolExecutor(maxConcurrency, maxConcurrency,
+                                                        THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                                                        new LinkedBlockingQueue<>(),
+                                                        BlockingIoThreads.threadFactory(THREAD_NAME_PREFIX, virtualThreads));
+            this.ownedExecutor.allowCoreThreadTimeOut(true);
+            this.executor = ownedExecutor;
+        }
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Create an {@link ApacheAsyncHttpClient} with the default properties
+     *
+     * @return an {@link ApacheAsyncHttpClient}
+     */
+    public static SdkAsyncHttpClient create() {
+        return new DefaultBuilder().build();
+    }
+
+    @Override
+    public CompletableFuture<Void> execute(AsyncExecuteRequest request) {
+        paramNotNull(request, "request");
+        paramNotNull(request.request(), "SdkHttpRequest");
+        paramNotNull(request.requestContentPublisher(), "RequestContentPublisher");
+        paramNotNull(request.responseHandler(), "ResponseHandler");
+
+        return executionLimiter.submit(new ApacheAsyncExecution(httpClient, request, executor));
+    }
+
+    @Override
+    public String clientName() {
+        return httpClient.clientName();
+    }
+
+    @Override
+    public void close() {
+        httpClient.close();
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Builder for creating an instance of {@link ApacheAsyncHttpClient}.
+     */
+    public interface Builder extends SdkAsyncHttpClient.Builder<ApacheAsyncHttpClient.Builder> {
+
+        /**
+         * Configure the {@link ApacheHttpClient} that sends the requests, e.g. its proxy and timeouts. The service defaults
+         * are applied to it when this client is built. If not specified, an {@link ApacheHttpClient} with the default
+         * configuration is used.
+         *
+         * @param httpClientBuilder the builder of the Apache client
+         * @return this builder for method chaining.
+         */
+        Builder httpClientBuilder(ApacheHttpClient.Builder httpClientBuilder);
+
+        /**
+         * The maximum number of requests that are executed concurrently, i.e. the number of threads that run the blocking
+         * I/O. Additional requests are queued until a thread is available. This is also the default maximum number of
+         * connections of the Apache client. Defaults to the default maximum number of connections of the service.
+         *
+         * <p>Independently of the threads, no more requests than the Apache client has connections are in flight at once,
+         * counting each request until its response body has been read. Further requests wait without holding a thread.
+         *
+         * <p>This is ignored if an {@link #executor(Executor)} is configured.
+         *
+         * @param maxConcurrency the maximum number of concurrent requests
+         * @return this builder for method chaining.
+         */
+        Builder maxConcurrency(Integer maxConcurrency);
+
+        /**
+         * Whether the threads that run the blocking I/O are virtual threads. This has no effect if the JVM doesn't support
+         * virtual threads, or if an {@link #executor(Executor)} is configured. Defaults to false.
+         *
+         * @param useVirtualThreads true to use virtual threads when available
+         * @return this builder for method chaining.
+         */
+        Builder useVirtualThreads(Boolean useVirtualThreads);
+
+        /**
+         * The executor that runs the blocking I/O of the requests, including reading the response bodies. The executor
+         * should be bounded to match the connection pool of the Apache client, and is not shut down when the client is
+         * closed. If not specified, the client creates a pool of {@link #maxConcurrency(Integer)} threads that is shut down
+         * when the client is closed.
+         *
+         * @param executor the executor to use
+         * @return this builder for method chaining.
+         */
+        Builder executor(Executor executor);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private ApacheHttpClient.Builder httpClientBuilder;
+        private Integer maxConcurrency;
+        private Boolean useVirtualThreads;
+        private Executor executor;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public Builder httpClientBuilder(ApacheHttpClient.Builder httpClientBuilder) {
+            this.httpClientBuilder = httpClientBuilder;
+            return this;
+        }
+
+        public void setHttpClientBuilder(ApacheHttpClient.Builder httpClientBuilder) {
+            httpClientBuilder(httpClientBuilder);
+        }
+
+        @Override
+        public Builder maxConcurrency(Integer maxConcurrency) {
+            this.maxConcurrency = Validate.isPositiveOrNull(maxConcurrency, "maxConcurrency");
+            return this;
+        }
+
+        public void setMaxConcurrency(Integer maxConcurrency) {
+            maxConcurrency(maxConcurrency);
+        }
+
+        @Override
+        public Builder useVirtualThreads(Boolean useVirtualThreads) {
+            this.useVirtualThreads = useVirtualThreads;
+            return this;
+        }
+
+        public void setUseVirtualThreads(Boolean useVirtualThreads) {
+            useVirtualThreads(useVirtualThreads);
+        }
+
+        @Override
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public void setExecutor(Executor executor) {
+            executor(executor);
+        }
+
+        @Override
+        public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
+            return new ApacheAsyncHttpClient(this, serviceDefaults.merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS));
+        }
+    }
+}
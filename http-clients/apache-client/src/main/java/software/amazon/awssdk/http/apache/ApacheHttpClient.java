@@ -25,6 +25,7 @@ import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
 
 import java.io.IOException;
 import java.net.InetAddress;
+import java.nio.file.Path;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
@@ -57,16 +58,16 @@ import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLInitializationException;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
-import org.apache.http.impl.conn.DefaultSchemePortResolver;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.pool.PoolStats;
-import org.apache.http.protocol.HttpRequestExecutor;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ConnectionPoolMetric;
 import software.amazon.awssdk.http.ExecutableHttpRequest;
 import software.amazon.awssdk.http.HttpExecuteRequest;
 import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.SdkHttpResponse;
@@ -79,13 +80,19 @@ import software.amazon.awssdk.http.apache.internal.SdkConnectionReuseStrategy;
 import software.amazon.awssdk.http.apache.internal.SdkProxyRoutePlanner;
 import software.amazon.awssdk.http.apache.internal.conn.ClientConnectionManagerFactory;
 import software.amazon.awssdk.http.apache.internal.conn.IdleConnectionReaper;
+import software.amazon.awssdk.http.apache.internal.conn.MaintenanceConfiguration;
 import software.amazon.awssdk.http.apache.internal.conn.SdkConnectionKeepAliveStrategy;
+import software.amazon.awssdk.http.apache.internal.conn.SdkPoolingHttpClientConnectionManager;
 import software.amazon.awssdk.http.apache.internal.conn.SdkTlsSocketFactory;
+import software.amazon.awssdk.http.apache.internal.conn.UnixDomainSocketConnectionSocketFactory;
 import software.amazon.awssdk.http.apache.internal.impl.ApacheHttpRequestFactory;
 import software.amazon.awssdk.http.apache.internal.impl.ApacheSdkHttpClient;
 import software.amazon.awssdk.http.apache.internal.impl.ConnectionManagerAwareHttpClient;
+import software.amazon.awssdk.http.apache.internal.impl.SdkHttpRequestExecutor;
 import software.amazon.awssdk.http.apache.internal.utils.ApacheUtils;
+import software.amazon.awssdk.metrics.MetricCollection;
 import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricPublisher;
 import software.amazon.awssdk.metrics.NoOpMetricCollector;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.Logger;
@@ -131,6 +138,13 @@ public final class ApacheHttpClient implements SdkHttpClient {
         return new DefaultBuilder();
     }
 
+    /**
+     * @return The maximum number of connections in the connection pool.
+     */
+    int maxConnections() {
+        return resolvedOptions.get(SdkHttpConfigurationOption.MAX_CONNECTIONS);
+    }
+
     /**
      * Create a {@link ApacheHttpClient} with the default properties
      *
@@ -150,7 +164,9 @@ public final class ApacheHttpClient implements SdkHttpClient {
         // from the reaper. See https://github.com/aws/aws-sdk-java/issues/722.
         HttpClientConnectionManager cm = cmFactory.create(configuration, standardOptions);
 
-        builder.setRequestExecutor(new HttpRequestExecutor())
+        int expectContinueTimeout = saturatedCast(standardOptions.get(SdkHttpConfigurationOption.EXPECT_CONTINUE_TIMEOUT)
+                                                                 .toMillis());
+        builder.setRequestExecutor(new SdkHttpRequestExecutor(expectContinueTimeout))
                // SDK handles decompression
                .disableContentCompression()
                .setKeepAliveStrategy(buildKeepAliveStrategy(standardOptions))
@@ -162,9 +178,9 @@ public final class ApacheHttpClient implements SdkHttpClient {
 
         addProxyConfig(builder, configuration);
 
-        if (useIdleConnectionReaper(standardOptions)) {
-            IdleConnectionReaper.getInstance().registerConnectionManager(
-                    cm, standardOptions.get(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT).toMillis());
+        MaintenanceConfiguration maintenance = maintenanceConfiguration(configuration, standardOptions);
+        if (maintenance.isEnabled()) {
+            IdleConnectionReaper.getInstance().registerConnectionManager(cm, maintenance);
         }
 
         return new ApacheSdkHttpClient(builder.build(), cm);
@@ -211,6 +227,17 @@ public final class ApacheHttpClient implements SdkHttpClient {
         return Boolean.TRUE.equals(standardOptions.get(SdkHttpConfigurationOption.REAP_IDLE_CONNECTIONS));
     }
 
+    private MaintenanceConfiguration maintenanceConfiguration(DefaultBuilder configuration, AttributeMap standardOptions) {
+        Long maxIdleTime = useIdleConnectionReaper(standardOptions)
+                           ? standardOptions.get(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT).toMillis()
+                           : null;
+        return MaintenanceConfiguration.builder()
+                                       .maxIdleTime(maxIdleTime)
+                                       .metricsPublisher(configuration.connectionPoolMetricsPublisher)
+                                       .metricsPublishInterval(configuration.connectionPoolMetricsPublishInterval)
+                                       .build();
+    }
+
     private boolean isAuthenticatedProxy(ProxyConfiguration proxyConfiguration) {
         return proxyConfiguration.username() != null && proxyConfiguration.password() != null;
     }
@@ -380,6 +407,16 @@ public final class ApacheHttpClient implements SdkHttpClient {
          */
         Builder expectContinueEnabled(Boolean expectContinueEnabled);
 
+        /**
+         * The maximum amount of time to wait for a "100 Continue" response during an expect-continue handshake before the
+         * request body is sent anyway. If the server responds with a final response (e.g. a 403 or a 503) before then, the body
+         * is not sent at all and the connection is closed instead of being reused. Must be positive.
+         *
+         * <p>
+         * By default, this is 3 seconds.
+         */
+        Builder expectContinueTimeout(Duration expectContinueTimeout);
+
         /**
          * The maximum amount of time that a connection should be allowed to remain open, regardless of usage frequency.
          */
@@ -435,6 +472,22 @@ public final class ApacheHttpClient implements SdkHttpClient {
          */
         Builder tcpKeepAlive(Boolean keepConnectionAlive);
 
+        /**
+         * Configure the path of a Unix domain socket through which all connections are made instead of TCP, e.g. to reach a
+         * proxy or mock server on the same host. The host of each request's URI is still sent in the Host header and used for
+         * TLS, but it is not resolved, so a configured {@link #dnsResolver(DnsResolver)} is not used.
+         *
+         * <p>Unix domain sockets require Java 16 or later. TCP socket options, including {@link #tcpKeepAlive(Boolean)}, are
+         * not applied to Unix domain socket connections.
+         *
+         * <p>
+         * By default, this is not configured and connections use TCP.
+         *
+         * @param unixDomainSocketPath The path of the socket.
+         * @return the builder for method chaining.
+         */
+        Builder unixDomainSocketPath(Path unixDomainSocketPath);
+
         /**
          * Configure the {@link TlsKeyManagersProvider} that will provide the {@link javax.net.ssl.KeyManager}s to use
          * when constructing the SSL context.
@@ -450,6 +503,52 @@ public final class ApacheHttpClient implements SdkHttpClient {
          * when constructing the SSL context.
          */
         Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+
+        /**
+         * Configure how long a connection in the connection pool must have been idle before it's checked for having been closed
+         * by the remote host when it's leased. The check is a blocking socket read on the request path, so a longer interval
+         * makes requests that reuse a connection cheaper, but makes it more likely that a closed connection is leased and fails.
+         *
+         * <p>
+         * By default, a connection that's been idle for longer than 2 seconds is checked when it's leased.
+         *
+         * @param connectionValidationInterval The time a connection must have been idle before it's checked.
+         * @return the builder for method chaining.
+         */
+        Builder connectionValidationInterval(Duration connectionValidationInterval);
+
+        /**
+         * Configure a {@link MetricPublisher} to which the state of the client's connection pool is periodically published.
+         *
+         * <p>Each published {@link MetricCollection} contains one child collection per remote host, named after the host's
+         * URI, which contains the {@link ConnectionPoolMetric}s of the host's connection pool along with
+         * {@link HttpMetric#MAX_CONCURRENCY}, {@link HttpMetric#AVAILABLE_CONCURRENCY}, {@link HttpMetric#LEASED_CONCURRENCY}
+         * and {@link HttpMetric#PENDING_CONCURRENCY_ACQUIRES}.
+         *
+         * <p>The metrics are published by a thread shared by all Apache clients. The publisher is not closed when the client
+         * is closed.
+         *
+         * <p>
+         * By default, connection pool metrics are not published.
+         *
+         * @param connectionPoolMetricsPublisher The publisher for the connection pool metrics.
+         * @return the builder for method chaining.
+         * @see #connectionPoolMetricsPublishInterval(Duration)
+         */
+        Builder connectionPoolMetricsPublisher(MetricPublisher connectionPoolMetricsPublisher);
+
+        /**
+         * Configure how often the connection pool metrics are published to the
+         * {@link #connectionPoolMetricsPublisher(MetricPublisher)}. Counts and durations in each publication cover the interval
+         * since the previous one.
+         *
+         * <p>
+         * By default, this is 1 minute.
+         *
+         * @param connectionPoolMetricsPublishInterval The interval between publications.
+         * @return the builder for method chaining.
+         */
+        Builder connectionPoolMetricsPublishInterval(Duration connectionPoolMetricsPublishInterval);
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -461,6 +560,9 @@ public final class ApacheHttpClient implements SdkHttpClient {
         private CredentialsProvider credentialsProvider;
         private DnsResolver dnsResolver;
         private ConnectionSocketFactory socketFactory;
+        private Duration connectionValidationInterval;
+        private MetricPublisher connectionPoolMetricsPublisher;
+        private Duration connectionPoolMetricsPublishInterval;
 
         private DefaultBuilder() {
         }
@@ -541,6 +643,17 @@ public final class ApacheHttpClient implements SdkHttpClient {
             this.expectContinueEnabled = useExpectContinue;
         }
 
+        @Override
+        public Builder expectContinueTimeout(Duration expectContinueTimeout) {
+            Validate.isPositive(expectContinueTimeout, "expectContinueTimeout");
+            standardOptions.put(SdkHttpConfigurationOption.EXPECT_CONTINUE_TIMEOUT, expectContinueTimeout);
+            return this;
+        }
+
+        public void setExpectContinueTimeout(Duration expectContinueTimeout) {
+            expectContinueTimeout(expectContinueTimeout);
+        }
+
         @Override
         public Builder connectionTimeToLive(Duration connectionTimeToLive) {
             standardOptions.put(SdkHttpConfigurationOption.CONNECTION_TIME_TO_LIVE, connectionTimeToLive);
@@ -621,6 +734,16 @@ public final class ApacheHttpClient implements SdkHttpClient {
             tcpKeepAlive(keepConnectionAlive);
         }
 
+        @Override
+        public Builder unixDomainSocketPath(Path unixDomainSocketPath) {
+            standardOptions.put(SdkHttpConfigurationOption.UNIX_DOMAIN_SOCKET_PATH, unixDomainSocketPath);
+            return this;
+        }
+
+        public void setUnixDomainSocketPath(Path unixDomainSocketPath) {
+            unixDomainSocketPath(unixDomainSocketPath);
+        }
+
         @Override
         public Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
             standardOptions.put(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER, tlsKeyManagersProvider);
@@ -641,6 +764,38 @@ public final class ApacheHttpClient implements SdkHttpClient {
             tlsTrustManagersProvider(tlsTrustManagersProvider);
         }
 
+        @Override
+        public Builder connectionValidationInterval(Duration connectionValidationInterval) {
+            this.connectionValidationInterval = Validate.isPositiveOrNull(connectionValidationInterval,
+                                                                          "connectionValidationInterval");
+            return this;
+        }
+
+        public void setConnectionValidationInterval(Duration connectionValidationInterval) {
+            connectionValidationInterval(connectionValidationInterval);
+        }
+
+        @Override
+        public Builder connectionPoolMetricsPublisher(MetricPublisher connectionPoolMetricsPublisher) {
+            this.connectionPoolMetricsPublisher = connectionPoolMetricsPublisher;
+            return this;
+        }
+
+        public void setConnectionPoolMetricsPublisher(MetricPublisher connectionPoolMetricsPublisher) {
+            connectionPoolMetricsPublisher(connectionPoolMetricsPublisher);
+        }
+
+        @Override
+        public Builder connectionPoolMetricsPublishInterval(Duration connectionPoolMetricsPublishInterval) {
+            this.connectionPoolMetricsPublishInterval = Validate.isPositiveOrNull(connectionPoolMetricsPublishInterval,
+                                                                                  "connectionPoolMetricsPublishInterval");
+            return this;
+        }
+
+        public void setConnectionPoolMetricsPublishInterval(Duration connectionPoolMetricsPublishInterval) {
+            connectionPoolMetricsPublishInterval(connectionPoolMetricsPublishInterval);
+        }
+
         @Override
         public SdkHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
             AttributeMap resolvedOptions = standardOptions.build().merge(serviceDefaults).merge(
@@ -654,16 +809,19 @@ public final class ApacheHttpClient implements SdkHttpClient {
         public HttpClientConnectionManager create(ApacheHttpClient.DefaultBuilder configuration,
                                                   AttributeMap standardOptions) {
             ConnectionSocketFactory sslsf = getPreferredSocketFactory(configuration, standardOptions);
+            Path unixDomainSocketPath = standardOptions.get(SdkHttpConfigurationOption.UNIX_DOMAIN_SOCKET_PATH);
 
-            PoolingHttpClientConnectionManager cm = new
-                    PoolingHttpClientConnectionManager(
-                    createSocketFactoryRegistry(sslsf),
-                    null,
-                    DefaultSchemePortResolver.INSTANCE,
-                    configuration.dnsResolver,
+            SdkPoolingHttpClientConnectionManager cm = new SdkPoolingHttpClientConnectionManager(
+                    createSocketFactoryRegistry(sslsf, unixDomainSocketPath),
+                    unixDomainSocketPath != null ? UnixDomainSocketConnectionSocketFactory.LOOPBACK_DNS_RESOLVER
+                                                 : configuration.dnsResolver,
                     standardOptions.get(SdkHttpConfigurationOption.CONNECTION_TIME_TO_LIVE).toMillis(),
                     TimeUnit.MILLISECONDS);
 
+            if (configuration.connectionValidationInterval != null) {
+                cm.setValidateAfterInactivity(saturatedCast(configuration.connectionValidationInterval.toMillis()));
+            }
+
             cm.setDefaultMaxPerRoute(standardOptions.get(SdkHttpConfigurationOption.MAX_CONNECTIONS));
             cm.setMaxTotal(standardOptions.get(SdkHttpConfigurationOption.MAX_CONNECTIONS));
             cm.setDefaultSocketConfig(buildSocketConfig(standardOptions));
@@ -747,9 +905,16 @@ public final class ApacheHttpClient implements SdkHttpClient {
                                .build();
         }
 
-        private Registry<ConnectionSocketFactory> createSocketFactoryRegistry(ConnectionSocketFactory sslSocketFactory) {
+        private Registry<ConnectionSocketFactory> createSocketFactoryRegistry(ConnectionSocketFactory sslSocketFactory,
+                                                                              Path unixDomainSocketPath) {
+            ConnectionSocketFactory plainSocketFactory = PlainConnectionSocketFactory.getSocketFactory();
+            if (unixDomainSocketPath != null) {
+                plainSocketFactory = new UnixDomainSocketConnectionSocketFactory(unixDomainSocketPath, plainSocketFactory);
+                sslSocketFactory = new UnixDomainSocketConnectionSocketFactory(unixDomainSocketPath, sslSocketFactory);
+            }
+
             return RegistryBuilder.<ConnectionSocketFactory>create()
-                    .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                    .register("http", plainSocketFactory)
                     .register("https", sslSocketFactory)
                     .build();
         }
@@ -19,6 +19,7 @@ import org.apache.http.HttpResponse;
 import org.apache.http.impl.client.DefaultClientConnectionReuseStrategy;
 import org.apache.http.protocol.HttpContext;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.apache.internal.impl.SdkHttpRequestExecutor;
 
 /**
  * Do not reuse connections that returned a 5xx error.
@@ -27,6 +28,9 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
  * (e.g. an undocumented service's 503 'SlowDown') and sometimes we might want to close the connection (e.g. S3's 400
  * RequestTimeout or Glacier's 408 RequestTimeoutException), but this is good enough for the majority of services, and the ones
  * for which it is not should not be impacted too harshly.
+ *
+ * <p>Connections on which an "Expect: 100-continue" request was rejected before its body was sent are not reused either,
+ * because the server may still be waiting for that body.
  */
 @SdkInternalApi
 public class SdkConnectionReuseStrategy extends DefaultClientConnectionReuseStrategy {
@@ -40,6 +44,10 @@ public class SdkConnectionReuseStrategy extends DefaultClientConnectionReuseStra
             return false;
         }
 
+        if (Boolean.TRUE.equals(context.getAttribute(SdkHttpRequestExecutor.REQUEST_ENTITY_NOT_SENT))) {
+            return false;
+        }
+
         return !is500(response);
     }
 
@@ -0,0 +1,122 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.async;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+
+/**
+ * Executes a single {@link AsyncExecuteRequest} with a blocking {@link SdkHttpClient} on an executor.
+ *
+ * <p>The request is prepared and sent on the executor, because the Apache client reads the request body while preparing
+ * requests without a content length. The response body is then published to the response handler by an
+ * {@link InputStreamPublisher}. Cancelling the execute future aborts the request, and interrupts the executor thread if it's
+ * still sending the request.
+ */
+@SdkInternalApi
+public final class ApacheAsyncExecution {
+    private final SdkHttpClient httpClient;
+    private final AsyncExecuteRequest request;
+    private final Executor executor;
+    private final CompletableFuture<Void> executeFuture = new CompletableFuture<>();
+    private final AtomicBoolean failed = new AtomicBoolean(false);
+    private final FutureTask<Void> task = new FutureTask<>(this::run, null);
+    private volatile ExecutableHttpRequest executableRequest;
+
+    public ApacheAsyncExecution(SdkHttpClient httpClient, AsyncExecuteRequest request, Executor executor) {
+        this.httpClient = httpClient;
+        this.request = request;
+        this.executor = executor;
+    }
+
+    public CompletableFuture<Void> executeFuture() {
+        return executeFuture;
+    }
+
+    public CompletableFuture<Void> start() {
+        executeFuture.whenComplete((r, t) -> {
+            if (executeFuture.isCancelled()) {
+                task.cancel(true);
+                ExecutableHttpRequest executable = executableRequest;
+                if (executable != null) {
+                    executable.abort();
+                }
+            }
+        });
+
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            onError(e);
+        }
+        return executeFuture;
+    }
+
+    private void run() {
+        SdkAsyncHttpResponseHandler responseHandler = request.responseHandler();
+        try {
+            ExecutableHttpRequest executable = httpClient.prepareRequest(toHttpExecuteRequest());
+            executableRequest = executable;
+            if (executeFuture.isDone()) {
+                executable.abort();
+                return;
+            }
+
+            HttpExecuteResponse response = executable.call();
+            AbortableInputStream body = response.responseBody().orElseGet(ApacheAsyncExecution::emptyBody);
+            responseHandler.onHeaders(response.httpResponse());
+            responseHandler.onStream(new InputStreamPublisher(body, executor, executeFuture));
+        } catch (Throwable t) {
+            onError(t);
+        }
+    }
+
+    private static AbortableInputStream emptyBody() {
+        return AbortableInputStream.create(new ByteArrayInputStream(new byte[0]));
+    }
+
+    private HttpExecuteRequest toHttpExecuteRequest() {
+        return HttpExecuteRequest.builder()
+                                 .request(request.request())
+                                 .contentStreamProvider(() -> new PublisherInputStream(request.requestContentPublisher()))
+                                 .metricCollector(request.metricCollector().orElse(null))
+                                 .build();
+    }
+
+    private void onError(Throwable t) {
+        // Errors caused by the cancellation of the execute future aren't reported to the response handler
+        if (executeFuture.isDone() || !failed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            request.responseHandler().onError(t);
+        } finally {
+            executeFuture.completeExceptionally(t);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.async;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ThreadFactory;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Creates the threads that run the blocking I/O of {@link software.amazon.awssdk.http.apache.ApacheAsyncHttpClient}.
+ */
+@SdkInternalApi
+public final class BlockingIoThreads {
+    private static final Logger log = Logger.loggerFor(BlockingIoThreads.class);
+
+    private BlockingIoThreads() {
+    }
+
+    /**
+     * Create a thread factory for virtual threads if they're supported by the JVM, otherwise for daemon platform threads.
+     */
+    public static ThreadFactory threadFactory(String namePrefix, boolean virtualThreads) {
+        if (virtualThreads) {
+            Optional<ThreadFactory> virtualThreadFactory = virtualThreadFactory(namePrefix);
+            if (virtualThreadFactory.isPresent()) {
+                return virtualThreadFactory.get();
+            }
+            log.debug(() -> "Virtual threads are not supported by this JVM, using platform threads instead.");
+        }
+        return new ThreadFactoryBuilder().threadNamePrefix(namePrefix).daemonThreads(true).build();
+    }
+
+    /**
+     * Create a factory for virtual threads via reflection, because the SDK is compiled for Java 8. Equivalent to
+     * {@code Thread.ofVirtual().name(namePrefix + "-", 0).factory()}.
+     */
+    private static Optional<ThreadFactory> virtualThreadFactory(String namePrefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Method name = builderClass.getMethod("name", String.class, long.class);
+            builder = name.invoke(builder, namePrefix + "-", 0L);
+            return Optional.of((ThreadFactory) builderClass.getMethod("factory").invoke(builder));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.async;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Limits the number of {@link ApacheAsyncExecution}s in flight, from sending the request until the response body has been
+ * read, to the size of the connection pool.
+ *
+ * <p>A response body holds its connection until it's read on the executor, so if more requests were running than there are
+ * connections, the extra requests could occupy every executor thread while they wait for a connection, and the bodies that
+ * would release those connections could never be read. Requests over the limit wait here instead, without holding a thread,
+ * and are started in order as earlier ones complete.
+ */
+@SdkInternalApi
+public final class ExecutionLimiter {
+    private final Semaphore permits;
+    private final Queue<ApacheAsyncExecution> pending = new ConcurrentLinkedQueue<>();
+
+    public ExecutionLimiter(int maxExecutions) {
+        this.permits = new Semaphore(maxExecutions);
+    }
+
+    /**
+     * Start the execution now if the limit allows, otherwise once enough earlier executions have completed.
+     *
+     * @return The execute future of the execution.
+     */
+    public CompletableFuture<Void> submit(ApacheAsyncExecution execution) {
+        pending.add(execution);
+        startPending();
+        return execution.executeFuture();
+    }
+
+    private void startPending() {
+        while (!pending.isEmpty() && permits.tryAcquire()) {
+            ApacheAsyncExecution next = pending.poll();
+            if (next == null || next.executeFuture().isDone()) {
+                // Another thread took the last pending execution, or this one was cancelled while it was waiting
+                permits.release();
+                continue;
+            }
+            next.executeFuture().whenComplete((r, t) -> {
+                permits.release();
+                startPending();
+            });
+            next.start();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.async;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Publishes the contents of a response {@link AbortableInputStream} to a single subscriber, respecting its demand.
+ *
+ * <p>The blocking reads run on the provided executor, and only while the subscriber has outstanding demand, so a slow
+ * subscriber doesn't hold a thread. Cancelling the subscription aborts the stream, which closes the underlying connection
+ * instead of returning it to the pool with unread data.
+ */
+@SdkInternalApi
+public final class InputStreamPublisher implements Publisher<ByteBuffer> {
+    private static final Logger log = Logger.loggerFor(InputStreamPublisher.class);
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final AbortableInputStream inputStream;
+    private final Executor executor;
+    private final CompletableFuture<Void> executeFuture;
+    private final AtomicBoolean subscribed = new AtomicBoolean(false);
+
+    public InputStreamPublisher(AbortableInputStream inputStream, Executor executor, CompletableFuture<Void> executeFuture) {
+        this.inputStream = inputStream;
+        this.executor = executor;
+        this.executeFuture = executeFuture;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new NoOpSubscription());
+            subscriber.onError(new IllegalStateException("The response body only supports a single subscriber."));
+            return;
+        }
+        subscriber.onSubscribe(new InputStreamSubscription(subscriber));
+    }
+
+    private final class InputStreamSubscription implements Subscription {
+        private final Subscriber<? super ByteBuffer> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        private volatile boolean done;
+
+        private InputStreamSubscription(Subscriber<? super ByteBuffer> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (done) {
+                return;
+            }
+            if (n <= 0) {
+                fail(new IllegalArgumentException("Demand must be positive, but was " + n + " (see reactive-streams "
+                                                  + "specification rule 3.9)."));
+                return;
+            }
+            demand.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            scheduleDrain();
+        }
+
+        @Override
+        public void cancel() {
+            if (!done) {
+                done = true;
+                inputStream.abort();
+                IoUtils.closeQuietly(inputStream, log.logger());
+                executeFuture.complete(null);
+            }
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                    fail(e);
+                }
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                while (!done && demand.get() > 0) {
+                    readNext();
+                }
+                draining.set(false);
+
+                // Demand may have been added after the loop above finished, but before the flag was cleared
+                if (done || demand.get() == 0 || !draining.compareAndSet(false, true)) {
+                    return;
+                }
+            }
+        }
+
+        private void readNext() {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            try {
+                read = inputStream.read(buffer);
+            } catch (IOException | RuntimeException e) {
+                fail(e);
+                return;
+            }
+
+            if (done) {
+                return;
+            }
+
+            if (read < 0) {
+                done = true;
+                IoUtils.closeQuietly(inputStream, log.logger());
+                subscriber.onComplete();
+                executeFuture.complete(null);
+                return;
+            }
+
+            demand.decrementAndGet();
+            subscriber.onNext(ByteBuffer.wrap(buffer, 0, read));
+        }
+
+        private void fail(Throwable t) {
+            if (done) {
+                return;
+            }
+            done = true;
+            inputStream.abort();
+            IoUtils.closeQuietly(inputStream, log.logger());
+            subscriber.onError(t);
+            executeFuture.completeExceptionally(t);
+        }
+    }
+
+    private static final class NoOpSubscription implements Subscription {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
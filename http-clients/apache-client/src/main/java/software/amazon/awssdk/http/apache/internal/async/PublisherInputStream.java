@@ -0,0 +1,143 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.async;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * An {@link InputStream} that reads the buffers of a {@link Publisher}, so that an asynchronous request body can be written by
+ * the blocking Apache client.
+ *
+ * <p>One buffer is requested ahead of the one being read, so at most two buffers are held at a time. Reads block until the
+ * next buffer is published.
+ */
+@SdkInternalApi
+public final class PublisherInputStream extends InputStream {
+    private static final Object COMPLETE = new Object();
+
+    private final BlockingQueue<Object> events = new LinkedBlockingQueue<>();
+    private volatile Subscription subscription;
+    private ByteBuffer current;
+    private boolean done;
+
+    public PublisherInputStream(Publisher<ByteBuffer> publisher) {
+        publisher.subscribe(new BufferSubscriber());
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!nextBuffer()) {
+            return -1;
+        }
+        return current.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!nextBuffer()) {
+            return -1;
+        }
+        int read = Math.min(len, current.remaining());
+        current.get(b, off, read);
+        return read;
+    }
+
+    @Override
+    public int available() {
+        return current == null ? 0 : current.remaining();
+    }
+
+    @Override
+    public void close() {
+        if (!done) {
+            done = true;
+            Subscription s = subscription;
+            if (s != null) {
+                s.cancel();
+            }
+        }
+    }
+
+    /**
+     * @return True if {@link #current} has remaining bytes, or false if the publisher has completed.
+     */
+    private boolean nextBuffer() throws IOException {
+        while (current == null || !current.hasRemaining()) {
+            if (done) {
+                return false;
+            }
+
+            Object event = takeEvent();
+            if (event == COMPLETE) {
+                done = true;
+                return false;
+            }
+            if (event instanceof Throwable) {
+                done = true;
+                throw new IOException("Failed to read the request body.", (Throwable) event);
+            }
+
+            current = (ByteBuffer) event;
+            subscription.request(1);
+        }
+        return true;
+    }
+
+    private Object takeEvent() throws InterruptedIOException {
+        try {
+            return events.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new InterruptedIOException("Interrupted while waiting for the request body.");
+        }
+    }
+
+    private final class BufferSubscriber implements Subscriber<ByteBuffer> {
+        @Override
+        public void onSubscribe(Subscription s) {
+            subscription = s;
+            s.request(1);
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            events.add(byteBuffer);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            events.add(t);
+        }
+
+        @Override
+        public void onComplete() {
+            events.add(COMPLETE);
+        }
+    }
+}
@@ -16,10 +16,13 @@
 package software.amazon.awssdk.http.apache.internal.conn;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import org.apache.http.conn.HttpClientConnectionManager;
@@ -27,35 +30,43 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricPublisher;
 
 /**
- * Manages the reaping of idle connections.
+ * Performs the background maintenance of the connection pools of all Apache clients in the JVM on a single shared thread:
+ * reaping expired and idle connections, and optionally publishing the state of the pools as
+ * {@link software.amazon.awssdk.http.ConnectionPoolMetric}s.
+ *
+ * <p>Each registered connection manager is maintained by its own scheduled tasks, and the thread is stopped when the last
+ * connection manager is deregistered.
  */
 @SdkInternalApi
 public final class IdleConnectionReaper {
+    static final String METRICS_COLLECTION_NAME = "HttpClientConnectionPools";
+
     private static final Logger log = LoggerFactory.getLogger(IdleConnectionReaper.class);
 
     private static final IdleConnectionReaper INSTANCE = new IdleConnectionReaper();
 
-    private final Map<HttpClientConnectionManager, Long> connectionManagers;
+    private final Map<HttpClientConnectionManager, List<ScheduledFuture<?>>> connectionManagers;
 
-    private final Supplier<ExecutorService> executorServiceSupplier;
+    private final Supplier<ScheduledExecutorService> executorServiceSupplier;
 
     private final long sleepPeriod;
 
-    private volatile ExecutorService exec;
-
-    private volatile ReaperTask reaperTask;
+    private ScheduledExecutorService exec;
 
     private IdleConnectionReaper() {
-        this.connectionManagers =  new ConcurrentHashMap<>();
+        this.connectionManagers = new ConcurrentHashMap<>();
 
         this.executorServiceSupplier = () -> {
-            ExecutorService e = Executors.newSingleThreadExecutor(r -> {
+            ScheduledThreadPoolExecutor e = new ScheduledThreadPoolExecutor(1, r -> {
                 Thread t = new Thread(r, "idle-connection-reaper");
                 t.setDaemon(true);
                 return t;
             });
+            e.setRemoveOnCancelPolicy(true);
             return e;
         };
 
@@ -63,8 +74,8 @@ public final class IdleConnectionReaper {
     }
 
     @SdkTestInternalApi
-    IdleConnectionReaper(Map<HttpClientConnectionManager, Long> connectionManagers,
-                         Supplier<ExecutorService> executorServiceSupplier,
+    IdleConnectionReaper(Map<HttpClientConnectionManager, List<ScheduledFuture<?>>> connectionManagers,
+                         Supplier<ScheduledExecutorService> executorServiceSupplier,
                          long sleepPeriod) {
 
         this.connectionManagers = connectionManagers;
@@ -73,7 +84,7 @@ public final class IdleConnectionReaper {
     }
 
     /**
-     * Register the connection manager with this reaper.
+     * Register the connection manager with this reaper, to have its expired and idle connections closed.
      *
      * @param manager The connection manager.
      * @param maxIdleTime The maximum time connections in the connection manager are to remain idle before being reaped.
@@ -81,9 +92,39 @@ public final class IdleConnectionReaper {
      * otherwise.
      */
     public synchronized boolean registerConnectionManager(HttpClientConnectionManager manager, long maxIdleTime) {
-        boolean notPreviouslyRegistered = connectionManagers.put(manager, maxIdleTime) == null;
+        return registerConnectionManager(manager, MaintenanceConfiguration.builder().maxIdleTime(maxIdleTime).build());
+    }
+
+    /**
+     * Register the connection manager with this reaper, replacing any previous registration.
+     *
+     * @param manager The connection manager.
+     * @param configuration The maintenance to perform. Metrics are only supported for
+     * {@link SdkPoolingHttpClientConnectionManager}s.
+     * @return {@code true} If the connection manager was not previously registered with this reaper, {@code false}
+     * otherwise.
+     */
+    public synchronized boolean registerConnectionManager(HttpClientConnectionManager manager,
+                                                          MaintenanceConfiguration configuration) {
         setupExecutorIfNecessary();
-        return notPreviouslyRegistered;
+
+        List<ScheduledFuture<?>> tasks = new ArrayList<>();
+        if (configuration.maxIdleTime() != null) {
+            long maxIdleTime = configuration.maxIdleTime();
+            tasks.add(schedule(() -> closeExpiredAndIdleConnections(manager, maxIdleTime), sleepPeriod));
+        }
+
+        if (manager instanceof SdkPoolingHttpClientConnectionManager && configuration.metricsPublisher() != null) {
+            SdkPoolingHttpClientConnectionManager sdkManager = (SdkPoolingHttpClientConnectionManager) manager;
+            MetricPublisher publisher = configuration.metricsPublisher();
+            tasks.add(schedule(() -> publishMetrics(sdkManager, publisher), configuration.metricsPublishInterval().toMillis()));
+        }
+
+        List<ScheduledFuture<?>> previousTasks = connectionManagers.put(manager, tasks);
+        if (previousTasks != null) {
+            previousTasks.forEach(task -> task.cancel(false));
+        }
+        return previousTasks == null;
     }
 
     /**
@@ -94,9 +135,12 @@ public final class IdleConnectionReaper {
      * false} otherwise.
      */
     public synchronized boolean deregisterConnectionManager(HttpClientConnectionManager manager) {
-        boolean wasRemoved = connectionManagers.remove(manager) != null;
+        List<ScheduledFuture<?>> tasks = connectionManagers.remove(manager);
+        if (tasks != null) {
+            tasks.forEach(task -> task.cancel(false));
+        }
         cleanupExecutorIfNecessary();
-        return wasRemoved;
+        return tasks != null;
     }
 
     /**
@@ -106,18 +150,36 @@ public final class IdleConnectionReaper {
         return INSTANCE;
     }
 
-    private void setupExecutorIfNecessary() {
-        if (exec != null) {
-            return;
-        }
-
-        ExecutorService e = executorServiceSupplier.get();
+    private ScheduledFuture<?> schedule(Runnable task, long periodMillis) {
+        return exec.scheduleAtFixedRate(() -> {
+            try {
+                task.run();
+            } catch (Throwable t) {
+                // An exception would stop the periodic execution of the task
+                log.warn("Unable to perform connection pool maintenance", t);
+            }
+        }, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
 
-        this.reaperTask = new ReaperTask(connectionManagers, sleepPeriod);
+    private static void closeExpiredAndIdleConnections(HttpClientConnectionManager manager, long maxIdleTime) {
+        if (manager instanceof SdkPoolingHttpClientConnectionManager) {
+            ((SdkPoolingHttpClientConnectionManager) manager).closeExpiredAndIdleConnections(maxIdleTime, TimeUnit.MILLISECONDS);
+        } else {
+            manager.closeExpiredConnections();
+            manager.closeIdleConnections(maxIdleTime, TimeUnit.MILLISECONDS);
+        }
+    }
 
-        e.execute(this.reaperTask);
+    private static void publishMetrics(SdkPoolingHttpClientConnectionManager manager, MetricPublisher publisher) {
+        MetricCollector collector = MetricCollector.create(METRICS_COLLECTION_NAME);
+        manager.reportMetrics(collector);
+        publisher.publish(collector.collect());
+    }
 
-        exec = e;
+    private void setupExecutorIfNecessary() {
+        if (exec == null) {
+            exec = executorServiceSupplier.get();
+        }
     }
 
     private void cleanupExecutorIfNecessary() {
@@ -125,46 +187,8 @@ public final class IdleConnectionReaper {
             return;
         }
 
-        reaperTask.stop();
-        reaperTask = null;
+        log.debug("Shutting down reaper thread.");
         exec.shutdownNow();
         exec = null;
     }
-
-    private static final class ReaperTask implements Runnable {
-        private final Map<HttpClientConnectionManager, Long> connectionManagers;
-        private final long sleepPeriod;
-
-        private volatile boolean stopping = false;
-
-        private ReaperTask(Map<HttpClientConnectionManager, Long> connectionManagers,
-                           long sleepPeriod) {
-            this.connectionManagers = connectionManagers;
-            this.sleepPeriod = sleepPeriod;
-        }
-
-        @Override
-        public void run() {
-            while (!stopping) {
-                try {
-                    Thread.sleep(sleepPeriod);
-
-                    for (Map.Entry<HttpClientConnectionManager, Long> entry : connectionManagers.entrySet()) {
-                        try {
-                            entry.getKey().closeIdleConnections(entry.getValue(), TimeUnit.MILLISECONDS);
-                        } catch (Exception t) {
-                            log.warn("Unable to close idle connections", t);
-                        }
-                    }
-                } catch (Throwable t) {
-                    log.debug("Reaper thread: ", t);
-                }
-            }
-            log.debug("Shutting down reaper thread.");
-        }
-
-        private void stop() {
-            stopping = true;
-        }
-    }
 }
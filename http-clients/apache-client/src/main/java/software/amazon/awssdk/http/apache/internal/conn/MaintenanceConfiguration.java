@@ -0,0 +1,97 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.MetricPublisher;
+
+/**
+ * The maintenance the {@link IdleConnectionReaper} performs for a connection manager.
+ */
+@SdkInternalApi
+public final class MaintenanceConfiguration {
+    private static final Duration DEFAULT_METRICS_PUBLISH_INTERVAL = Duration.ofMinutes(1);
+
+    private final Long maxIdleTime;
+    private final MetricPublisher metricsPublisher;
+    private final Duration metricsPublishInterval;
+
+    private MaintenanceConfiguration(Builder builder) {
+        this.maxIdleTime = builder.maxIdleTime;
+        this.metricsPublisher = builder.metricsPublisher;
+        this.metricsPublishInterval = builder.metricsPublishInterval != null ? builder.metricsPublishInterval
+                                                                             : DEFAULT_METRICS_PUBLISH_INTERVAL;
+    }
+
+    /**
+     * The maximum time in milliseconds that connections may remain idle before being closed, or null if expired and idle
+     * connections are not reaped.
+     */
+    public Long maxIdleTime() {
+        return maxIdleTime;
+    }
+
+    /**
+     * The publisher of the connection pool metrics, or null if they're not published.
+     */
+    public MetricPublisher metricsPublisher() {
+        return metricsPublisher;
+    }
+
+    public Duration metricsPublishInterval() {
+        return metricsPublishInterval;
+    }
+
+    /**
+     * @return True if any maintenance is configured.
+     */
+    public boolean isEnabled() {
+        return maxIdleTime != null || metricsPublisher != null;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+        private Long maxIdleTime;
+        private MetricPublisher metricsPublisher;
+        private Duration metricsPublishInterval;
+
+        private Builder() {
+        }
+
+        public Builder maxIdleTime(Long maxIdleTime) {
+            this.maxIdleTime = maxIdleTime;
+            return this;
+        }
+
+        public Builder metricsPublisher(MetricPublisher metricsPublisher) {
+            this.metricsPublisher = metricsPublisher;
+            return this;
+        }
+
+        public Builder metricsPublishInterval(Duration metricsPublishInterval) {
+            this.metricsPublishInterval = metricsPublishInterval;
+            return this;
+        }
+
+        public MaintenanceConfiguration build() {
+            return new MaintenanceConfiguration(this);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.config.Registry;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.DnsResolver;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.ConnectionPoolMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.internal.http.DurationHistogram;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+/**
+ * A {@link PoolingHttpClientConnectionManager} that can be maintained by the {@link IdleConnectionReaper}: it evicts expired
+ * and idle connections in a single pass over the pool, and records the connection churn and lease latency of each route so
+ * that they can be reported as {@link ConnectionPoolMetric}s.
+ */
+@SdkInternalApi
+public final class SdkPoolingHttpClientConnectionManager extends PoolingHttpClientConnectionManager {
+    private final Map<HttpRoute, RouteMetrics> routeMetrics = new ConcurrentHashMap<>();
+
+    public SdkPoolingHttpClientConnectionManager(Registry<ConnectionSocketFactory> socketFactoryRegistry,
+                                                 DnsResolver dnsResolver,
+                                                 long timeToLive,
+                                                 TimeUnit timeUnit) {
+        super(socketFactoryRegistry, null, DefaultSchemePortResolver.INSTANCE, dnsResolver, timeToLive, timeUnit);
+    }
+
+    @Override
+    public ConnectionRequest requestConnection(HttpRoute route, Object state) {
+        ConnectionRequest request = super.requestConnection(route, state);
+        return new ConnectionRequest() {
+            @Override
+            public HttpClientConnection get(long timeout, TimeUnit timeUnit)
+                    throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+                long start = System.nanoTime();
+                HttpClientConnection connection = request.get(timeout, timeUnit);
+                routeMetrics(route).leaseDurations.recordNanos(System.nanoTime() - start);
+                return connection;
+            }
+
+            @Override
+            public boolean cancel() {
+                return request.cancel();
+            }
+        };
+    }
+
+    @Override
+    public void connect(HttpClientConnection managedConn, HttpRoute route, int connectTimeout, HttpContext context)
+            throws IOException {
+        super.connect(managedConn, route, connectTimeout, context);
+        routeMetrics(route).connectionsCreated.incrementAndGet();
+    }
+
+    /**
+     * Close the available connections that have reached their time to live, or have been idle for at least the provided time.
+     * This is equivalent to {@link #closeExpiredConnections()} followed by {@link #closeIdleConnections(long, TimeUnit)}, but
+     * counts the connections that were closed.
+     */
+    public void closeExpiredAndIdleConnections(long maxIdleTime, TimeUnit timeUnit) {
+        long now = System.currentTimeMillis();
+        long idleDeadline = now - timeUnit.toMillis(maxIdleTime);
+        enumAvailable(entry -> {
+            if (entry.isExpired(now)) {
+                entry.close();
+                routeMetrics(entry.getRoute()).connectionsClosedExpired.incrementAndGet();
+            } else if (entry.getUpdated() <= idleDeadline) {
+                entry.close();
+                routeMetrics(entry.getRoute()).connectionsClosedIdle.incrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Report the metrics of each route since the last invocation to a child of the provided collector.
+     */
+    public void reportMetrics(MetricCollector metrics) {
+        Set<HttpRoute> routes = new LinkedHashSet<>(getRoutes());
+        routes.addAll(routeMetrics.keySet());
+
+        for (HttpRoute route : routes) {
+            MetricCollector child = metrics.createChild(route.getTargetHost().toURI());
+
+            PoolStats stats = getStats(route);
+            child.reportMetric(HttpMetric.MAX_CONCURRENCY, stats.getMax());
+            child.reportMetric(HttpMetric.AVAILABLE_CONCURRENCY, stats.getAvailable());
+            child.reportMetric(HttpMetric.LEASED_CONCURRENCY, stats.getLeased());
+            child.reportMetric(HttpMetric.PENDING_CONCURRENCY_ACQUIRES, stats.getPending());
+            child.reportMetric(ConnectionPoolMetric.OPEN_CONNECTIONS, stats.getAvailable() + stats.getLeased());
+
+            RouteMetrics recorded = routeMetrics.get(route);
+            if (recorded != null) {
+                recorded.report(child);
+                if (stats.getAvailable() + stats.getLeased() + stats.getPending() == 0) {
+                    // Stop tracking routes that are no longer used, so they're not reported indefinitely
+                    routeMetrics.remove(route, recorded);
+                }
+            }
+        }
+    }
+
+    private RouteMetrics routeMetrics(HttpRoute route) {
+        return routeMetrics.computeIfAbsent(route, r -> new RouteMetrics());
+    }
+
+    private static final class RouteMetrics {
+        private final AtomicInteger connectionsCreated = new AtomicInteger();
+        private final AtomicInteger connectionsClosedIdle = new AtomicInteger();
+        private final AtomicInteger connectionsClosedExpired = new AtomicInteger();
+        private final DurationHistogram leaseDurations = new DurationHistogram();
+
+        private void report(MetricCollector metrics) {
+            metrics.reportMetric(ConnectionPoolMetric.CONNECTIONS_CREATED, connectionsCreated.getAndSet(0));
+            metrics.reportMetric(ConnectionPoolMetric.CONNECTIONS_CLOSED_IDLE, connectionsClosedIdle.getAndSet(0));
+            metrics.reportMetric(ConnectionPoolMetric.CONNECTIONS_CLOSED_EXPIRED, connectionsClosedExpired.getAndSet(0));
+
+            DurationHistogram.Snapshot leases = leaseDurations.snapshotAndReset();
+            metrics.reportMetric(ConnectionPoolMetric.CONCURRENCY_ACQUIRES, (int) Math.min(leases.count(), Integer.MAX_VALUE));
+            if (leases.count() > 0) {
+                metrics.reportMetric(ConnectionPoolMetric.CONCURRENCY_ACQUIRE_DURATION_P50, leases.percentile(50));
+                metrics.reportMetric(ConnectionPoolMetric.CONCURRENCY_ACQUIRE_DURATION_P99, leases.percentile(99));
+                metrics.reportMetric(ConnectionPoolMetric.CONCURRENCY_ACQUIRE_DURATION_MAX, leases.max());
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.file.Path;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.DnsResolver;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.LayeredConnectionSocketFactory;
+import org.apache.http.protocol.HttpContext;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.apache.internal.net.UnixDomainSocket;
+
+/**
+ * A {@link ConnectionSocketFactory} that connects to a Unix domain socket instead of the remote address, and then layers the
+ * socket of the delegate factory on top of it if that is a {@link LayeredConnectionSocketFactory}, e.g. to negotiate TLS with
+ * the host of the route.
+ */
+@SdkInternalApi
+public final class UnixDomainSocketConnectionSocketFactory implements ConnectionSocketFactory {
+    /**
+     * Resolves every host to the loopback address. The Apache client resolves the host of a route before connecting, but
+     * the address isn't used when connecting to a Unix domain socket.
+     */
+    public static final DnsResolver LOOPBACK_DNS_RESOLVER = host -> new InetAddress[] {InetAddress.getLoopbackAddress()};
+
+    private final Path path;
+    private final ConnectionSocketFactory delegate;
+
+    public UnixDomainSocketConnectionSocketFactory(Path path, ConnectionSocketFactory delegate) {
+        if (!UnixDomainSocket.isSupported()) {
+            throw new UnsupportedOperationException("Unix domain sockets require Java 16 or later.");
+        }
+        this.path = path;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Socket createSocket(HttpContext context) {
+        return new UnixDomainSocket(path);
+    }
+
+    @Override
+    public Socket connectSocket(int connectTimeout,
+                                Socket socket,
+                                HttpHost host,
+                                InetSocketAddress remoteAddress,
+                                InetSocketAddress localAddress,
+                                HttpContext context) throws IOException {
+        Socket unixDomainSocket = socket instanceof UnixDomainSocket ? socket : createSocket(context);
+        try {
+            unixDomainSocket.connect(remoteAddress, connectTimeout);
+            if (delegate instanceof LayeredConnectionSocketFactory) {
+                return ((LayeredConnectionSocketFactory) delegate).createLayeredSocket(unixDomainSocket, host.getHostName(),
+                                                                                       remoteAddress.getPort(), context);
+            }
+            return unixDomainSocket;
+        } catch (IOException | RuntimeException e) {
+            unixDomainSocket.close();
+            throw e;
+        }
+    }
+}
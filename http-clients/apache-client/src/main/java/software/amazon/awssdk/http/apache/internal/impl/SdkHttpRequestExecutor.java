@@ -0,0 +1,60 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.apache.internal.impl;
+
+import java.io.IOException;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpException;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestExecutor;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.apache.internal.SdkConnectionReuseStrategy;
+
+/**
+ * An {@link HttpRequestExecutor} that records when the body of an "Expect: 100-continue" request was not sent because the
+ * server responded with a final response before the expect-continue timeout elapsed.
+ *
+ * <p>The server may still be expecting the body that was announced in the request headers, so
+ * {@link SdkConnectionReuseStrategy} doesn't reuse such connections.
+ */
+@SdkInternalApi
+public final class SdkHttpRequestExecutor extends HttpRequestExecutor {
+    /**
+     * {@link HttpContext} attribute that is set to {@code true} when the request's entity was not sent.
+     */
+    public static final String REQUEST_ENTITY_NOT_SENT = "aws.http.apache.requestEntityNotSent";
+
+    public SdkHttpRequestExecutor(int waitForContinueMillis) {
+        super(waitForContinueMillis);
+    }
+
+    @Override
+    protected HttpResponse doSendRequest(HttpRequest request, HttpClientConnection conn, HttpContext context)
+            throws IOException, HttpException {
+        HttpResponse response = super.doSendRequest(request, conn, context);
+        // A response is only returned here when an expect-continue request got a final response instead of a 100 Continue,
+        // in which case the entity was skipped.
+        if (response != null && request instanceof HttpEntityEnclosingRequest
+            && ((HttpEntityEnclosingRequest) request).getEntity() != null) {
+            context.setAttribute(REQUEST_ENTITY_NOT_SENT, Boolean.TRUE);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,421 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.net;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.ProtocolFamily;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.StandardProtocolFamily;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.IoUtils;
+
+/**
+ * A {@link Socket} that is connected to a Unix domain socket, so that it can be used by the Apache client.
+ *
+ * <p>This adapts a non-blocking {@link SocketChannel} for the {@code UNIX} protocol family, which is available from Java 16,
+ * and is accessed reflectively so that the client still runs on earlier versions. Reads honor the {@link #setSoTimeout(int)
+ * socket timeout}, which the Apache client also relies on to check whether pooled connections are stale. TCP socket options
+ * are ignored.
+ */
+@SdkInternalApi
+public final class UnixDomainSocket extends Socket {
+    private static final ProtocolFamily UNIX_PROTOCOL_FAMILY;
+    private static final Method OPEN_SOCKET_CHANNEL;
+    private static final Method CREATE_ADDRESS;
+
+    static {
+        ProtocolFamily family = null;
+        Method openSocketChannel = null;
+        Method createAddress = null;
+        try {
+            family = StandardProtocolFamily.valueOf("UNIX");
+            openSocketChannel = SocketChannel.class.getMethod("open", ProtocolFamily.class);
+            createAddress = Class.forName("java.net.UnixDomainSocketAddress").getMethod("of", Path.class);
+        } catch (IllegalArgumentException | ReflectiveOperationException e) {
+            // Unix domain sockets aren't supported by this version of Java
+        }
+        UNIX_PROTOCOL_FAMILY = family;
+        OPEN_SOCKET_CHANNEL = openSocketChannel;
+        CREATE_ADDRESS = createAddress;
+    }
+
+    private final Path path;
+    private final Object lock = new Object();
+
+    private volatile SocketChannel channel;
+    private volatile boolean closed;
+    private volatile int soTimeout;
+    private volatile Selector readSelector;
+    private volatile Selector writeSelector;
+    private volatile InputStream inputStream;
+    private volatile OutputStream outputStream;
+    private boolean inputShutdown;
+    private boolean outputShutdown;
+
+    public UnixDomainSocket(Path path) {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("Unix domain sockets require Java 16 or later.");
+        }
+        this.path = path;
+    }
+
+    /**
+     * @return True if Unix domain sockets are supported by this version of Java.
+     */
+    public static boolean isSupported() {
+        return CREATE_ADDRESS != null;
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * Connect to the Unix domain socket at the path of this socket. The endpoint is ignored, and connecting to a Unix domain
+     * socket doesn't block, so there's no connect timeout.
+     */
+    @Override
+    public void connect(SocketAddress endpoint) throws IOException {
+        connect(endpoint, 0);
+    }
+
+    @Override
+    public void connect(SocketAddress endpoint, int timeout) throws IOException {
+        synchronized (lock) {
+            if (closed) {
+                throw new SocketException("Socket is closed");
+            }
+            if (channel != null) {
+                throw new SocketException("Already connected");
+            }
+
+            SocketChannel socketChannel = (SocketChannel) invoke(OPEN_SOCKET_CHANNEL, UNIX_PROTOCOL_FAMILY);
+            try {
+                socketChannel.connect((SocketAddress) invoke(CREATE_ADDRESS, path));
+                socketChannel.configureBlocking(false);
+                readSelector = Selector.open();
+                socketChannel.register(readSelector, SelectionKey.OP_READ);
+                writeSelector = Selector.open();
+                socketChannel.register(writeSelector, SelectionKey.OP_WRITE);
+            } catch (IOException | RuntimeException e) {
+                closeQuietly(socketChannel, readSelector, writeSelector);
+                throw e;
+            }
+            channel = socketChannel;
+            inputStream = new ChannelInputStream();
+            outputStream = new ChannelOutputStream();
+        }
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        ensureOpen();
+        return inputStream;
+    }
+
+    @Override
+    public OutputStream getOutputStream() throws IOException {
+        ensureOpen();
+        return outputStream;
+    }
+
+    @Override
+    public void setSoTimeout(int timeout) throws SocketException {
+        if (timeout < 0) {
+            throw new IllegalArgumentException("timeout can't be negative");
+        }
+        this.soTimeout = timeout;
+    }
+
+    @Override
+    public int getSoTimeout() {
+        return soTimeout;
+    }
+
+    @Override
+    public void setTcpNoDelay(boolean on) {
+    }
+
+    @Override
+    public boolean getTcpNoDelay() {
+        return false;
+    }
+
+    @Override
+    public void setKeepAlive(boolean on) {
+    }
+
+    @Override
+    public boolean getKeepAlive() {
+        return false;
+    }
+
+    @Override
+    public void setSoLinger(boolean on, int linger) {
+    }
+
+    @Override
+    public int getSoLinger() {
+        return -1;
+    }
+
+    @Override
+    public void setReuseAddress(boolean on) {
+    }
+
+    @Override
+    public boolean getReuseAddress() {
+        return false;
+    }
+
+    @Override
+    public void setSendBufferSize(int size) {
+    }
+
+    @Override
+    public void setReceiveBufferSize(int size) {
+    }
+
+    @Override
+    public InetAddress getInetAddress() {
+        return InetAddress.getLoopbackAddress();
+    }
+
+    @Override
+    public InetAddress getLocalAddress() {
+        return InetAddress.getLoopbackAddress();
+    }
+
+    @Override
+    public int getPort() {
+        return 0;
+    }
+
+    @Override
+    public int getLocalPort() {
+        return -1;
+    }
+
+    @Override
+    public SocketAddress getRemoteSocketAddress() {
+        SocketChannel socketChannel = channel;
+        try {
+            return socketChannel != null ? socketChannel.getRemoteAddress() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public SocketAddress getLocalSocketAddress() {
+        return null;
+    }
+
+    @Override
+    public boolean isConnected() {
+        return channel != null;
+    }
+
+    @Override
+    public boolean isBound() {
+        return channel != null;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public void shutdownInput() throws IOException {
+        ensureOpen();
+        synchronized (lock) {
+            channel.shutdownInput();
+            inputShutdown = true;
+        }
+    }
+
+    @Override
+    public void shutdownOutput() throws IOException {
+        ensureOpen();
+        synchronized (lock) {
+            channel.shutdownOutput();
+            outputShutdown = true;
+        }
+    }
+
+    @Override
+    public boolean isInputShutdown() {
+        synchronized (lock) {
+            return inputShutdown;
+        }
+    }
+
+    @Override
+    public boolean isOutputShutdown() {
+        synchronized (lock) {
+            return outputShutdown;
+        }
+    }
+
+    /**
+     * Close this socket. Closing the selectors wakes up any thread blocked in a read or write.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            closeQuietly(channel, readSelector, writeSelector);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "UnixDomainSocket[path=" + path + ", connected=" + isConnected() + ", closed=" + closed + "]";
+    }
+
+    private void ensureOpen() throws SocketException {
+        if (closed) {
+            throw new SocketException("Socket is closed");
+        }
+        if (channel == null) {
+            throw new SocketException("Socket is not connected");
+        }
+    }
+
+    /**
+     * Wait until the channel is ready for the operation the selector was registered for.
+     *
+     * @param timeoutMillis The maximum time to wait, or 0 to wait indefinitely.
+     */
+    private void await(Selector selector, int timeoutMillis) throws IOException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        try {
+            synchronized (selector) {
+                while (true) {
+                    ensureOpen();
+                    int ready;
+                    if (timeoutMillis == 0) {
+                        ready = selector.select();
+                    } else {
+                        long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                        if (remaining <= 0) {
+                            throw new SocketTimeoutException("Read timed out");
+                        }
+                        ready = selector.select(remaining);
+                    }
+                    if (ready > 0) {
+                        selector.selectedKeys().clear();
+                        return;
+                    }
+                }
+            }
+        } catch (ClosedSelectorException e) {
+            throw new SocketException("Socket is closed");
+        }
+    }
+
+    private static Object invoke(Method method, Object argument) throws IOException {
+        try {
+            return method.invoke(null, argument);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException(cause);
+        } catch (IllegalAccessException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable... closeables) {
+        for (AutoCloseable closeable : closeables) {
+            IoUtils.closeQuietly(closeable, null);
+        }
+    }
+
+    private final class ChannelInputStream extends InputStream {
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            int read = read(b, 0, 1);
+            return read < 0 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+            while (true) {
+                ensureOpen();
+                int read = channel.read(buffer);
+                if (read != 0) {
+                    return read;
+                }
+                await(readSelector, soTimeout);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            UnixDomainSocket.this.close();
+        }
+    }
+
+    private final class ChannelOutputStream extends OutputStream {
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+            while (buffer.hasRemaining()) {
+                ensureOpen();
+                if (channel.write(buffer) == 0) {
+                    await(writeSelector, 0);
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            UnixDomainSocket.this.close();
+        }
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.putRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.http.conn.HttpHostConnectException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.http.HttpTestUtils;
+import software.amazon.awssdk.http.RecordingResponseHandler;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.StringUtils;
+
+public class ApacheAsyncHttpClientWireMockTest {
+    private static final String BODY = "Hello, world! This is the body of the request.";
+
+    private WireMockServer server;
+    private SdkAsyncHttpClient client;
+
+    @BeforeEach
+    public void setup() {
+        server = new WireMockServer(wireMockConfig().dynamicPort().dynamicHttpsPort());
+        server.start();
+        server.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200)
+                                                                      .withHeader("x-amz-test", "value")
+                                                                      .withBody(BODY)));
+
+        client = ApacheAsyncHttpClient.builder()
+                                      .maxConcurrency(2)
+                                      .buildWithDefaults(AttributeMap.builder()
+                                                                     .put(SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES, true)
+                                                                     .build());
+    }
+
+    @AfterEach
+    public void teardown() {
+        client.close();
+        server.stop();
+    }
+
+    @Test
+    public void get_shouldDeliverHeadersAndBody() throws Exception {
+        RecordingResponseHandler handler = execute(request(SdkHttpMethod.GET).build(), HttpTestUtils.createProvider(""));
+
+        assertThat(handler.responses()).hasSize(1);
+        assertThat(handler.responses().get(0).statusCode()).isEqualTo(200);
+        assertThat(handler.responses().get(0).firstMatchingHeader("x-amz-test")).hasValue("value");
+        assertThat(handler.fullResponseAsString()).isEqualTo(BODY);
+    }
+
+    @Test
+    public void largeBody_shouldBeDeliveredInChunksOnDemand() throws Exception {
+        String largeBody = StringUtils.repeat("a", 100 * 1024);
+        server.stubFor(any(urlPathEqualTo("/large")).willReturn(aResponse().withStatus(200).withBody(largeBody)));
+
+        RecordingResponseHandler handler = execute(request(SdkHttpMethod.GET).encodedPath("/large").build(),
+                                                   HttpTestUtils.createProvider(""));
+
+        assertThat(handler.fullResponseAsString()).isEqualTo(largeBody);
+    }
+
+    @Test
+    public void head_shouldNotDeliverBody() {
+        byte[] responseData = HttpTestUtils.sendHeadRequest(server.httpsPort(), client).join();
+
+        assertThat(responseData).isNull();
+    }
+
+    @Test
+    public void put_knownContentLength_shouldSendBody() throws Exception {
+        SdkHttpFullRequest request = request(SdkHttpMethod.PUT).putHeader("Content-Length", String.valueOf(BODY.length()))
+                                                               .build();
+
+        execute(request, contentPublisher(BODY, true));
+
+        server.verify(putRequestedFor(urlPathEqualTo("/")).withHeader("Content-Length", equalTo(String.valueOf(BODY.length())))
+                                                          .withRequestBody(equalTo(BODY)));
+    }
+
+    @Test
+    public void put_unknownContentLength_shouldSendBody() throws Exception {
+        execute(request(SdkHttpMethod.PUT).build(), contentPublisher(BODY, false));
+
+        server.verify(putRequestedFor(urlPathEqualTo("/")).withRequestBody(equalTo(BODY)));
+    }
+
+    @Test
+    public void errorStatus_shouldDeliverResponse() throws Exception {
+        server.stubFor(any(urlPathEqualTo("/error")).willReturn(aResponse().withStatus(500).withBody("error")));
+
+        RecordingResponseHandler handler = execute(request(SdkHttpMethod.GET).encodedPath("/error").build(),
+                                                   HttpTestUtils.createProvider(""));
+
+        assertThat(handler.responses().get(0).statusCode()).isEqualTo(500);
+        assertThat(handler.fullResponseAsString()).isEqualTo("error");
+    }
+
+    @Test
+    public void connectionRefused_shouldFailRequest() {
+        SdkHttpFullRequest request = request(SdkHttpMethod.GET).build();
+        server.stop();
+        RecordingResponseHandler handler = new RecordingResponseHandler();
+
+        CompletableFuture<Void> executeFuture = client.execute(executeRequest(request, HttpTestUtils.createProvider(""),
+                                                                              handler));
+
+        assertThatThrownBy(executeFuture::join).hasCauseInstanceOf(HttpHostConnectException.class);
+        assertThatThrownBy(() -> handler.completeFuture().join()).hasCauseInstanceOf(HttpHostConnectException.class);
+    }
+
+    @Test
+    public void cancelledSubscription_shouldCompleteRequestAndReleaseThread() throws Exception {
+        server.stubFor(any(urlPathEqualTo("/large")).willReturn(aResponse().withStatus(200)
+                                                                           .withBody(StringUtils.repeat("a", 100 * 1024))));
+        AtomicInteger received = new AtomicInteger();
+        CountDownLatch cancelled = new CountDownLatch(1);
+
+        SdkAsyncHttpResponseHandler handler = new SdkAsyncHttpResponseHandler() {
+            @Override
+            public void onHeaders(SdkHttpResponse headers) {
+            }
+
+            @Override
+            public void onStream(Publisher<ByteBuffer> stream) {
+                stream.subscribe(new Subscriber<ByteBuffer>() {
+                    private Subscription subscription;
+
+                    @Override
+                    public void onSubscribe(Subscription s) {
+                        subscription = s;
+                        s.request(1);
+                    }
+
+                    @Override
+                    public void onNext(ByteBuffer byteBuffer) {
+                        received.incrementAndGet();
+                        subscription.cancel();
+                        cancelled.countDown();
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                    }
+
+                    @Override
+                    public void onComplete() {
+                    }
+                });
+            }
+
+            @Override
+            public void onError(Throwable error) {
+            }
+        };
+
+        client.execute(AsyncExecuteRequest.builder()
+                                          .request(request(SdkHttpMethod.GET).encodedPath("/large").build())
+                                          .requestContentPublisher(HttpTestUtils.createProvider(""))
+                                          .responseHandler(handler)
+                                          .build())
+              .get(10, TimeUnit.SECONDS);
+
+        assertThat(cancelled.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(received).hasValue(1);
+
+        // Both threads are still available for further requests
+        execute(request(SdkHttpMethod.GET).build(), HttpTestUtils.createProvider(""));
+        execute(request(SdkHttpMethod.GET).build(), HttpTestUtils.createProvider(""));
+    }
+
+    @Test
+    public void cancelledExecuteFuture_shouldAbortRequest() throws Exception {
+        server.stubFor(any(urlPathEqualTo("/slow")).willReturn(aResponse().withStatus(200).withFixedDelay(10_000)));
+        RecordingResponseHandler handler = new RecordingResponseHandler();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+
+        CompletableFuture<Void> executeFuture =
+            client.execute(executeRequest(request(SdkHttpMethod.GET).encodedPath("/slow").build(),
+                                          HttpTestUtils.createProvider(""), handler));
+        executeFuture.whenComplete((r, t) -> error.set(t));
+        Thread.sleep(200);
+        executeFuture.cancel(true);
+
+        assertThat(error.get()).isNotNull();
+        assertThat(handler.responses()).isEmpty();
+
+        // The aborted request has released its thread
+        execute(request(SdkHttpMethod.GET).build(), HttpTestUtils.createProvider(""));
+        execute(request(SdkHttpMethod.GET).build(), HttpTestUtils.createProvider(""));
+    }
+
+    @Test
+    public void moreConcurrentRequestsThanThreads_shouldAllComplete() throws Exception {
+        String largeBody = StringUtils.repeat("a", 100 * 1024);
+        server.stubFor(any(urlPathEqualTo("/large")).willReturn(aResponse().withStatus(200).withBody(largeBody)));
+
+        // The client has two threads and two connections. Each response body holds its connection until it has been read on
+        // one of those threads, so the requests that are waiting for a connection mustn't hold the threads.
+        List<RecordingResponseHandler> handlers = new ArrayList<>();
+        List<CompletableFuture<Void>> executeFutures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            RecordingResponseHandler handler = new RecordingResponseHandler();
+            handlers.add(handler);
+            executeFutures.add(client.execute(executeRequest(request(SdkHttpMethod.GET).encodedPath("/large").build(),
+                                                             HttpTestUtils.createProvider(""), handler)));
+        }
+
+        CompletableFuture.allOf(executeFutures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+        for (RecordingResponseHandler handler : handlers) {
+            handler.completeFuture().get(5, TimeUnit.SECONDS);
+            assertThat(handler.fullResponseAsString()).isEqualTo(largeBody);
+        }
+    }
+
+    @Test
+    public void virtualThreads_shouldFallBackWhenUnsupported() throws Exception {
+        try (SdkAsyncHttpClient virtualThreadClient = ApacheAsyncHttpClient.builder().useVirtualThreads(true).build()) {
+            RecordingResponseHandler handler = new RecordingResponseHandler();
+            virtualThreadClient.execute(executeRequest(request(SdkHttpMethod.GET).build(), HttpTestUtils.createProvider(""),
+                                                       handler))
+                               .get(10, TimeUnit.SECONDS);
+            handler.completeFuture().get(10, TimeUnit.SECONDS);
+
+            assertThat(handler.fullResponseAsString()).isEqualTo(BODY);
+        }
+    }
+
+    private RecordingResponseHandler execute(SdkHttpRequest request, SdkHttpContentPublisher contentPublisher)
+        throws Exception {
+        RecordingResponseHandler handler = new RecordingResponseHandler();
+        client.execute(executeRequest(request, contentPublisher, handler)).get(10, TimeUnit.SECONDS);
+        handler.completeFuture().get(10, TimeUnit.SECONDS);
+        return handler;
+    }
+
+    private static AsyncExecuteRequest executeRequest(SdkHttpRequest request,
+                                                      SdkHttpContentPublisher contentPublisher,
+                                                      RecordingResponseHandler handler) {
+        return AsyncExecuteRequest.builder()
+                                  .request(request)
+                                  .requestContentPublisher(contentPublisher)
+                                  .responseHandler(handler)
+                                  .build();
+    }
+
+    private static SdkHttpContentPublisher contentPublisher(String body, boolean knownLength) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        return new SdkHttpContentPublisher() {
+            @Override
+            public Optional<Long> contentLength() {
+                return knownLength ? Optional.of((long) bytes.length) : Optional.empty();
+            }
+
+            @Override
+            public void subscribe(Subscriber<? super ByteBuffer> s) {
+                s.onSubscribe(new Subscription() {
+                    private boolean done;
+
+                    @Override
+                    public void request(long n) {
+                        if (!done && n > 0) {
+                            done = true;
+                            s.onNext(ByteBuffer.wrap(bytes));
+                            s.onComplete();
+                        }
+                    }
+
+                    @Override
+                    public void cancel() {
+                        done = true;
+                    }
+                });
+            }
+        };
+    }
+
+    private SdkHttpFullRequest.Builder request(SdkHttpMethod method) {
+        return SdkHttpFullRequest.builder()
+                                 .uri(URI.create("http://localhost:" + server.port()))
+                                 .method(method);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.apache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.utils.IoUtils;
+
+public class ApacheHttpClientConnectionValidationTest {
+    private ServerSocket serverSocket;
+    private final AtomicInteger accepted = new AtomicInteger();
+    private SdkHttpClient client;
+
+    @Before
+    public void setup() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread server = new Thread(this::respondAndClose, "connection-closing-server");
+        server.setDaemon(true);
+        server.start();
+    }
+
+    @After
+    public void teardown() throws IOException {
+        if (client != null) {
+            client.close();
+        }
+        serverSocket.close();
+    }
+
+    @Test(timeout = 10_000L)
+    public void connectionValidationInterval_connectionClosedByRemoteHost_isReplacedOnLease() throws Exception {
+        client = ApacheHttpClient.builder().connectionValidationInterval(Duration.ofMillis(1)).build();
+
+        assertThat(get()).isEqualTo("{}");
+        // Give the server time to close the pooled connection, and the connection time to be idle for longer than the interval
+        Thread.sleep(200);
+        assertThat(get()).isEqualTo("{}");
+
+        assertThat(accepted.get()).isEqualTo(2);
+    }
+
+    private String get() throws IOException {
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .uri(URI.create("http://localhost:" + serverSocket.getLocalPort() + "/"))
+                                                       .method(SdkHttpMethod.GET)
+                                                       .build();
+        HttpExecuteResponse response = client.prepareRequest(HttpExecuteRequest.builder().request(request).build()).call();
+        assertThat(response.httpResponse().statusCode()).isEqualTo(200);
+        return IoUtils.toUtf8String(response.responseBody().get());
+    }
+
+    /**
+     * Respond to one request on each connection with a response that allows the connection to be reused, and then close it.
+     */
+    private void respondAndClose() {
+        while (!serverSocket.isClosed()) {
+            try (Socket socket = serverSocket.accept()) {
+                accepted.incrementAndGet();
+                BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+                                                                                 StandardCharsets.US_ASCII));
+                String line;
+                do {
+                    line = reader.readLine();
+                } while (line != null && !line.isEmpty());
+
+                OutputStream out = socket.getOutputStream();
+                out.write("HTTP/1.1 200 OK\r\nContent-Length: 2\r\n\r\n{}".getBytes(StandardCharsets.US_ASCII));
+                out.flush();
+            } catch (IOException e) {
+                // The server was closed
+            }
+        }
+    }
+}
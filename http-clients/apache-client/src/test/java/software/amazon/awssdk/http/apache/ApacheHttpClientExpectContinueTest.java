@@ -0,0 +1,238 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.apache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.utils.IoUtils;
+
+/**
+ * Tests the handling of requests with an "Expect: 100-continue" header.
+ */
+public class ApacheHttpClientExpectContinueTest {
+    private static final int BODY_SIZE = 64 * 1024;
+
+    private ExpectContinueServer server;
+    private SdkHttpClient client;
+
+    @Before
+    public void setup() throws IOException {
+        server = new ExpectContinueServer();
+        client = ApacheHttpClient.builder()
+                                 .socketTimeout(Duration.ofSeconds(2))
+                                 .expectContinueTimeout(Duration.ofMillis(200))
+                                 .build();
+    }
+
+    @After
+    public void teardown() {
+        client.close();
+        server.close();
+    }
+
+    @Test
+    public void continueResponse_sendsBody() throws IOException {
+        server.mode = Mode.CONTINUE;
+
+        assertThat(execute(new AtomicLong())).isEqualTo(200);
+        assertThat(server.bodyBytesReceived.get()).isEqualTo(BODY_SIZE);
+    }
+
+    @Test
+    public void earlyFinalResponse_doesNotSendBodyOrReuseConnection() throws IOException {
+        server.mode = Mode.REJECT;
+        AtomicLong bodyBytesRead = new AtomicLong();
+
+        assertThat(execute(bodyBytesRead)).isEqualTo(403);
+        assertThat(bodyBytesRead.get()).isZero();
+
+        server.mode = Mode.CONTINUE;
+        assertThat(execute(new AtomicLong())).isEqualTo(200);
+        assertThat(server.connectionCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void noContinueResponse_sendsBodyAfterTimeout() throws IOException {
+        server.mode = Mode.IGNORE_EXPECT;
+
+        assertThat(execute(new AtomicLong())).isEqualTo(200);
+        assertThat(server.bodyBytesReceived.get()).isEqualTo(BODY_SIZE);
+    }
+
+    private int execute(AtomicLong bodyBytesRead) throws IOException {
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .method(SdkHttpMethod.PUT)
+                                                       .protocol("http")
+                                                       .host("localhost")
+                                                       .port(server.port())
+                                                       .putHeader("Expect", "100-continue")
+                                                       .putHeader("Content-Length", Integer.toString(BODY_SIZE))
+                                                       .build();
+        HttpExecuteRequest executeRequest =
+            HttpExecuteRequest.builder()
+                              .request(request)
+                              .contentStreamProvider(() -> new CountingInputStream(new byte[BODY_SIZE], bodyBytesRead))
+                              .build();
+
+        HttpExecuteResponse response = client.prepareRequest(executeRequest).call();
+        response.responseBody().ifPresent(IoUtils::drainInputStream);
+        return response.httpResponse().statusCode();
+    }
+
+    private static final class CountingInputStream extends ByteArrayInputStream {
+        private final AtomicLong bytesRead;
+
+        CountingInputStream(byte[] buf, AtomicLong bytesRead) {
+            super(buf);
+            this.bytesRead = bytesRead;
+        }
+
+        @Override
+        public synchronized int read() {
+            int b = super.read();
+            if (b != -1) {
+                bytesRead.incrementAndGet();
+            }
+            return b;
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                bytesRead.addAndGet(read);
+            }
+            return read;
+        }
+    }
+
+    private enum Mode {
+        CONTINUE,
+        REJECT,
+        IGNORE_EXPECT
+    }
+
+    /**
+     * A minimal HTTP/1.1 server that answers expect-continue requests according to its {@link Mode}.
+     */
+    private static final class ExpectContinueServer implements AutoCloseable {
+        private final ServerSocket serverSocket = new ServerSocket(0);
+        private final ExecutorService executor = Executors.newCachedThreadPool();
+        private final AtomicInteger connectionCount = new AtomicInteger();
+        private final AtomicLong bodyBytesReceived = new AtomicLong();
+        private volatile Mode mode;
+
+        ExpectContinueServer() throws IOException {
+            executor.submit(this::acceptConnections);
+        }
+
+        int port() {
+            return serverSocket.getLocalPort();
+        }
+
+        private Void acceptConnections() throws IOException {
+            while (!serverSocket.isClosed()) {
+                Socket socket = serverSocket.accept();
+                connectionCount.incrementAndGet();
+                executor.submit(() -> serve(socket));
+            }
+            return null;
+        }
+
+        private Void serve(Socket socket) throws IOException {
+            try (Socket s = socket) {
+                InputStream in = s.getInputStream();
+                OutputStream out = s.getOutputStream();
+                while (readRequestHeaders(in)) {
+                    if (mode == Mode.REJECT) {
+                        write(out, "HTTP/1.1 403 Forbidden\r\nContent-Length: 0\r\n\r\n");
+                        continue;
+                    }
+                    if (mode == Mode.CONTINUE) {
+                        write(out, "HTTP/1.1 100 Continue\r\n\r\n");
+                    }
+                    readBody(in);
+                    write(out, "HTTP/1.1 200 OK\r\nContent-Length: 0\r\n\r\n");
+                }
+            }
+            return null;
+        }
+
+        private boolean readRequestHeaders(InputStream in) throws IOException {
+            ByteArrayOutputStream headers = new ByteArrayOutputStream();
+            int b;
+            while ((b = in.read()) != -1) {
+                headers.write(b);
+                if (headers.toString(StandardCharsets.US_ASCII.name()).endsWith("\r\n\r\n")) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void readBody(InputStream in) throws IOException {
+            byte[] buffer = new byte[8192];
+            long remaining = BODY_SIZE;
+            while (remaining > 0) {
+                int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read == -1) {
+                    return;
+                }
+                remaining -= read;
+                bodyBytesReceived.addAndGet(read);
+            }
+        }
+
+        private void write(OutputStream out, String response) throws IOException {
+            out.write(response.getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+        }
+
+        @Override
+        public void close() {
+            IoUtils.closeQuietly(serverSocket, null);
+            executor.shutdownNow();
+            try {
+                executor.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.StandardProtocolFamily;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.apache.internal.net.UnixDomainSocket;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.IoUtils;
+
+public class ApacheHttpClientUnixDomainSocketTest {
+    private static final String HOST = "sidecar.invalid";
+
+    @Rule
+    public WireMockRule server = new WireMockRule(wireMockConfig().dynamicPort().dynamicHttpsPort());
+
+    private Path directory;
+    private UnixDomainSocketRelay relay;
+    private SdkHttpClient client;
+
+    @Before
+    public void setup() throws IOException {
+        Assume.assumeTrue(UnixDomainSocket.isSupported());
+        server.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200).withBody("hello")));
+        directory = Files.createTempDirectory("uds");
+    }
+
+    @After
+    public void teardown() throws IOException {
+        if (client != null) {
+            client.close();
+        }
+        if (relay != null) {
+            relay.close();
+        }
+        if (directory != null) {
+            Files.deleteIfExists(directory.resolve("http.sock"));
+            Files.delete(directory);
+        }
+    }
+
+    @Test
+    public void http_connectsThroughUnixDomainSocket() throws IOException {
+        relay = new UnixDomainSocketRelay(directory.resolve("http.sock"), server.port());
+        client = ApacheHttpClient.builder().unixDomainSocketPath(relay.path).build();
+
+        assertThat(get("http")).isEqualTo("hello");
+
+        server.verify(getRequestedFor(urlPathEqualTo("/")).withHeader("Host", equalTo(HOST + ":1234")));
+        assertThat(relay.accepted.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void https_negotiatesTlsThroughUnixDomainSocket() throws IOException {
+        relay = new UnixDomainSocketRelay(directory.resolve("http.sock"), server.httpsPort());
+        client = ApacheHttpClient.builder()
+                                 .unixDomainSocketPath(relay.path)
+                                 .buildWithDefaults(AttributeMap.builder()
+                                                                .put(SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES, true)
+                                                                .build());
+
+        assertThat(get("https")).isEqualTo("hello");
+    }
+
+    @Test
+    public void connectionsAreReused() throws IOException {
+        relay = new UnixDomainSocketRelay(directory.resolve("http.sock"), server.port());
+        client = ApacheHttpClient.builder().unixDomainSocketPath(relay.path).build();
+
+        assertThat(get("http")).isEqualTo("hello");
+        assertThat(get("http")).isEqualTo("hello");
+
+        assertThat(relay.accepted.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void readTimeoutIsHonored() throws IOException {
+        server.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200).withFixedDelay(2_000)));
+        relay = new UnixDomainSocketRelay(directory.resolve("http.sock"), server.port());
+        client = ApacheHttpClient.builder()
+                                 .unixDomainSocketPath(relay.path)
+                                 .socketTimeout(Duration.ofMillis(200))
+                                 .build();
+
+        assertThatThrownBy(() -> get("http")).isInstanceOf(SocketTimeoutException.class);
+    }
+
+    private String get(String protocol) throws IOException {
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .uri(URI.create(protocol + "://" + HOST + ":1234/"))
+                                                       .method(SdkHttpMethod.GET)
+                                                       .build();
+        HttpExecuteResponse response = client.prepareRequest(HttpExecuteRequest.builder().request(request).build()).call();
+        assertThat(response.httpResponse().statusCode()).isEqualTo(200);
+        return IoUtils.toUtf8String(response.responseBody().get());
+    }
+
+    /**
+     * Relays the connections accepted on a Unix domain socket to a TCP port on the loopback address. The Unix domain socket
+     * channels are created reflectively, because they require Java 16 or later.
+     */
+    private static final class UnixDomainSocketRelay implements Closeable {
+        private final Path path;
+        private final int port;
+        private final ServerSocketChannel serverChannel;
+        private final AtomicInteger accepted = new AtomicInteger();
+
+        private UnixDomainSocketRelay(Path path, int port) throws IOException {
+            this.path = path;
+            this.port = port;
+            try {
+                ProtocolFamily unix = StandardProtocolFamily.valueOf("UNIX");
+                this.serverChannel = (ServerSocketChannel) ServerSocketChannel.class.getMethod("open", ProtocolFamily.class)
+                                                                                    .invoke(null, unix);
+                SocketAddress address = (SocketAddress) Class.forName("java.net.UnixDomainSocketAddress")
+                                                             .getMethod("of", Path.class)
+                                                             .invoke(null, path);
+                serverChannel.bind(address);
+            } catch (ReflectiveOperationException e) {
+                throw new IOException(e);
+            }
+            daemon(this::acceptConnections);
+        }
+
+        private void acceptConnections() {
+            try {
+                while (true) {
+                    SocketChannel client = serverChannel.accept();
+                    accepted.incrementAndGet();
+                    SocketChannel target = SocketChannel.open(new InetSocketAddress("localhost", port));
+                    daemon(() -> copy(client, target));
+                    daemon(() -> copy(target, client));
+                }
+            } catch (IOException e) {
+                // The relay was closed
+            }
+        }
+
+        private static void copy(SocketChannel from, SocketChannel to) {
+            ByteBuffer buffer = ByteBuffer.allocate(8192);
+            try {
+                while (from.read(buffer) >= 0) {
+                    buffer.flip();
+                    while (buffer.hasRemaining()) {
+                        to.write(buffer);
+                    }
+                    buffer.clear();
+                }
+                to.shutdownOutput();
+            } catch (IOException e) {
+                IoUtils.closeQuietly(from, null);
+                IoUtils.closeQuietly(to, null);
+            }
+        }
+
+        private static void daemon(Runnable runnable) {
+            Thread thread = new Thread(runnable, "uds-relay");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverChannel.close();
+        }
+    }
+}
@@ -23,6 +23,10 @@ import static software.amazon.awssdk.http.HttpMetric.CONCURRENCY_ACQUIRE_DURATIO
 
 import com.github.tomakehurst.wiremock.WireMockServer;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -30,14 +34,17 @@ import org.junit.BeforeClass;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import software.amazon.awssdk.http.ConnectionPoolMetric;
 import software.amazon.awssdk.http.HttpExecuteRequest;
 import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.metrics.MetricCollection;
 import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricPublisher;
 
 
 public class ApacheMetricsTest {
@@ -82,11 +89,53 @@ public class ApacheMetricsTest {
         assertThat(collection.metricValues(CONCURRENCY_ACQUIRE_DURATION)).isNotEmpty();
     }
 
-    private HttpExecuteResponse makeRequestWithMetrics(SdkHttpClient httpClient, MetricCollector metricCollector) throws IOException {
+    @Test(timeout = 10_000L)
+    public void connectionPoolMetricsArePublished() throws Exception {
+        RecordingMetricPublisher publisher = new RecordingMetricPublisher();
+        client = ApacheHttpClient.builder()
+                                 .connectionPoolMetricsPublisher(publisher)
+                                 .connectionPoolMetricsPublishInterval(Duration.ofMillis(50))
+                                 .build();
+        makeRequestWithMetrics(client, MetricCollector.create("test")).responseBody().get().close();
+
+        MetricCollection route = awaitRoute(publisher, c -> !c.metricValues(ConnectionPoolMetric.CONCURRENCY_ACQUIRES)
+                                                              .contains(0));
+
+        assertThat(route.name()).isEqualTo("http://localhost:" + wireMockServer.port());
+        assertThat(route.metricValues(ConnectionPoolMetric.CONCURRENCY_ACQUIRES)).containsExactly(1);
+        assertThat(route.metricValues(ConnectionPoolMetric.CONNECTIONS_CREATED)).containsExactly(1);
+        assertThat(route.metricValues(ConnectionPoolMetric.CONCURRENCY_ACQUIRE_DURATION_MAX)).hasSize(1);
+        assertThat(route.metricValues(HttpMetric.LEASED_CONCURRENCY)).containsExactly(0);
+        assertThat(route.metricValues(HttpMetric.AVAILABLE_CONCURRENCY)).containsExactly(1);
+        assertThat(route.metricValues(ConnectionPoolMetric.OPEN_CONNECTIONS)).containsExactly(1);
+    }
+
+    private static MetricCollection awaitRoute(RecordingMetricPublisher publisher,
+                                               Predicate<MetricCollection> condition)
+        throws InterruptedException {
+        while (true) {
+            for (MetricCollection published : publisher.published) {
+                for (MetricCollection route : published.children()) {
+                    if (condition.test(route)) {
+                        return route;
+                    }
+                }
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private HttpExecuteResponse makeRequestWithMetrics(SdkHttpClient httpClient, MetricCollector metricCollector)
+        throws IOException {
+        return makeRequestWithMetrics(httpClient, wireMockServer.port(), metricCollector);
+    }
+
+    private HttpExecuteResponse makeRequestWithMetrics(SdkHttpClient httpClient, int port, MetricCollector metricCollector)
+        throws IOException {
         SdkHttpRequest httpRequest = SdkHttpFullRequest.builder()
                                                        .method(SdkHttpMethod.GET)
                                                        .protocol("http")
-                                                       .host("localhost:" + wireMockServer.port())
+                                                       .host("localhost:" + port)
                                                        .build();
 
         HttpExecuteRequest request = HttpExecuteRequest.builder()
@@ -96,4 +145,17 @@ public class ApacheMetricsTest {
 
         return httpClient.prepareRequest(request).call();
     }
+
+    private static final class RecordingMetricPublisher implements MetricPublisher {
+        private final List<MetricCollection> published = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void publish(MetricCollection metricCollection) {
+            published.add(metricCollection);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
 }
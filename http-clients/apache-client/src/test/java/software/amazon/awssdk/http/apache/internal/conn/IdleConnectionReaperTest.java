@@ -16,11 +16,13 @@
 package software.amazon.awssdk.http.apache.internal.conn;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import org.apache.http.conn.HttpClientConnectionManager;
 import org.junit.Before;
@@ -30,9 +32,11 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -42,10 +46,13 @@ import java.util.concurrent.TimeUnit;
 public class IdleConnectionReaperTest {
     private static final long SLEEP_PERIOD = 250;
 
-    private final Map<HttpClientConnectionManager, Long> connectionManagers = new HashMap<>();
+    private final Map<HttpClientConnectionManager, List<ScheduledFuture<?>>> connectionManagers = new HashMap<>();
 
     @Mock
-    public ExecutorService executorService;
+    public ScheduledExecutorService executorService;
+
+    @Mock
+    public ScheduledFuture<Object> scheduledFuture;
 
     @Mock
     public HttpClientConnectionManager connectionManager;
@@ -56,12 +63,31 @@ public class IdleConnectionReaperTest {
     public void methodSetup() {
         this.connectionManagers.clear();
         idleConnectionReaper = new IdleConnectionReaper(connectionManagers, () -> executorService, SLEEP_PERIOD);
+        when(executorService.scheduleAtFixedRate(any(Runnable.class), anyLong(), anyLong(), any(TimeUnit.class)))
+            .thenAnswer(i -> scheduledFuture);
     }
 
     @Test
     public void setsUpExecutorIfManagerNotPreviouslyRegistered() {
         idleConnectionReaper.registerConnectionManager(connectionManager, 1L);
-        verify(executorService).execute(any(Runnable.class));
+        verify(executorService).scheduleAtFixedRate(any(Runnable.class), eq(SLEEP_PERIOD), eq(SLEEP_PERIOD),
+                                                    eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void cancelsTasksWhenManagerDeregistered() {
+        idleConnectionReaper.registerConnectionManager(connectionManager, 1L);
+        idleConnectionReaper.deregisterConnectionManager(connectionManager);
+        verify(scheduledFuture).cancel(false);
+    }
+
+    @Test
+    public void cancelsPreviousTasksWhenManagerRegisteredAgain() {
+        idleConnectionReaper.registerConnectionManager(connectionManager, 1L);
+        idleConnectionReaper.registerConnectionManager(connectionManager, 2L);
+        verify(scheduledFuture).cancel(false);
+        verify(executorService, times(2)).scheduleAtFixedRate(any(Runnable.class), anyLong(), anyLong(),
+                                                              any(TimeUnit.class));
     }
 
     @Test
@@ -83,12 +109,13 @@ public class IdleConnectionReaperTest {
     @Test(timeout = 1000L)
     public void testReapsConnections() throws InterruptedException {
         IdleConnectionReaper reaper = new IdleConnectionReaper(new HashMap<>(),
-                                                               Executors::newSingleThreadExecutor,
+                                                               Executors::newSingleThreadScheduledExecutor,
                                                                SLEEP_PERIOD);
         final long idleTime = 1L;
         reaper.registerConnectionManager(connectionManager, idleTime);
         try {
             Thread.sleep(SLEEP_PERIOD * 2);
+            verify(connectionManager, atLeastOnce()).closeExpiredConnections();
             verify(connectionManager, atLeastOnce()).closeIdleConnections(eq(idleTime), eq(TimeUnit.MILLISECONDS));
         } finally {
             reaper.deregisterConnectionManager(connectionManager);
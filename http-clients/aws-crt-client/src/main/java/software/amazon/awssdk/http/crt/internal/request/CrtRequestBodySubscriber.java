@@ -15,11 +15,9 @@
 
 package software.amazon.awssdk.http.crt.internal.request;
 
-import static software.amazon.awssdk.crt.utils.ByteBufferUtils.transferData;
-
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
 import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -31,13 +29,20 @@ import software.amazon.awssdk.utils.Validate;
 
 /**
  * Implements the Subscriber<ByteBuffer> API to be be callable from AwsCrtAsyncHttpStreamAdapter.sendRequestBody()
+ *
+ * <p>The buffers received from the publisher are queued as they are, and copied directly into the output buffer provided by
+ * the CRT, which is the only copy of the request body on the Java side. The queue is bounded by the window size, because
+ * more data is only requested while fewer bytes than that are queued.
  */
 @SdkInternalApi
 public final class CrtRequestBodySubscriber implements Subscriber<ByteBuffer> {
     private static final Logger log = Logger.loggerFor(CrtRequestBodySubscriber.class);
 
     private final int windowSize;
-    private final Queue<ByteBuffer> queuedBuffers = new ConcurrentLinkedQueue<>();
+    /**
+     * Accessed while synchronized on this subscriber.
+     */
+    private final Queue<ByteBuffer> queuedBuffers = new ArrayDeque<>();
     private final AtomicLong queuedByteCount = new AtomicLong(0);
     private final AtomicBoolean isComplete = new AtomicBoolean(false);
     private final AtomicReference<Throwable> error = new AtomicReference<>(null);
@@ -82,8 +87,12 @@ public final class CrtRequestBodySubscriber implements Subscriber<ByteBuffer> {
     @Override
     public void onNext(ByteBuffer byteBuffer) {
         Validate.paramNotNull(byteBuffer, "byteBuffer");
-        queuedBuffers.add(byteBuffer);
-        queuedByteCount.addAndGet(byteBuffer.remaining());
+        if (byteBuffer.hasRemaining()) {
+            synchronized (this) {
+                queuedBuffers.add(byteBuffer);
+            }
+            queuedByteCount.addAndGet(byteBuffer.remaining());
+        }
         requestDataIfNecessary();
     }
 
@@ -109,15 +118,16 @@ public final class CrtRequestBodySubscriber implements Subscriber<ByteBuffer> {
             throw new RuntimeException(error.get());
         }
 
-        while (out.remaining() > 0 && !queuedBuffers.isEmpty()) {
+        int amountTransferred = 0;
+        while (out.hasRemaining() && !queuedBuffers.isEmpty()) {
             ByteBuffer nextBuffer = queuedBuffers.peek();
-            int amtTransferred = transferData(nextBuffer, out);
-            queuedByteCount.addAndGet(-amtTransferred);
+            amountTransferred += transferData(nextBuffer, out);
 
-            if (nextBuffer.remaining() == 0) {
+            if (!nextBuffer.hasRemaining()) {
                 queuedBuffers.remove();
             }
         }
+        queuedByteCount.addAndGet(-amountTransferred);
 
         boolean endOfStream = isComplete.get() && queuedBuffers.isEmpty();
 
@@ -129,4 +139,22 @@ public final class CrtRequestBodySubscriber implements Subscriber<ByteBuffer> {
 
         return endOfStream;
     }
+
+    /**
+     * Copies as much of the source buffer as fits into the destination buffer. Unlike
+     * {@link software.amazon.awssdk.crt.utils.ByteBufferUtils#transferData}, this doesn't allocate a duplicate of the source
+     * buffer, but temporarily limits the source buffer itself, which is only read by this subscriber.
+     */
+    private static int transferData(ByteBuffer from, ByteBuffer to) {
+        int amount = Math.min(from.remaining(), to.remaining());
+        if (amount == from.remaining()) {
+            to.put(from);
+        } else {
+            int limit = from.limit();
+            from.limit(from.position() + amount);
+            to.put(from);
+            from.limit(limit);
+        }
+        return amount;
+    }
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.crt.internal.request;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+import org.reactivestreams.Subscription;
+
+public class CrtRequestBodySubscriberTest {
+    @Test
+    public void transferRequestBody_splitsBuffersAcrossOutputBuffers() {
+        CrtRequestBodySubscriber subscriber = new CrtRequestBodySubscriber(1024);
+        Subscription subscription = mock(Subscription.class);
+        subscriber.onSubscribe(subscription);
+
+        ByteBuffer first = ByteBuffer.wrap("hello ".getBytes(StandardCharsets.UTF_8));
+        subscriber.onNext(first);
+        subscriber.onNext(ByteBuffer.allocate(0));
+        subscriber.onNext(ByteBuffer.wrap("world".getBytes(StandardCharsets.UTF_8)));
+        subscriber.onComplete();
+
+        StringBuilder body = new StringBuilder();
+        ByteBuffer out = ByteBuffer.allocateDirect(4);
+        boolean endOfStream = false;
+        while (!endOfStream) {
+            out.clear();
+            endOfStream = subscriber.transferRequestBody(out);
+            out.flip();
+            body.append(StandardCharsets.UTF_8.decode(out));
+        }
+
+        assertThat(body.toString()).isEqualTo("hello world");
+        assertThat(first.limit()).isEqualTo(first.capacity());
+    }
+
+    @Test
+    public void transferRequestBody_incompleteBody_isNotEndOfStream() {
+        CrtRequestBodySubscriber subscriber = new CrtRequestBodySubscriber(1024);
+        subscriber.onSubscribe(mock(Subscription.class));
+        subscriber.onNext(ByteBuffer.wrap(new byte[10]));
+
+        ByteBuffer out = ByteBuffer.allocate(16);
+        assertThat(subscriber.transferRequestBody(out)).isFalse();
+        assertThat(out.position()).isEqualTo(10);
+    }
+}
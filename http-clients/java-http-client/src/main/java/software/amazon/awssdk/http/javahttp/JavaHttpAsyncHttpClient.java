@@ -0,0 +1,325 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.javahttp;
+
+import static software.amazon.awssdk.utils.Validate.paramNotNull;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.security.KeyManagementException;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.javahttp.internal.JavaHttpRequestAdapter;
+import software.amazon.awssdk.http.javahttp.internal.JavaHttpResponseAdapter;
+import software.amazon.awssdk.http.javahttp.internal.TrustAllManager;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An implementation of {@link SdkAsyncHttpClient} that uses the {@link HttpClient} included in Java 11 and later to
+ * communicate with HTTP web services. It has no dependencies outside of the JDK, which makes it a lightweight alternative to
+ * the Netty and CRT based clients, e.g. in AWS Lambda functions or native images.
+ *
+ * <p>Request bodies are streamed to the JDK client as they are requested, and response bodies are streamed to the
+ * {@link software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler} with back-pressure. Connection pooling is managed by
+ * the JDK client, and can only be tuned via the {@code jdk.httpclient.*} system properties, e.g.
+ * {@code jdk.httpclient.connectionPoolSize} and {@code jdk.httpclient.keepalive.timeout}.
+ *
+ * <p>This can be created via {@link #builder()}
+ */
+@SdkPublicApi
+public final class JavaHttpAsyncHttpClient implements SdkAsyncHttpClient {
+    private static final Logger log = Logger.loggerFor(JavaHttpAsyncHttpClient.class);
+    private static final String CLIENT_NAME = "JavaHttpClient";
+    private static final String CLIENT_THREAD_PREFIX = "sdk-java-http-client";
+
+    private final HttpClient httpClient;
+    private final ExecutorService ownedExecutor;
+    private final JavaHttpRequestAdapter requestAdapter;
+
+    private JavaHttpAsyncHttpClient(DefaultBuilder builder, AttributeMap config) {
+        HttpClient.Builder httpClientBuilder = HttpClient.newBuilder()
+                                                         .version(toVersion(config.get(SdkHttpConfigurationOption.PROTOCOL)))
+                                                         .followRedirects(HttpClient.Redirect.NEVER)
+                                                         .sslContext(sslContext(config));
+
+        Duration connectionTimeout = config.get(SdkHttpConfigurationOption.CONNECTION_TIMEOUT);
+        if (connectionTimeout != null && !connectionTimeout.isZero()) {
+            httpClientBuilder.connectTimeout(connectionTimeout);
+        }
+
+        if (builder.executor != null) {
+            this.ownedExecutor = null;
+            httpClientBuilder.executor(builder.executor);
+        } else {
+            this.ownedExecutor = Executors.newCachedThreadPool(new ThreadFactoryBuilder().threadNamePrefix(CLIENT_THREAD_PREFIX)
+                                                                                        .daemonThreads(true)
+                                                                                        .build());
+            httpClientBuilder.executor(ownedExecutor);
+        }
+
+        this.httpClient = httpClientBuilder.build();
+        this.requestAdapter = new JavaHttpRequestAdapter(config.get(SdkHttpConfigurationOption.READ_TIMEOUT));
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Create a {@link JavaHttpAsyncHttpClient} with the default configuration.
+     *
+     * @return an {@link SdkAsyncHttpClient}
+     */
+    public static SdkAsyncHttpClient create() {
+        return new DefaultBuilder().build();
+    }
+
+    @Override
+    public CompletableFuture<Void> execute(AsyncExecuteRequest request) {
+        paramNotNull(request, "request");
+        paramNotNull(request.request(), "SdkHttpRequest");
+        paramNotNull(request.requestContentPublisher(), "RequestContentPublisher");
+        paramNotNull(request.responseHandler(), "ResponseHandler");
+
+        JavaHttpResponseAdapter responseAdapter = new JavaHttpResponseAdapter(request.responseHandler());
+
+        HttpRequest httpRequest;
+        try {
+            httpRequest = requestAdapter.adapt(request.request(), request.requestContentPublisher());
+        } catch (RuntimeException e) {
+            responseAdapter.onError(e);
+            return responseAdapter.executeFuture();
+        }
+
+        CompletableFuture<HttpResponse<Flow.Publisher<List<ByteBuffer>>>> responseFuture =
+            httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofPublisher());
+
+        responseFuture.whenComplete((response, error) -> {
+            if (error != null) {
+                responseAdapter.onError(error);
+            } else {
+                responseAdapter.onResponse(response);
+            }
+        });
+
+        CompletableFuture<Void> executeFuture = responseAdapter.executeFuture();
+        executeFuture.whenComplete((r, t) -> {
+            if (executeFuture.isCancelled()) {
+                responseFuture.cancel(true);
+            }
+        });
+        return executeFuture;
+    }
+
+    @Override
+    public String clientName() {
+        return CLIENT_NAME;
+    }
+
+    @Override
+    public void close() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    private static HttpClient.Version toVersion(Protocol protocol) {
+        return protocol == Protocol.HTTP2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1;
+    }
+
+    private static SSLContext sslContext(AttributeMap config) {
+        TlsTrustManagersProvider trustManagersProvider = config.get(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER);
+        boolean trustAllCertificates = config.get(SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES);
+        Validate.isTrue(trustManagersProvider == null || !trustAllCertificates,
+                        "A TlsTrustManagerProvider can't be provided if TrustAllCertificates is also set");
+
+        TrustManager[] trustManagers = null;
+        if (trustManagersProvider != null) {
+            trustManagers = trustManagersProvider.trustManagers();
+        }
+
+        if (trustAllCertificates) {
+            log.warn(() -> "SSL Certificate verification is disabled. This is not a safe setting and should only be "
+                           + "used for testing.");
+            trustManagers = new TrustManager[] { TrustAllManager.INSTANCE };
+        }
+
+        TlsKeyManagersProvider keyManagersProvider = config.get(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER);
+        KeyManager[] keyManagers = keyManagersProvider != null ? keyManagersProvider.keyManagers() : null;
+
+        try {
+            SSLContext context = SSLContext.getInstance("TLS");
+            context.init(keyManagers, trustManagers, null);
+            return context;
+        } catch (NoSuchAlgorithmException | KeyManagementException e) {
+            throw new IllegalStateException("Unable to create the SSL context.", e);
+        }
+    }
+
+    /**
+     * Builder that allows configuration of the Java HTTP client implementation.
+     */
+    public interface Builder extends SdkAsyncHttpClient.Builder<JavaHttpAsyncHttpClient.Builder> {
+
+        /**
+         * The amount of time to wait for the response headers to be received after the request has been sent. The
+         * {@link HttpClient} does not support timing out reads of the response body. Specify {@code Duration.ZERO} to
+         * disable.
+         *
+         * @param readTimeout timeout duration
+         * @return this builder for method chaining.
+         */
+        Builder readTimeout(Duration readTimeout);
+
+        /**
+         * The amount of time to wait when initially establishing a connection before giving up and timing out. Specify
+         * {@code Duration.ZERO} to disable.
+         *
+         * @param connectionTimeout the timeout duration
+         * @return this builder for method chaining.
+         */
+        Builder connectionTimeout(Duration connectionTimeout);
+
+        /**
+         * Sets the HTTP protocol to use (i.e. HTTP/1.1 or HTTP/2). Not all services support HTTP/2. When HTTP/2 is used, the
+         * client falls back to HTTP/1.1 if the server does not negotiate HTTP/2.
+         *
+         * @param protocol Protocol to use.
+         * @return this builder for method chaining.
+         */
+        Builder protocol(Protocol protocol);
+
+        /**
+         * Configure the {@link TlsKeyManagersProvider} that will provide the {@link javax.net.ssl.KeyManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider);
+
+        /**
+         * Configure the {@link TlsTrustManagersProvider} that will provide the {@link javax.net.ssl.TrustManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+
+        /**
+         * The executor used by the {@link HttpClient} for asynchronous tasks, including the delivery of response data to the
+         * response handler. The executor is not shut down when the client is closed. If not specified, the client creates a
+         * cached thread pool that is shut down when the client is closed.
+         *
+         * @param executor the executor to use
+         * @return this builder for method chaining.
+         */
+        Builder executor(Executor executor);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private final AttributeMap.Builder standardOptions = AttributeMap.builder();
+        private Executor executor;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public Builder readTimeout(Duration readTimeout) {
+            Validate.isNotNegative(readTimeout, "readTimeout");
+            standardOptions.put(SdkHttpConfigurationOption.READ_TIMEOUT, readTimeout);
+            return this;
+        }
+
+        public void setReadTimeout(Duration readTimeout) {
+            readTimeout(readTimeout);
+        }
+
+        @Override
+        public Builder connectionTimeout(Duration connectionTimeout) {
+            Validate.isNotNegative(connectionTimeout, "connectionTimeout");
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_TIMEOUT, connectionTimeout);
+            return this;
+        }
+
+        public void setConnectionTimeout(Duration connectionTimeout) {
+            connectionTimeout(connectionTimeout);
+        }
+
+        @Override
+        public Builder protocol(Protocol protocol) {
+            standardOptions.put(SdkHttpConfigurationOption.PROTOCOL, protocol);
+            return this;
+        }
+
+        public void setProtocol(Protocol protocol) {
+            protocol(protocol);
+        }
+
+        @Override
+        public Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER, tlsKeyManagersProvider);
+            return this;
+        }
+
+        public void setTlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            tlsKeyManagersProvider(tlsKeyManagersProvider);
+        }
+
+        @Override
+        public Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER, tlsTrustManagersProvider);
+            return this;
+        }
+
+        public void setTlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            tlsTrustManagersProvider(tlsTrustManagersProvider);
+        }
+
+        @Override
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public void setExecutor(Executor executor) {
+            executor(executor);
+        }
+
+        @Override
+        public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
+            return new JavaHttpAsyncHttpClient(this, standardOptions.build()
+                                                                    .merge(serviceDefaults)
+                                                                    .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.javahttp.internal;
+
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import org.reactivestreams.FlowAdapters;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.Header;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+
+/**
+ * Converts an {@link SdkHttpRequest} and its content publisher into a {@link HttpRequest} for the JDK client.
+ */
+@SdkInternalApi
+public final class JavaHttpRequestAdapter {
+    /**
+     * Headers that the {@link java.net.http.HttpClient} sets itself, most of which it rejects if they're set on the request.
+     * The values the JDK client derives from the request URI and body are equivalent to the ones set by the SDK.
+     */
+    private static final Set<String> RESTRICTED_HEADERS = caseInsensitiveSet(Header.CONNECTION,
+                                                                             Header.CONTENT_LENGTH,
+                                                                             "Expect",
+                                                                             Header.HOST,
+                                                                             Header.TRANSFER_ENCODING,
+                                                                             "Upgrade");
+
+    private final Duration readTimeout;
+
+    public JavaHttpRequestAdapter(Duration readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
+    public HttpRequest adapt(SdkHttpRequest request, SdkHttpContentPublisher contentPublisher) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(request.getUri())
+                                                 .method(request.method().name(), bodyPublisher(request, contentPublisher));
+
+        if (readTimeout != null && !readTimeout.isZero()) {
+            builder.timeout(readTimeout);
+        }
+
+        request.forEachHeader((name, values) -> {
+            if (RESTRICTED_HEADERS.contains(name)) {
+                return;
+            }
+            values.forEach(value -> builder.header(name, value));
+        });
+
+        request.firstMatchingHeader("Expect")
+               .filter(value -> value.equalsIgnoreCase("100-continue"))
+               .ifPresent(value -> builder.expectContinue(true));
+
+        return builder.build();
+    }
+
+    private static HttpRequest.BodyPublisher bodyPublisher(SdkHttpRequest request, SdkHttpContentPublisher contentPublisher) {
+        Optional<Long> contentLength = contentLength(request, contentPublisher);
+
+        if (contentLength.isPresent()) {
+            long length = contentLength.get();
+            if (length == 0) {
+                return HttpRequest.BodyPublishers.noBody();
+            }
+            return HttpRequest.BodyPublishers.fromPublisher(FlowAdapters.toFlowPublisher(contentPublisher), length);
+        }
+
+        // Without a known length, the body is sent using chunked encoding with HTTP/1.1, or as a stream of data frames with
+        // HTTP/2.
+        return HttpRequest.BodyPublishers.fromPublisher(FlowAdapters.toFlowPublisher(contentPublisher));
+    }
+
+    private static Optional<Long> contentLength(SdkHttpRequest request, SdkHttpContentPublisher contentPublisher) {
+        Optional<String> contentLengthHeader = request.firstMatchingHeader(Header.CONTENT_LENGTH);
+        if (contentLengthHeader.isPresent()) {
+            return contentLengthHeader.map(Long::parseLong);
+        }
+        return contentPublisher.contentLength();
+    }
+
+    private static Set<String> caseInsensitiveSet(String... values) {
+        Set<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        result.addAll(Arrays.asList(values));
+        return result;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.javahttp.internal;
+
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.reactivestreams.FlowAdapters;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.SdkCancellationException;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.utils.async.DelegatingSubscriber;
+import software.amazon.awssdk.utils.async.DelegatingSubscription;
+import software.amazon.awssdk.utils.async.FlatteningSubscriber;
+
+/**
+ * Delivers a response from the JDK client to an {@link SdkAsyncHttpResponseHandler}, and tracks the completion of the request.
+ *
+ * <p>The JDK client publishes the response body as lists of buffers, which are flattened into individual buffers for the
+ * response handler's subscriber while preserving its demand. The request is complete when the subscriber has received the
+ * whole body.
+ */
+@SdkInternalApi
+public final class JavaHttpResponseAdapter {
+    private final CompletableFuture<Void> executeFuture = new CompletableFuture<>();
+    private final AtomicBoolean failed = new AtomicBoolean(false);
+    private final SdkAsyncHttpResponseHandler responseHandler;
+
+    public JavaHttpResponseAdapter(SdkAsyncHttpResponseHandler responseHandler) {
+        this.responseHandler = responseHandler;
+    }
+
+    /**
+     * @return A future that is completed when the response body has been consumed, or the request failed.
+     */
+    public CompletableFuture<Void> executeFuture() {
+        return executeFuture;
+    }
+
+    public void onResponse(HttpResponse<Flow.Publisher<List<ByteBuffer>>> response) {
+        try {
+            responseHandler.onHeaders(toSdkHttpResponse(response));
+            responseHandler.onStream(bodyPublisher(response.body()));
+        } catch (Throwable t) {
+            onError(t);
+        }
+    }
+
+    public void onError(Throwable error) {
+        if (!failed.compareAndSet(false, true)) {
+            return;
+        }
+
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        try {
+            responseHandler.onError(cause);
+        } finally {
+            executeFuture.completeExceptionally(cause);
+        }
+    }
+
+    private Publisher<ByteBuffer> bodyPublisher(Flow.Publisher<List<ByteBuffer>> body) {
+        Publisher<List<ByteBuffer>> publisher = FlowAdapters.toPublisher(body);
+        return subscriber -> publisher.subscribe(new FlatteningSubscriber<>(new CompletionTrackingSubscriber(subscriber)));
+    }
+
+    private static SdkHttpResponse toSdkHttpResponse(HttpResponse<?> response) {
+        SdkHttpResponse.Builder builder = SdkHttpResponse.builder()
+                                                         .statusCode(response.statusCode());
+        response.headers().map().forEach((name, values) -> {
+            // Skip the HTTP/2 pseudo-headers, e.g. ":status"
+            if (!name.startsWith(":")) {
+                builder.putHeader(name, values);
+            }
+        });
+        return builder.build();
+    }
+
+    /**
+     * Completes the execute future when the body has been fully delivered to the response handler's subscriber, or when the
+     * subscriber cancels its subscription.
+     */
+    private final class CompletionTrackingSubscriber extends DelegatingSubscriber<ByteBuffer, ByteBuffer> {
+        private CompletionTrackingSubscriber(Subscriber<? super ByteBuffer> subscriber) {
+            super(subscriber);
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            subscriber.onSubscribe(new OnCancelSubscription(subscription));
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            subscriber.onNext(byteBuffer);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            super.onError(throwable);
+            JavaHttpResponseAdapter.this.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            super.onComplete();
+            executeFuture.complete(null);
+        }
+    }
+
+    /**
+     * Fails the execute future if the response handler's subscriber cancels before the whole body has been delivered.
+     * Cancelling the body subscription of the JDK client closes the connection.
+     */
+    private final class OnCancelSubscription extends DelegatingSubscription {
+        private OnCancelSubscription(Subscription subscription) {
+            super(subscription);
+        }
+
+        @Override
+        public void cancel() {
+            super.cancel();
+            if (failed.compareAndSet(false, true)) {
+                executeFuture.completeExceptionally(
+                    new SdkCancellationException("Subscriber cancelled before all events were published"));
+            }
+        }
+    }
+}
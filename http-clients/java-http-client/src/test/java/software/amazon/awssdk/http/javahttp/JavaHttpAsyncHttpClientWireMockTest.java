@@ -0,0 +1,289 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.javahttp;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.putRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import java.net.ConnectException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.StreamSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.http.HttpTestUtils;
+import software.amazon.awssdk.http.RecordingResponseHandler;
+import software.amazon.awssdk.http.SdkCancellationException;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.http.async.SdkAsyncHttpService;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.utils.AttributeMap;
+
+public class JavaHttpAsyncHttpClientWireMockTest {
+    private static final String BODY = "Hello, world! This is the body of the request.";
+
+    private WireMockServer server;
+    private SdkAsyncHttpClient client;
+
+    @BeforeEach
+    public void setup() {
+        server = new WireMockServer(wireMockConfig().dynamicPort().dynamicHttpsPort());
+        server.start();
+        server.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200)
+                                                                      .withHeader("x-amz-test", "value")
+                                                                      .withBody(BODY)));
+
+        client = JavaHttpAsyncHttpClient.builder()
+                                        .buildWithDefaults(AttributeMap.builder()
+                                                                       .put(SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES, true)
+                                                                       .build());
+    }
+
+    @AfterEach
+    public void teardown() {
+        client.close();
+        server.stop();
+    }
+
+    @Test
+    public void get_shouldDeliverHeadersAndBody() throws Exception {
+        RecordingResponseHandler handler = execute(request(SdkHttpMethod.GET, "http", server.port()).build(),
+                                                   HttpTestUtils.createProvider(""));
+
+        assertThat(handler.responses()).hasSize(1);
+        assertThat(handler.responses().get(0).statusCode()).isEqualTo(200);
+        assertThat(handler.responses().get(0).firstMatchingHeader("x-amz-test")).hasValue("value");
+        assertThat(handler.fullResponseAsString()).isEqualTo(BODY);
+    }
+
+    @Test
+    public void get_overHttps_shouldDeliverBody() throws Exception {
+        RecordingResponseHandler handler = execute(request(SdkHttpMethod.GET, "https", server.httpsPort()).build(),
+                                                   HttpTestUtils.createProvider(""));
+
+        assertThat(handler.fullResponseAsString()).isEqualTo(BODY);
+    }
+
+    @Test
+    public void head_shouldNotDeliverBody() {
+        byte[] responseData = HttpTestUtils.sendHeadRequest(server.httpsPort(), client).join();
+
+        assertThat(responseData).isNull();
+    }
+
+    @Test
+    public void put_knownContentLength_shouldSendBodyWithContentLength() throws Exception {
+        SdkHttpFullRequest request = request(SdkHttpMethod.PUT, "http", server.port())
+            .putHeader("Content-Length", String.valueOf(BODY.length()))
+            .putHeader("Host", "localhost")
+            .build();
+
+        execute(request, contentPublisher(BODY, true));
+
+        server.verify(putRequestedFor(urlPathEqualTo("/")).withHeader("Content-Length", equalTo(String.valueOf(BODY.length())))
+                                                          .withRequestBody(equalTo(BODY)));
+    }
+
+    @Test
+    public void put_unknownContentLength_shouldStreamBody() throws Exception {
+        execute(request(SdkHttpMethod.PUT, "http", server.port()).build(), contentPublisher(BODY, false));
+
+        server.verify(putRequestedFor(urlPathEqualTo("/")).withHeader("Content-Length", absent())
+                                                          .withRequestBody(equalTo(BODY)));
+    }
+
+    @Test
+    public void errorStatus_shouldDeliverResponse() throws Exception {
+        server.stubFor(any(urlPathEqualTo("/error")).willReturn(aResponse().withStatus(500).withBody("error")));
+
+        RecordingResponseHandler handler = execute(request(SdkHttpMethod.GET, "http", server.port()).encodedPath("/error")
+                                                                                                    .build(),
+                                                   HttpTestUtils.createProvider(""));
+
+        assertThat(handler.responses().get(0).statusCode()).isEqualTo(500);
+        assertThat(handler.fullResponseAsString()).isEqualTo("error");
+    }
+
+    @Test
+    public void invalidHeader_shouldFailRequest() {
+        SdkHttpFullRequest request = request(SdkHttpMethod.GET, "http", server.port()).putHeader("h", "foo\r\nbar").build();
+        RecordingResponseHandler handler = new RecordingResponseHandler();
+
+        CompletableFuture<Void> executeFuture = client.execute(executeRequest(request, HttpTestUtils.createProvider(""),
+                                                                              handler));
+
+        assertThatThrownBy(executeFuture::join).hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> handler.completeFuture().join()).hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void connectionRefused_shouldFailRequest() {
+        int port = server.port();
+        server.stop();
+
+        CompletableFuture<Void> executeFuture =
+            client.execute(executeRequest(request(SdkHttpMethod.GET, "http", port).build(),
+                                          HttpTestUtils.createProvider(""),
+                                          new RecordingResponseHandler()));
+
+        assertThatThrownBy(executeFuture::join).hasCauseInstanceOf(ConnectException.class);
+    }
+
+    @Test
+    public void subscriberCancelsMidBody_shouldCompleteFuture() throws Exception {
+        server.stubFor(any(urlPathEqualTo("/large")).willReturn(aResponse().withStatus(200).withBody(new byte[1024 * 1024])));
+        CancellingResponseHandler handler = new CancellingResponseHandler();
+
+        CompletableFuture<Void> executeFuture =
+            client.execute(executeRequest(request(SdkHttpMethod.GET, "http", server.port()).encodedPath("/large").build(),
+                                          HttpTestUtils.createProvider(""),
+                                          handler));
+
+        assertThatThrownBy(() -> executeFuture.get(10, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(SdkCancellationException.class);
+        assertThat(handler.received.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void serviceLoader_shouldDiscoverService() {
+        assertThat(StreamSupport.stream(ServiceLoader.load(SdkAsyncHttpService.class).spliterator(), false))
+            .anySatisfy(service -> assertThat(service).isInstanceOf(JavaHttpSdkAsyncHttpService.class));
+        assertThat(new JavaHttpSdkAsyncHttpService().createAsyncHttpClientFactory())
+            .isInstanceOf(JavaHttpAsyncHttpClient.Builder.class);
+    }
+
+    private RecordingResponseHandler execute(SdkHttpRequest request, SdkHttpContentPublisher contentPublisher)
+        throws Exception {
+        RecordingResponseHandler handler = new RecordingResponseHandler();
+        client.execute(executeRequest(request, contentPublisher, handler)).get(10, TimeUnit.SECONDS);
+        handler.completeFuture().get(10, TimeUnit.SECONDS);
+        return handler;
+    }
+
+    private static AsyncExecuteRequest executeRequest(SdkHttpRequest request,
+                                                      SdkHttpContentPublisher contentPublisher,
+                                                      SdkAsyncHttpResponseHandler handler) {
+        return AsyncExecuteRequest.builder()
+                                  .request(request)
+                                  .requestContentPublisher(contentPublisher)
+                                  .responseHandler(handler)
+                                  .build();
+    }
+
+    private static SdkHttpContentPublisher contentPublisher(String body, boolean knownLength) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        return new SdkHttpContentPublisher() {
+            @Override
+            public Optional<Long> contentLength() {
+                return knownLength ? Optional.of((long) bytes.length) : Optional.empty();
+            }
+
+            @Override
+            public void subscribe(Subscriber<? super ByteBuffer> s) {
+                s.onSubscribe(new Subscription() {
+                    private boolean done;
+
+                    @Override
+                    public void request(long n) {
+                        if (!done && n > 0) {
+                            done = true;
+                            s.onNext(ByteBuffer.wrap(bytes));
+                            s.onComplete();
+                        }
+                    }
+
+                    @Override
+                    public void cancel() {
+                        done = true;
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * Cancels the subscription to the response body after the first buffer, like a response transformer that aborts.
+     */
+    private static final class CancellingResponseHandler implements SdkAsyncHttpResponseHandler {
+        private final AtomicInteger received = new AtomicInteger();
+
+        @Override
+        public void onHeaders(SdkHttpResponse headers) {
+        }
+
+        @Override
+        public void onStream(Publisher<ByteBuffer> stream) {
+            stream.subscribe(new Subscriber<ByteBuffer>() {
+                private Subscription subscription;
+
+                @Override
+                public void onSubscribe(Subscription s) {
+                    subscription = s;
+                    s.request(1);
+                }
+
+                @Override
+                public void onNext(ByteBuffer byteBuffer) {
+                    received.incrementAndGet();
+                    subscription.cancel();
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                }
+
+                @Override
+                public void onComplete() {
+                }
+            });
+        }
+
+        @Override
+        public void onError(Throwable error) {
+        }
+    }
+
+    private static SdkHttpFullRequest.Builder request(SdkHttpMethod method, String protocol, int port) {
+        return SdkHttpFullRequest.builder()
+                                 .uri(URI.create(protocol + "://localhost:" + port))
+                                 .method(method);
+    }
+}
@@ -28,6 +28,7 @@ import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslProvider;
 import java.net.SocketOptions;
 import java.net.URI;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -36,6 +37,8 @@ import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.http.ConnectionPoolMetric;
+import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.SdkHttpRequest;
@@ -54,6 +57,9 @@ import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPoolMap;
 import software.amazon.awssdk.http.nio.netty.internal.SharedSdkEventLoopGroup;
 import software.amazon.awssdk.http.nio.netty.internal.utils.NettyClientLogger;
+import software.amazon.awssdk.http.nio.netty.internal.utils.SocketChannelResolver;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.Either;
 import software.amazon.awssdk.utils.Validate;
@@ -103,6 +109,10 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
                                              .sdkEventLoopGroup(sdkEventLoopGroup)
                                              .sslProvider(resolveSslProvider(builder))
                                              .proxyConfiguration(builder.proxyConfiguration)
+                                             .tlsSessionConfiguration(builder.tlsSessionConfiguration)
+                                             .consolidateFlushes(Boolean.TRUE.equals(builder.consolidateFlushes))
+                                             .connectionPoolMetricsPublisher(builder.connectionPoolMetricsPublisher)
+                                             .connectionPoolMetricsPublishInterval(builder.connectionPoolMetricsPublishInterval)
                                              .build();
     }
 
@@ -143,11 +153,26 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
     private SdkEventLoopGroup eventLoopGroup(DefaultBuilder builder) {
         Validate.isTrue(builder.eventLoopGroup == null || builder.eventLoopGroupBuilder == null,
                         "The eventLoopGroup and the eventLoopGroupFactory can't both be configured.");
+        if (configuration.unixDomainSocketPath() != null) {
+            return unixDomainSocketEventLoopGroup(builder);
+        }
         return Either.fromNullable(builder.eventLoopGroup, builder.eventLoopGroupBuilder)
                      .map(e -> e.map(this::nonManagedEventLoopGroup, SdkEventLoopGroup.Builder::build))
                      .orElseGet(SharedSdkEventLoopGroup::get);
     }
 
+    /**
+     * Unix domain sockets need a native transport, so fail when the client is built if the configured event loop group doesn't
+     * use one, and create a native event loop group instead of using the shared NIO one otherwise.
+     */
+    private SdkEventLoopGroup unixDomainSocketEventLoopGroup(DefaultBuilder builder) {
+        if (builder.eventLoopGroup != null) {
+            SocketChannelResolver.resolveDomainSocketChannelFactory(builder.eventLoopGroup.eventLoopGroup());
+            return nonManagedEventLoopGroup(builder.eventLoopGroup);
+        }
+        return SdkEventLoopGroup.createWithNativeTransport(builder.eventLoopGroupBuilder);
+    }
+
     private static URI poolKey(SdkHttpRequest sdkRequest) {
         return invokeSafely(() -> new URI(sdkRequest.protocol(), null, sdkRequest.host(),
                                           sdkRequest.port(), null, null, null));
@@ -262,6 +287,20 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          */
         Builder readTimeout(Duration readTimeout);
 
+        /**
+         * The maximum amount of time to wait for a "100 Continue" response to a request with an "Expect: 100-continue" header
+         * before the request body is sent anyway. If the server responds with a final response (e.g. a 403 or a 503) before
+         * then, the body is not sent at all and the connection is closed instead of being reused.
+         * Specify {@code Duration.ZERO} to always wait for the server's response.
+         *
+         * <p>
+         * By default, this is 3 seconds.
+         *
+         * @param expectContinueTimeout timeout duration
+         * @return this builder for method chaining.
+         */
+        Builder expectContinueTimeout(Duration expectContinueTimeout);
+
         /**
          * The amount of time to wait for a write on a socket before an exception is thrown.
          * Specify {@code Duration.ZERO} to disable.
@@ -382,6 +421,28 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          */
         Builder tcpKeepAlive(Boolean keepConnectionAlive);
 
+        /**
+         * Configure the path of a Unix domain socket through which all connections are made instead of TCP, e.g. to reach a
+         * proxy or mock server on the same host. The host of each request's URI is still sent in the Host header and used for
+         * TLS, but it is not resolved.
+         *
+         * <p>Unix domain sockets require the native epoll (Linux) or kqueue (macOS) transport. Unless an
+         * {@link #eventLoopGroup(SdkEventLoopGroup)} is configured, the client creates an event loop group with the native
+         * transport, configured by the {@link #eventLoopGroupBuilder(SdkEventLoopGroup.Builder)} if there is one. This requires
+         * the platform's {@code netty-transport-native-epoll} or {@code netty-transport-native-kqueue} artifact (with the
+         * classifier of the platform, e.g. {@code linux-x86_64}) on the classpath. A configured event loop group must itself
+         * use one of the native transports, e.g. an {@code EpollEventLoopGroup}. Building the client fails if neither is the
+         * case. TCP channel options, including {@link #tcpKeepAlive(Boolean)}, are not applied to Unix domain socket
+         * connections.
+         *
+         * <p>
+         * By default, this is not configured and connections use TCP.
+         *
+         * @param unixDomainSocketPath The path of the socket.
+         * @return the builder for method chaining.
+         */
+        Builder unixDomainSocketPath(Path unixDomainSocketPath);
+
         /**
          * Configures additional {@link ChannelOption} which will be used to create Netty Http client. This allows custom
          * configuration for Netty.
@@ -475,6 +536,73 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          * @return the builder for method chaining.
          */
         Builder http2Configuration(Consumer<Http2Configuration.Builder> http2ConfigurationBuilderConsumer);
+
+        /**
+         * Set the TLS session configuration for this client. This controls the size and timeout of the TLS session cache,
+         * and whether the SSL context (and its session cache) is shared with other clients in the JVM.
+         *
+         * @param tlsSessionConfiguration The TLS session configuration object.
+         * @return the builder for method chaining.
+         */
+        Builder tlsSessionConfiguration(TlsSessionConfiguration tlsSessionConfiguration);
+
+        /**
+         * Set the TLS session configuration for this client. This controls the size and timeout of the TLS session cache,
+         * and whether the SSL context (and its session cache) is shared with other clients in the JVM.
+         *
+         * @param tlsSessionConfigurationBuilderConsumer The consumer of the TLS session configuration builder object.
+         * @return the builder for method chaining.
+         */
+        Builder tlsSessionConfiguration(Consumer<TlsSessionConfiguration.Builder> tlsSessionConfigurationBuilderConsumer);
+
+        /**
+         * Configure whether flushes to a connection should be consolidated.
+         *
+         * <p>When enabled, a flush is not written to the socket immediately. Instead, it is deferred until the event loop has
+         * finished its current task, and combined with any other flushes issued for the same connection in the meantime. This
+         * reduces the number of system calls when many requests are written on the same event loop at once, at the cost of a
+         * small delay for each individual write.
+         *
+         * <p>
+         * By default, this is disabled.
+         *
+         * @param consolidateFlushes Whether to consolidate flushes.
+         * @return the builder for method chaining.
+         */
+        Builder consolidateFlushes(Boolean consolidateFlushes);
+
+        /**
+         * Configure a {@link MetricPublisher} to which the state of the client's connection pools is periodically published.
+         *
+         * <p>Each published {@link MetricCollection} contains one child collection per remote host, named after the host's
+         * URI, which contains the {@link ConnectionPoolMetric}s of the host's connection pool along with
+         * {@link HttpMetric#MAX_CONCURRENCY}, {@link HttpMetric#AVAILABLE_CONCURRENCY}, {@link HttpMetric#LEASED_CONCURRENCY}
+         * and {@link HttpMetric#PENDING_CONCURRENCY_ACQUIRES}. For HTTP/1.1, the available concurrency is the number of idle
+         * connections.
+         *
+         * <p>The publisher is not closed when the client is closed.
+         *
+         * <p>
+         * By default, connection pool metrics are not published.
+         *
+         * @param connectionPoolMetricsPublisher The publisher for the connection pool metrics.
+         * @return the builder for method chaining.
+         * @see #connectionPoolMetricsPublishInterval(Duration)
+         */
+        Builder connectionPoolMetricsPublisher(MetricPublisher connectionPoolMetricsPublisher);
+
+        /**
+         * Configure how often the connection pool metrics are published to the
+         * {@link #connectionPoolMetricsPublisher(MetricPublisher)}. Counts and durations in each publication cover the interval
+         * since the previous one.
+         *
+         * <p>
+         * By default, this is 1 minute.
+         *
+         * @param connectionPoolMetricsPublishInterval The interval between publications.
+         * @return the builder for method chaining.
+         */
+        Builder connectionPoolMetricsPublishInterval(Duration connectionPoolMetricsPublishInterval);
     }
 
     /**
@@ -490,6 +618,10 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         private SdkEventLoopGroup.Builder eventLoopGroupBuilder;
         private Integer maxHttp2Streams;
         private Http2Configuration http2Configuration;
+        private TlsSessionConfiguration tlsSessionConfiguration;
+        private Boolean consolidateFlushes;
+        private MetricPublisher connectionPoolMetricsPublisher;
+        private Duration connectionPoolMetricsPublishInterval;
         private SslProvider sslProvider;
         private ProxyConfiguration proxyConfiguration;
 
@@ -527,6 +659,17 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             readTimeout(readTimeout);
         }
 
+        @Override
+        public Builder expectContinueTimeout(Duration expectContinueTimeout) {
+            Validate.isNotNegative(expectContinueTimeout, "expectContinueTimeout");
+            standardOptions.put(SdkHttpConfigurationOption.EXPECT_CONTINUE_TIMEOUT, expectContinueTimeout);
+            return this;
+        }
+
+        public void setExpectContinueTimeout(Duration expectContinueTimeout) {
+            expectContinueTimeout(expectContinueTimeout);
+        }
+
         @Override
         public Builder writeTimeout(Duration writeTimeout) {
             Validate.isNotNegative(writeTimeout, "writeTimeout");
@@ -643,6 +786,16 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             tcpKeepAlive(keepConnectionAlive);
         }
 
+        @Override
+        public Builder unixDomainSocketPath(Path unixDomainSocketPath) {
+            standardOptions.put(SdkHttpConfigurationOption.UNIX_DOMAIN_SOCKET_PATH, unixDomainSocketPath);
+            return this;
+        }
+
+        public void setUnixDomainSocketPath(Path unixDomainSocketPath) {
+            unixDomainSocketPath(unixDomainSocketPath);
+        }
+
         @Override
         public Builder putChannelOption(ChannelOption channelOption, Object value) {
             this.sdkChannelOptions.putOption(channelOption, value);
@@ -716,6 +869,54 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             http2Configuration(http2Configuration);
         }
 
+        @Override
+        public Builder tlsSessionConfiguration(TlsSessionConfiguration tlsSessionConfiguration) {
+            this.tlsSessionConfiguration = tlsSessionConfiguration;
+            return this;
+        }
+
+        @Override
+        public Builder tlsSessionConfiguration(Consumer<TlsSessionConfiguration.Builder> tlsSessionConfigurationBuilderConsumer) {
+            TlsSessionConfiguration.Builder builder = TlsSessionConfiguration.builder();
+            tlsSessionConfigurationBuilderConsumer.accept(builder);
+            return tlsSessionConfiguration(builder.build());
+        }
+
+        public void setTlsSessionConfiguration(TlsSessionConfiguration tlsSessionConfiguration) {
+            tlsSessionConfiguration(tlsSessionConfiguration);
+        }
+
+        @Override
+        public Builder consolidateFlushes(Boolean consolidateFlushes) {
+            this.consolidateFlushes = consolidateFlushes;
+            return this;
+        }
+
+        public void setConsolidateFlushes(Boolean consolidateFlushes) {
+            consolidateFlushes(consolidateFlushes);
+        }
+
+        @Override
+        public Builder connectionPoolMetricsPublisher(MetricPublisher connectionPoolMetricsPublisher) {
+            this.connectionPoolMetricsPublisher = connectionPoolMetricsPublisher;
+            return this;
+        }
+
+        public void setConnectionPoolMetricsPublisher(MetricPublisher connectionPoolMetricsPublisher) {
+            connectionPoolMetricsPublisher(connectionPoolMetricsPublisher);
+        }
+
+        @Override
+        public Builder connectionPoolMetricsPublishInterval(Duration connectionPoolMetricsPublishInterval) {
+            this.connectionPoolMetricsPublishInterval = Validate.isPositiveOrNull(connectionPoolMetricsPublishInterval,
+                                                                                  "connectionPoolMetricsPublishInterval");
+            return this;
+        }
+
+        public void setConnectionPoolMetricsPublishInterval(Duration connectionPoolMetricsPublishInterval) {
+            connectionPoolMetricsPublishInterval(connectionPoolMetricsPublishInterval);
+        }
+
         @Override
         public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
             if (standardOptions.get(SdkHttpConfigurationOption.TLS_NEGOTIATION_TIMEOUT) == null) {
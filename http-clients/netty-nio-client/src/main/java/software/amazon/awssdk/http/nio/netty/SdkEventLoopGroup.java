@@ -15,9 +15,14 @@
 
 package software.amazon.awssdk.http.nio.netty;
 
+import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
+
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFactory;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import java.util.Optional;
@@ -60,6 +65,8 @@ import software.amazon.awssdk.utils.Validate;
  */
 @SdkPublicApi
 public final class SdkEventLoopGroup {
+    private static final String KQUEUE = "io.netty.channel.kqueue.KQueue";
+    private static final String KQUEUE_EVENT_LOOP_GROUP = "io.netty.channel.kqueue.KQueueEventLoopGroup";
 
     private final EventLoopGroup eventLoopGroup;
     private final ChannelFactory<? extends Channel> channelFactory;
@@ -123,13 +130,53 @@ public final class SdkEventLoopGroup {
         return new DefaultBuilder();
     }
 
+    /**
+     * Create an instance with the native epoll or kqueue transport, which unlike NIO support Unix domain sockets, configured by
+     * the given builder if it's not null.
+     *
+     * @throws IllegalStateException If neither native transport is available.
+     */
+    static SdkEventLoopGroup createWithNativeTransport(Builder builder) {
+        DefaultBuilder configuration = builder instanceof DefaultBuilder ? (DefaultBuilder) builder : new DefaultBuilder();
+        int numThreads = numberOfThreads(configuration);
+        ThreadFactory threadFactory = threadFactory(configuration);
+
+        if (Epoll.isAvailable()) {
+            return new SdkEventLoopGroup(new EpollEventLoopGroup(numThreads, threadFactory), EpollSocketChannel::new);
+        }
+        if (isKQueueAvailable()) {
+            EventLoopGroup kqueueEventLoopGroup = invokeSafely(
+                () -> (EventLoopGroup) Class.forName(KQUEUE_EVENT_LOOP_GROUP)
+                                            .getConstructor(int.class, ThreadFactory.class)
+                                            .newInstance(numThreads, threadFactory));
+            return create(kqueueEventLoopGroup);
+        }
+        throw new IllegalStateException("Unix domain sockets require the native epoll or kqueue transport, but neither is "
+                                        + "available. Add the netty-transport-native-epoll (Linux) or "
+                                        + "netty-transport-native-kqueue (macOS) artifact for the platform to the classpath.");
+    }
+
+    private static boolean isKQueueAvailable() {
+        try {
+            return (Boolean) Class.forName(KQUEUE).getMethod("isAvailable").invoke(null);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static int numberOfThreads(DefaultBuilder builder) {
+        return Optional.ofNullable(builder.numberOfThreads).orElse(0);
+    }
+
+    private static ThreadFactory threadFactory(DefaultBuilder builder) {
+        return Optional.ofNullable(builder.threadFactory)
+                       .orElseGet(() -> new ThreadFactoryBuilder()
+                           .threadNamePrefix("aws-java-sdk-NettyEventLoop")
+                           .build());
+    }
+
     private EventLoopGroup resolveEventLoopGroup(DefaultBuilder builder) {
-        int numThreads = Optional.ofNullable(builder.numberOfThreads).orElse(0);
-        ThreadFactory threadFactory = Optional.ofNullable(builder.threadFactory)
-                                              .orElseGet(() -> new ThreadFactoryBuilder()
-                                                  .threadNamePrefix("aws-java-sdk-NettyEventLoop")
-                                                  .build());
-        return new NioEventLoopGroup(numThreads, threadFactory);
+        return new NioEventLoopGroup(numberOfThreads(builder), threadFactory(builder));
         /*
         Need to investigate why epoll is raising channel inactive after successful response that causes
         problems with retries.
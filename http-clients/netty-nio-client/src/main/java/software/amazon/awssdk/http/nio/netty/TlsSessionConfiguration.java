@@ -0,0 +1,180 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty;
+
+import java.time.Duration;
+import java.util.Objects;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configuration of the TLS session cache used by the Netty client to resume TLS sessions instead of performing a full
+ * handshake for every new connection.
+ */
+@SdkPublicApi
+public final class TlsSessionConfiguration implements ToCopyableBuilder<TlsSessionConfiguration.Builder,
+    TlsSessionConfiguration> {
+    private final Long sessionCacheSize;
+    private final Duration sessionTimeout;
+    private final Boolean shareAcrossClients;
+
+    private TlsSessionConfiguration(DefaultBuilder builder) {
+        this.sessionCacheSize = builder.sessionCacheSize;
+        this.sessionTimeout = builder.sessionTimeout;
+        this.shareAcrossClients = builder.shareAcrossClients;
+    }
+
+    /**
+     * @return The maximum number of TLS sessions to cache, or null to use the SSL provider's default.
+     */
+    public Long sessionCacheSize() {
+        return sessionCacheSize;
+    }
+
+    /**
+     * @return The amount of time a cached TLS session may be resumed for, or null to use the SSL provider's default.
+     */
+    public Duration sessionTimeout() {
+        return sessionTimeout;
+    }
+
+    /**
+     * @return Whether the SSL context, and therefore the TLS session cache, is shared with other clients in the JVM that use
+     * the same TLS configuration.
+     */
+    public Boolean shareAcrossClients() {
+        return shareAcrossClients;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new DefaultBuilder(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        TlsSessionConfiguration that = (TlsSessionConfiguration) o;
+
+        return Objects.equals(sessionCacheSize, that.sessionCacheSize)
+               && Objects.equals(sessionTimeout, that.sessionTimeout)
+               && Objects.equals(shareAcrossClients, that.shareAcrossClients);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = sessionCacheSize != null ? sessionCacheSize.hashCode() : 0;
+        result = 31 * result + (sessionTimeout != null ? sessionTimeout.hashCode() : 0);
+        result = 31 * result + (shareAcrossClients != null ? shareAcrossClients.hashCode() : 0);
+        return result;
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, TlsSessionConfiguration> {
+
+        /**
+         * Sets the maximum number of TLS sessions that will be cached for resumption.
+         *
+         * @param sessionCacheSize The session cache size.
+         * @return This builder for method chaining.
+         */
+        Builder sessionCacheSize(Long sessionCacheSize);
+
+        /**
+         * Sets the amount of time after which a cached TLS session can no longer be resumed.
+         *
+         * @param sessionTimeout The session timeout.
+         * @return This builder for method chaining.
+         */
+        Builder sessionTimeout(Duration sessionTimeout);
+
+        /**
+         * Configure whether the SSL context should be shared with every other Netty client in the JVM that has the same
+         * protocol, {@link io.netty.handler.ssl.SslProvider}, trust manager and key manager configuration. Sharing the SSL
+         * context also shares its TLS session cache, so connections opened by one client can resume sessions negotiated by
+         * another client.
+         *
+         * <p>
+         * By default, this is disabled and each client uses its own SSL context.
+         *
+         * @param shareAcrossClients Whether to share the SSL context.
+         * @return This builder for method chaining.
+         */
+        Builder shareAcrossClients(Boolean shareAcrossClients);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private Long sessionCacheSize;
+        private Duration sessionTimeout;
+        private Boolean shareAcrossClients;
+
+        private DefaultBuilder() {
+        }
+
+        private DefaultBuilder(TlsSessionConfiguration tlsSessionConfiguration) {
+            this.sessionCacheSize = tlsSessionConfiguration.sessionCacheSize;
+            this.sessionTimeout = tlsSessionConfiguration.sessionTimeout;
+            this.shareAcrossClients = tlsSessionConfiguration.shareAcrossClients;
+        }
+
+        @Override
+        public Builder sessionCacheSize(Long sessionCacheSize) {
+            this.sessionCacheSize = Validate.isPositiveOrNull(sessionCacheSize, "sessionCacheSize");
+            return this;
+        }
+
+        public void setSessionCacheSize(Long sessionCacheSize) {
+            sessionCacheSize(sessionCacheSize);
+        }
+
+        @Override
+        public Builder sessionTimeout(Duration sessionTimeout) {
+            this.sessionTimeout = Validate.isPositiveOrNull(sessionTimeout, "sessionTimeout");
+            return this;
+        }
+
+        public void setSessionTimeout(Duration sessionTimeout) {
+            sessionTimeout(sessionTimeout);
+        }
+
+        @Override
+        public Builder shareAcrossClients(Boolean shareAcrossClients) {
+            this.shareAcrossClients = shareAcrossClients;
+            return this;
+        }
+
+        public void setShareAcrossClients(Boolean shareAcrossClients) {
+            shareAcrossClients(shareAcrossClients);
+        }
+
+        @Override
+        public TlsSessionConfiguration build() {
+            return new TlsSessionConfiguration(this);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.channel.Channel;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+/**
+ * Simple decorator {@link ChannelPool} that records the time taken by each successful {@link #acquire(Promise)} in a
+ * {@link ConnectionPoolMetricsRecorder}, including any time spent waiting for a connection to become available.
+ */
+@SdkInternalApi
+public final class AcquireDurationRecordingChannelPool implements SdkChannelPool {
+    private final EventExecutor executor;
+    private final SdkChannelPool delegatePool;
+    private final ConnectionPoolMetricsRecorder metricsRecorder;
+
+    public AcquireDurationRecordingChannelPool(EventExecutor executor,
+                                               SdkChannelPool delegatePool,
+                                               ConnectionPoolMetricsRecorder metricsRecorder) {
+        this.executor = executor;
+        this.delegatePool = delegatePool;
+        this.metricsRecorder = metricsRecorder;
+    }
+
+    @Override
+    public Future<Channel> acquire() {
+        return this.acquire(executor.newPromise());
+    }
+
+    @Override
+    public Future<Channel> acquire(Promise<Channel> acquirePromise) {
+        long start = System.nanoTime();
+        acquirePromise.addListener(f -> {
+            if (f.isSuccess()) {
+                metricsRecorder.acquireCompleted(System.nanoTime() - start);
+            }
+        });
+        return delegatePool.acquire(acquirePromise);
+    }
+
+    @Override
+    public Future<Void> release(Channel channel) {
+        return delegatePool.release(channel);
+    }
+
+    @Override
+    public Future<Void> release(Channel channel, Promise<Void> promise) {
+        return delegatePool.release(channel, promise);
+    }
+
+    @Override
+    public void close() {
+        delegatePool.close();
+    }
+
+    @Override
+    public CompletableFuture<Void> collectChannelPoolMetrics(MetricCollector metrics) {
+        return delegatePool.collectChannelPoolMetrics(metrics);
+    }
+}
@@ -41,8 +41,11 @@ import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.nio.netty.ProxyConfiguration;
 import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
+import software.amazon.awssdk.http.nio.netty.TlsSessionConfiguration;
 import software.amazon.awssdk.http.nio.netty.internal.http2.HttpOrHttp2ChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.utils.NettyClientLogger;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricPublisher;
 
 /**
  * Implementation of {@link SdkChannelPoolMap} that awaits channel pools to be closed upon closing.
@@ -83,6 +86,9 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
     private final ProxyConfiguration proxyConfiguration;
     private final BootstrapProvider bootstrapProvider;
     private final SslContextProvider sslContextProvider;
+    private final boolean consolidateFlushes;
+    private final Map<URI, ConnectionPoolMetricsRecorder> metricsRecorders = new ConcurrentHashMap<>();
+    private final ConnectionPoolMetricsPublisher metricsPublisher;
 
     private AwaitCloseChannelPoolMap(Builder builder, Function<Builder, BootstrapProvider> createBootStrapProvider) {
         this.configuration = builder.configuration;
@@ -93,7 +99,10 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         this.sslProvider = builder.sslProvider;
         this.proxyConfiguration = builder.proxyConfiguration;
         this.bootstrapProvider = createBootStrapProvider.apply(builder);
-        this.sslContextProvider = new SslContextProvider(configuration, protocol, sslProvider);
+        this.sslContextProvider = new SslContextProvider(configuration, protocol, sslProvider,
+                                                         builder.tlsSessionConfiguration);
+        this.consolidateFlushes = builder.consolidateFlushes;
+        this.metricsPublisher = createMetricsPublisher(builder);
     }
 
     private AwaitCloseChannelPoolMap(Builder builder) {
@@ -123,6 +132,11 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
 
         AtomicReference<ChannelPool> channelPoolRef = new AtomicReference<>();
 
+        ConnectionPoolMetricsRecorder metricsRecorder = null;
+        if (metricsPublisher != null) {
+            metricsRecorder = metricsRecorders.computeIfAbsent(key, k -> new ConnectionPoolMetricsRecorder());
+        }
+
         ChannelPipelineInitializer pipelineInitializer = new ChannelPipelineInitializer(protocol,
                                                                                         sslContext,
                                                                                         sslProvider,
@@ -131,7 +145,9 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
                                                                                         healthCheckPingPeriod,
                                                                                         channelPoolRef,
                                                                                         configuration,
-                                                                                        key);
+                                                                                        key,
+                                                                                        consolidateFlushes,
+                                                                                        metricsRecorder);
 
         BetterSimpleChannelPool tcpChannelPool;
         ChannelPool baseChannelPool;
@@ -145,7 +161,7 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
             baseChannelPool = tcpChannelPool;
         }
 
-        SdkChannelPool wrappedPool = wrapBaseChannelPool(bootstrap, baseChannelPool);
+        SdkChannelPool wrappedPool = wrapBaseChannelPool(bootstrap, baseChannelPool, metricsRecorder);
 
         channelPoolRef.set(wrappedPool);
         return new SimpleChannelPoolAwareChannelPool(wrappedPool, tcpChannelPool);
@@ -160,8 +176,12 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         // If a new pool is being added while super.close() is running, it might be left open because
         // the underlying pool map is a ConcurrentHashMap and it doesn't guarantee strong consistency for retrieval
         // operations. See https://github.com/aws/aws-sdk-java-v2/pull/1200#discussion_r277906715
+        if (metricsPublisher != null) {
+            metricsPublisher.close();
+        }
         Collection<SimpleChannelPoolAwareChannelPool> channelPools = pools().values();
         super.close();
+        sslContextProvider.close();
 
         try {
             CompletableFuture.allOf(channelPools.stream()
@@ -176,6 +196,37 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         }
     }
 
+    /**
+     * Collect the {@link software.amazon.awssdk.http.ConnectionPoolMetric}s and channel pool metrics of every connection pool
+     * into a child of the provided collector, named after the pool's key.
+     */
+    CompletableFuture<Void> collectConnectionPoolMetrics(MetricCollector metrics) {
+        CompletableFuture<?>[] poolMetrics =
+            pools().entrySet().stream().map(e -> {
+                MetricCollector poolMetricCollector = metrics.createChild(e.getKey().toString());
+                ConnectionPoolMetricsRecorder metricsRecorder = metricsRecorders.get(e.getKey());
+                if (metricsRecorder != null) {
+                    metricsRecorder.report(poolMetricCollector);
+                }
+                return e.getValue().collectChannelPoolMetrics(poolMetricCollector);
+            }).toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(poolMetrics);
+    }
+
+    private ConnectionPoolMetricsPublisher createMetricsPublisher(Builder builder) {
+        if (builder.connectionPoolMetricsPublisher == null) {
+            return null;
+        }
+
+        Duration publishInterval = builder.connectionPoolMetricsPublishInterval != null
+                                   ? builder.connectionPoolMetricsPublishInterval
+                                   : NettyConfiguration.DEFAULT_CONNECTION_POOL_METRICS_PUBLISH_INTERVAL;
+        return new ConnectionPoolMetricsPublisher(builder.sdkEventLoopGroup.eventLoopGroup().next(),
+                                                  publishInterval,
+                                                  builder.connectionPoolMetricsPublisher,
+                                                  this::collectConnectionPoolMetrics);
+    }
+
     private Bootstrap createBootstrap(URI poolKey) {
         String host = bootstrapHost(poolKey);
         int port = bootstrapPort(poolKey);
@@ -226,7 +277,9 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         }
     }
 
-    private SdkChannelPool wrapBaseChannelPool(Bootstrap bootstrap, ChannelPool channelPool) {
+    private SdkChannelPool wrapBaseChannelPool(Bootstrap bootstrap,
+                                               ChannelPool channelPool,
+                                               ConnectionPoolMetricsRecorder metricsRecorder) {
 
         // Wrap the channel pool such that the ChannelAttributeKey.CLOSE_ON_RELEASE flag is honored.
         channelPool = new HonorCloseOnReleaseChannelPool(channelPool);
@@ -256,6 +309,12 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         // from the underlying pool, the channel is closed and released.
         sdkChannelPool = new CancellableAcquireChannelPool(bootstrap.config().group().next(), sdkChannelPool);
 
+        // Wrap the channel pool such that the time taken by each acquire is recorded for the connection pool metrics.
+        if (metricsRecorder != null) {
+            sdkChannelPool = new AcquireDurationRecordingChannelPool(bootstrap.config().group().next(), sdkChannelPool,
+                                                                     metricsRecorder);
+        }
+
         return sdkChannelPool;
     }
 
@@ -278,6 +337,10 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         private Duration healthCheckPingPeriod;
         private SslProvider sslProvider;
         private ProxyConfiguration proxyConfiguration;
+        private TlsSessionConfiguration tlsSessionConfiguration;
+        private boolean consolidateFlushes;
+        private MetricPublisher connectionPoolMetricsPublisher;
+        private Duration connectionPoolMetricsPublishInterval;
 
         private Builder() {
         }
@@ -327,6 +390,26 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
             return this;
         }
 
+        public Builder tlsSessionConfiguration(TlsSessionConfiguration tlsSessionConfiguration) {
+            this.tlsSessionConfiguration = tlsSessionConfiguration;
+            return this;
+        }
+
+        public Builder consolidateFlushes(boolean consolidateFlushes) {
+            this.consolidateFlushes = consolidateFlushes;
+            return this;
+        }
+
+        public Builder connectionPoolMetricsPublisher(MetricPublisher connectionPoolMetricsPublisher) {
+            this.connectionPoolMetricsPublisher = connectionPoolMetricsPublisher;
+            return this;
+        }
+
+        public Builder connectionPoolMetricsPublishInterval(Duration connectionPoolMetricsPublishInterval) {
+            this.connectionPoolMetricsPublishInterval = connectionPoolMetricsPublishInterval;
+            return this;
+        }
+
         public AwaitCloseChannelPoolMap build() {
             return new AwaitCloseChannelPoolMap(this);
         }
@@ -17,14 +17,19 @@ package software.amazon.awssdk.http.nio.netty.internal;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.unix.DomainSocketAddress;
 import java.net.InetSocketAddress;
+import java.nio.file.Path;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
+import software.amazon.awssdk.http.nio.netty.internal.utils.SocketChannelResolver;
 
 /**
  * The primary purpose of this Bootstrap provider is to ensure that all Bootstraps created by it are 'unresolved'
  * InetSocketAddress. This is to prevent Netty from caching the resolved address of a host and then re-using it in
  * subsequent connection attempts, and instead deferring to the JVM to handle address resolution and caching.
+ *
+ * <p>When a Unix domain socket path is configured, every Bootstrap connects to that socket instead.
  */
 @SdkInternalApi
 public class BootstrapProvider {
@@ -49,6 +54,11 @@ public class BootstrapProvider {
      * unresolved remote address.
      */
     public Bootstrap createBootstrap(String host, int port) {
+        Path unixDomainSocketPath = nettyConfiguration.unixDomainSocketPath();
+        if (unixDomainSocketPath != null) {
+            return createDomainSocketBootstrap(unixDomainSocketPath);
+        }
+
         Bootstrap bootstrap =
             new Bootstrap()
                 .group(sdkEventLoopGroup.eventLoopGroup())
@@ -60,4 +70,13 @@ public class BootstrapProvider {
 
         return bootstrap;
     }
+
+    private Bootstrap createDomainSocketBootstrap(Path path) {
+        // The TCP channel options don't apply to Unix domain sockets
+        return new Bootstrap()
+            .group(sdkEventLoopGroup.eventLoopGroup())
+            .channelFactory(SocketChannelResolver.resolveDomainSocketChannelFactory(sdkEventLoopGroup.eventLoopGroup()))
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, nettyConfiguration.connectTimeoutMillis())
+            .remoteAddress(new DomainSocketAddress(path.toFile()));
+    }
 }
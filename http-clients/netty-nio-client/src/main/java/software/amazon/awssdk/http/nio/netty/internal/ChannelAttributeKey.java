@@ -21,6 +21,7 @@ import io.netty.handler.codec.http2.Http2Connection;
 import io.netty.handler.codec.http2.Http2FrameStream;
 import io.netty.util.AttributeKey;
 import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import org.reactivestreams.Subscriber;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -73,6 +74,31 @@ public final class ChannelAttributeKey {
     public static final AttributeKey<ChannelDiagnostics> CHANNEL_DIAGNOSTICS = NettyUtils.getOrCreateAttributeKey(
         "aws.http.nio.netty.async.channelDiagnostics");
 
+    /**
+     * Whether the channel should be closed once it is released.
+     */
+    public static final AttributeKey<Boolean> CLOSE_ON_RELEASE = NettyUtils.getOrCreateAttributeKey(
+            "aws.http.nio.netty.async.closeOnRelease");
+
+    /**
+     * The time taken by the TLS handshake of this connection. This is cleared once it has been reported with the first request
+     * made on the connection.
+     */
+    static final AttributeKey<Duration> TLS_HANDSHAKE_DURATION = NettyUtils.getOrCreateAttributeKey(
+        "aws.http.nio.netty.async.tlsHandshakeDuration");
+
+    /**
+     * Whether the TLS handshake of this connection resumed a cached TLS session.
+     */
+    static final AttributeKey<Boolean> TLS_SESSION_REUSED = NettyUtils.getOrCreateAttributeKey(
+        "aws.http.nio.netty.async.tlsSessionReused");
+
+    /**
+     * Why the client decided to close this connection, if it was closed by one of the connection reapers.
+     */
+    static final AttributeKey<ConnectionPoolMetricsRecorder.CloseReason> CLOSE_REASON = NettyUtils.getOrCreateAttributeKey(
+        "aws.http.nio.netty.async.closeReason");
+
     /**
      * {@link AttributeKey} to keep track of whether we should close the connection after this request
      * has completed.
@@ -117,12 +143,6 @@ public final class ChannelAttributeKey {
      */
     static final AttributeKey<Boolean> IN_USE = NettyUtils.getOrCreateAttributeKey("aws.http.nio.netty.async.inUse");
 
-    /**
-     * Whether the channel should be closed once it is released.
-     */
-    static final AttributeKey<Boolean> CLOSE_ON_RELEASE = NettyUtils.getOrCreateAttributeKey(
-            "aws.http.nio.netty.async.closeOnRelease");
-
     private ChannelAttributeKey() {
     }
 
@@ -37,6 +37,7 @@ import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
 import io.netty.handler.codec.http2.Http2FrameLogger;
 import io.netty.handler.codec.http2.Http2MultiplexHandler;
 import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.flush.FlushConsolidationHandler;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
 import io.netty.handler.ssl.SslContext;
@@ -66,6 +67,8 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
     private final AtomicReference<ChannelPool> channelPoolRef;
     private final NettyConfiguration configuration;
     private final URI poolKey;
+    private final boolean consolidateFlushes;
+    private final ConnectionPoolMetricsRecorder metricsRecorder;
 
     public ChannelPipelineInitializer(Protocol protocol,
                                       SslContext sslCtx,
@@ -75,7 +78,9 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
                                       Duration healthCheckPingPeriod,
                                       AtomicReference<ChannelPool> channelPoolRef,
                                       NettyConfiguration configuration,
-                                      URI poolKey) {
+                                      URI poolKey,
+                                      boolean consolidateFlushes,
+                                      ConnectionPoolMetricsRecorder metricsRecorder) {
         this.protocol = protocol;
         this.sslCtx = sslCtx;
         this.sslProvider = sslProvider;
@@ -85,12 +90,17 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
         this.channelPoolRef = channelPoolRef;
         this.configuration = configuration;
         this.poolKey = poolKey;
+        this.consolidateFlushes = consolidateFlushes;
+        this.metricsRecorder = metricsRecorder;
     }
 
     @Override
     public void channelCreated(Channel ch) {
         ch.attr(CHANNEL_DIAGNOSTICS).set(new ChannelDiagnostics(ch));
         ch.attr(PROTOCOL_FUTURE).set(new CompletableFuture<>());
+        if (metricsRecorder != null) {
+            metricsRecorder.connectionCreated(ch);
+        }
         ChannelPipeline pipeline = ch.pipeline();
         if (sslCtx != null) {
 
@@ -98,6 +108,7 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
                                                   configuration.tlsHandshakeTimeout());
 
             pipeline.addLast(sslHandler);
+            pipeline.addLast(new SslHandshakeMetricsHandler(sslHandler, metricsRecorder));
             pipeline.addLast(SslCloseCompletionEventHandler.getInstance());
 
             // Use unpooled allocator to avoid increased heap memory usage from Netty 4.1.43.
@@ -107,6 +118,13 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
             }
         }
 
+        if (consolidateFlushes) {
+            // Placed below the HTTP codecs so that every flush issued for a request, including those of HTTP/2 stream
+            // channels, is deferred and combined with the other flushes issued during the same event loop task.
+            pipeline.addLast(new FlushConsolidationHandler(FlushConsolidationHandler.DEFAULT_EXPLICIT_FLUSH_AFTER_FLUSHES,
+                                                           true));
+        }
+
         if (protocol == Protocol.HTTP2) {
             configureHttp2(ch, pipeline);
         } else {
@@ -163,7 +181,11 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
     }
 
     private void configureHttp11(Channel ch, ChannelPipeline pipeline) {
+        // Connection-scoped handlers whose behavior is switched per request through the channel state, rather than being
+        // added and removed with every request. See NettyRequestExecutor.
+        pipeline.addFirst(new RequestTimeoutHandler());
         pipeline.addLast(new HttpClientCodec());
+        pipeline.addLast(LastHttpContentHandler.create());
         ch.attr(PROTOCOL_FUTURE).get().complete(Protocol.HTTP1_1);
     }
 
@@ -0,0 +1,83 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.ScheduledFuture;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.ConnectionPoolMetric;
+import software.amazon.awssdk.http.nio.netty.internal.utils.NettyClientLogger;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Periodically collects the {@link ConnectionPoolMetric}s of all connection pools of a client, and publishes them to a
+ * {@link MetricPublisher} as a single {@link software.amazon.awssdk.metrics.MetricCollection}.
+ *
+ * <p>The publisher is owned by the caller and is not closed when this is closed.
+ */
+@SdkInternalApi
+public final class ConnectionPoolMetricsPublisher implements SdkAutoCloseable {
+    public static final String COLLECTION_NAME = "HttpClientConnectionPools";
+
+    private static final NettyClientLogger log = NettyClientLogger.getLogger(ConnectionPoolMetricsPublisher.class);
+
+    private final MetricPublisher publisher;
+    private final Function<MetricCollector, CompletableFuture<Void>> metricsCollector;
+    private final ScheduledFuture<?> publishTask;
+
+    /**
+     * @param metricsCollector Collects the metrics of all connection pools into the given collector, completing the returned
+     * future when done.
+     */
+    public ConnectionPoolMetricsPublisher(EventExecutor executor,
+                                          Duration publishInterval,
+                                          MetricPublisher publisher,
+                                          Function<MetricCollector, CompletableFuture<Void>> metricsCollector) {
+        this.publisher = publisher;
+        this.metricsCollector = metricsCollector;
+        long intervalNanos = publishInterval.toNanos();
+        this.publishTask = executor.scheduleAtFixedRate(this::publish, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void publish() {
+        MetricCollector collector = MetricCollector.create(COLLECTION_NAME);
+        CompletableFuture<Void> collected;
+        try {
+            collected = metricsCollector.apply(collector);
+        } catch (Throwable t) {
+            collected = new CompletableFuture<>();
+            collected.completeExceptionally(t);
+        }
+
+        collected.whenComplete((r, t) -> {
+            if (t != null) {
+                log.debug(null, () -> "Failed to collect the metrics of some connection pools.", t);
+            }
+            publisher.publish(collector.collect());
+        });
+    }
+
+    @Override
+    public void close() {
+        publishTask.cancel(false);
+    }
+}
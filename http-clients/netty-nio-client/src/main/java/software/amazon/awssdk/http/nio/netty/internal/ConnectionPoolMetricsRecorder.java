@@ -0,0 +1,115 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.channel.Channel;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.http.ConnectionPoolMetric;
+import software.amazon.awssdk.internal.http.DurationHistogram;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+/**
+ * Records the connection churn, acquire latency and TLS handshake latency of a single connection pool, so that they can be
+ * reported periodically as {@link ConnectionPoolMetric}s.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class ConnectionPoolMetricsRecorder {
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private final AtomicInteger connectionsCreated = new AtomicInteger();
+    private final AtomicInteger connectionsClosedIdle = new AtomicInteger();
+    private final AtomicInteger connectionsClosedExpired = new AtomicInteger();
+    private final AtomicInteger connectionsClosedOther = new AtomicInteger();
+    private final DurationHistogram acquireDurations = new DurationHistogram();
+    private final DurationHistogram tlsHandshakeDurations = new DurationHistogram();
+
+    /**
+     * Record that a connection was created, and start tracking when and why it's closed.
+     */
+    public void connectionCreated(Channel channel) {
+        openConnections.incrementAndGet();
+        connectionsCreated.incrementAndGet();
+        channel.closeFuture().addListener(f -> connectionClosed(channel.attr(ChannelAttributeKey.CLOSE_REASON).get()));
+    }
+
+    public void acquireCompleted(long durationNanos) {
+        acquireDurations.recordNanos(durationNanos);
+    }
+
+    public void tlsHandshakeCompleted(Duration duration) {
+        tlsHandshakeDurations.record(duration);
+    }
+
+    /**
+     * Report the metrics recorded since the last invocation to the provided collector.
+     */
+    public void report(MetricCollector metrics) {
+        metrics.reportMetric(ConnectionPoolMetric.OPEN_CONNECTIONS, openConnections.get());
+        metrics.reportMetric(ConnectionPoolMetric.CONNECTIONS_CREATED, connectionsCreated.getAndSet(0));
+        metrics.reportMetric(ConnectionPoolMetric.CONNECTIONS_CLOSED_IDLE, connectionsClosedIdle.getAndSet(0));
+        metrics.reportMetric(ConnectionPoolMetric.CONNECTIONS_CLOSED_EXPIRED, connectionsClosedExpired.getAndSet(0));
+        metrics.reportMetric(ConnectionPoolMetric.CONNECTIONS_CLOSED_OTHER, connectionsClosedOther.getAndSet(0));
+
+        DurationHistogram.Snapshot acquires = acquireDurations.snapshotAndReset();
+        metrics.reportMetric(ConnectionPoolMetric.CONCURRENCY_ACQUIRES, toInt(acquires.count()));
+        if (acquires.count() > 0) {
+            metrics.reportMetric(ConnectionPoolMetric.CONCURRENCY_ACQUIRE_DURATION_P50, acquires.percentile(50));
+            metrics.reportMetric(ConnectionPoolMetric.CONCURRENCY_ACQUIRE_DURATION_P99, acquires.percentile(99));
+            metrics.reportMetric(ConnectionPoolMetric.CONCURRENCY_ACQUIRE_DURATION_MAX, acquires.max());
+        }
+
+        DurationHistogram.Snapshot handshakes = tlsHandshakeDurations.snapshotAndReset();
+        metrics.reportMetric(ConnectionPoolMetric.TLS_HANDSHAKES, toInt(handshakes.count()));
+        if (handshakes.count() > 0) {
+            metrics.reportMetric(ConnectionPoolMetric.TLS_HANDSHAKE_DURATION_P50, handshakes.percentile(50));
+            metrics.reportMetric(ConnectionPoolMetric.TLS_HANDSHAKE_DURATION_P99, handshakes.percentile(99));
+            metrics.reportMetric(ConnectionPoolMetric.TLS_HANDSHAKE_DURATION_MAX, handshakes.max());
+        }
+    }
+
+    private void connectionClosed(CloseReason reason) {
+        openConnections.decrementAndGet();
+        if (reason == CloseReason.IDLE) {
+            connectionsClosedIdle.incrementAndGet();
+        } else if (reason == CloseReason.EXPIRED) {
+            connectionsClosedExpired.incrementAndGet();
+        } else {
+            connectionsClosedOther.incrementAndGet();
+        }
+    }
+
+    private static int toInt(long value) {
+        return (int) Math.min(value, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Why the client decided to close a connection, stored in {@link ChannelAttributeKey#CLOSE_REASON}.
+     */
+    public enum CloseReason {
+        /**
+         * The connection was idle for longer than the maximum idle time.
+         */
+        IDLE,
+
+        /**
+         * The connection reached its time to live.
+         */
+        EXPIRED
+    }
+}
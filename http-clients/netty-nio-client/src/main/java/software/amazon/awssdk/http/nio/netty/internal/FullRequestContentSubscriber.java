@@ -0,0 +1,118 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Collects a request body of known, small length into a single {@link ByteBuf}, so that it can be written together with the
+ * request headers as one message with a single flush.
+ *
+ * <p>Like the streamed request path, the body is truncated to the expected content length, and the future is failed if the
+ * publisher completes before the expected number of bytes have been received.
+ */
+@SdkInternalApi
+public final class FullRequestContentSubscriber implements Subscriber<ByteBuffer> {
+    private final CompletableFuture<ByteBuf> contentFuture = new CompletableFuture<>();
+    private final ByteBufAllocator allocator;
+    private final int expectedContentLength;
+    private ByteBuf content;
+    private Subscription subscription;
+    private boolean done;
+
+    public FullRequestContentSubscriber(ByteBufAllocator allocator, int expectedContentLength) {
+        this.allocator = allocator;
+        this.expectedContentLength = expectedContentLength;
+    }
+
+    /**
+     * @return A future that is completed with the collected content. The caller becomes responsible for releasing it.
+     */
+    public CompletableFuture<ByteBuf> contentFuture() {
+        return contentFuture;
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        if (this.subscription != null) {
+            subscription.cancel();
+            return;
+        }
+
+        this.subscription = subscription;
+        this.content = allocator.buffer(expectedContentLength, expectedContentLength);
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(ByteBuffer byteBuffer) {
+        if (done) {
+            return;
+        }
+
+        try {
+            int length = Math.min(byteBuffer.remaining(), content.writableBytes());
+            ByteBuffer slice = byteBuffer.duplicate();
+            slice.limit(slice.position() + length);
+            content.writeBytes(slice);
+
+            if (!content.isWritable()) {
+                subscription.cancel();
+                complete();
+            }
+        } catch (Throwable t) {
+            onError(t);
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        if (done) {
+            return;
+        }
+
+        done = true;
+        if (content != null) {
+            content.release();
+        }
+        contentFuture.completeExceptionally(t);
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) {
+            return;
+        }
+
+        if (content.readableBytes() < expectedContentLength) {
+            onError(new IllegalStateException("Request content was only " + content.readableBytes() + " bytes, but the "
+                                              + "specified content-length was " + expectedContentLength + " bytes."));
+        } else {
+            complete();
+        }
+    }
+
+    private void complete() {
+        done = true;
+        contentFuture.complete(content);
+    }
+}
@@ -19,15 +19,14 @@ import static software.amazon.awssdk.http.nio.netty.internal.utils.ChannelUtils.
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
-import io.netty.handler.timeout.ReadTimeoutHandler;
-import io.netty.handler.timeout.WriteTimeoutHandler;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.nio.netty.internal.ListenerInvokingChannelPool.ChannelPoolListener;
 import software.amazon.awssdk.http.nio.netty.internal.http2.FlushOnReadHandler;
 import software.amazon.awssdk.http.nio.netty.internal.nrs.HttpStreamsClientHandler;
 
 /**
- * Removes any per-request {@link ChannelHandler} from the pipeline when releasing it to the pool.
+ * Removes any per-request {@link ChannelHandler} from the pipeline when releasing it to the pool, and stops the timeouts of the
+ * connection-scoped {@link RequestTimeoutHandler}.
  */
 @SdkInternalApi
 public final class HandlerRemovingChannelPoolListener implements ChannelPoolListener {
@@ -49,11 +48,13 @@ public final class HandlerRemovingChannelPoolListener implements ChannelPoolList
         if (channel.isOpen() || channel.isRegistered()) {
             removeIfExists(channel.pipeline(),
                            HttpStreamsClientHandler.class,
-                           LastHttpContentHandler.class,
                            FlushOnReadHandler.class,
-                           ResponseHandler.class,
-                           ReadTimeoutHandler.class,
-                           WriteTimeoutHandler.class);
+                           ResponseHandler.class);
+
+            RequestTimeoutHandler timeoutHandler = channel.pipeline().get(RequestTimeoutHandler.class);
+            if (timeoutHandler != null) {
+                timeoutHandler.stopTimeouts();
+            }
         }
     }
 }
@@ -44,6 +44,7 @@ public class IdleConnectionReaperHandler extends IdleStateHandler {
         if (channelNotInUse && ctx.channel().isOpen()) {
             log.debug(ctx.channel(), () -> "Closing unused connection (" + ctx.channel().id() + ") because it has been idle for "
                                           + "longer than " + maxIdleTimeMillis + " milliseconds.");
+            ctx.channel().attr(ChannelAttributeKey.CLOSE_REASON).set(ConnectionPoolMetricsRecorder.CloseReason.IDLE);
             ctx.close();
         }
     }
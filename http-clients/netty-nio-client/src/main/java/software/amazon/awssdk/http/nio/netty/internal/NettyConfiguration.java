@@ -23,6 +23,7 @@ import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TCP_KEEPALI
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES;
 import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
@@ -42,6 +43,13 @@ public final class NettyConfiguration {
     public static final int EVENTLOOP_SHUTDOWN_FUTURE_TIMEOUT_SECONDS = 16;
     public static final int HTTP2_CONNECTION_PING_TIMEOUT_SECONDS = 5;
 
+    /**
+     * Requests with a body of up to this many bytes are written together with their headers, using a single flush.
+     */
+    public static final int MAX_FULL_REQUEST_CONTENT_LENGTH = 16 * 1024;
+
+    public static final Duration DEFAULT_CONNECTION_POOL_METRICS_PUBLISH_INTERVAL = Duration.ofMinutes(1);
+
     private final AttributeMap configuration;
 
     public NettyConfiguration(AttributeMap configuration) {
@@ -72,6 +80,10 @@ public final class NettyConfiguration {
         return saturatedCast(configuration.get(SdkHttpConfigurationOption.READ_TIMEOUT).toMillis());
     }
 
+    public int expectContinueTimeoutMillis() {
+        return saturatedCast(configuration.get(SdkHttpConfigurationOption.EXPECT_CONTINUE_TIMEOUT).toMillis());
+    }
+
     public int writeTimeoutMillis() {
         return saturatedCast(configuration.get(SdkHttpConfigurationOption.WRITE_TIMEOUT).toMillis());
     }
@@ -104,6 +116,10 @@ public final class NettyConfiguration {
         return configuration.get(TCP_KEEPALIVE);
     }
 
+    public Path unixDomainSocketPath() {
+        return configuration.get(SdkHttpConfigurationOption.UNIX_DOMAIN_SOCKET_PATH);
+    }
+
     public Duration tlsHandshakeTimeout() {
         return configuration.get(SdkHttpConfigurationOption.TLS_NEGOTIATION_TIMEOUT);
     }
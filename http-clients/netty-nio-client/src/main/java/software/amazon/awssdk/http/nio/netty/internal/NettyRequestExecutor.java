@@ -34,14 +34,15 @@ import io.netty.channel.Channel;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
 import io.netty.handler.codec.DecoderResult;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
 import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.EmptyHttpHeaders;
+import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpVersion;
-import io.netty.handler.timeout.ReadTimeoutHandler;
-import io.netty.handler.timeout.WriteTimeoutHandler;
 import io.netty.util.Attribute;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
@@ -49,10 +50,8 @@ import io.netty.util.concurrent.Promise;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.ByteBuffer;
-import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import org.reactivestreams.Publisher;
@@ -66,7 +65,6 @@ import software.amazon.awssdk.http.nio.netty.internal.http2.Http2ToHttpInboundAd
 import software.amazon.awssdk.http.nio.netty.internal.http2.HttpToHttp2OutboundAdapter;
 import software.amazon.awssdk.http.nio.netty.internal.nrs.HttpStreamsClientHandler;
 import software.amazon.awssdk.http.nio.netty.internal.nrs.StreamedHttpRequest;
-import software.amazon.awssdk.http.nio.netty.internal.utils.ChannelUtils;
 import software.amazon.awssdk.http.nio.netty.internal.utils.NettyClientLogger;
 import software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils;
 import software.amazon.awssdk.metrics.MetricCollector;
@@ -82,6 +80,7 @@ public final class NettyRequestExecutor {
     private CompletableFuture<Void> executeFuture;
     private Channel channel;
     private RequestAdapter requestAdapter;
+    private RequestTimeoutHandler timeoutHandler;
 
     public NettyRequestExecutor(RequestContext context) {
         this.context = context;
@@ -200,6 +199,7 @@ public final class NettyRequestExecutor {
         channel.attr(RESPONSE_DATA_READ).set(null);
         channel.attr(CHANNEL_DIAGNOSTICS).get().incrementRequestCount();
         channel.config().setOption(ChannelOption.AUTO_READ, false);
+        NettyRequestMetrics.publishTlsHandshakeMetrics(context.metricCollector(), channel);
     }
 
     private void configurePipeline() throws IOException {
@@ -208,23 +208,34 @@ public final class NettyRequestExecutor {
 
         switch (protocol) {
             case HTTP2:
+                // Stream channels only live for a single request, so the handlers that HTTP/1.1 connections get once in
+                // ChannelPipelineInitializer are added to every stream channel here.
+                timeoutHandler = new RequestTimeoutHandler();
+                pipeline.addFirst(timeoutHandler);
                 pipeline.addLast(new Http2ToHttpInboundAdapter());
                 pipeline.addLast(new HttpToHttp2OutboundAdapter());
                 pipeline.addLast(Http2StreamExceptionHandler.create());
+                pipeline.addLast(LastHttpContentHandler.create());
+                pipeline.addLast(FlushOnReadHandler.getInstance());
                 requestAdapter = REQUEST_ADAPTER_HTTP2;
                 break;
             case HTTP1_1:
+                timeoutHandler = pipeline.get(RequestTimeoutHandler.class);
+                if (timeoutHandler == null) {
+                    timeoutHandler = new RequestTimeoutHandler();
+                    pipeline.addFirst(timeoutHandler);
+                }
                 requestAdapter = REQUEST_ADAPTER_HTTP1_1;
                 break;
             default:
                 throw new IOException("Unknown protocol: " + protocol);
         }
 
-        pipeline.addLast(LastHttpContentHandler.create());
-        if (protocol == Protocol.HTTP2) {
-            pipeline.addLast(FlushOnReadHandler.getInstance());
-        }
-        pipeline.addLast(new HttpStreamsClientHandler());
+        // If the expect-continue timeout elapses, the body is sent while the one-time read timeout for the "100 Continue" would
+        // still be armed. Large bodies can take longer to send than the read timeout, so disarm it; the regular read timeout is
+        // started once the body has been written.
+        pipeline.addLast(new HttpStreamsClientHandler(context.configuration().expectContinueTimeoutMillis(),
+                                                      timeoutHandler::stopReadTimeout));
         pipeline.addLast(ResponseHandler.getInstance());
 
         // It's possible that the channel could become inactive between checking it out from the pool, and adding our response
@@ -241,46 +252,84 @@ public final class NettyRequestExecutor {
     }
 
     private void writeRequest(HttpRequest request) {
-        channel.pipeline().addFirst(new WriteTimeoutHandler(context.configuration().writeTimeoutMillis(),
-                                                            TimeUnit.MILLISECONDS));
-        StreamedRequest streamedRequest = new StreamedRequest(request,
-                                                              context.executeRequest().requestContentPublisher());
-        channel.writeAndFlush(streamedRequest)
-               .addListener(wireCall -> {
-                   // Done writing so remove the idle write timeout handler
-                   ChannelUtils.removeIfExists(channel.pipeline(), WriteTimeoutHandler.class);
-                   if (wireCall.isSuccess()) {
-                       NettyRequestMetrics.publishHttp2StreamMetrics(context.metricCollector(), channel);
-
-                       if (context.executeRequest().fullDuplex()) {
-                           return;
-                       }
-
-                       channel.pipeline().addFirst(new ReadTimeoutHandler(context.configuration().readTimeoutMillis(),
-                                                                          TimeUnit.MILLISECONDS));
-                       channel.read();
-                   } else {
-                       // TODO: Are there cases where we can keep the channel open?
-                       closeAndRelease(channel);
-                       handleFailure(channel, () -> "Failed to make request to " + endpoint(), wireCall.cause());
-                   }
-               });
+        timeoutHandler.startWriteTimeout(context.configuration().writeTimeoutMillis());
+        Optional<Long> contentLength = StreamedRequest.contentLength(request);
+        if (shouldWriteFullRequest(contentLength)) {
+            writeFullRequest(request, contentLength.get().intValue());
+        } else {
+            StreamedRequest streamedRequest = new StreamedRequest(request,
+                                                                  context.executeRequest().requestContentPublisher());
+            channel.writeAndFlush(streamedRequest)
+                   .addListener(this::onRequestWritten);
+        }
 
         if (shouldExplicitlyTriggerRead()) {
 
-            // Should only add an one-time ReadTimeoutHandler to 100 Continue request.
+            // Should only start a one-time read timeout for 100 Continue request.
             if (is100ContinueExpected()) {
-                channel.pipeline().addFirst(new OneTimeReadTimeoutHandler(Duration.ofMillis(context.configuration()
-                        .readTimeoutMillis())));
+                timeoutHandler.startOneTimeReadTimeout(context.configuration().readTimeoutMillis());
             } else {
-                channel.pipeline().addFirst(new ReadTimeoutHandler(context.configuration().readTimeoutMillis(),
-                                                                   TimeUnit.MILLISECONDS));
+                timeoutHandler.startReadTimeout(context.configuration().readTimeoutMillis());
             }
 
             channel.read();
         }
     }
 
+    /**
+     * Small request bodies of known length are collected before anything is written, so that the headers and body can be
+     * written as a single {@link FullHttpRequest} with a single flush instead of a write and flush per body chunk.
+     *
+     * <p>Requests that need to interact with the server before the body is sent (full duplex, "Expect: 100-continue") are
+     * always streamed.
+     */
+    private boolean shouldWriteFullRequest(Optional<Long> contentLength) {
+        return contentLength.isPresent()
+               && contentLength.get() >= 0
+               && contentLength.get() <= NettyConfiguration.MAX_FULL_REQUEST_CONTENT_LENGTH
+               && !context.executeRequest().fullDuplex()
+               && !is100ContinueExpected();
+    }
+
+    private void writeFullRequest(HttpRequest request, int contentLength) {
+        FullRequestContentSubscriber contentSubscriber = new FullRequestContentSubscriber(channel.alloc(), contentLength);
+        contentSubscriber.contentFuture().whenComplete((content, error) -> {
+            NettyUtils.doInEventLoop(channel.eventLoop(), () -> {
+                if (error != null) {
+                    closeAndRelease(channel);
+                    handleFailure(channel, () -> "Failed to make request to " + endpoint(), error);
+                    return;
+                }
+
+                FullHttpRequest fullRequest = new DefaultFullHttpRequest(request.protocolVersion(), request.method(),
+                                                                         request.uri(), content, request.headers(),
+                                                                         EmptyHttpHeaders.INSTANCE);
+                channel.writeAndFlush(fullRequest)
+                       .addListener(this::onRequestWritten);
+            });
+        });
+        context.executeRequest().requestContentPublisher().subscribe(contentSubscriber);
+    }
+
+    private void onRequestWritten(Future<? super Void> wireCall) {
+        // Done writing so stop the write timeout
+        timeoutHandler.stopWriteTimeout();
+        if (wireCall.isSuccess()) {
+            NettyRequestMetrics.publishHttp2StreamMetrics(context.metricCollector(), channel);
+
+            if (context.executeRequest().fullDuplex()) {
+                return;
+            }
+
+            timeoutHandler.startReadTimeout(context.configuration().readTimeoutMillis());
+            channel.read();
+        } else {
+            // TODO: Are there cases where we can keep the channel open?
+            closeAndRelease(channel);
+            handleFailure(channel, () -> "Failed to make request to " + endpoint(), wireCall.cause());
+        }
+    }
+
     /**
      * It should explicitly trigger Read for the following situations:
      *
@@ -25,6 +25,7 @@ import java.util.Optional;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Http2Metric;
+import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.metrics.NoOpMetricCollector;
 
@@ -63,6 +64,23 @@ public class NettyRequestMetrics {
         });
     }
 
+    /**
+     * Publish the TLS handshake metrics of the connection backing the provided channel, if they have not already been published
+     * with an earlier request on the same connection.
+     */
+    public static void publishTlsHandshakeMetrics(MetricCollector metricCollector, Channel channel) {
+        // For HTTP/2 the handshake metrics are on the parent socket channel
+        Channel connection = channel.parent() == null ? channel : channel.parent();
+        Duration handshakeDuration = connection.attr(ChannelAttributeKey.TLS_HANDSHAKE_DURATION).getAndSet(null);
+        if (handshakeDuration == null || !metricsAreEnabled(metricCollector)) {
+            return;
+        }
+
+        metricCollector.reportMetric(HttpMetric.TLS_HANDSHAKE_DURATION, handshakeDuration);
+        metricCollector.reportMetric(HttpMetric.TLS_SESSION_REUSED,
+                                     connection.attr(ChannelAttributeKey.TLS_SESSION_REUSED).get());
+    }
+
     private static Optional<Http2Connection> getHttp2Connection(Channel channel) {
         Channel parentChannel = channel.parent();
         if (parentChannel == null) {
@@ -83,6 +83,7 @@ public class OldConnectionReaperHandler extends ChannelDuplexHandler {
         assert ctx.channel().eventLoop().inEventLoop();
 
         if (ctx.channel().isOpen()) {
+            ctx.channel().attr(ChannelAttributeKey.CLOSE_REASON).set(ConnectionPoolMetricsRecorder.CloseReason.EXPIRED);
             if (Boolean.FALSE.equals(ctx.channel().attr(ChannelAttributeKey.IN_USE).get())) {
                 log.debug(ctx.channel(), () -> "Closing unused connection (" + ctx.channel().id() + ") because it has reached "
                                               + "its maximum time to live of " + connectionTtlMillis + " milliseconds.");
@@ -1,39 +0,0 @@
-/*
- * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
- *
- * Licensed under the Apache License, Version 2.0 (the "License").
- * You may not use this file except in compliance with the License.
- * A copy of the License is located at
- *
- *  http://aws.amazon.com/apache2.0
- *
- * or in the "license" file accompanying this file. This file is distributed
- * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
- * express or implied. See the License for the specific language governing
- * permissions and limitations under the License.
- */
-
-package software.amazon.awssdk.http.nio.netty.internal;
-
-import io.netty.channel.ChannelHandlerContext;
-import io.netty.handler.timeout.ReadTimeoutHandler;
-import java.time.Duration;
-import java.util.concurrent.TimeUnit;
-import software.amazon.awssdk.annotations.SdkInternalApi;
-
-/**
- * A one-time read timeout handler that removes itself from the pipeline after
- * the next successful read.
- */
-@SdkInternalApi
-public final class OneTimeReadTimeoutHandler extends ReadTimeoutHandler {
-    OneTimeReadTimeoutHandler(Duration timeout) {
-        super(timeout.toMillis(), TimeUnit.MILLISECONDS);
-    }
-
-    @Override
-    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
-        ctx.pipeline().remove(this);
-        super.channelRead(ctx, msg);
-    }
-}
@@ -66,11 +66,24 @@ public final class RequestAdapter {
             encodedPath = "/";
         }
 
-        String encodedQueryParams = sdkRequest.encodedQueryParameters()
-                .map(queryParams -> "?" + queryParams)
-                .orElse("");
+        if (sdkRequest.numRawQueryParameters() == 0) {
+            return encodedPath;
+        }
 
-        return encodedPath + encodedQueryParams;
+        // Encode the query parameters straight into the request line, instead of flattening them into a separate string
+        StringBuilder uri = new StringBuilder(encodedPath.length() + 64).append(encodedPath);
+        int queryStart = uri.length();
+        sdkRequest.forEachRawQueryParameter((name, values) -> {
+            for (String value : values) {
+                uri.append(uri.length() == queryStart ? '?' : '&');
+                SdkHttpUtils.urlEncode(uri, name);
+                if (value != null) {
+                    uri.append('=');
+                    SdkHttpUtils.urlEncode(uri, value);
+                }
+            }
+        });
+        return uri.toString();
     }
 
     /**
@@ -0,0 +1,266 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.timeout.ReadTimeoutException;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutException;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A connection-scoped replacement for {@link ReadTimeoutHandler} and {@link WriteTimeoutHandler}. Instead of adding new timeout
+ * handlers to the pipeline for every request and removing them again when the channel is released, this handler stays in the
+ * pipeline for the lifetime of the channel and the read and write timeouts are armed and disarmed per request.
+ *
+ * <p>When armed, the read timeout behaves like {@link ReadTimeoutHandler}: a {@link ReadTimeoutException} is fired and the
+ * channel closed if no data is read within the timeout. A one-time read timeout is disarmed by the first read. When armed,
+ * the write timeout behaves like {@link WriteTimeoutHandler}: a {@link WriteTimeoutException} is fired and the channel closed
+ * if an individual write doesn't complete within the timeout.
+ *
+ * <p>All methods must be invoked from the channel's event loop.
+ */
+@SdkInternalApi
+public final class RequestTimeoutHandler extends ChannelDuplexHandler {
+    private ChannelHandlerContext ctx;
+
+    private long readTimeoutNanos;
+    private boolean oneTimeReadTimeout;
+    private boolean reading;
+    private long lastReadTime;
+    private ScheduledFuture<?> readTimeoutTask;
+
+    private long writeTimeoutNanos;
+    private WriteTimeoutTask lastWriteTimeoutTask;
+
+    /**
+     * Start the read timeout. If a one-time read timeout is currently armed, it is converted into a regular read timeout that
+     * keeps its current deadline.
+     */
+    public void startReadTimeout(long timeoutMillis) {
+        armReadTimeout(timeoutMillis, false);
+    }
+
+    /**
+     * Start a read timeout that is stopped by the next successful read.
+     */
+    public void startOneTimeReadTimeout(long timeoutMillis) {
+        armReadTimeout(timeoutMillis, true);
+    }
+
+    /**
+     * Start the write timeout for all writes made until {@link #stopWriteTimeout()} is invoked.
+     */
+    public void startWriteTimeout(long timeoutMillis) {
+        writeTimeoutNanos = Math.max(0, TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+    }
+
+    public void stopReadTimeout() {
+        readTimeoutNanos = 0;
+        oneTimeReadTimeout = false;
+        reading = false;
+        if (readTimeoutTask != null) {
+            readTimeoutTask.cancel(false);
+            readTimeoutTask = null;
+        }
+    }
+
+    /**
+     * Stop the write timeout, including the timeouts of any writes that are still pending.
+     */
+    public void stopWriteTimeout() {
+        writeTimeoutNanos = 0;
+        WriteTimeoutTask task = lastWriteTimeoutTask;
+        lastWriteTimeoutTask = null;
+        while (task != null) {
+            task.scheduledFuture.cancel(false);
+            WriteTimeoutTask prev = task.prev;
+            task.prev = null;
+            task.next = null;
+            task = prev;
+        }
+    }
+
+    public void stopTimeouts() {
+        stopReadTimeout();
+        stopWriteTimeout();
+    }
+
+    boolean isReadTimeoutStarted() {
+        return readTimeoutNanos > 0;
+    }
+
+    boolean isWriteTimeoutStarted() {
+        return writeTimeoutNanos > 0;
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        this.ctx = ctx;
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        stopTimeouts();
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        stopTimeouts();
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (readTimeoutNanos > 0) {
+            if (oneTimeReadTimeout) {
+                stopReadTimeout();
+            } else {
+                reading = true;
+            }
+        }
+        ctx.fireChannelRead(msg);
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) throws Exception {
+        if (readTimeoutNanos > 0 && reading) {
+            lastReadTime = System.nanoTime();
+            reading = false;
+        }
+        ctx.fireChannelReadComplete();
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (writeTimeoutNanos > 0) {
+            ChannelPromise unvoidPromise = promise.unvoid();
+            scheduleWriteTimeout(unvoidPromise);
+            ctx.write(msg, unvoidPromise);
+        } else {
+            ctx.write(msg, promise);
+        }
+    }
+
+    private void armReadTimeout(long timeoutMillis, boolean oneTime) {
+        if (timeoutMillis <= 0) {
+            return;
+        }
+
+        if (readTimeoutNanos > 0) {
+            oneTimeReadTimeout = oneTimeReadTimeout && oneTime;
+            return;
+        }
+
+        readTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        oneTimeReadTimeout = oneTime;
+        reading = false;
+        lastReadTime = System.nanoTime();
+        readTimeoutTask = ctx.executor().schedule(this::checkReadTimeout, readTimeoutNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void checkReadTimeout() {
+        if (readTimeoutNanos <= 0 || !ctx.channel().isOpen()) {
+            return;
+        }
+
+        long nextDelay = readTimeoutNanos;
+        if (!reading) {
+            nextDelay -= System.nanoTime() - lastReadTime;
+        }
+
+        if (nextDelay > 0) {
+            readTimeoutTask = ctx.executor().schedule(this::checkReadTimeout, nextDelay, TimeUnit.NANOSECONDS);
+            return;
+        }
+
+        readTimeoutTask = null;
+        stopTimeouts();
+        ctx.fireExceptionCaught(ReadTimeoutException.INSTANCE);
+        ctx.close();
+    }
+
+    private void scheduleWriteTimeout(ChannelPromise promise) {
+        WriteTimeoutTask task = new WriteTimeoutTask(promise);
+        task.scheduledFuture = ctx.executor().schedule(task, writeTimeoutNanos, TimeUnit.NANOSECONDS);
+
+        if (!task.scheduledFuture.isDone()) {
+            addWriteTimeoutTask(task);
+            promise.addListener(task);
+        }
+    }
+
+    private void addWriteTimeoutTask(WriteTimeoutTask task) {
+        if (lastWriteTimeoutTask != null) {
+            lastWriteTimeoutTask.next = task;
+            task.prev = lastWriteTimeoutTask;
+        }
+        lastWriteTimeoutTask = task;
+    }
+
+    private void removeWriteTimeoutTask(WriteTimeoutTask task) {
+        if (task == lastWriteTimeoutTask) {
+            lastWriteTimeoutTask = task.prev;
+            if (lastWriteTimeoutTask != null) {
+                lastWriteTimeoutTask.next = null;
+            }
+        } else if (task.prev == null && task.next == null) {
+            // Already removed, e.g. by stopWriteTimeout()
+            return;
+        } else if (task.prev == null) {
+            task.next.prev = null;
+        } else {
+            task.prev.next = task.next;
+            task.next.prev = task.prev;
+        }
+        task.prev = null;
+        task.next = null;
+    }
+
+    private final class WriteTimeoutTask implements Runnable, ChannelFutureListener {
+        private final ChannelPromise promise;
+        private WriteTimeoutTask prev;
+        private WriteTimeoutTask next;
+        private ScheduledFuture<?> scheduledFuture;
+
+        private WriteTimeoutTask(ChannelPromise promise) {
+            this.promise = promise;
+        }
+
+        @Override
+        public void run() {
+            if (!promise.isDone()) {
+                stopTimeouts();
+                ctx.fireExceptionCaught(WriteTimeoutException.INSTANCE);
+                ctx.close();
+            }
+            removeWriteTimeoutTask(this);
+        }
+
+        @Override
+        public void operationComplete(ChannelFuture future) {
+            scheduledFuture.cancel(false);
+            removeWriteTimeoutTask(this);
+        }
+    }
+}
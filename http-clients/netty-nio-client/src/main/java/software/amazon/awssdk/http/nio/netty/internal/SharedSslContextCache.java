@@ -0,0 +1,152 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslProvider;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsTrustManagersProvider;
+
+/**
+ * Process-wide cache of {@link SslContext}s, keyed by the TLS configuration they were built from. Clients sharing an
+ * {@link SslContext} also share its TLS session cache, which allows a connection opened by one client to resume a session
+ * negotiated by another. Uses reference counting to keep track of how many clients are using each context, and drops the
+ * context when that count reaches zero.
+ */
+@SdkInternalApi
+public final class SharedSslContextCache {
+
+    private static final Map<Key, Entry> CONTEXTS = new HashMap<>();
+
+    private SharedSslContextCache() {
+    }
+
+    /**
+     * Get the {@link SslContext} for the provided key, creating it with the provided supplier if no client is currently using
+     * a context for that key. Each call must be paired with a call to {@link #release(Key)}.
+     */
+    public static synchronized SslContext acquire(Key key, Supplier<SslContext> sslContextSupplier) {
+        Entry entry = CONTEXTS.get(key);
+        if (entry == null) {
+            entry = new Entry(sslContextSupplier.get());
+            CONTEXTS.put(key, entry);
+        }
+
+        entry.referenceCount++;
+        return entry.sslContext;
+    }
+
+    /**
+     * Decrement the reference count for the provided key and remove the context if it's no longer in use.
+     */
+    public static synchronized void release(Key key) {
+        Entry entry = CONTEXTS.get(key);
+        if (entry == null) {
+            return;
+        }
+
+        entry.referenceCount--;
+        if (entry.referenceCount == 0) {
+            CONTEXTS.remove(key);
+        }
+    }
+
+    @SdkTestInternalApi
+    static synchronized int referenceCount(Key key) {
+        Entry entry = CONTEXTS.get(key);
+        return entry == null ? 0 : entry.referenceCount;
+    }
+
+    private static final class Entry {
+        private final SslContext sslContext;
+        private int referenceCount = 0;
+
+        private Entry(SslContext sslContext) {
+            this.sslContext = sslContext;
+        }
+    }
+
+    /**
+     * The TLS configuration an {@link SslContext} was built from. Trust and key manager providers are compared by identity,
+     * so clients must be given the same provider instances in order to share a context.
+     */
+    public static final class Key {
+        private final Protocol protocol;
+        private final SslProvider sslProvider;
+        private final TlsTrustManagersProvider trustManagersProvider;
+        private final TlsKeyManagersProvider keyManagersProvider;
+        private final boolean trustAllCertificates;
+        private final Long sessionCacheSize;
+        private final Duration sessionTimeout;
+
+        Key(Protocol protocol,
+            SslProvider sslProvider,
+            TlsTrustManagersProvider trustManagersProvider,
+            TlsKeyManagersProvider keyManagersProvider,
+            boolean trustAllCertificates,
+            Long sessionCacheSize,
+            Duration sessionTimeout) {
+            this.protocol = protocol;
+            this.sslProvider = sslProvider;
+            this.trustManagersProvider = trustManagersProvider;
+            this.keyManagersProvider = keyManagersProvider;
+            this.trustAllCertificates = trustAllCertificates;
+            this.sessionCacheSize = sessionCacheSize;
+            this.sessionTimeout = sessionTimeout;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            Key key = (Key) o;
+
+            return trustAllCertificates == key.trustAllCertificates
+                   && protocol == key.protocol
+                   && sslProvider == key.sslProvider
+                   && trustManagersProvider == key.trustManagersProvider
+                   && keyManagersProvider == key.keyManagersProvider
+                   && Objects.equals(sessionCacheSize, key.sessionCacheSize)
+                   && Objects.equals(sessionTimeout, key.sessionTimeout);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Objects.hashCode(protocol);
+            result = 31 * result + Objects.hashCode(sslProvider);
+            result = 31 * result + System.identityHashCode(trustManagersProvider);
+            result = 31 * result + System.identityHashCode(keyManagersProvider);
+            result = 31 * result + (trustAllCertificates ? 1 : 0);
+            result = 31 * result + Objects.hashCode(sessionCacheSize);
+            result = 31 * result + Objects.hashCode(sessionTimeout);
+            return result;
+        }
+    }
+}
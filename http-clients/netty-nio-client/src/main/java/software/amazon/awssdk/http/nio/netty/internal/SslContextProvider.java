@@ -21,6 +21,7 @@ import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.SslProvider;
 import io.netty.handler.ssl.SupportedCipherSuiteFilter;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import java.time.Duration;
 import java.util.List;
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.KeyManagerFactory;
@@ -30,37 +31,94 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.SystemPropertyTlsKeyManagersProvider;
 import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.http.nio.netty.TlsSessionConfiguration;
 import software.amazon.awssdk.http.nio.netty.internal.utils.NettyClientLogger;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
 import software.amazon.awssdk.utils.Validate;
 
+/**
+ * Provides the {@link SslContext} used by all connection pools of a client. The context is created once and reused, so that
+ * its TLS session cache is shared across every host the client connects to. If configured, the context is also shared with
+ * other clients through the {@link SharedSslContextCache}.
+ */
 @SdkInternalApi
-public final class SslContextProvider {
+public final class SslContextProvider implements SdkAutoCloseable {
     private static final NettyClientLogger log = NettyClientLogger.getLogger(SslContextProvider.class);
     private final Protocol protocol;
     private final SslProvider sslProvider;
     private final TrustManagerFactory trustManagerFactory;
     private final KeyManagerFactory keyManagerFactory;
+    private final Long sessionCacheSize;
+    private final Duration sessionTimeout;
+    private final SharedSslContextCache.Key sharedContextKey;
+    private SslContext sslContext;
 
     public SslContextProvider(NettyConfiguration configuration, Protocol protocol, SslProvider sslProvider) {
+        this(configuration, protocol, sslProvider, null);
+    }
+
+    public SslContextProvider(NettyConfiguration configuration, Protocol protocol, SslProvider sslProvider,
+                              TlsSessionConfiguration tlsSessionConfiguration) {
         this.protocol = protocol;
         this.sslProvider = sslProvider;
         this.trustManagerFactory = getTrustManager(configuration);
         this.keyManagerFactory = getKeyManager(configuration);
+        this.sessionCacheSize = tlsSessionConfiguration == null ? null : tlsSessionConfiguration.sessionCacheSize();
+        this.sessionTimeout = tlsSessionConfiguration == null ? null : tlsSessionConfiguration.sessionTimeout();
+        this.sharedContextKey = shouldShareAcrossClients(tlsSessionConfiguration) ? sharedContextKey(configuration) : null;
+    }
+
+    public synchronized SslContext sslContext() {
+        if (sslContext == null) {
+            sslContext = sharedContextKey == null ? buildSslContext()
+                                                  : SharedSslContextCache.acquire(sharedContextKey, this::buildSslContext);
+        }
+        return sslContext;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (sslContext != null && sharedContextKey != null) {
+            SharedSslContextCache.release(sharedContextKey);
+        }
+        sslContext = null;
     }
 
-    public SslContext sslContext() {
+    private SslContext buildSslContext() {
         try {
-            return SslContextBuilder.forClient()
-                                    .sslProvider(sslProvider)
-                                    .ciphers(getCiphers(), SupportedCipherSuiteFilter.INSTANCE)
-                                    .trustManager(trustManagerFactory)
-                                    .keyManager(keyManagerFactory)
-                                    .build();
+            SslContextBuilder builder = SslContextBuilder.forClient()
+                                                         .sslProvider(sslProvider)
+                                                         .ciphers(getCiphers(), SupportedCipherSuiteFilter.INSTANCE)
+                                                         .trustManager(trustManagerFactory)
+                                                         .keyManager(keyManagerFactory);
+            if (sessionCacheSize != null) {
+                builder.sessionCacheSize(sessionCacheSize);
+            }
+
+            if (sessionTimeout != null) {
+                builder.sessionTimeout(sessionTimeout.getSeconds());
+            }
+
+            return builder.build();
         } catch (SSLException e) {
             throw new RuntimeException(e);
         }
     }
 
+    private static boolean shouldShareAcrossClients(TlsSessionConfiguration tlsSessionConfiguration) {
+        return tlsSessionConfiguration != null && Boolean.TRUE.equals(tlsSessionConfiguration.shareAcrossClients());
+    }
+
+    private SharedSslContextCache.Key sharedContextKey(NettyConfiguration configuration) {
+        return new SharedSslContextCache.Key(protocol,
+                                             sslProvider,
+                                             configuration.tlsTrustManagersProvider(),
+                                             configuration.tlsKeyManagersProvider(),
+                                             configuration.trustAllCertificates(),
+                                             sessionCacheSize,
+                                             sessionTimeout);
+    }
+
     /**
      * HTTP/2: per Rfc7540, there is a blocked list of cipher suites for HTTP/2, so setting
      * the recommended cipher suites directly here
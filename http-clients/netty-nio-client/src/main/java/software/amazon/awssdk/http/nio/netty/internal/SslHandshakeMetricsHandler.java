@@ -0,0 +1,84 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.TLS_HANDSHAKE_DURATION;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.TLS_SESSION_REUSED;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.ssl.SslHandler;
+import java.time.Duration;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Records the duration of the TLS handshake performed by the {@link SslHandler} in front of this handler, and whether the
+ * handshake resumed a cached TLS session. The results are stored as channel attributes so that they can be reported with the
+ * first request made on the connection (see {@link NettyRequestMetrics#publishTlsHandshakeMetrics}).
+ *
+ * <p>This handler must be added directly after the {@link SslHandler}, and removes itself once the handshake has started.
+ */
+@SdkInternalApi
+public final class SslHandshakeMetricsHandler extends ChannelInboundHandlerAdapter {
+    private final SslHandler sslHandler;
+    private final ConnectionPoolMetricsRecorder metricsRecorder;
+
+    /**
+     * @param metricsRecorder The recorder of the connection's pool, to which the handshake duration is also reported. May be
+     * null if connection pool metrics are disabled.
+     */
+    public SslHandshakeMetricsHandler(SslHandler sslHandler, ConnectionPoolMetricsRecorder metricsRecorder) {
+        this.sslHandler = sslHandler;
+        this.metricsRecorder = metricsRecorder;
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        // The SslHandler starts the handshake as soon as it is added to an active channel (e.g. a proxy tunnel).
+        if (ctx.channel().isActive()) {
+            handshakeStarted(ctx);
+        }
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) {
+        // The SslHandler starts the handshake before propagating channelActive to us.
+        handshakeStarted(ctx);
+        ctx.fireChannelActive();
+    }
+
+    private void handshakeStarted(ChannelHandlerContext ctx) {
+        long startNanos = System.nanoTime();
+        long startMillis = System.currentTimeMillis();
+        Channel channel = ctx.channel();
+        ctx.pipeline().remove(this);
+
+        sslHandler.handshakeFuture().addListener(f -> {
+            if (!f.isSuccess()) {
+                return;
+            }
+
+            Duration handshakeDuration = Duration.ofNanos(System.nanoTime() - startNanos);
+            channel.attr(TLS_HANDSHAKE_DURATION).set(handshakeDuration);
+            if (metricsRecorder != null) {
+                metricsRecorder.tlsHandshakeCompleted(handshakeDuration);
+            }
+            // A resumed session keeps the creation time of the handshake that originally negotiated it.
+            channel.attr(TLS_SESSION_REUSED).set(sslHandler.engine().getSession().getCreationTime() < startMillis);
+        });
+    }
+}
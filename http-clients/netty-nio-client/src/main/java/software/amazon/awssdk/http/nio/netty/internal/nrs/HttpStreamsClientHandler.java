@@ -26,10 +26,13 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.LastHttpContent;
 import io.netty.util.ReferenceCountUtil;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey;
 
 /**
  * Handler that converts written {@link StreamedHttpRequest} messages into {@link HttpRequest} messages
@@ -49,6 +52,10 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
  * As long as messages are returned in the order that they arrive, this handler implicitly supports HTTP
  * pipelining.
  *
+ * The body of a request with an "Expect: 100-continue" header is held back until a "100 Continue" response arrives, or
+ * until the configured expect-continue timeout elapses. If a final response arrives first, the body is never sent and the
+ * channel is marked to be closed on release, because the server may still be expecting the body.
+ *
  * This class contains source imported from https://github.com/playframework/netty-reactive-streams,
  * licensed under the Apache License 2.0, available at the time of the fork (1/31/2020) here:
  * https://github.com/playframework/netty-reactive-streams/blob/master/LICENSE.txt
@@ -65,9 +72,23 @@ public class HttpStreamsClientHandler extends HttpStreamsHandler<HttpResponse, H
     private Subscriber<HttpContent> awaiting100Continue;
     private StreamedHttpMessage awaiting100ContinueMessage;
     private boolean ignoreResponseBody = false;
+    private final long expectContinueTimeoutMillis;
+    private final Runnable onExpectContinueTimeout;
+    private ScheduledFuture<?> expectContinueTimeout;
 
     public HttpStreamsClientHandler() {
+        this(0, () -> { });
+    }
+
+    /**
+     * @param expectContinueTimeoutMillis How long to hold back the body of an "Expect: 100-continue" request waiting for a
+     * "100 Continue" response before sending it anyway, or 0 to wait indefinitely.
+     * @param onExpectContinueTimeout Invoked in the event loop when a body is sent because that timeout elapsed.
+     */
+    public HttpStreamsClientHandler(long expectContinueTimeoutMillis, Runnable onExpectContinueTimeout) {
         super(HttpResponse.class, HttpRequest.class);
+        this.expectContinueTimeoutMillis = expectContinueTimeoutMillis;
+        this.onExpectContinueTimeout = onExpectContinueTimeout;
     }
 
     @Override
@@ -132,30 +153,39 @@ public class HttpStreamsClientHandler extends HttpStreamsHandler<HttpResponse, H
     }
 
     @Override
-    protected void subscribeSubscriberToStream(StreamedHttpMessage msg, Subscriber<HttpContent> subscriber) {
+    protected void subscribeSubscriberToStream(ChannelHandlerContext ctx, StreamedHttpMessage msg,
+                                               Subscriber<HttpContent> subscriber) {
         if (HttpUtil.is100ContinueExpected(msg)) {
             awaiting100Continue = subscriber;
             awaiting100ContinueMessage = msg;
+            if (expectContinueTimeoutMillis > 0) {
+                expectContinueTimeout = ctx.executor().schedule(() -> sendBodyWithoutContinue(ctx),
+                                                                expectContinueTimeoutMillis, TimeUnit.MILLISECONDS);
+            }
         } else {
-            super.subscribeSubscriberToStream(msg, subscriber);
+            super.subscribeSubscriberToStream(ctx, msg, subscriber);
         }
     }
 
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+        cancelExpectContinueTimeout();
+        super.handlerRemoved(ctx);
+    }
+
     @Override
     public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
 
         if (msg instanceof HttpResponse && awaiting100Continue != null && withServer == 0) {
+            cancelExpectContinueTimeout();
             HttpResponse response = (HttpResponse) msg;
             if (response.status().equals(HttpResponseStatus.CONTINUE)) {
-                super.subscribeSubscriberToStream(awaiting100ContinueMessage, awaiting100Continue);
-                awaiting100Continue = null;
-                awaiting100ContinueMessage = null;
-                if (msg instanceof FullHttpResponse) {
-                    ReferenceCountUtil.release(msg);
-                } else {
-                    ignoreResponseBody = true;
-                }
+                sendBody(ctx);
+                ignoreContinueResponse(msg);
             } else {
+                // The server rejected the request before seeing the body, so the body is never sent. The connection can't be
+                // reused because the server may still be expecting the body that was announced in the request headers.
+                ctx.channel().attr(ChannelAttributeKey.CLOSE_ON_RELEASE).set(true);
                 awaiting100ContinueMessage.subscribe(new CancelledSubscriber<HttpContent>());
                 awaiting100ContinueMessage = null;
                 awaiting100Continue.onSubscribe(new NoOpSubscription());
@@ -163,6 +193,9 @@ public class HttpStreamsClientHandler extends HttpStreamsHandler<HttpResponse, H
                 awaiting100Continue = null;
                 super.channelRead(ctx, msg);
             }
+        } else if (msg instanceof HttpResponse && ((HttpResponse) msg).status().equals(HttpResponseStatus.CONTINUE)) {
+            // A "100 Continue" that arrives after the body was already sent because the expect-continue timeout elapsed.
+            ignoreContinueResponse(msg);
         } else if (ignoreResponseBody && msg instanceof HttpContent) {
 
             ReferenceCountUtil.release(msg);
@@ -174,6 +207,35 @@ public class HttpStreamsClientHandler extends HttpStreamsHandler<HttpResponse, H
         }
     }
 
+    private void sendBodyWithoutContinue(ChannelHandlerContext ctx) {
+        expectContinueTimeout = null;
+        if (awaiting100Continue != null) {
+            sendBody(ctx);
+            onExpectContinueTimeout.run();
+        }
+    }
+
+    private void sendBody(ChannelHandlerContext ctx) {
+        super.subscribeSubscriberToStream(ctx, awaiting100ContinueMessage, awaiting100Continue);
+        awaiting100Continue = null;
+        awaiting100ContinueMessage = null;
+    }
+
+    private void ignoreContinueResponse(Object msg) {
+        if (msg instanceof FullHttpResponse) {
+            ReferenceCountUtil.release(msg);
+        } else {
+            ignoreResponseBody = true;
+        }
+    }
+
+    private void cancelExpectContinueTimeout() {
+        if (expectContinueTimeout != null) {
+            expectContinueTimeout.cancel(false);
+            expectContinueTimeout = null;
+        }
+    }
+
     private static class NoOpSubscription implements Subscription {
         @Override
         public void request(long n) {
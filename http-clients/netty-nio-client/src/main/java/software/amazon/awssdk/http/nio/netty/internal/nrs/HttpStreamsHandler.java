@@ -131,7 +131,8 @@ abstract class HttpStreamsHandler<InT extends HttpMessage, OutT extends HttpMess
      * Provided so that the client subclass can intercept this to hold off sending the body of an expect 100 continue
      * request.
      */
-    protected void subscribeSubscriberToStream(StreamedHttpMessage msg, Subscriber<HttpContent> subscriber) {
+    protected void subscribeSubscriberToStream(ChannelHandlerContext ctx, StreamedHttpMessage msg,
+                                               Subscriber<HttpContent> subscriber) {
         msg.subscribe(subscriber);
     }
 
@@ -318,7 +319,7 @@ abstract class HttpStreamsHandler<InT extends HttpMessage, OutT extends HttpMess
             ctx.writeAndFlush(out.message);
 
             ctx.pipeline().addAfter(ctx.name(), ctx.name() + "-body-subscriber", subscriber);
-            subscribeSubscriberToStream(streamed, subscriber);
+            subscribeSubscriberToStream(ctx, streamed, subscriber);
         }
 
     }
@@ -21,6 +21,7 @@ import io.netty.channel.Channel;
 import io.netty.channel.ChannelFactory;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.ReflectiveChannelFactory;
+import io.netty.channel.epoll.EpollDomainSocketChannel;
 import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
@@ -35,9 +36,14 @@ public final class SocketChannelResolver {
 
     private static final Map<String, String> KNOWN_EL_GROUPS = new HashMap<>();
 
+    private static final Map<String, String> KNOWN_DOMAIN_SOCKET_EL_GROUPS = new HashMap<>();
+
     static {
         KNOWN_EL_GROUPS.put("io.netty.channel.kqueue.KQueueEventLoopGroup", "io.netty.channel.kqueue.KQueueSocketChannel");
         KNOWN_EL_GROUPS.put("io.netty.channel.oio.OioEventLoopGroup", "io.netty.channel.socket.oio.OioSocketChannel");
+
+        KNOWN_DOMAIN_SOCKET_EL_GROUPS.put("io.netty.channel.kqueue.KQueueEventLoopGroup",
+                                          "io.netty.channel.kqueue.KQueueDomainSocketChannel");
     }
 
     private SocketChannelResolver() {
@@ -70,4 +76,32 @@ public final class SocketChannelResolver {
 
         return invokeSafely(() -> new ReflectiveChannelFactory(Class.forName(socketFqcn)));
     }
+
+    /**
+     * Attempts to determine the {@link ChannelFactory} for Unix domain socket channels that corresponds to the given event
+     * loop group. Unix domain sockets are only supported by the native epoll and kqueue transports.
+     *
+     * @param eventLoopGroup the event loop group to determine the {@link ChannelFactory} for
+     * @return A {@link ChannelFactory} instance for the given event loop group.
+     */
+    @SuppressWarnings("unchecked")
+    public static ChannelFactory<? extends Channel> resolveDomainSocketChannelFactory(EventLoopGroup eventLoopGroup) {
+        if (eventLoopGroup instanceof DelegatingEventLoopGroup) {
+            return resolveDomainSocketChannelFactory(((DelegatingEventLoopGroup) eventLoopGroup).getDelegate());
+        }
+
+        if (eventLoopGroup instanceof EpollEventLoopGroup) {
+            return EpollDomainSocketChannel::new;
+        }
+
+        String socketFqcn = KNOWN_DOMAIN_SOCKET_EL_GROUPS.get(eventLoopGroup.getClass().getName());
+        if (socketFqcn == null) {
+            throw new IllegalArgumentException("Unix domain sockets require an epoll or kqueue event loop group, but the "
+                                               + "configured event loop group is a " + eventLoopGroup.getClass() + ". "
+                                               + "Configure an EpollEventLoopGroup or KQueueEventLoopGroup, or no event "
+                                               + "loop group so that the client creates one.");
+        }
+
+        return invokeSafely(() -> new ReflectiveChannelFactory(Class.forName(socketFqcn)));
+    }
 }
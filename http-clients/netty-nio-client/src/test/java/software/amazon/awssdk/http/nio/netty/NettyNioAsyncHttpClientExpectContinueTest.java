@@ -0,0 +1,251 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.nio.netty;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.reactivex.Flowable;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.utils.IoUtils;
+
+/**
+ * Tests the handling of requests with an "Expect: 100-continue" header.
+ */
+public class NettyNioAsyncHttpClientExpectContinueTest {
+    private static final int BODY_SIZE = 64 * 1024;
+
+    private ExpectContinueServer server;
+    private SdkAsyncHttpClient client;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        server = new ExpectContinueServer();
+        client = NettyNioAsyncHttpClient.builder()
+                                        .readTimeout(Duration.ofSeconds(2))
+                                        .expectContinueTimeout(Duration.ofMillis(200))
+                                        .build();
+    }
+
+    @AfterEach
+    public void teardown() {
+        client.close();
+        server.close();
+    }
+
+    @Test
+    public void continueResponse_sendsBody() {
+        server.mode = Mode.CONTINUE;
+
+        assertThat(execute(new AtomicLong()).join()).isEqualTo(200);
+        assertThat(server.bodyBytesReceived.get()).isEqualTo(BODY_SIZE);
+    }
+
+    @Test
+    public void earlyFinalResponse_doesNotSendBodyOrReuseConnection() {
+        server.mode = Mode.REJECT;
+        AtomicLong bodyRequests = new AtomicLong();
+
+        assertThat(execute(bodyRequests).join()).isEqualTo(403);
+        assertThat(bodyRequests.get()).isZero();
+
+        server.mode = Mode.CONTINUE;
+        assertThat(execute(new AtomicLong()).join()).isEqualTo(200);
+        assertThat(server.connectionCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void noContinueResponse_sendsBodyAfterTimeout() {
+        server.mode = Mode.IGNORE_EXPECT;
+
+        assertThat(execute(new AtomicLong()).join()).isEqualTo(200);
+        assertThat(server.bodyBytesReceived.get()).isEqualTo(BODY_SIZE);
+    }
+
+    private CompletableFuture<Integer> execute(AtomicLong bodyRequests) {
+        Publisher<ByteBuffer> body = Flowable.just(ByteBuffer.wrap(new byte[BODY_SIZE]))
+                                             .doOnRequest(bodyRequests::addAndGet);
+        SdkHttpContentPublisher contentPublisher = new SdkHttpContentPublisher() {
+            @Override
+            public Optional<Long> contentLength() {
+                return Optional.of((long) BODY_SIZE);
+            }
+
+            @Override
+            public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+                body.subscribe(subscriber);
+            }
+        };
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .method(SdkHttpMethod.PUT)
+                                                       .protocol("http")
+                                                       .host("localhost")
+                                                       .port(server.port())
+                                                       .putHeader("Host", "localhost")
+                                                       .putHeader("Expect", "100-continue")
+                                                       .putHeader("Content-Length", Integer.toString(BODY_SIZE))
+                                                       .build();
+
+        CompletableFuture<Integer> status = new CompletableFuture<>();
+        SdkAsyncHttpResponseHandler handler = new SdkAsyncHttpResponseHandler() {
+            private SdkHttpResponse response;
+
+            @Override
+            public void onHeaders(SdkHttpResponse headers) {
+                response = headers;
+            }
+
+            @Override
+            public void onStream(Publisher<ByteBuffer> stream) {
+                Flowable.fromPublisher(stream).subscribe(b -> { }, status::completeExceptionally,
+                                                         () -> status.complete(response.statusCode()));
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                status.completeExceptionally(error);
+            }
+        };
+
+        client.execute(AsyncExecuteRequest.builder()
+                                          .request(request)
+                                          .requestContentPublisher(contentPublisher)
+                                          .responseHandler(handler)
+                                          .build());
+        return status;
+    }
+
+    private enum Mode {
+        CONTINUE,
+        REJECT,
+        IGNORE_EXPECT
+    }
+
+    /**
+     * A minimal HTTP/1.1 server that answers expect-continue requests according to its {@link Mode}.
+     */
+    private static final class ExpectContinueServer implements AutoCloseable {
+        private final ServerSocket serverSocket = new ServerSocket(0);
+        private final ExecutorService executor = Executors.newCachedThreadPool();
+        private final AtomicInteger connectionCount = new AtomicInteger();
+        private final AtomicLong bodyBytesReceived = new AtomicLong();
+        private volatile Mode mode;
+
+        ExpectContinueServer() throws IOException {
+            executor.submit(this::acceptConnections);
+        }
+
+        int port() {
+            return serverSocket.getLocalPort();
+        }
+
+        private Void acceptConnections() throws IOException {
+            while (!serverSocket.isClosed()) {
+                Socket socket = serverSocket.accept();
+                connectionCount.incrementAndGet();
+                executor.submit(() -> serve(socket));
+            }
+            return null;
+        }
+
+        private Void serve(Socket socket) throws IOException {
+            try (Socket s = socket) {
+                InputStream in = s.getInputStream();
+                OutputStream out = s.getOutputStream();
+                while (readRequestHeaders(in)) {
+                    if (mode == Mode.REJECT) {
+                        write(out, "HTTP/1.1 403 Forbidden\r\nContent-Length: 0\r\n\r\n");
+                        continue;
+                    }
+                    if (mode == Mode.CONTINUE) {
+                        write(out, "HTTP/1.1 100 Continue\r\n\r\n");
+                    }
+                    readBody(in);
+                    write(out, "HTTP/1.1 200 OK\r\nContent-Length: 0\r\n\r\n");
+                }
+            }
+            return null;
+        }
+
+        private boolean readRequestHeaders(InputStream in) throws IOException {
+            ByteArrayOutputStream headers = new ByteArrayOutputStream();
+            int b;
+            while ((b = in.read()) != -1) {
+                headers.write(b);
+                if (headers.toString(StandardCharsets.US_ASCII.name()).endsWith("\r\n\r\n")) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void readBody(InputStream in) throws IOException {
+            byte[] buffer = new byte[8192];
+            long remaining = BODY_SIZE;
+            while (remaining > 0) {
+                int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read == -1) {
+                    return;
+                }
+                remaining -= read;
+                bodyBytesReceived.addAndGet(read);
+            }
+        }
+
+        private void write(OutputStream out, String response) throws IOException {
+            out.write(response.getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+        }
+
+        @Override
+        public void close() {
+            IoUtils.closeQuietly(serverSocket, null);
+            executor.shutdownNow();
+            try {
+                executor.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
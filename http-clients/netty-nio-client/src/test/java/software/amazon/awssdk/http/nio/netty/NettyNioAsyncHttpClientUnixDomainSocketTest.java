@@ -0,0 +1,74 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.nio.NioEventLoopGroup;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.junit.Assume;
+import org.junit.Test;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+
+public class NettyNioAsyncHttpClientUnixDomainSocketTest {
+    private static final Path SOCKET_PATH = Paths.get("/tmp/sidecar.sock");
+
+    @Test
+    public void nioEventLoopGroup_failsWhenBuilt() {
+        NioEventLoopGroup group = new NioEventLoopGroup(1);
+        try {
+            assertThatThrownBy(() -> NettyNioAsyncHttpClient.builder()
+                                                            .unixDomainSocketPath(SOCKET_PATH)
+                                                            .eventLoopGroup(SdkEventLoopGroup.create(group))
+                                                            .build())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("epoll or kqueue");
+        } finally {
+            group.shutdownGracefully();
+        }
+    }
+
+    @Test
+    public void noEventLoopGroup_nativeTransportUnavailable_failsWhenBuilt() {
+        Assume.assumeFalse(Epoll.isAvailable());
+
+        assertThatThrownBy(() -> NettyNioAsyncHttpClient.builder().unixDomainSocketPath(SOCKET_PATH).build())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("netty-transport-native-epoll");
+    }
+
+    @Test
+    public void eventLoopGroupBuilder_nativeTransportUnavailable_failsWhenBuilt() {
+        Assume.assumeFalse(Epoll.isAvailable());
+
+        assertThatThrownBy(() -> NettyNioAsyncHttpClient.builder()
+                                                        .unixDomainSocketPath(SOCKET_PATH)
+                                                        .eventLoopGroupBuilder(SdkEventLoopGroup.builder().numberOfThreads(1))
+                                                        .build())
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void noEventLoopGroup_epollAvailable_createsNativeEventLoopGroup() {
+        Assume.assumeTrue(Epoll.isAvailable());
+
+        try (SdkAsyncHttpClient client = NettyNioAsyncHttpClient.builder().unixDomainSocketPath(SOCKET_PATH).build()) {
+            // Building succeeds, and closing shuts down the event loop group the client created
+        }
+    }
+}
@@ -38,6 +38,7 @@ import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 
@@ -67,6 +68,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.net.ssl.TrustManagerFactory;
 import org.assertj.core.api.Condition;
@@ -75,11 +77,13 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.mockito.stubbing.Answer;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
+import software.amazon.awssdk.http.ConnectionPoolMetric;
 import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.HttpTestUtils;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
@@ -89,10 +93,12 @@ import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.http.nio.netty.internal.ConnectionPoolMetricsPublisher;
 import software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPoolMap;
 import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
 import software.amazon.awssdk.utils.AttributeMap;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -223,6 +229,38 @@ public class NettyNioAsyncHttpClientWireMockTest {
         }
     }
 
+    @Test
+    public void connectionPoolMetricsPublisher_publishesMetricsPerHost() throws Exception {
+        MetricPublisher publisher = mock(MetricPublisher.class);
+        try (SdkAsyncHttpClient customClient =
+                 NettyNioAsyncHttpClient.builder()
+                                        .connectionPoolMetricsPublisher(publisher)
+                                        .connectionPoolMetricsPublishInterval(Duration.ofMillis(50))
+                                        .build()) {
+            makeSimpleRequest(customClient);
+
+            ArgumentCaptor<MetricCollection> collections = ArgumentCaptor.forClass(MetricCollection.class);
+            Mockito.verify(publisher, timeout(5_000).atLeast(2)).publish(collections.capture());
+
+            List<MetricCollection> hostMetrics =
+                collections.getAllValues().stream()
+                           .peek(c -> assertThat(c.name()).isEqualTo(ConnectionPoolMetricsPublisher.COLLECTION_NAME))
+                           .flatMap(c -> c.children().stream())
+                           .collect(Collectors.toList());
+
+            assertThat(hostMetrics).isNotEmpty().allSatisfy(m -> {
+                assertThat(m.name()).isEqualTo("http://localhost:" + mockServer.port());
+                assertThat(m.metricValues(HttpMetric.MAX_CONCURRENCY)).isNotEmpty();
+            });
+            assertThat(hostMetrics.stream().mapToInt(m -> m.metricValues(ConnectionPoolMetric.CONNECTIONS_CREATED).get(0)).sum())
+                .isEqualTo(1);
+            assertThat(hostMetrics.stream().mapToInt(m -> m.metricValues(ConnectionPoolMetric.CONCURRENCY_ACQUIRES).get(0)).sum())
+                .isEqualTo(1);
+            assertThat(hostMetrics.get(hostMetrics.size() - 1).metricValues(ConnectionPoolMetric.OPEN_CONNECTIONS))
+                .containsExactly(1);
+        }
+    }
+
     @Test
     public void defaultThreadFactoryUsesHelpfulName() throws Exception {
         // Make a request to ensure a thread is primed
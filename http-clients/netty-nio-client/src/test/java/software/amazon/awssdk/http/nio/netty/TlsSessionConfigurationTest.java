@@ -0,0 +1,64 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+public class TlsSessionConfigurationTest {
+
+    @Test
+    public void build_buildsCorrectConfig() {
+        TlsSessionConfiguration config = TlsSessionConfiguration.builder()
+                                                                .sessionCacheSize(10L)
+                                                                .sessionTimeout(Duration.ofMinutes(5))
+                                                                .shareAcrossClients(true)
+                                                                .build();
+
+        assertThat(config.sessionCacheSize()).isEqualTo(10L);
+        assertThat(config.sessionTimeout()).isEqualTo(Duration.ofMinutes(5));
+        assertThat(config.shareAcrossClients()).isTrue();
+    }
+
+    @Test
+    public void builder_toBuilder_roundTrip() {
+        TlsSessionConfiguration config1 = TlsSessionConfiguration.builder()
+                                                                 .sessionCacheSize(10L)
+                                                                 .sessionTimeout(Duration.ofMinutes(5))
+                                                                 .shareAcrossClients(true)
+                                                                 .build();
+
+        TlsSessionConfiguration config2 = config1.toBuilder().build();
+
+        assertThat(config1).isEqualTo(config2);
+        assertThat(config1.hashCode()).isEqualTo(config2.hashCode());
+    }
+
+    @Test
+    public void builder_sessionCacheSize_0_throws() {
+        assertThatThrownBy(() -> TlsSessionConfiguration.builder().sessionCacheSize(0L))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void builder_sessionTimeout_negative_throws() {
+        assertThatThrownBy(() -> TlsSessionConfiguration.builder().sessionTimeout(Duration.ofSeconds(-1)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -16,13 +16,21 @@
 package software.amazon.awssdk.http.nio.netty.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TCP_KEEPALIVE;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.UNIX_DOMAIN_SOCKET_PATH;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.unix.DomainSocketAddress;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.nio.file.Paths;
+import org.junit.Assume;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
@@ -74,4 +82,40 @@ public class BootstrapProviderTest {
         Boolean keepAlive = (Boolean) bootstrap.config().options().get(ChannelOption.SO_KEEPALIVE);
         assertThat(keepAlive).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void createBootstrap_unixDomainSocketPath_usesDomainSocketAddress() {
+        Assume.assumeTrue(Epoll.isAvailable());
+        BootstrapProvider provider =
+            new BootstrapProvider(SdkEventLoopGroup.create(new EpollEventLoopGroup(1)),
+                                  unixDomainSocketConfiguration(),
+                                  new SdkChannelOptions());
+
+        Bootstrap bootstrap = provider.createBootstrap("some-awesome-service-1234.amazonaws.com", 443);
+
+        assertThat(bootstrap.config().remoteAddress()).isInstanceOf(DomainSocketAddress.class);
+        assertThat(((DomainSocketAddress) bootstrap.config().remoteAddress()).path()).isEqualTo("/tmp/sidecar.sock");
+        assertThat(bootstrap.config().options()).doesNotContainKey(ChannelOption.SO_KEEPALIVE);
+        bootstrap.config().group().shutdownGracefully();
+    }
+
+    @Test
+    public void createBootstrap_unixDomainSocketPathWithNioEventLoopGroup_throws() {
+        NioEventLoopGroup group = new NioEventLoopGroup(1);
+        try {
+            BootstrapProvider provider = new BootstrapProvider(SdkEventLoopGroup.create(group),
+                                                               unixDomainSocketConfiguration(),
+                                                               new SdkChannelOptions());
+
+            assertThatThrownBy(() -> provider.createBootstrap("some-awesome-service-1234.amazonaws.com", 443))
+                .isInstanceOf(IllegalArgumentException.class);
+        } finally {
+            group.shutdownGracefully();
+        }
+    }
+
+    private static NettyConfiguration unixDomainSocketConfiguration() {
+        return new NettyConfiguration(AttributeMap.builder().put(UNIX_DOMAIN_SOCKET_PATH, Paths.get("/tmp/sidecar.sock"))
+                                                  .build().merge(GLOBAL_HTTP_DEFAULTS));
+    }
+}
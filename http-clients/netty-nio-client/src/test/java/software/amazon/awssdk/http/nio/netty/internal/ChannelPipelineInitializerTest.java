@@ -25,6 +25,7 @@ import io.netty.channel.ChannelOption;
 import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.channel.pool.ChannelPool;
 import io.netty.handler.codec.http2.Http2SecurityUtil;
+import io.netty.handler.flush.FlushConsolidationHandler;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.SslProvider;
@@ -63,7 +64,9 @@ public class ChannelPipelineInitializerTest {
                                                              Duration.ZERO,
                                                              channelPoolRef,
                                                              nettyConfiguration,
-                                                             targetUri);
+                                                             targetUri,
+                                                             false,
+                                                             null);
 
         Channel channel = new EmbeddedChannel();
 
@@ -72,4 +75,28 @@ public class ChannelPipelineInitializerTest {
         assertThat(channel.config().getOption(ChannelOption.ALLOCATOR), is(UnpooledByteBufAllocator.DEFAULT));
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void consolidateFlushes_addsFlushConsolidationHandler() {
+        targetUri = URI.create("http://some-awesome-service-1234.amazonaws.com:8080");
+        NettyConfiguration nettyConfiguration = new NettyConfiguration(GLOBAL_HTTP_DEFAULTS);
+
+        pipelineInitializer = new ChannelPipelineInitializer(Protocol.HTTP1_1,
+                                                             null,
+                                                             SslProvider.JDK,
+                                                             100,
+                                                             1024,
+                                                             Duration.ZERO,
+                                                             new AtomicReference<>(),
+                                                             nettyConfiguration,
+                                                             targetUri,
+                                                             true,
+                                                             null);
+
+        Channel channel = new EmbeddedChannel();
+
+        pipelineInitializer.channelCreated(channel);
+
+        assertThat(channel.pipeline().get(FlushConsolidationHandler.class) != null, is(true));
+    }
+}
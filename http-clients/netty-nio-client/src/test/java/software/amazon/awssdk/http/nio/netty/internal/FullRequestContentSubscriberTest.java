@@ -0,0 +1,112 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+
+public class FullRequestContentSubscriberTest {
+    private Subscription subscription;
+
+    @BeforeEach
+    public void setup() {
+        subscription = mock(Subscription.class);
+    }
+
+    @Test
+    public void multipleChunks_shouldAggregateContent() {
+        FullRequestContentSubscriber subscriber = new FullRequestContentSubscriber(UnpooledByteBufAllocator.DEFAULT, 11);
+        subscriber.onSubscribe(subscription);
+        subscriber.onNext(ByteBuffer.wrap("hello ".getBytes(StandardCharsets.UTF_8)));
+        subscriber.onNext(ByteBuffer.wrap("world".getBytes(StandardCharsets.UTF_8)));
+
+        ByteBuf content = subscriber.contentFuture().join();
+        try {
+            assertThat(content.toString(StandardCharsets.UTF_8)).isEqualTo("hello world");
+            verify(subscription).request(Long.MAX_VALUE);
+            verify(subscription).cancel();
+        } finally {
+            content.release();
+        }
+    }
+
+    @Test
+    public void moreContentThanContentLength_shouldTruncate() {
+        FullRequestContentSubscriber subscriber = new FullRequestContentSubscriber(UnpooledByteBufAllocator.DEFAULT, 5);
+        subscriber.onSubscribe(subscription);
+        subscriber.onNext(ByteBuffer.wrap("hello world".getBytes(StandardCharsets.UTF_8)));
+
+        ByteBuf content = subscriber.contentFuture().join();
+        try {
+            assertThat(content.toString(StandardCharsets.UTF_8)).isEqualTo("hello");
+        } finally {
+            content.release();
+        }
+    }
+
+    @Test
+    public void emptyContent_completes() {
+        FullRequestContentSubscriber subscriber = new FullRequestContentSubscriber(UnpooledByteBufAllocator.DEFAULT, 0);
+        subscriber.onSubscribe(subscription);
+        subscriber.onComplete();
+
+        ByteBuf content = subscriber.contentFuture().join();
+        assertThat(content.readableBytes()).isZero();
+        content.release();
+    }
+
+    @Test
+    public void lessContentThanContentLength_shouldFailAndReleaseBuffer() {
+        ByteBuf buffer = Unpooled.buffer(10, 10);
+        ByteBufAllocator allocator = mock(ByteBufAllocator.class);
+        when(allocator.buffer(10, 10)).thenReturn(buffer);
+
+        FullRequestContentSubscriber subscriber = new FullRequestContentSubscriber(allocator, 10);
+        subscriber.onSubscribe(subscription);
+        subscriber.onNext(ByteBuffer.wrap("hello".getBytes(StandardCharsets.UTF_8)));
+        subscriber.onComplete();
+
+        assertThatThrownBy(() -> subscriber.contentFuture().join())
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("only 5 bytes");
+        assertThat(buffer.refCnt()).isZero();
+    }
+
+    @Test
+    public void publisherError_shouldFailFuture() {
+        RuntimeException error = new RuntimeException("boom");
+        FullRequestContentSubscriber subscriber = new FullRequestContentSubscriber(UnpooledByteBufAllocator.DEFAULT, 10);
+        subscriber.onSubscribe(subscription);
+        subscriber.onError(error);
+
+        assertThatThrownBy(() -> subscriber.contentFuture().join()).hasCause(error);
+    }
+}
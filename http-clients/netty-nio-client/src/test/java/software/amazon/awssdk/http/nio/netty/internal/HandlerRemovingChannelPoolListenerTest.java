@@ -26,8 +26,6 @@ import io.netty.channel.ChannelPipeline;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
-import io.netty.handler.timeout.ReadTimeoutHandler;
-import io.netty.handler.timeout.WriteTimeoutHandler;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -50,6 +48,7 @@ public class HandlerRemovingChannelPoolListenerTest {
     private ChannelPipeline pipeline;
     private NioEventLoopGroup nioEventLoopGroup;
     private HandlerRemovingChannelPoolListener handler;
+    private RequestTimeoutHandler timeoutHandler;
 
     @Before
     public void setup() throws Exception {
@@ -69,8 +68,10 @@ public class HandlerRemovingChannelPoolListenerTest {
 
         pipeline.addLast(new HttpStreamsClientHandler());
         pipeline.addLast(ResponseHandler.getInstance());
-        pipeline.addLast(new ReadTimeoutHandler(10));
-        pipeline.addLast(new WriteTimeoutHandler(10));
+        timeoutHandler = new RequestTimeoutHandler();
+        pipeline.addLast(timeoutHandler);
+        timeoutHandler.startReadTimeout(10_000);
+        timeoutHandler.startWriteTimeout(10_000);
         handler = HandlerRemovingChannelPoolListener.create();
     }
 
@@ -87,6 +88,15 @@ public class HandlerRemovingChannelPoolListenerTest {
         assertHandlersRemoved();
     }
 
+    @Test
+    public void release_openChannel_timeoutHandlerShouldBeKeptAndTimeoutsStopped() {
+        handler.channelReleased(mockChannel);
+
+        assertThat(pipeline.get(RequestTimeoutHandler.class)).isSameAs(timeoutHandler);
+        assertThat(timeoutHandler.isReadTimeoutStarted()).isFalse();
+        assertThat(timeoutHandler.isWriteTimeoutStarted()).isFalse();
+    }
+
     @Test
     public void release_closedChannel_handlerShouldBeRemovedFromPipeline() {
         mockChannel.close().awaitUninterruptibly();
@@ -109,14 +119,14 @@ public class HandlerRemovingChannelPoolListenerTest {
     private void assertHandlersRemoved() {
         assertThat(pipeline.get(HttpStreamsClientHandler.class)).isNull();
         assertThat(pipeline.get(ResponseHandler.class)).isNull();
-        assertThat(pipeline.get(ReadTimeoutHandler.class)).isNull();
-        assertThat(pipeline.get(WriteTimeoutHandler.class)).isNull();
+        assertThat(timeoutHandler.isReadTimeoutStarted()).isFalse();
+        assertThat(timeoutHandler.isWriteTimeoutStarted()).isFalse();
     }
 
     private void assertHandlersNotRemoved() {
         assertThat(pipeline.get(HttpStreamsClientHandler.class)).isNotNull();
         assertThat(pipeline.get(ResponseHandler.class)).isNotNull();
-        assertThat(pipeline.get(ReadTimeoutHandler.class)).isNotNull();
-        assertThat(pipeline.get(WriteTimeoutHandler.class)).isNotNull();
+        assertThat(timeoutHandler.isReadTimeoutStarted()).isTrue();
+        assertThat(timeoutHandler.isWriteTimeoutStarted()).isTrue();
     }
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.timeout.ReadTimeoutException;
+import io.netty.handler.timeout.WriteTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RequestTimeoutHandlerTest {
+    private static final long TIMEOUT_MILLIS = 50;
+
+    private RequestTimeoutHandler handler;
+    private EmbeddedChannel channel;
+
+    @BeforeEach
+    public void setup() {
+        handler = new RequestTimeoutHandler();
+        channel = new EmbeddedChannel(handler);
+    }
+
+    @AfterEach
+    public void teardown() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void readTimeout_noRead_shouldFireExceptionAndClose() throws InterruptedException {
+        handler.startReadTimeout(TIMEOUT_MILLIS);
+
+        Thread.sleep(TIMEOUT_MILLIS * 2);
+        channel.runPendingTasks();
+
+        assertThatThrownBy(channel::checkException).isSameAs(ReadTimeoutException.INSTANCE);
+        assertThat(channel.isOpen()).isFalse();
+    }
+
+    @Test
+    public void readTimeout_stopped_shouldNotFire() throws InterruptedException {
+        handler.startReadTimeout(TIMEOUT_MILLIS);
+        handler.stopReadTimeout();
+
+        Thread.sleep(TIMEOUT_MILLIS * 2);
+        channel.runPendingTasks();
+
+        channel.checkException();
+        assertThat(channel.isOpen()).isTrue();
+    }
+
+    @Test
+    public void oneTimeReadTimeout_read_shouldStopTimeout() throws InterruptedException {
+        handler.startOneTimeReadTimeout(TIMEOUT_MILLIS);
+        channel.writeInbound("continue");
+
+        assertThat(handler.isReadTimeoutStarted()).isFalse();
+        Thread.sleep(TIMEOUT_MILLIS * 2);
+        channel.runPendingTasks();
+
+        channel.checkException();
+        assertThat(channel.isOpen()).isTrue();
+    }
+
+    @Test
+    public void oneTimeReadTimeout_upgradedToReadTimeout_shouldNotStopOnRead() {
+        handler.startOneTimeReadTimeout(TIMEOUT_MILLIS);
+        handler.startReadTimeout(TIMEOUT_MILLIS);
+        channel.writeInbound("data");
+
+        assertThat(handler.isReadTimeoutStarted()).isTrue();
+    }
+
+    @Test
+    public void readTimeout_zeroTimeout_shouldNotStart() {
+        handler.startReadTimeout(0);
+
+        assertThat(handler.isReadTimeoutStarted()).isFalse();
+    }
+
+    @Test
+    public void writeTimeout_pendingWrite_shouldFireExceptionAndClose() throws InterruptedException {
+        handler.startWriteTimeout(TIMEOUT_MILLIS);
+        // Not flushed, so the write remains pending
+        ChannelFuture writeFuture = channel.write("data");
+
+        Thread.sleep(TIMEOUT_MILLIS * 2);
+        channel.runPendingTasks();
+
+        assertThatThrownBy(channel::checkException).isSameAs(WriteTimeoutException.INSTANCE);
+        assertThat(writeFuture.isSuccess()).isFalse();
+        assertThat(channel.isOpen()).isFalse();
+    }
+
+    @Test
+    public void writeTimeout_completedWrite_shouldNotFire() throws InterruptedException {
+        handler.startWriteTimeout(TIMEOUT_MILLIS);
+        channel.writeAndFlush("data");
+
+        Thread.sleep(TIMEOUT_MILLIS * 2);
+        channel.runPendingTasks();
+
+        channel.checkException();
+        assertThat(channel.isOpen()).isTrue();
+    }
+
+    @Test
+    public void writeTimeout_stoppedWithPendingWrite_shouldNotFire() throws InterruptedException {
+        handler.startWriteTimeout(TIMEOUT_MILLIS);
+        channel.write("data");
+        handler.stopWriteTimeout();
+
+        Thread.sleep(TIMEOUT_MILLIS * 2);
+        channel.runPendingTasks();
+
+        channel.checkException();
+        assertThat(channel.isOpen()).isTrue();
+    }
+}
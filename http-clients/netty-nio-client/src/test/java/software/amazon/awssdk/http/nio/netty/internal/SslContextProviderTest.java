@@ -22,7 +22,9 @@ import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TLS_TRUST_M
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES;
 
 import io.netty.handler.codec.http2.Http2SecurityUtil;
+import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslProvider;
+import java.time.Duration;
 import javax.net.ssl.TrustManager;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -30,6 +32,7 @@ import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.TlsKeyManagersProvider;
 import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.http.nio.netty.TlsSessionConfiguration;
 import software.amazon.awssdk.utils.AttributeMap;
 
 public class SslContextProviderTest {
@@ -107,4 +110,92 @@ public class SslContextProviderTest {
                                                                                                + "set");
 
     }
+
+    @Test
+    public void sslContext_calledMultipleTimes_shouldReuseContext() {
+        SslContextProvider sslContextProvider = new SslContextProvider(new NettyConfiguration(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS),
+                                                                       Protocol.HTTP1_1,
+                                                                       SslProvider.JDK);
+
+        assertThat(sslContextProvider.sslContext()).isSameAs(sslContextProvider.sslContext());
+    }
+
+    @Test
+    public void sessionConfigurationPresent_shouldConfigureSessionCache() {
+        TlsSessionConfiguration sessionConfiguration = TlsSessionConfiguration.builder()
+                                                                              .sessionCacheSize(100L)
+                                                                              .sessionTimeout(Duration.ofMinutes(10))
+                                                                              .build();
+        SslContextProvider sslContextProvider = new SslContextProvider(new NettyConfiguration(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS),
+                                                                       Protocol.HTTP1_1,
+                                                                       SslProvider.JDK,
+                                                                       sessionConfiguration);
+
+        SslContext sslContext = sslContextProvider.sslContext();
+        assertThat(sslContext.sessionCacheSize()).isEqualTo(100L);
+        assertThat(sslContext.sessionTimeout()).isEqualTo(600L);
+    }
+
+    @Test
+    public void shareAcrossClients_sameConfiguration_shouldShareContext() {
+        TlsSessionConfiguration sessionConfiguration = TlsSessionConfiguration.builder().shareAcrossClients(true).build();
+        NettyConfiguration configuration = new NettyConfiguration(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS);
+        SslContextProvider first = new SslContextProvider(configuration, Protocol.HTTP1_1, SslProvider.JDK, sessionConfiguration);
+        SslContextProvider second = new SslContextProvider(configuration, Protocol.HTTP1_1, SslProvider.JDK, sessionConfiguration);
+
+        try {
+            assertThat(first.sslContext()).isSameAs(second.sslContext());
+        } finally {
+            first.close();
+            second.close();
+        }
+    }
+
+    @Test
+    public void shareAcrossClients_differentTrustManagers_shouldNotShareContext() {
+        TlsSessionConfiguration sessionConfiguration = TlsSessionConfiguration.builder().shareAcrossClients(true).build();
+        SslContextProvider first = new SslContextProvider(trustManagerConfiguration(), Protocol.HTTP1_1, SslProvider.JDK,
+                                                          sessionConfiguration);
+        SslContextProvider second = new SslContextProvider(trustManagerConfiguration(), Protocol.HTTP1_1, SslProvider.JDK,
+                                                           sessionConfiguration);
+
+        try {
+            assertThat(first.sslContext()).isNotSameAs(second.sslContext());
+        } finally {
+            first.close();
+            second.close();
+        }
+    }
+
+    @Test
+    public void shareAcrossClients_allProvidersClosed_shouldReleaseContext() {
+        TlsSessionConfiguration sessionConfiguration = TlsSessionConfiguration.builder().shareAcrossClients(true).build();
+        NettyConfiguration configuration = new NettyConfiguration(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS);
+        SslContextProvider first = new SslContextProvider(configuration, Protocol.HTTP2, SslProvider.JDK, sessionConfiguration);
+        SslContextProvider second = new SslContextProvider(configuration, Protocol.HTTP2, SslProvider.JDK, sessionConfiguration);
+
+        SslContext sslContext = first.sslContext();
+        second.sslContext();
+        first.close();
+        SslContextProvider third = new SslContextProvider(configuration, Protocol.HTTP2, SslProvider.JDK, sessionConfiguration);
+        assertThat(third.sslContext()).isSameAs(sslContext);
+
+        second.close();
+        third.close();
+        SslContextProvider fourth = new SslContextProvider(configuration, Protocol.HTTP2, SslProvider.JDK, sessionConfiguration);
+        try {
+            assertThat(fourth.sslContext()).isNotSameAs(sslContext);
+        } finally {
+            fourth.close();
+        }
+    }
+
+    private static NettyConfiguration trustManagerConfiguration() {
+        TlsTrustManagersProvider mockProvider = Mockito.mock(TlsTrustManagersProvider.class);
+        Mockito.when(mockProvider.trustManagers()).thenReturn(new TrustManager[] {Mockito.mock(TrustManager.class)});
+        return new NettyConfiguration(AttributeMap.builder()
+                                                  .put(TRUST_ALL_CERTIFICATES, false)
+                                                  .put(TLS_TRUST_MANAGERS_PROVIDER, mockProvider)
+                                                  .build());
+    }
 }
@@ -16,9 +16,12 @@
 package software.amazon.awssdk.http.nio.netty.internal.utils;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.http.nio.netty.internal.utils.SocketChannelResolver.resolveDomainSocketChannelFactory;
 import static software.amazon.awssdk.http.nio.netty.internal.utils.SocketChannelResolver.resolveSocketChannelFactory;
 
 import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollDomainSocketChannel;
 import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
@@ -51,4 +54,18 @@ public class SocketChannelResolverTest {
     public void worksWithOioEventLoopGroupFactory() {
         assertThat(resolveSocketChannelFactory(new OioEventLoopGroup()).newChannel()).isInstanceOf(OioSocketChannel.class);
     }
+
+    @Test
+    public void canDetectDomainSocketFactoryForEpollEventLoopGroup() {
+        Assumptions.assumeTrue(Epoll.isAvailable());
+        assertThat(resolveDomainSocketChannelFactory(new DelegatingEventLoopGroup(new EpollEventLoopGroup()) {}).newChannel())
+            .isInstanceOf(EpollDomainSocketChannel.class);
+    }
+
+    @Test
+    public void domainSocketFactoryForNioEventLoopGroup_throws() {
+        assertThatThrownBy(() -> resolveDomainSocketChannelFactory(new NioEventLoopGroup()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Unix domain sockets require an epoll or kqueue event loop group");
+    }
 }
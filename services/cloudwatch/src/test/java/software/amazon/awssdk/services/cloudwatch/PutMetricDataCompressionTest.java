@@ -0,0 +1,132 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services.cloudwatch;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.client.WireMock.findAll;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import java.net.URI;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.cloudwatch.model.MetricDatum;
+
+/**
+ * PutMetricData is modeled as accepting a gzip-compressed payload, so large requests should be sent compressed.
+ */
+public class PutMetricDataCompressionTest {
+    private static final StaticCredentialsProvider CREDENTIALS =
+        StaticCredentialsProvider.create(AwsBasicCredentials.create("akid", "skid"));
+
+    @Rule
+    public WireMockRule mockServer = new WireMockRule(0);
+
+    private CloudWatchClient cloudWatch;
+
+    @Before
+    public void setup() {
+        cloudWatch = clientBuilder().build();
+        stubFor(post(anyUrl()).willReturn(aResponse().withStatus(200)
+                                                     .withBody("<PutMetricDataResponse><ResponseMetadata>"
+                                                               + "<RequestId>id</RequestId>"
+                                                               + "</ResponseMetadata></PutMetricDataResponse>")));
+    }
+
+    @Test
+    public void putMetricData_largePayload_isSentGzipCompressed() {
+        cloudWatch.putMetricData(r -> r.namespace("test").metricData(metricData(500)));
+
+        LoggedRequest request = singleRequest();
+        assertThat(request.getHeader("Content-Encoding")).isEqualTo("gzip");
+        // WireMock decompresses gzip-encoded request bodies before logging them
+        String body = request.getBodyAsString();
+        assertThat(Integer.parseInt(request.getHeader("Content-Length"))).isLessThan(body.length());
+        assertThat(body).startsWith("Action=PutMetricData");
+        assertThat(body).contains("MetricData.member.500.MetricName=metric-499");
+    }
+
+    @Test
+    public void putMetricData_asyncClient_largePayload_isSentGzipCompressed() {
+        try (CloudWatchAsyncClient client = CloudWatchAsyncClient.builder()
+                                                                 .credentialsProvider(CREDENTIALS)
+                                                                 .region(Region.US_WEST_2)
+                                                                 .endpointOverride(endpoint())
+                                                                 .build()) {
+            client.putMetricData(r -> r.namespace("test").metricData(metricData(500))).join();
+        }
+
+        LoggedRequest request = singleRequest();
+        assertThat(request.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(request.getBodyAsString()).contains("MetricData.member.500.MetricName=metric-499");
+    }
+
+    @Test
+    public void putMetricData_smallPayload_isSentUncompressed() {
+        cloudWatch.putMetricData(r -> r.namespace("test").metricData(metricData(1)));
+
+        LoggedRequest request = singleRequest();
+        assertThat(request.containsHeader("Content-Encoding")).isFalse();
+        assertThat(request.getBodyAsString()).startsWith("Action=PutMetricData");
+    }
+
+    @Test
+    public void putMetricData_compressionDisabled_isSentUncompressed() {
+        CloudWatchClient client = clientBuilder().overrideConfiguration(o -> o.compressionConfiguration(
+                                                     c -> c.requestCompressionEnabled(false)))
+                                                 .build();
+
+        client.putMetricData(r -> r.namespace("test").metricData(metricData(500)));
+
+        assertThat(singleRequest().containsHeader("Content-Encoding")).isFalse();
+    }
+
+    private CloudWatchClientBuilder clientBuilder() {
+        return CloudWatchClient.builder()
+                               .credentialsProvider(CREDENTIALS)
+                               .region(Region.US_WEST_2)
+                               .endpointOverride(endpoint());
+    }
+
+    private URI endpoint() {
+        return URI.create("http://localhost:" + mockServer.port());
+    }
+
+    private static List<MetricDatum> metricData(int count) {
+        return IntStream.range(0, count)
+                        .mapToObj(i -> MetricDatum.builder().metricName("metric-" + i).value((double) i).build())
+                        .collect(Collectors.toList());
+    }
+
+    private static LoggedRequest singleRequest() {
+        List<LoggedRequest> requests = findAll(postRequestedFor(anyUrl()));
+        assertThat(requests).hasSize(1);
+        return requests.get(0);
+    }
+}
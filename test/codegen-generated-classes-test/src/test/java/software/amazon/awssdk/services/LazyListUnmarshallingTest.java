@@ -0,0 +1,127 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.services;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import java.net.URI;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.util.LazyUnmarshalledList;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonClient;
+import software.amazon.awssdk.services.protocolrestjson.model.AllTypesResponse;
+import software.amazon.awssdk.services.protocolrestxml.ProtocolRestXmlClient;
+
+/**
+ * Verifies that {@link SdkAdvancedClientOption#LAZY_LIST_UNMARSHALLING} makes the JSON and XML protocols return lists of
+ * structures and lists of maps as {@link LazyUnmarshalledList}s, which the generated model copiers keep rather than copy. An
+ * element that can't be unmarshalled only fails when it's accessed, which shows the copiers didn't unmarshall it.
+ */
+@WireMockTest
+public class LazyListUnmarshallingTest {
+    private static final String JSON_RESPONSE =
+        "{\"ListOfStructs\": [{\"StringMember\": \"a\"}, {\"StringMember\": \"b\"}],"
+        + " \"ListOfMaps\": [{\"key\": \"value\"}, \"not a map\"]}";
+
+    private static final String XML_RESPONSE =
+        "<AllTypes>"
+        + "<ListOfStructs><member><StringMember>a</StringMember></member><member><StringMember>b</StringMember></member>"
+        + "</ListOfStructs>"
+        + "<ListOfMaps><member><entry><key>key</key><value>value</value></entry></member>"
+        + "<member><entry><value>no key</value></entry></member></ListOfMaps>"
+        + "</AllTypes>";
+
+    @Test
+    public void json_lazyListUnmarshallingEnabled_listsAreNotUnmarshalledByCopiers(WireMockRuntimeInfo wm) {
+        stubFor(post(anyUrl()).willReturn(aResponse().withStatus(200).withBody(JSON_RESPONSE)));
+
+        AllTypesResponse response = jsonClient(wm, true).allTypes(r -> { });
+
+        assertThat(response.listOfStructs()).isInstanceOf(LazyUnmarshalledList.class);
+        assertThat(response.listOfStructs()).extracting(s -> s.stringMember()).containsExactly("a", "b");
+        assertThat(response.listOfMaps()).isInstanceOf(LazyUnmarshalledList.class).hasSize(2);
+        assertThat(response.listOfMaps().get(0)).isEqualTo(Collections.singletonMap("key", "value"));
+        assertThatThrownBy(() -> response.listOfMaps().get(0).clear()).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> response.listOfMaps().get(1)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void json_lazyListUnmarshallingDisabled_listsAreUnmarshalledWithResponse(WireMockRuntimeInfo wm) {
+        stubFor(post(anyUrl()).willReturn(aResponse().withStatus(200).withBody(JSON_RESPONSE)));
+
+        assertThatThrownBy(() -> jsonClient(wm, false).allTypes(r -> { })).isInstanceOf(SdkClientException.class);
+    }
+
+    @Test
+    public void xml_lazyListUnmarshallingEnabled_listsAreNotUnmarshalledByCopiers(WireMockRuntimeInfo wm) {
+        stubFor(post(anyUrl()).willReturn(aResponse().withStatus(200).withBody(XML_RESPONSE)));
+
+        software.amazon.awssdk.services.protocolrestxml.model.AllTypesResponse response = xmlClient(wm, true).allTypes(r -> { });
+
+        assertThat(response.listOfStructs()).isInstanceOf(LazyUnmarshalledList.class);
+        assertThat(response.listOfStructs()).extracting(s -> s.stringMember()).containsExactly("a", "b");
+        assertThat(response.listOfMaps()).isInstanceOf(LazyUnmarshalledList.class).hasSize(2);
+        assertThat(response.listOfMaps().get(0)).isEqualTo(Collections.singletonMap("key", "value"));
+        assertThatThrownBy(() -> response.listOfMaps().get(0).clear()).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> response.listOfMaps().get(1)).isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    public void xml_lazyListUnmarshallingDisabled_listsAreUnmarshalledWithResponse(WireMockRuntimeInfo wm) {
+        stubFor(post(anyUrl()).willReturn(aResponse().withStatus(200).withBody(XML_RESPONSE)));
+
+        assertThatThrownBy(() -> xmlClient(wm, false).allTypes(r -> { })).isInstanceOf(SdkClientException.class);
+    }
+
+    private static ProtocolRestJsonClient jsonClient(WireMockRuntimeInfo wm, boolean lazyListUnmarshalling) {
+        return ProtocolRestJsonClient.builder()
+                                     .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("akid", "skid")))
+                                     .region(Region.US_EAST_1)
+                                     .endpointOverride(URI.create(wm.getHttpBaseUrl()))
+                                     .overrideConfiguration(overrideConfiguration(lazyListUnmarshalling))
+                                     .build();
+    }
+
+    private static ProtocolRestXmlClient xmlClient(WireMockRuntimeInfo wm, boolean lazyListUnmarshalling) {
+        return ProtocolRestXmlClient.builder()
+                                    .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("akid", "skid")))
+                                    .region(Region.US_EAST_1)
+                                    .endpointOverride(URI.create(wm.getHttpBaseUrl()))
+                                    .overrideConfiguration(overrideConfiguration(lazyListUnmarshalling))
+                                    .build();
+    }
+
+    private static ClientOverrideConfiguration overrideConfiguration(boolean lazyListUnmarshalling) {
+        return ClientOverrideConfiguration.builder()
+                                          .putAdvancedOption(SdkAdvancedClientOption.LAZY_LIST_UNMARSHALLING,
+                                                             lazyListUnmarshalling)
+                                          .build();
+    }
+}
@@ -17,18 +17,27 @@ package software.amazon.awssdk.benchmark.apicall.httpclient.async;
 
 import java.net.URI;
 import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
 import org.openjdk.jmh.profile.StackProfiler;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.benchmark.utils.ChunkedContentPublisher;
+import software.amazon.awssdk.benchmark.utils.DrainingResponseHandler;
 import software.amazon.awssdk.benchmark.utils.MockServer;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
 
 /**
  * Using aws-crt-client to test against local mock https server.
@@ -45,6 +54,52 @@ public class AwsCrtClientBenchmark extends BaseCrtBenchmark {
         return mock.getHttpsUri();
     }
 
+    /**
+     * Sends a request body of {@link Body#size} bytes directly with the HTTP client.
+     */
+    @Benchmark
+    public void uploadBody(Body body, Blackhole blackhole) {
+        SdkHttpFullRequest request = bodyRequest(SdkHttpMethod.PUT)
+            .putHeader("Content-Length", Long.toString(body.size))
+            .build();
+        blackhole.consume(execute(request, new ChunkedContentPublisher(body.size), blackhole));
+    }
+
+    /**
+     * Receives a response body of {@link Body#size} bytes directly with the HTTP client.
+     */
+    @Benchmark
+    public void downloadBody(Body body, Blackhole blackhole) {
+        SdkHttpFullRequest request = bodyRequest(SdkHttpMethod.GET)
+            .putRawQueryParameter("size", Long.toString(body.size))
+            .build();
+        blackhole.consume(execute(request, new ChunkedContentPublisher(0), blackhole));
+    }
+
+    private SdkHttpFullRequest.Builder bodyRequest(SdkHttpMethod method) {
+        return SdkHttpFullRequest.builder()
+                                 .uri(mockServer().getHttpsUri())
+                                 .encodedPath("/body")
+                                 .method(method);
+    }
+
+    private long execute(SdkHttpFullRequest request, SdkHttpContentPublisher content, Blackhole blackhole) {
+        DrainingResponseHandler responseHandler = new DrainingResponseHandler(blackhole);
+        sdkHttpClient().execute(AsyncExecuteRequest.builder()
+                                                   .request(request)
+                                                   .requestContentPublisher(content)
+                                                   .responseHandler(responseHandler)
+                                                   .build())
+                       .join();
+        return responseHandler.future().join();
+    }
+
+    @State(Scope.Benchmark)
+    public static class Body {
+        @Param({"1048576", "67108864"})
+        public long size;
+    }
+
     public static void main(String... args) throws Exception {
         Options opt = new OptionsBuilder()
                 .include(AwsCrtClientBenchmark.class.getSimpleName())
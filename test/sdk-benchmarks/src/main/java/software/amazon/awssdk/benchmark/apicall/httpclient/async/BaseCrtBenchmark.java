@@ -95,4 +95,12 @@ public abstract class BaseCrtBenchmark implements SdkHttpClientBenchmark {
     }
 
     protected abstract URI getEndpointOverride(MockServer mock);
+
+    protected MockServer mockServer() {
+        return mockServer;
+    }
+
+    protected SdkAsyncHttpClient sdkHttpClient() {
+        return sdkHttpClient;
+    }
 }
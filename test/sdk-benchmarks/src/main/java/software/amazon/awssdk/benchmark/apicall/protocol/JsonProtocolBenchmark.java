@@ -18,7 +18,9 @@ package software.amazon.awssdk.benchmark.apicall.protocol;
 import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.ERROR_JSON_BODY;
 import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.JSON_ALL_TYPES_REQUEST;
 import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.JSON_BODY;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.ENDPOINT;
 
+import java.net.URI;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -36,7 +38,12 @@ import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 import software.amazon.awssdk.benchmark.utils.MockHttpClient;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.protocols.json.AwsJsonProtocol;
+import software.amazon.awssdk.protocols.json.AwsJsonProtocolFactory;
 import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonClient;
+import software.amazon.awssdk.services.protocolrestjson.model.ProtocolRestJsonException;
+import software.amazon.awssdk.services.protocolrestjson.transform.AllTypesRequestMarshaller;
 
 /**
  * Benchmarking for running with different protocols.
@@ -48,6 +55,19 @@ import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonClient;
 @BenchmarkMode(Mode.Throughput)
 public class JsonProtocolBenchmark implements SdkProtocolBenchmark {
 
+    private static final AwsJsonProtocolFactory PROTOCOL_FACTORY =
+        AwsJsonProtocolFactory.builder()
+                              .clientConfiguration(SdkClientConfiguration.builder()
+                                                                         .option(ENDPOINT, URI.create("https://localhost"))
+                                                                         .build())
+                              .defaultServiceExceptionSupplier(ProtocolRestJsonException::builder)
+                              .protocol(AwsJsonProtocol.REST_JSON)
+                              .protocolVersion("1.1")
+                              .build();
+
+    private static final AllTypesRequestMarshaller ALL_TYPES_REQUEST_MARSHALLER =
+        new AllTypesRequestMarshaller(PROTOCOL_FACTORY);
+
     private ProtocolRestJsonClient client;
 
     @Setup(Level.Trial)
@@ -63,6 +83,14 @@ public class JsonProtocolBenchmark implements SdkProtocolBenchmark {
         blackhole.consume(client.allTypes(JSON_ALL_TYPES_REQUEST));
     }
 
+    /**
+     * Marshalls the request without sending it, to measure the marshaller on its own.
+     */
+    @Benchmark
+    public void marshallRequest(Blackhole blackhole) {
+        blackhole.consume(ALL_TYPES_REQUEST_MARSHALLER.marshall(JSON_ALL_TYPES_REQUEST));
+    }
+
     public static void main(String... args) throws Exception {
         Options opt = new OptionsBuilder()
             .include(JsonProtocolBenchmark.class.getSimpleName())
@@ -18,7 +18,9 @@ package software.amazon.awssdk.benchmark.apicall.protocol;
 import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.ERROR_XML_BODY;
 import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.XML_ALL_TYPES_REQUEST;
 import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.XML_BODY;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.ENDPOINT;
 
+import java.net.URI;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -36,7 +38,11 @@ import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 import software.amazon.awssdk.benchmark.utils.MockHttpClient;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.protocols.xml.AwsXmlProtocolFactory;
 import software.amazon.awssdk.services.protocolrestxml.ProtocolRestXmlClient;
+import software.amazon.awssdk.services.protocolrestxml.model.ProtocolRestXmlException;
+import software.amazon.awssdk.services.protocolrestxml.transform.AllTypesRequestMarshaller;
 
 /**
  * Benchmarking for running with different protocols.
@@ -48,6 +54,17 @@ import software.amazon.awssdk.services.protocolrestxml.ProtocolRestXmlClient;
 @BenchmarkMode(Mode.Throughput)
 public class XmlProtocolBenchmark implements SdkProtocolBenchmark {
 
+    private static final AwsXmlProtocolFactory PROTOCOL_FACTORY =
+        AwsXmlProtocolFactory.builder()
+                             .clientConfiguration(SdkClientConfiguration.builder()
+                                                                        .option(ENDPOINT, URI.create("https://localhost"))
+                                                                        .build())
+                             .defaultServiceExceptionSupplier(ProtocolRestXmlException::builder)
+                             .build();
+
+    private static final AllTypesRequestMarshaller ALL_TYPES_REQUEST_MARSHALLER =
+        new AllTypesRequestMarshaller(PROTOCOL_FACTORY);
+
     private ProtocolRestXmlClient client;
 
     @Setup(Level.Trial)
@@ -63,6 +80,14 @@ public class XmlProtocolBenchmark implements SdkProtocolBenchmark {
         blackhole.consume(client.allTypes(XML_ALL_TYPES_REQUEST));
     }
 
+    /**
+     * Marshalls the request without sending it, to measure the marshaller on its own.
+     */
+    @Benchmark
+    public void marshallRequest(Blackhole blackhole) {
+        blackhole.consume(ALL_TYPES_REQUEST_MARSHALLER.marshall(XML_ALL_TYPES_REQUEST));
+    }
+
     public static void main(String... args) throws Exception {
         Options opt = new OptionsBuilder()
             .include(XmlProtocolBenchmark.class.getSimpleName())
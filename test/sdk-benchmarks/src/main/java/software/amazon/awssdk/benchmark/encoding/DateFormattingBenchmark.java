@@ -0,0 +1,106 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.benchmark.encoding;
+
+import static java.time.format.DateTimeFormatter.ISO_INSTANT;
+import static java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.auth.signer.internal.Aws4SignerUtils;
+import software.amazon.awssdk.utils.DateUtils;
+
+/**
+ * Benchmarks for the timestamp parsing and formatting in {@link DateUtils} and {@link Aws4SignerUtils}, which happens for
+ * every timestamp member and every signed request, compared with going through the JDK's {@code DateTimeFormatter}s.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+public class DateFormattingBenchmark {
+
+    private Instant instant;
+    private String iso8601;
+    private String rfc1123;
+
+    @Setup
+    public void setup() {
+        instant = Instant.parse("2023-11-07T21:14:36.512Z");
+        iso8601 = "2023-11-07T21:14:36.512Z";
+        rfc1123 = "Tue, 7 Nov 2023 21:14:36 GMT";
+    }
+
+    @Benchmark
+    public Instant parseIso8601() {
+        return DateUtils.parseIso8601Date(iso8601);
+    }
+
+    @Benchmark
+    public Instant parseIso8601WithFormatter() {
+        return ISO_INSTANT.parse(iso8601, Instant::from);
+    }
+
+    @Benchmark
+    public String formatIso8601() {
+        return DateUtils.formatIso8601Date(instant);
+    }
+
+    @Benchmark
+    public String formatIso8601WithFormatter() {
+        return ISO_INSTANT.format(instant);
+    }
+
+    @Benchmark
+    public Instant parseRfc1123() {
+        return DateUtils.parseRfc1123Date(rfc1123);
+    }
+
+    @Benchmark
+    public Instant parseRfc1123WithFormatter() {
+        return RFC_1123_DATE_TIME.withZone(ZoneOffset.UTC).parse(rfc1123, Instant::from);
+    }
+
+    @Benchmark
+    public String formatRfc1123() {
+        return DateUtils.formatRfc1123Date(instant);
+    }
+
+    @Benchmark
+    public String formatRfc1123WithFormatter() {
+        return RFC_1123_DATE_TIME.format(ZonedDateTime.ofInstant(instant, ZoneOffset.UTC));
+    }
+
+    @Benchmark
+    public String formatSigningTimestamp() {
+        return Aws4SignerUtils.formatTimestamp(instant);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.encoding;
+
+import static java.util.Collections.singletonList;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.utils.http.SdkHttpUtils;
+
+/**
+ * Benchmarks for the URL and form data encoding in {@link SdkHttpUtils}, for S3-style object keys and query protocol
+ * parameters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(2)
+public class UrlEncodingBenchmark {
+
+    @Param({"ASCII", "NON_ASCII"})
+    private KeyType keyType;
+
+    private String key;
+    private Map<String, List<String>> queryParameters;
+    private StringBuilder destination;
+
+    @Setup
+    public void setup() {
+        key = keyType.key;
+        queryParameters = new LinkedHashMap<>();
+        queryParameters.put("Action", singletonList("SendMessage"));
+        queryParameters.put("Version", singletonList("2012-11-05"));
+        for (int i = 1; i <= 10; i++) {
+            queryParameters.put("MessageAttribute." + i + ".Name", singletonList(key));
+            queryParameters.put("MessageAttribute." + i + ".Value.StringValue", singletonList(key));
+        }
+        destination = new StringBuilder(4096);
+    }
+
+    @Benchmark
+    public String urlEncode() {
+        return SdkHttpUtils.urlEncode(key);
+    }
+
+    @Benchmark
+    public String urlEncodeIgnoreSlashes() {
+        return SdkHttpUtils.urlEncodeIgnoreSlashes(key);
+    }
+
+    @Benchmark
+    public StringBuilder urlEncodeIntoBuilder() {
+        destination.setLength(0);
+        SdkHttpUtils.urlEncodeIgnoreSlashes(destination, key);
+        return destination;
+    }
+
+    @Benchmark
+    public Optional<String> encodeAndFlattenQueryParameters() {
+        return SdkHttpUtils.encodeAndFlattenQueryParameters(queryParameters);
+    }
+
+    @Benchmark
+    public Optional<String> encodeAndFlattenFormData() {
+        return SdkHttpUtils.encodeAndFlattenFormData(queryParameters);
+    }
+
+    public enum KeyType {
+        ASCII("photos/2023/summer-vacation/IMG_0001.jpg"),
+        NON_ASCII("photos/2023/\u00e9t\u00e9 vacances/\u65e5\u672c \ud83d\ude00.jpg");
+
+        private final String key;
+
+        KeyType(String key) {
+            this.key = key;
+        }
+    }
+}
@@ -36,6 +36,15 @@ public class V2Ec2MarshallerBenchmark {
         return runInstancesRequestMarshaller().marshall(s.getReq());
     }
 
+    /**
+     * Marshalls with a new marshaller every time, like the first call of a newly created client. The per-class
+     * marshalling plans are shared, so this should cost about the same as {@link #marshall(MarshallerState)}.
+     */
+    @Benchmark
+    public Object marshallWithNewMarshaller(MarshallerState s) {
+        return new RunInstancesRequestMarshaller(PROTOCOL_FACTORY).marshall(s.getReq());
+    }
+
     @State(Scope.Benchmark)
     public static class MarshallerState {
         @Param({"TINY", "SMALL", "HUGE"})
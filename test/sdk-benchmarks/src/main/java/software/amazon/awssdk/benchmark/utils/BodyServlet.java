@@ -0,0 +1,56 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.http.HttpStatus;
+
+/**
+ * Discards the body of PUT requests, and responds to GET requests with a body of the size given by the "size" query
+ * parameter, to measure how HTTP clients handle large bodies.
+ */
+public class BodyServlet extends HttpServlet {
+    private static final byte[] CHUNK = new byte[64 * 1024];
+
+    @Override
+    public void doPut(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        InputStream body = request.getInputStream();
+        byte[] buffer = new byte[CHUNK.length];
+        while (body.read(buffer) >= 0) {
+            // Discard the body
+        }
+        response.setStatus(HttpStatus.OK_200);
+        response.setContentLength(0);
+    }
+
+    @Override
+    public void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        long size = Long.parseLong(request.getParameter("size"));
+        response.setStatus(HttpStatus.OK_200);
+        response.setContentType("application/octet-stream");
+        response.setContentLengthLong(size);
+
+        OutputStream body = response.getOutputStream();
+        for (long remaining = size; remaining > 0; remaining -= CHUNK.length) {
+            body.write(CHUNK, 0, (int) Math.min(remaining, CHUNK.length));
+        }
+    }
+}
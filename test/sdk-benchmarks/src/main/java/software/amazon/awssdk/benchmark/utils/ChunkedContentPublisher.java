@@ -0,0 +1,88 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.utils;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+
+/**
+ * Publishes a request body of the given size as read-only views of a shared 64 KB chunk, so that the cost of producing the
+ * body isn't part of the measurement.
+ */
+public final class ChunkedContentPublisher implements SdkHttpContentPublisher {
+    private static final ByteBuffer CHUNK = ByteBuffer.allocate(64 * 1024).asReadOnlyBuffer();
+
+    private final long size;
+
+    public ChunkedContentPublisher(long size) {
+        this.size = size;
+    }
+
+    @Override
+    public Optional<Long> contentLength() {
+        return Optional.of(size);
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+        subscriber.onSubscribe(new Subscription() {
+            private long remaining = size;
+            private long demand;
+            private boolean emitting;
+            private boolean done;
+
+            @Override
+            public void request(long n) {
+                synchronized (this) {
+                    demand = Long.MAX_VALUE - demand < n ? Long.MAX_VALUE : demand + n;
+                    if (emitting) {
+                        return;
+                    }
+                    emitting = true;
+                }
+
+                while (true) {
+                    ByteBuffer next;
+                    synchronized (this) {
+                        if (done || demand == 0 || remaining == 0) {
+                            emitting = false;
+                            if (!done && remaining == 0) {
+                                done = true;
+                                break;
+                            }
+                            return;
+                        }
+                        demand--;
+                        int length = (int) Math.min(remaining, CHUNK.capacity());
+                        remaining -= length;
+                        next = CHUNK.duplicate();
+                        next.limit(length);
+                    }
+                    subscriber.onNext(next);
+                }
+                subscriber.onComplete();
+            }
+
+            @Override
+            public synchronized void cancel() {
+                done = true;
+            }
+        });
+    }
+}
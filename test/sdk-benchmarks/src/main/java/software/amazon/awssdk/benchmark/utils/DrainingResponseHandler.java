@@ -0,0 +1,79 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.utils;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import org.openjdk.jmh.infra.Blackhole;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+
+/**
+ * Consumes a response body into a {@link Blackhole}, and completes {@link #future()} with the number of bytes received.
+ */
+public final class DrainingResponseHandler implements SdkAsyncHttpResponseHandler {
+    private final Blackhole blackhole;
+    private final CompletableFuture<Long> future = new CompletableFuture<>();
+
+    public DrainingResponseHandler(Blackhole blackhole) {
+        this.blackhole = blackhole;
+    }
+
+    public CompletableFuture<Long> future() {
+        return future;
+    }
+
+    @Override
+    public void onHeaders(SdkHttpResponse headers) {
+        blackhole.consume(headers.statusCode());
+    }
+
+    @Override
+    public void onStream(Publisher<ByteBuffer> stream) {
+        stream.subscribe(new Subscriber<ByteBuffer>() {
+            private long received;
+
+            @Override
+            public void onSubscribe(Subscription s) {
+                s.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                received += byteBuffer.remaining();
+                blackhole.consume(byteBuffer);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                future.completeExceptionally(t);
+            }
+
+            @Override
+            public void onComplete() {
+                future.complete(received);
+            }
+        });
+    }
+
+    @Override
+    public void onError(Throwable error) {
+        future.completeExceptionally(error);
+    }
+}
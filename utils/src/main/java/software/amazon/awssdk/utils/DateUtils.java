@@ -71,6 +71,20 @@ public final class DateUtils {
 
     private static final int MILLI_SECOND_PRECISION = 3;
 
+    private static final long SECONDS_PER_DAY = 86_400L;
+
+    /**
+     * 0001-01-01T00:00:00Z and 9999-12-31T23:59:59Z, the range of instants whose year has exactly four digits in every format
+     * below. Instants outside of it are left to the {@link DateTimeFormatter}s.
+     */
+    private static final long MIN_FAST_PATH_EPOCH_SECOND = -62_135_596_800L;
+    private static final long MAX_FAST_PATH_EPOCH_SECOND = 253_402_300_799L;
+
+    private static final String[] DAY_OF_WEEK_NAMES = {"Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun"};
+    private static final String[] MONTH_NAMES = {"Jan", "Feb", "Mar", "Apr", "May", "Jun",
+                                                 "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"};
+    private static final int[] POWERS_OF_TEN = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000};
+
     private DateUtils() {
     }
 
@@ -91,6 +105,11 @@ public final class DateUtils {
                              .concat("Z");
         }
 
+        Instant instant = parseIso8601UtcDate(dateString);
+        if (instant != null) {
+            return instant;
+        }
+
         DateTimeParseException exception = null;
 
         for (DateTimeFormatter formatter : ALTERNATE_ISO_8601_FORMATTERS) {
@@ -116,7 +135,36 @@ public final class DateUtils {
      * @return the ISO-8601 string representing the specified date
      */
     public static String formatIso8601Date(Instant date) {
-        return ISO_INSTANT.format(date);
+        long epochSecond = date.getEpochSecond();
+        if (!isInFastPathRange(epochSecond)) {
+            return ISO_INSTANT.format(date);
+        }
+
+        // yyyy-MM-ddTHH:mm:ss.nnnnnnnnnZ
+        char[] buffer = new char[30];
+        int date8 = civilDate(Math.floorDiv(epochSecond, SECONDS_PER_DAY));
+        int position = appendDigits(buffer, 0, date8 / 10_000, 4);
+        buffer[position++] = '-';
+        position = appendDigits(buffer, position, date8 / 100 % 100, 2);
+        buffer[position++] = '-';
+        position = appendDigits(buffer, position, date8 % 100, 2);
+        buffer[position++] = 'T';
+        position = appendTime(buffer, position, Math.floorMod(epochSecond, SECONDS_PER_DAY));
+
+        // Same fraction rules as ISO_INSTANT: nothing for whole seconds, otherwise groups of three digits.
+        int nanos = date.getNano();
+        if (nanos != 0) {
+            buffer[position++] = '.';
+            if (nanos % 1_000_000 == 0) {
+                position = appendDigits(buffer, position, nanos / 1_000_000, 3);
+            } else if (nanos % 1_000 == 0) {
+                position = appendDigits(buffer, position, nanos / 1_000, 6);
+            } else {
+                position = appendDigits(buffer, position, nanos, 9);
+            }
+        }
+        buffer[position++] = 'Z';
+        return new String(buffer, 0, position);
     }
 
     /**
@@ -131,6 +179,10 @@ public final class DateUtils {
         if (dateString == null) {
             return null;
         }
+        Instant instant = parseRfcGmtDate(dateString, false);
+        if (instant != null) {
+            return instant;
+        }
         return parseInstant(dateString, RFC_822_DATE_TIME);
     }
 
@@ -143,6 +195,9 @@ public final class DateUtils {
      * @return The RFC 822 string representing the specified date.
      */
     public static String formatRfc822Date(Instant instant) {
+        if (isInFastPathRange(instant.getEpochSecond())) {
+            return formatRfcGmtDate(instant.getEpochSecond(), true);
+        }
         return RFC_822_DATE_TIME.format(ZonedDateTime.ofInstant(instant, UTC));
     }
 
@@ -159,6 +214,10 @@ public final class DateUtils {
         if (dateString == null) {
             return null;
         }
+        Instant instant = parseRfcGmtDate(dateString, true);
+        if (instant != null) {
+            return instant;
+        }
         return parseInstant(dateString, RFC_1123_DATE_TIME);
     }
 
@@ -171,6 +230,9 @@ public final class DateUtils {
      * @return The RFC 1123 string representing the specified date.
      */
     public static String formatRfc1123Date(Instant instant) {
+        if (isInFastPathRange(instant.getEpochSecond())) {
+            return formatRfcGmtDate(instant.getEpochSecond(), false);
+        }
         return RFC_1123_DATE_TIME.format(ZonedDateTime.ofInstant(instant, UTC));
     }
 
@@ -225,4 +287,207 @@ public final class DateUtils {
         return dateValue.scaleByPowerOfTen(0 - MILLI_SECOND_PRECISION)
                         .toPlainString();
     }
+
+    /**
+     * Parses the yyyy-MM-dd'T'HH:mm:ss[.fraction]'Z' form that services almost always send, without going through the
+     * {@link DateTimeFormatter}s. Returns null for any other form, and for values out of range, so the formatters can decide
+     * what to do with them.
+     */
+    private static Instant parseIso8601UtcDate(String dateString) {
+        int length = dateString.length();
+        if (length < 20
+            || dateString.charAt(4) != '-' || dateString.charAt(7) != '-' || dateString.charAt(10) != 'T'
+            || dateString.charAt(13) != ':' || dateString.charAt(16) != ':' || dateString.charAt(length - 1) != 'Z') {
+            return null;
+        }
+
+        int nanos = 0;
+        if (length > 20) {
+            int fractionDigits = length - 21;
+            if (dateString.charAt(19) != '.' || fractionDigits < 1 || fractionDigits > 9) {
+                return null;
+            }
+            int fraction = parseDigits(dateString, 20, fractionDigits);
+            if (fraction < 0) {
+                return null;
+            }
+            nanos = fraction * POWERS_OF_TEN[9 - fractionDigits];
+        }
+
+        long epochSecond = toEpochSecond(parseDigits(dateString, 0, 4),
+                                         parseDigits(dateString, 5, 2),
+                                         parseDigits(dateString, 8, 2),
+                                         parseDigits(dateString, 11, 2),
+                                         parseDigits(dateString, 14, 2),
+                                         parseDigits(dateString, 17, 2));
+        return epochSecond == Long.MIN_VALUE ? null : Instant.ofEpochSecond(epochSecond, nanos);
+    }
+
+    /**
+     * Parses the "EEE, dd MMM yyyy HH:mm:ss GMT" form shared by RFC 822 and RFC 1123, without going through the
+     * {@link DateTimeFormatter}s. Only RFC 1123 allows a single digit day of month. Returns null for any other form (other
+     * offsets, different case, missing day of week or seconds), for values out of range and when the day of week doesn't
+     * match the date, so the formatters can decide what to do with them.
+     */
+    private static Instant parseRfcGmtDate(String dateString, boolean allowSingleDigitDay) {
+        int length = dateString.length();
+        int dayDigits = length - 27;
+        if (dayDigits != 2 && (dayDigits != 1 || !allowSingleDigitDay)) {
+            return null;
+        }
+
+        // After the day of month, every field is at a fixed offset from it.
+        int offset = 5 + dayDigits;
+        if (dateString.charAt(3) != ',' || dateString.charAt(4) != ' ' || dateString.charAt(offset) != ' '
+            || dateString.charAt(offset + 4) != ' ' || dateString.charAt(offset + 9) != ' '
+            || dateString.charAt(offset + 12) != ':' || dateString.charAt(offset + 15) != ':'
+            || !dateString.startsWith(" GMT", offset + 18)) {
+            return null;
+        }
+
+        int dayOfWeek = indexOfName(DAY_OF_WEEK_NAMES, dateString, 0);
+        int month = indexOfName(MONTH_NAMES, dateString, offset + 1) + 1;
+        if (dayOfWeek < 0 || month == 0) {
+            return null;
+        }
+
+        long epochSecond = toEpochSecond(parseDigits(dateString, offset + 5, 4),
+                                         month,
+                                         parseDigits(dateString, 5, dayDigits),
+                                         parseDigits(dateString, offset + 10, 2),
+                                         parseDigits(dateString, offset + 13, 2),
+                                         parseDigits(dateString, offset + 16, 2));
+        if (epochSecond == Long.MIN_VALUE
+            || Math.floorMod(Math.floorDiv(epochSecond, SECONDS_PER_DAY) + 3, 7) != dayOfWeek) {
+            return null;
+        }
+        return Instant.ofEpochSecond(epochSecond);
+    }
+
+    /**
+     * Formats an instant in the "EEE, dd MMM yyyy HH:mm:ss GMT" form shared by RFC 822 and RFC 1123, which differ only in
+     * whether the day of month is padded to two digits.
+     */
+    private static String formatRfcGmtDate(long epochSecond, boolean padDayOfMonth) {
+        char[] buffer = new char[29];
+        long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        int date8 = civilDate(epochDay);
+        int dayOfMonth = date8 % 100;
+
+        int position = appendName(buffer, 0, DAY_OF_WEEK_NAMES[(int) Math.floorMod(epochDay + 3, 7)]);
+        buffer[position++] = ',';
+        buffer[position++] = ' ';
+        position = appendDigits(buffer, position, dayOfMonth, padDayOfMonth || dayOfMonth > 9 ? 2 : 1);
+        buffer[position++] = ' ';
+        position = appendName(buffer, position, MONTH_NAMES[date8 / 100 % 100 - 1]);
+        buffer[position++] = ' ';
+        position = appendDigits(buffer, position, date8 / 10_000, 4);
+        buffer[position++] = ' ';
+        position = appendTime(buffer, position, Math.floorMod(epochSecond, SECONDS_PER_DAY));
+        position = appendName(buffer, position, " GMT");
+        return new String(buffer, 0, position);
+    }
+
+    private static boolean isInFastPathRange(long epochSecond) {
+        return epochSecond >= MIN_FAST_PATH_EPOCH_SECOND && epochSecond <= MAX_FAST_PATH_EPOCH_SECOND;
+    }
+
+    /**
+     * Returns the epoch second of the given UTC date and time, or {@link Long#MIN_VALUE} if any field wasn't parsed or is
+     * out of range.
+     */
+    private static long toEpochSecond(int year, int month, int day, int hour, int minute, int second) {
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)
+            || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return Long.MIN_VALUE;
+        }
+        return epochDay(year, month, day) * SECONDS_PER_DAY + hour * 3600L + minute * 60L + second;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return IsoChronology.INSTANCE.isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Days since 1970-01-01 of a proleptic Gregorian date, using a March-based year so that the leap day is last.
+     */
+    private static long epochDay(int year, int month, int day) {
+        long y = month <= 2 ? year - 1L : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153L * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097 + dayOfEra - 719_468;
+    }
+
+    /**
+     * The inverse of {@link #epochDay(int, int, int)}, returning the date packed as yyyyMMdd so that nothing is allocated.
+     */
+    private static int civilDate(long epochDay) {
+        long shifted = epochDay + 719_468;
+        long era = Math.floorDiv(shifted, 146_097);
+        long dayOfEra = shifted - era * 146_097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        long day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        long month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return (int) (year * 10_000 + month * 100 + day);
+    }
+
+    /**
+     * Returns the value of {@code count} decimal digits starting at {@code start}, or -1 if any of them isn't a digit.
+     */
+    private static int parseDigits(String value, int start, int count) {
+        int result = 0;
+        for (int i = start; i < start + count; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
+    private static int indexOfName(String[] names, String value, int start) {
+        for (int i = 0; i < names.length; i++) {
+            if (value.startsWith(names[i], start)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int appendTime(char[] buffer, int position, long secondOfDay) {
+        position = appendDigits(buffer, position, (int) (secondOfDay / 3600), 2);
+        buffer[position++] = ':';
+        position = appendDigits(buffer, position, (int) (secondOfDay / 60 % 60), 2);
+        buffer[position++] = ':';
+        return appendDigits(buffer, position, (int) (secondOfDay % 60), 2);
+    }
+
+    private static int appendDigits(char[] buffer, int position, int value, int width) {
+        for (int i = position + width - 1; i >= position; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return position + width;
+    }
+
+    private static int appendName(char[] buffer, int position, String name) {
+        name.getChars(0, name.length(), buffer, position);
+        return position + name.length();
+    }
 }
@@ -18,7 +18,6 @@ package software.amazon.awssdk.utils.http;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.mapping;
 import static java.util.stream.Collectors.toList;
-import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 import static software.amazon.awssdk.utils.StringUtils.isEmpty;
 
 import java.io.UnsupportedEncodingException;
@@ -50,14 +49,22 @@ import software.amazon.awssdk.utils.Validate;
 public final class SdkHttpUtils {
     private static final String DEFAULT_ENCODING = "UTF-8";
 
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
     /**
-     * Characters that we need to fix up after URLEncoder.encode().
+     * The ASCII characters that are not percent-encoded by {@link #urlEncode(String)}: the unreserved characters of RFC 3986.
      */
-    private static final String[] ENCODED_CHARACTERS_WITH_SLASHES = new String[] {"+", "*", "%7E", "%2F"};
-    private static final String[] ENCODED_CHARACTERS_WITH_SLASHES_REPLACEMENTS = new String[] {"%20", "%2A", "~", "/"};
+    private static final boolean[] URL_UNRESERVED = asciiTable("-_.~");
 
-    private static final String[] ENCODED_CHARACTERS_WITHOUT_SLASHES = new String[] {"+", "*", "%7E"};
-    private static final String[] ENCODED_CHARACTERS_WITHOUT_SLASHES_REPLACEMENTS = new String[] {"%20", "%2A", "~"};
+    /**
+     * The ASCII characters that are not percent-encoded by {@link #urlEncodeIgnoreSlashes(String)}.
+     */
+    private static final boolean[] URL_UNRESERVED_AND_SLASH = asciiTable("-_.~/");
+
+    /**
+     * The ASCII characters that are not percent-encoded by {@link #formDataEncode(String)}, matching {@link URLEncoder}.
+     */
+    private static final boolean[] FORM_DATA_UNRESERVED = asciiTable("-_.*");
 
     // List of headers that may appear only once in a request; i.e. is not a list of values.
     // Taken from https://github.com/apache/httpcomponents-client/blob/81c1bc4dc3ca5a3134c5c60e8beff08be2fd8792/httpclient5-cache/src/test/java/org/apache/hc/client5/http/impl/cache/HttpTestUtils.java#L69-L85 with modifications:
@@ -77,7 +84,15 @@ public final class SdkHttpUtils {
      * Encode a string according to RFC 3986: encoding for URI paths, query strings, etc.
      */
     public static String urlEncode(String value) {
-        return urlEncode(value, false);
+        return encode(value, URL_UNRESERVED, false);
+    }
+
+    /**
+     * Encode a string according to RFC 3986, appending the result to the provided {@link StringBuilder}. This is equivalent
+     * to {@code destination.append(urlEncode(value))}, without creating the intermediate string.
+     */
+    public static void urlEncode(StringBuilder destination, String value) {
+        encode(destination, value, URL_UNRESERVED, false);
     }
 
     /**
@@ -85,14 +100,31 @@ public final class SdkHttpUtils {
      * without encoding the path separators.
      */
     public static String urlEncodeIgnoreSlashes(String value) {
-        return urlEncode(value, true);
+        return encode(value, URL_UNRESERVED_AND_SLASH, false);
+    }
+
+    /**
+     * Encode a string according to RFC 3986, but ignore "/" characters, appending the result to the provided
+     * {@link StringBuilder}. This is equivalent to {@code destination.append(urlEncodeIgnoreSlashes(value))}, without creating
+     * the intermediate string.
+     */
+    public static void urlEncodeIgnoreSlashes(StringBuilder destination, String value) {
+        encode(destination, value, URL_UNRESERVED_AND_SLASH, false);
     }
 
     /**
      * Encode a string according to RFC 1630: encoding for form data.
      */
     public static String formDataEncode(String value) {
-        return value == null ? null : invokeSafely(() -> URLEncoder.encode(value, DEFAULT_ENCODING));
+        return encode(value, FORM_DATA_UNRESERVED, true);
+    }
+
+    /**
+     * Encode a string according to RFC 1630, appending the result to the provided {@link StringBuilder}. This is equivalent
+     * to {@code destination.append(formDataEncode(value))}, without creating the intermediate string.
+     */
+    public static void formDataEncode(StringBuilder destination, String value) {
+        encode(destination, value, FORM_DATA_UNRESERVED, true);
     }
 
     /**
@@ -148,31 +180,100 @@ public final class SdkHttpUtils {
         return result;
     }
 
-    /**
-     * Encode a string for use in the path of a URL; uses URLEncoder.encode,
-     * (which encodes a string for use in the query portion of a URL), then
-     * applies some postfilters to fix things up per the RFC. Can optionally
-     * handle strings which are meant to encode a path (ie include '/'es
-     * which should NOT be escaped).
-     *
-     * @param value the value to encode
-     * @param ignoreSlashes  true if the value is intended to represent a path
-     * @return the encoded value
-     */
-    private static String urlEncode(String value, boolean ignoreSlashes) {
+    private static String encode(String value, boolean[] unreserved, boolean spaceAsPlus) {
         if (value == null) {
             return null;
         }
 
-        String encoded = invokeSafely(() -> URLEncoder.encode(value, DEFAULT_ENCODING));
+        int firstEncoded = firstEncodedIndex(value, unreserved);
+        if (firstEncoded == value.length()) {
+            return value;
+        }
+
+        // Most characters that need encoding are ASCII, and expand to three characters
+        StringBuilder result = new StringBuilder(value.length() + 16);
+        result.append(value, 0, firstEncoded);
+        encode(result, value, firstEncoded, unreserved, spaceAsPlus);
+        return result.toString();
+    }
+
+    private static void encode(StringBuilder destination, String value, boolean[] unreserved, boolean spaceAsPlus) {
+        if (value == null) {
+            destination.append((String) null);
+            return;
+        }
+
+        int firstEncoded = firstEncodedIndex(value, unreserved);
+        destination.append(value, 0, firstEncoded);
+        encode(destination, value, firstEncoded, unreserved, spaceAsPlus);
+    }
+
+    private static int firstEncodedIndex(String value, boolean[] unreserved) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 128 || !unreserved[c]) {
+                return i;
+            }
+        }
+        return length;
+    }
 
-        if (!ignoreSlashes) {
-            return StringUtils.replaceEach(encoded,
-                                           ENCODED_CHARACTERS_WITHOUT_SLASHES,
-                                           ENCODED_CHARACTERS_WITHOUT_SLASHES_REPLACEMENTS);
+    /**
+     * Percent-encode the UTF-8 representation of the characters of the value from the provided index, without the
+     * intermediate byte array and replacement passes of {@link URLEncoder}. Unpaired surrogates are encoded as "?", like
+     * {@link String#getBytes} does.
+     */
+    private static void encode(StringBuilder destination, String value, int from, boolean[] unreserved, boolean spaceAsPlus) {
+        int length = value.length();
+        for (int i = from; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 128) {
+                if (unreserved[c]) {
+                    destination.append(c);
+                } else if (c == ' ' && spaceAsPlus) {
+                    destination.append('+');
+                } else {
+                    appendEncodedByte(destination, c);
+                }
+            } else if (c < 0x800) {
+                appendEncodedByte(destination, 0xC0 | (c >> 6));
+                appendEncodedByte(destination, 0x80 | (c & 0x3F));
+            } else if (!Character.isSurrogate(c)) {
+                appendEncodedByte(destination, 0xE0 | (c >> 12));
+                appendEncodedByte(destination, 0x80 | ((c >> 6) & 0x3F));
+                appendEncodedByte(destination, 0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                appendEncodedByte(destination, 0xF0 | (codePoint >> 18));
+                appendEncodedByte(destination, 0x80 | ((codePoint >> 12) & 0x3F));
+                appendEncodedByte(destination, 0x80 | ((codePoint >> 6) & 0x3F));
+                appendEncodedByte(destination, 0x80 | (codePoint & 0x3F));
+            } else {
+                appendEncodedByte(destination, '?');
+            }
         }
+    }
 
-        return StringUtils.replaceEach(encoded, ENCODED_CHARACTERS_WITH_SLASHES, ENCODED_CHARACTERS_WITH_SLASHES_REPLACEMENTS);
+    private static void appendEncodedByte(StringBuilder destination, int b) {
+        destination.append('%').append(HEX_DIGITS[(b >> 4) & 0xF]).append(HEX_DIGITS[b & 0xF]);
+    }
+
+    private static boolean[] asciiTable(String additionalUnreserved) {
+        boolean[] table = new boolean[128];
+        for (char c = 'a'; c <= 'z'; c++) {
+            table[c] = true;
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            table[c] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            table[c] = true;
+        }
+        for (int i = 0; i < additionalUnreserved.length(); i++) {
+            table[additionalUnreserved.charAt(i)] = true;
+        }
+        return table;
     }
 
     /**
@@ -180,7 +281,16 @@ public final class SdkHttpUtils {
      * can be used as the query string in a URL. The result is not prepended with "?".
      */
     public static Optional<String> encodeAndFlattenQueryParameters(Map<String, List<String>> rawQueryParameters) {
-        return encodeAndFlatten(rawQueryParameters, SdkHttpUtils::urlEncode);
+        return encodeAndFlatten(rawQueryParameters, URL_UNRESERVED, false);
+    }
+
+    /**
+     * Encode the provided query parameters using {@link #urlEncode(StringBuilder, String)} and flatten them into the provided
+     * {@link StringBuilder}, in the same format as {@link #encodeAndFlattenQueryParameters(Map)}.
+     */
+    public static void encodeAndFlattenQueryParameters(StringBuilder result, Map<String, List<String>> rawQueryParameters) {
+        Validate.notNull(rawQueryParameters, "Map must not be null.");
+        encodeAndFlatten(result, rawQueryParameters, URL_UNRESERVED, false);
     }
 
     /**
@@ -188,10 +298,11 @@ public final class SdkHttpUtils {
      * can be used as the body of a form data request.
      */
     public static Optional<String> encodeAndFlattenFormData(Map<String, List<String>> rawFormData) {
-        return encodeAndFlatten(rawFormData, SdkHttpUtils::formDataEncode);
+        return encodeAndFlatten(rawFormData, FORM_DATA_UNRESERVED, true);
     }
 
-    private static Optional<String> encodeAndFlatten(Map<String, List<String>> data, UnaryOperator<String> encoder) {
+    private static Optional<String> encodeAndFlatten(Map<String, List<String>> data, boolean[] unreserved,
+                                                     boolean spaceAsPlus) {
         Validate.notNull(data, "Map must not be null.");
 
         if (data.isEmpty()) {
@@ -199,23 +310,42 @@ public final class SdkHttpUtils {
         }
 
         StringBuilder queryString = new StringBuilder();
-        data.forEach((key, values) -> {
-            String encodedKey = encoder.apply(key);
+        encodeAndFlatten(queryString, data, unreserved, spaceAsPlus);
+        return Optional.of(queryString.toString());
+    }
 
-            if (values != null) {
-                values.forEach(value -> {
-                    if (queryString.length() > 0) {
-                        queryString.append('&');
-                    }
-                    queryString.append(encodedKey);
-                    if (value != null) {
-                        queryString.append('=').append(encoder.apply(value));
-                    }
-                });
+    private static void encodeAndFlatten(StringBuilder result, Map<String, List<String>> data, boolean[] unreserved,
+                                         boolean spaceAsPlus) {
+        int start = result.length();
+        for (Entry<String, List<String>> entry : data.entrySet()) {
+            List<String> values = entry.getValue();
+            if (values == null) {
+                continue;
             }
-        });
 
-        return Optional.of(queryString.toString());
+            int keyStart = -1;
+            int keyEnd = -1;
+            for (int i = 0; i < values.size(); i++) {
+                if (result.length() > start) {
+                    result.append('&');
+                }
+
+                if (keyStart < 0) {
+                    keyStart = result.length();
+                    encode(result, entry.getKey(), unreserved, spaceAsPlus);
+                    keyEnd = result.length();
+                } else {
+                    // Repeat the already-encoded key for multi-valued parameters
+                    result.append(result, keyStart, keyEnd);
+                }
+
+                String value = values.get(i);
+                if (value != null) {
+                    result.append('=');
+                    encode(result, value, unreserved, spaceAsPlus);
+                }
+            }
+        }
     }
 
     /**
@@ -20,6 +20,7 @@ import static java.time.format.DateTimeFormatter.ISO_INSTANT;
 import static java.time.format.DateTimeFormatter.ISO_OFFSET_DATE_TIME;
 import static java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static software.amazon.awssdk.utils.DateUtils.ALTERNATE_ISO_8601_DATE_FORMAT;
@@ -37,6 +38,7 @@ import java.time.format.DateTimeParseException;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.Locale;
+import java.util.Random;
 import java.util.TimeZone;
 import java.util.concurrent.TimeUnit;
 import org.junit.Test;
@@ -295,4 +297,90 @@ public class DateUtilsTest {
               });
     }
 
+    @Test
+    public void formatters_matchJdkFormatters() {
+        Random random = new Random(2014);
+        for (int i = 0; i < 100_000; i++) {
+            Instant instant = randomInstant(random);
+            ZonedDateTime utc = ZonedDateTime.ofInstant(instant, UTC);
+            assertEquals(ISO_INSTANT.format(instant), DateUtils.formatIso8601Date(instant));
+            assertEquals(RFC_822_DATE_TIME.format(utc), DateUtils.formatRfc822Date(instant));
+            assertEquals(RFC_1123_DATE_TIME.format(utc), DateUtils.formatRfc1123Date(instant));
+        }
+    }
+
+    @Test
+    public void parsers_matchJdkFormatters() {
+        Random random = new Random(2019);
+        for (int i = 0; i < 100_000; i++) {
+            Instant instant = randomInstant(random);
+            ZonedDateTime utc = ZonedDateTime.ofInstant(instant, UTC);
+
+            String iso = ISO_INSTANT.format(instant);
+            assertEquals(ISO_INSTANT.parse(iso, Instant::from), DateUtils.parseIso8601Date(iso));
+
+            String rfc822 = RFC_822_DATE_TIME.format(utc);
+            assertEquals(RFC_822_DATE_TIME.parse(rfc822, Instant::from), DateUtils.parseRfc822Date(rfc822));
+
+            String rfc1123 = RFC_1123_DATE_TIME.format(utc);
+            assertEquals(RFC_1123_DATE_TIME.parse(rfc1123, Instant::from), DateUtils.parseRfc1123Date(rfc1123));
+        }
+    }
+
+    @Test
+    public void formatters_outsideFourDigitYears_fallBackToJdkFormatters() {
+        Instant[] instants = {Instant.parse("+10000-01-01T00:00:00Z"), Instant.parse("0000-12-31T23:59:59.5Z"),
+                              Instant.parse("-0001-06-15T12:00:00Z")};
+        for (Instant instant : instants) {
+            assertEquals(ISO_INSTANT.format(instant), DateUtils.formatIso8601Date(instant));
+        }
+        assertEquals(RFC_822_DATE_TIME.format(ZonedDateTime.ofInstant(instants[0], UTC)),
+                     DateUtils.formatRfc822Date(instants[0]));
+    }
+
+    @Test
+    public void parseIso8601Date_fractionalSeconds_keepsPrecision() {
+        assertEquals(Instant.ofEpochSecond(1400284606, 100_000_000), DateUtils.parseIso8601Date("2014-05-16T23:56:46.1Z"));
+        assertEquals(Instant.ofEpochSecond(1400284606, 123_456_789),
+                     DateUtils.parseIso8601Date("2014-05-16T23:56:46.123456789Z"));
+        assertEquals(Instant.ofEpochSecond(951782400), DateUtils.parseIso8601Date("2000-02-29T00:00:00Z"));
+    }
+
+    @Test
+    public void parseIso8601Date_unusualForms_fallBackToJdkFormatters() {
+        assertEquals(Instant.ofEpochSecond(1400284606), DateUtils.parseIso8601Date("2014-05-16t23:56:46z"));
+        assertEquals(Instant.ofEpochSecond(1400284606), DateUtils.parseIso8601Date("2014-05-17T00:56:46+01:00"));
+        assertEquals(Instant.ofEpochSecond(1400284606), DateUtils.parseIso8601Date("2014-05-16T23:56:46+0000"));
+        // The alternate formatter resolves smartly, so an out of range day of month is clamped rather than rejected.
+        assertEquals(Instant.parse("2014-02-28T00:00:00Z"), DateUtils.parseIso8601Date("2014-02-30T00:00:00Z"));
+        assertEquals(Instant.ofEpochSecond(1400284606), DateUtils.parseIso8601Date("2014-05-16T23:56:46.Z"));
+        assertThatThrownBy(() -> DateUtils.parseIso8601Date("2014-13-16T23:56:46Z")).isInstanceOf(DateTimeParseException.class);
+    }
+
+    @Test
+    public void parseRfcDates_unusualForms_fallBackToJdkFormatters() {
+        Instant expected = Instant.ofEpochSecond(1400284606);
+        assertEquals(expected, DateUtils.parseRfc1123Date("Fri, 16 May 2014 23:56:46 GMT"));
+        assertEquals(expected, DateUtils.parseRfc1123Date("FRI, 16 MAY 2014 23:56:46 GMT"));
+        assertEquals(expected, DateUtils.parseRfc1123Date("Sat, 17 May 2014 01:56:46 +0200"));
+        assertEquals(expected, DateUtils.parseRfc822Date("fri, 16 may 2014 23:56:46 GMT"));
+        assertEquals(expected, DateUtils.parseRfc822Date("Sat, 17 May 2014 01:56:46 +0200"));
+        assertEquals(Instant.ofEpochSecond(1401793530), DateUtils.parseRfc1123Date("Tue, 3 Jun 2014 11:05:30 GMT"));
+        assertThatThrownBy(() -> DateUtils.parseRfc1123Date("Thu, 16 May 2014 23:56:46 GMT"))
+            .isInstanceOf(DateTimeParseException.class);
+    }
+
+    private static Instant randomInstant(Random random) {
+        long epochSecond = -62_135_596_800L + (long) (random.nextDouble() * (253_402_300_800L + 62_135_596_800L));
+        switch (random.nextInt(4)) {
+            case 0:
+                return Instant.ofEpochSecond(epochSecond);
+            case 1:
+                return Instant.ofEpochSecond(epochSecond, random.nextInt(1_000) * 1_000_000);
+            case 2:
+                return Instant.ofEpochSecond(epochSecond, random.nextInt(1_000_000) * 1_000);
+            default:
+                return Instant.ofEpochSecond(epochSecond, random.nextInt(1_000_000_000));
+        }
+    }
 }
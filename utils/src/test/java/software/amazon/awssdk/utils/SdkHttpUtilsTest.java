@@ -23,12 +23,14 @@ import static org.assertj.core.api.Assertions.entry;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.net.URLEncoder;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.utils.http.SdkHttpUtils;
 
@@ -95,6 +97,64 @@ public class SdkHttpUtilsTest {
         assertThat(SdkHttpUtils.encodeAndFlattenQueryParameters(Collections.emptyMap())).isNotPresent();
     }
 
+    @Test
+    public void nonAsciiValuesEncodeAsUtf8() {
+        String value = "caf\u00e9/\u65e5\u672c/\ud83d\ude00 \ud800";
+
+        assertThat(SdkHttpUtils.urlEncode(value))
+            .isEqualTo("caf%C3%A9%2F%E6%97%A5%E6%9C%AC%2F%F0%9F%98%80%20%3F");
+        assertThat(SdkHttpUtils.urlEncodeIgnoreSlashes(value))
+            .isEqualTo("caf%C3%A9/%E6%97%A5%E6%9C%AC/%F0%9F%98%80%20%3F");
+        assertThat(SdkHttpUtils.formDataEncode(value))
+            .isEqualTo("caf%C3%A9%2F%E6%97%A5%E6%9C%AC%2F%F0%9F%98%80+%3F");
+    }
+
+    @Test
+    public void encodingMatchesUrlEncoder() throws Exception {
+        Random random = new Random(0);
+        for (int i = 0; i < 1000; i++) {
+            StringBuilder value = new StringBuilder();
+            int length = random.nextInt(20);
+            for (int j = 0; j < length; j++) {
+                // Mostly ASCII, with some multi-byte and surrogate characters
+                value.append((char) (random.nextBoolean() ? random.nextInt(128) : random.nextInt(Character.MAX_VALUE + 1)));
+            }
+            String input = value.toString();
+            String formEncoded = URLEncoder.encode(input, "UTF-8");
+            String urlEncoded = formEncoded.replace("+", "%20").replace("*", "%2A").replace("%7E", "~");
+
+            assertThat(SdkHttpUtils.formDataEncode(input)).isEqualTo(formEncoded);
+            assertThat(SdkHttpUtils.urlEncode(input)).isEqualTo(urlEncoded);
+            assertThat(SdkHttpUtils.urlEncodeIgnoreSlashes(input)).isEqualTo(urlEncoded.replace("%2F", "/"));
+        }
+    }
+
+    @Test
+    public void encodeIntoStringBuilderAppends() {
+        StringBuilder result = new StringBuilder("prefix:");
+
+        SdkHttpUtils.urlEncode(result, "a b/");
+        SdkHttpUtils.urlEncodeIgnoreSlashes(result, "a b/");
+        SdkHttpUtils.formDataEncode(result, "a b/");
+        SdkHttpUtils.urlEncode(result, null);
+
+        assertThat(result.toString()).isEqualTo("prefix:a%20b%2Fa%20b/a+b%2Fnull");
+    }
+
+    @Test
+    public void encodeAndFlattenIntoStringBuilderAppends() {
+        Map<String, List<String>> values = new LinkedHashMap<>();
+        values.put("Multi Value", asList("1", "2 3", null));
+        values.put("NoValue", null);
+        values.put("Single", singletonList("~"));
+
+        StringBuilder result = new StringBuilder("/path?");
+        SdkHttpUtils.encodeAndFlattenQueryParameters(result, values);
+
+        assertThat(result.toString()).isEqualTo("/path?Multi%20Value=1&Multi%20Value=2%203&Multi%20Value&Single=~");
+        assertThat(SdkHttpUtils.encodeAndFlattenQueryParameters(values)).hasValue(result.substring("/path?".length()));
+    }
+
     @Test
     public void urisAppendCorrectly() {
         assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> SdkHttpUtils.appendUri(null, ""));